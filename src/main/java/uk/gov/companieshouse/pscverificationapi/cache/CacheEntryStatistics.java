@@ -0,0 +1,14 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import java.time.Instant;
+
+/**
+ * Statistics for a single {@link ExpiringCache} entry.
+ *
+ * @param key       the entry key
+ * @param createdAt when the entry was written
+ * @param expiresAt when the entry expires
+ * @param hits      the number of lookups answered by the entry
+ */
+public record CacheEntryStatistics(String key, Instant createdAt, Instant expiresAt, long hits) {
+}
@@ -0,0 +1,23 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import java.time.Duration;
+
+/**
+ * Point in time statistics for an {@link ExpiringCache}.
+ *
+ * @param name           the cache name
+ * @param enabled        whether values are being cached
+ * @param size           the number of entries currently held
+ * @param maxSize        the maximum number of entries held
+ * @param ttl            the time to live of each entry
+ * @param evictionPolicy the policy used when the cache is full
+ * @param hits           the number of lookups answered from the cache
+ * @param misses         the number of lookups not answered from the cache
+ * @param evictions      the number of entries removed to make room for new entries
+ * @param expirations    the number of entries removed after their time to live
+ * @param invalidations  the number of entries removed on request
+ */
+public record CacheStatistics(String name, boolean enabled, int size, int maxSize, Duration ttl,
+                              EvictionPolicy evictionPolicy, long hits, long misses,
+                              long evictions, long expirations, long invalidations) {
+}
@@ -0,0 +1,16 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+/**
+ * Enum for the entry eviction policies supported by {@link ExpiringCache} once its size limit
+ * is reached.
+ */
+public enum EvictionPolicy {
+    /**
+     * Evict the entry that was least recently read or written.
+     */
+    LRU,
+    /**
+     * Evict the entry that was written first, regardless of reads.
+     */
+    FIFO
+}
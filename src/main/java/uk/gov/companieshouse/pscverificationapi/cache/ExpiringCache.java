@@ -0,0 +1,276 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.lang.NonNull;
+
+/**
+ * Bounded in-memory cache whose entries expire a fixed time after they are written.
+ * <p>
+ * Once {@code maxSize} entries are held, each new entry evicts another according to the
+ * configured {@link EvictionPolicy}. A cache with a {@code maxSize} of zero, or a zero
+ * {@code ttl}, is disabled: every lookup goes to the loader and nothing is held.
+ * </p>
+ * <p>
+ * Hits, misses, evictions, expirations and size are published to Micrometer under the
+ * standard {@code cache.*} meter names, tagged with the cache name.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class ExpiringCache<K, V> implements MeterBinder {
+
+    private final String name;
+    private final Duration ttl;
+    private final int maxSize;
+    private final EvictionPolicy evictionPolicy;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ExpiringCache(final String name, final Duration ttl, final int maxSize,
+                         final EvictionPolicy evictionPolicy, final Clock clock) {
+        this.name = Objects.requireNonNull(name);
+        this.ttl = Objects.requireNonNull(ttl);
+        this.maxSize = Math.max(0, maxSize);
+        this.evictionPolicy = Objects.requireNonNull(evictionPolicy);
+        this.clock = Objects.requireNonNull(clock);
+        this.entries = new LinkedHashMap<>(16, 0.75f, evictionPolicy == EvictionPolicy.LRU) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0 && ttl.isPositive();
+    }
+
+    /**
+     * Returns the cached value for the key, if present and not expired.
+     *
+     * @param key the key
+     * @return the cached value, or empty
+     */
+    public synchronized Optional<V> getIfPresent(@NonNull final K key) {
+        if (!isEnabled()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        final var entry = entries.get(key);
+
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        if (entry.isExpired(clock.instant())) {
+            entries.remove(key);
+            expirations.increment();
+            misses.increment();
+            return Optional.empty();
+        }
+        entry.hits++;
+        hits.increment();
+        return Optional.of(entry.value);
+    }
+
+    /**
+     * Returns the cached value for the key, calling the loader and caching its result on a miss.
+     * <p>
+     * The loader is called outside the cache lock. Exceptions thrown by the loader are
+     * propagated and {@code null} results are not cached.
+     * </p>
+     *
+     * @param key    the key
+     * @param loader supplies the value on a miss
+     * @return the cached or loaded value
+     */
+    public V get(@NonNull final K key, @NonNull final Supplier<V> loader) {
+        final var cached = getIfPresent(key);
+
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        final var value = loader.get();
+
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Caches a value, replacing any existing entry for the key.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public synchronized void put(@NonNull final K key, @NonNull final V value) {
+        if (!isEnabled()) {
+            return;
+        }
+        final var now = clock.instant();
+
+        if (entries.size() >= maxSize) {
+            removeExpired(now);
+        }
+        entries.put(key, new Entry<>(value, now, now.plus(ttl)));
+    }
+
+    /**
+     * Removes the entry for the key.
+     *
+     * @param key the key
+     * @return {@code true} if an entry was removed
+     */
+    public synchronized boolean invalidate(@NonNull final K key) {
+        final var removed = entries.remove(key) != null;
+
+        if (removed) {
+            invalidations.increment();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every entry whose key matches the predicate.
+     *
+     * @param predicate the key predicate
+     * @return the number of entries removed
+     */
+    public synchronized int invalidateIf(@NonNull final Predicate<? super K> predicate) {
+        var removed = 0;
+
+        for (final Iterator<K> keys = entries.keySet().iterator(); keys.hasNext(); ) {
+            if (predicate.test(keys.next())) {
+                keys.remove();
+                removed++;
+            }
+        }
+        invalidations.add(removed);
+        return removed;
+    }
+
+    /**
+     * Removes every entry.
+     *
+     * @return the number of entries removed
+     */
+    public synchronized int invalidateAll() {
+        final var removed = entries.size();
+
+        entries.clear();
+        invalidations.add(removed);
+        return removed;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized CacheStatistics statistics() {
+        return new CacheStatistics(name, isEnabled(), entries.size(), maxSize, ttl, evictionPolicy,
+            hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), invalidations.sum());
+    }
+
+    /**
+     * @return statistics for each unexpired entry, in eviction order
+     */
+    public synchronized List<CacheEntryStatistics> entryStatistics() {
+        final var now = clock.instant();
+
+        return entries.entrySet()
+            .stream()
+            .filter(e -> !e.getValue().isExpired(now))
+            .map(e -> new CacheEntryStatistics(String.valueOf(e.getKey()), e.getValue().createdAt,
+                e.getValue().expiresAt, e.getValue().hits))
+            .toList();
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        final var tags = Tags.of("cache", name);
+
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+            .tags(tags.and("result", "hit"))
+            .description("The number of times cache lookup methods have returned a cached value.")
+            .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+            .tags(tags.and("result", "miss"))
+            .description("The number of times cache lookup methods have not returned a cached value.")
+            .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+            .tags(tags)
+            .description("The number of entries evicted to make room for new entries.")
+            .register(registry);
+        FunctionCounter.builder("cache.expirations", expirations, LongAdder::sum)
+            .tags(tags)
+            .description("The number of entries removed after their time to live.")
+            .register(registry);
+        FunctionCounter.builder("cache.invalidations", invalidations, LongAdder::sum)
+            .tags(tags)
+            .description("The number of entries removed on request.")
+            .register(registry);
+        Gauge.builder("cache.size", this, ExpiringCache::size)
+            .tags(tags)
+            .description("The number of entries in this cache.")
+            .register(registry);
+    }
+
+    private void removeExpired(final Instant now) {
+        for (final Iterator<Entry<V>> values = entries.values().iterator(); values.hasNext(); ) {
+            if (values.next().isExpired(now)) {
+                values.remove();
+                expirations.increment();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final Instant createdAt;
+        private final Instant expiresAt;
+        private long hits;
+
+        private Entry(final V value, final Instant createdAt, final Instant expiresAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.logging.Logger;
+
+/**
+ * Actuator endpoint for inspecting and invalidating the downstream lookup caches.
+ * <p>
+ * Cache keys identify companies and PSCs, so the endpoint is not exposed over the public web path.
+ * </p>
+ */
+@Component
+@Endpoint(id = "lookupcaches")
+public class LookupCacheActuatorEndpoint {
+
+    private final Map<String, ExpiringCache<?, ?>> caches;
+    private final Logger logger;
+
+    public LookupCacheActuatorEndpoint(final List<ExpiringCache<?, ?>> caches, final Logger logger) {
+        this.caches = caches.stream()
+            .collect(Collectors.toMap(ExpiringCache::getName, Function.identity(), (a, b) -> a,
+                LinkedHashMap::new));
+        this.logger = logger;
+    }
+
+    /**
+     * @return statistics for every lookup cache, keyed by cache name
+     */
+    @ReadOperation(produces = "application/json")
+    public Map<String, CacheStatistics> caches() {
+        return caches.values()
+            .stream()
+            .collect(Collectors.toMap(ExpiringCache::getName, ExpiringCache::statistics, (a, b) -> a,
+                LinkedHashMap::new));
+    }
+
+    /**
+     * @param name the cache name
+     * @return statistics for the named cache and each of its entries, or {@code null} if there
+     *     is no such cache
+     */
+    @ReadOperation(produces = "application/json")
+    public CacheReport cache(@Selector final String name) {
+        final var cache = caches.get(name);
+
+        return cache == null ? null : new CacheReport(cache.statistics(), cache.entryStatistics());
+    }
+
+    /**
+     * Invalidates entries in the named cache.
+     *
+     * @param name the cache name
+     * @param key  the key of the entry to invalidate, or {@code null} to invalidate every entry
+     * @return the number of entries invalidated, or {@code null} if there is no such cache
+     */
+    @DeleteOperation(produces = "application/json")
+    public Map<String, Integer> invalidate(@Selector final String name, @Nullable final String key) {
+        final var cache = caches.get(name);
+
+        if (cache == null) {
+            return null;
+        }
+        final var invalidated = key == null
+            ? cache.invalidateAll()
+            : cache.invalidateIf(k -> String.valueOf(k).equals(key));
+
+        logger.info(String.format("Invalidated %d entries from cache %s", invalidated, name));
+        return Map.of("invalidated", invalidated);
+    }
+
+    /**
+     * Details of a single lookup cache.
+     *
+     * @param statistics the cache statistics
+     * @param entries    the statistics of each cache entry
+     */
+    public record CacheReport(CacheStatistics statistics, List<CacheEntryStatistics> entries) {
+    }
+
+}
@@ -0,0 +1,34 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import java.util.Objects;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Key identifying a downstream call for {@link SingleFlight}.
+ * <p>
+ * The credential scope may hold the caller's credentials, so only its hash is included in the
+ * string form.
+ * </p>
+ *
+ * @param uri             the request URI
+ * @param credentialScope the credentials the call is made with
+ * @param body            the request body, or a key identifying it, or {@code null} if there is
+ *                        none
+ */
+public record LookupKey(@NonNull String uri, @Nullable String credentialScope, @Nullable Object body) {
+
+    /**
+     * Credential scope of calls made with the internal API key.
+     */
+    public static final String INTERNAL_API_SCOPE = "internal-api-key";
+
+    public LookupKey {
+        Objects.requireNonNull(uri);
+    }
+
+    @Override
+    public String toString() {
+        return uri + "#" + Integer.toHexString(Objects.hashCode(credentialScope));
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import org.springframework.lang.NonNull;
+import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
+
+/**
+ * Cache key identifying a PSC record held by the PSC Data API.
+ *
+ * @param companyNumber  the company number
+ * @param pscType        the PSC type
+ * @param notificationId the PSC notification id
+ */
+public record PscRecordKey(@NonNull String companyNumber, @NonNull PscType pscType,
+                           @NonNull String notificationId) {
+
+    @Override
+    public String toString() {
+        return String.join("/", companyNumber, pscType.getValue(), notificationId);
+    }
+}
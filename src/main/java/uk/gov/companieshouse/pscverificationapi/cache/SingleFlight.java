@@ -0,0 +1,176 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.lang.NonNull;
+import uk.gov.companieshouse.pscverificationapi.exception.DeadlineExceededException;
+import uk.gov.companieshouse.pscverificationapi.exception.DownstreamUnavailableException;
+import uk.gov.companieshouse.pscverificationapi.resilience.Deadline;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+
+/**
+ * Coalesces concurrent identical downstream calls.
+ * <p>
+ * While a call for a key is in flight, further calls for the same key wait for it and receive
+ * its result, or its exception, instead of making their own call. Nothing is held once the call
+ * completes, so later calls for the key go downstream again; results that may be reused for
+ * longer belong in an {@link ExpiringCache}. A disabled instance makes every call itself.
+ * </p>
+ * <p>
+ * When a request {@link Deadline} is bound to the waiting thread, the wait is limited to the time
+ * remaining, and a waiter still waiting when it expires gives up with a
+ * {@link DeadlineExceededException}. The call waited for carries on for its own caller.
+ * </p>
+ * <p>
+ * Executed and coalesced calls are published to Micrometer as {@code lookup.calls}, and calls in
+ * progress as {@code lookup.calls.in.flight}, tagged with the lookup name.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ */
+public class SingleFlight<K, V> implements MeterBinder {
+
+    private final String name;
+    private final Downstream downstream;
+    private final boolean enabled;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlight(final String name, final Downstream downstream, final boolean enabled) {
+        this.name = Objects.requireNonNull(name);
+        this.downstream = Objects.requireNonNull(downstream);
+        this.enabled = enabled;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Makes the call, or waits for the identical call already in flight.
+     *
+     * @param key  identifies the call: the request URI and the credentials it is made with
+     * @param call makes the downstream call
+     * @param <E>  the checked exception thrown by the call
+     * @return the result of the call
+     * @throws E                             if the call, or the call waited for, throws it
+     * @throws DeadlineExceededException      if the request deadline expires while waiting
+     * @throws DownstreamUnavailableException if interrupted while waiting
+     */
+    public <E extends Exception> V execute(@NonNull final K key, @NonNull final Call<V, E> call) throws E {
+        if (!enabled) {
+            executed.increment();
+            return call.call();
+        }
+        final var flight = new CompletableFuture<V>();
+        final var existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        executed.increment();
+        try {
+            final var value = call.call();
+
+            flight.complete(value);
+            return value;
+        } catch (final Throwable t) {
+            flight.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        final var tags = Tags.of("lookup", name);
+
+        FunctionCounter.builder("lookup.calls", executed, LongAdder::sum)
+            .tags(tags.and("result", "executed"))
+            .description("The number of downstream calls made.")
+            .register(registry);
+        FunctionCounter.builder("lookup.calls", coalesced, LongAdder::sum)
+            .tags(tags.and("result", "coalesced"))
+            .description("The number of calls that shared the result of an identical call in flight.")
+            .register(registry);
+        Gauge.builder("lookup.calls.in.flight", this, SingleFlight::inFlightCount)
+            .tags(tags)
+            .description("The number of downstream calls in progress.")
+            .register(registry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Exception> V await(final CompletableFuture<V> flight) throws E {
+        final var deadline = Deadline.current().orElse(null);
+
+        try {
+            return deadline == null
+                ? flight.get()
+                : flight.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException(
+                MessageFormat.format("{0} call abandoned: request deadline of {1} exceeded", downstream.getValue(),
+                    deadline.budget()), downstream, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DownstreamUnavailableException(
+                MessageFormat.format("Interrupted waiting for {0}", downstream.getValue()), downstream, e);
+        } catch (ExecutionException e) {
+            final var cause = e.getCause();
+
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            // only the call can have failed, so any checked exception is an E
+            throw (E) cause;
+        }
+    }
+
+    /**
+     * A downstream call.
+     *
+     * @param <V> the result type
+     * @param <E> the checked exception thrown
+     */
+    @FunctionalInterface
+    public interface Call<V, E extends Exception> {
+        V call() throws E;
+    }
+
+}
@@ -0,0 +1,81 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.lang.NonNull;
+import uk.gov.companieshouse.api.identityverification.model.UvidMatch;
+
+/**
+ * Cache key identifying the inputs of a UVID match.
+ * <p>
+ * The inputs are personal data, so the key holds only an HMAC-SHA256 digest of them. The HMAC
+ * key is generated at random when the class is loaded, so digests cannot be compared with
+ * precomputed hashes of guessed inputs, and are only meaningful within this process.
+ * </p>
+ *
+ * @param digest the hex encoded digest of the match inputs
+ */
+public record UvidMatchKey(@NonNull String digest) {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final SecretKeySpec SECRET = new SecretKeySpec(randomBytes(), ALGORITHM);
+
+    public UvidMatchKey {
+        Objects.requireNonNull(digest);
+    }
+
+    /**
+     * @param uvidMatch the UVID match request
+     * @return the key of its UVID, forenames, surname and date of birth
+     */
+    public static UvidMatchKey of(@NonNull final UvidMatch uvidMatch) {
+        final Mac mac;
+
+        try {
+            mac = Mac.getInstance(ALGORITHM);
+            mac.init(SECRET);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+        update(mac, uvidMatch.getUvid());
+        final List<String> forenames = uvidMatch.getForenames() == null ? List.of() : uvidMatch.getForenames();
+        update(mac, String.valueOf(forenames.size()));
+        forenames.forEach(f -> update(mac, f));
+        update(mac, uvidMatch.getSurname());
+        update(mac, Objects.toString(uvidMatch.getDateOfBirth(), null));
+
+        return new UvidMatchKey(HexFormat.of().formatHex(mac.doFinal()));
+    }
+
+    @Override
+    public String toString() {
+        return digest;
+    }
+
+    // each value is length prefixed so that no two different sets of inputs share an encoding
+    private static void update(final Mac mac, final String value) {
+        if (value == null) {
+            mac.update((byte) 0);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        mac.update((byte) 1);
+        mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        mac.update(bytes);
+    }
+
+    private static byte[] randomBytes() {
+        final var bytes = new byte[32];
+
+        new SecureRandom().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import java.time.Instant;
+
+/**
+ * Cache key identifying a version of a filing.
+ * <p>
+ * A filing is versioned by its update time, so any change to the filing produces a new key.
+ * </p>
+ *
+ * @param filingId  the filing id
+ * @param updatedAt the time the filing was last updated
+ */
+public record ValidationStatusKey(String filingId, Instant updatedAt) {
+
+    @Override
+    public String toString() {
+        return filingId + "@" + updatedAt;
+    }
+}
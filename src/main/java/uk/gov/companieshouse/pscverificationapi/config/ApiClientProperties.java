@@ -0,0 +1,41 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for the api.client prefix.
+ * <p>
+ * These are applied to the JVM connection pool by {@link ConnectionPoolEnvironmentPostProcessor}
+ * before the application context is created, and bound here only so that they are validated.
+ * </p>
+ */
+@Component
+@Validated
+@ConfigurationProperties(prefix = "api.client")
+public class ApiClientProperties {
+    @Positive
+    private int maxConnections = 20;
+    @NotNull
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(final int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(final Duration keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+}
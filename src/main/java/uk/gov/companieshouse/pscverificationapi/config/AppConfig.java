@@ -13,6 +13,7 @@ import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -22,6 +23,7 @@ import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import uk.gov.companieshouse.environment.EnvironmentReader;
 import uk.gov.companieshouse.environment.impl.EnvironmentReaderImpl;
+import uk.gov.companieshouse.pscverificationapi.metrics.MongoWriteMetrics;
 
 /**
  * Configuration class for application-wide beans and settings.
@@ -45,6 +47,17 @@ public class AppConfig {
         return new MongoTransactionManager(dbFactory);
     }
 
+    /**
+     * Registers the {@link MongoWriteMetrics} command listener with the Mongo client.
+     *
+     * @param mongoWriteMetrics the Mongo write metrics
+     * @return the custom {@link MongoClientSettingsBuilderCustomizer} bean.
+     */
+    @Bean
+    MongoClientSettingsBuilderCustomizer mongoWriteMetricsCustomizer(final MongoWriteMetrics mongoWriteMetrics) {
+        return builder -> builder.addCommandListener(mongoWriteMetrics);
+    }
+
     @Bean
     public Jackson2ObjectMapperBuilder objectMapperBuilder() {
         return new Jackson2ObjectMapperBuilder().serializationInclusion(
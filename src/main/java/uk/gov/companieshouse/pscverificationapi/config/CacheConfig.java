@@ -0,0 +1,71 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import java.time.Clock;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.api.identityverification.model.UvidMatchResponse;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
+import uk.gov.companieshouse.api.psc.IndividualFullRecord;
+import uk.gov.companieshouse.pscverificationapi.cache.ExpiringCache;
+import uk.gov.companieshouse.pscverificationapi.cache.LookupKey;
+import uk.gov.companieshouse.pscverificationapi.cache.PscRecordKey;
+import uk.gov.companieshouse.pscverificationapi.cache.SingleFlight;
+import uk.gov.companieshouse.pscverificationapi.cache.UvidMatchKey;
+import uk.gov.companieshouse.pscverificationapi.cache.ValidationStatusKey;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+
+/**
+ * Configuration class for the downstream lookup caches and the coalescing of concurrent
+ * identical lookups.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public ExpiringCache<PscRecordKey, IndividualFullRecord> pscRecordCache(
+        final LookupCacheProperties properties, final Clock clock) {
+        return properties.getPscRecord().createCache("psc-record", clock);
+    }
+
+    @Bean
+    public ExpiringCache<PscRecordKey, String> pscRecordNotFoundCache(
+        final LookupCacheProperties properties, final Clock clock) {
+        return properties.getPscRecordNotFound().createCache("psc-record-not-found", clock);
+    }
+
+    @Bean
+    public ExpiringCache<String, CompanyProfileApi> companyProfileCache(
+        final LookupCacheProperties properties, final Clock clock) {
+        return properties.getCompanyProfile().createCache("company-profile", clock);
+    }
+
+    @Bean
+    public ExpiringCache<ValidationStatusKey, ValidationStatusResponse> validationStatusCache(
+        final LookupCacheProperties properties, final Clock clock) {
+        return properties.getValidationStatus().createCache("validation-status", clock);
+    }
+
+    @Bean
+    public ExpiringCache<UvidMatchKey, UvidMatchResponse> uvidMatchCache(
+        final LookupCacheProperties properties, final Clock clock) {
+        return properties.getUvidMatch().createCache("uvid-match", clock);
+    }
+
+    @Bean
+    public SingleFlight<LookupKey, IndividualFullRecord> pscRecordFlights(final LookupCacheProperties properties) {
+        return properties.createSingleFlight("psc-record", Downstream.PSC_DATA);
+    }
+
+    @Bean
+    public SingleFlight<LookupKey, CompanyProfileApi> companyProfileFlights(
+        final LookupCacheProperties properties) {
+        return properties.createSingleFlight("company-profile", Downstream.COMPANY_PROFILE);
+    }
+
+    @Bean
+    public SingleFlight<LookupKey, UvidMatchResponse> uvidMatchFlights(final LookupCacheProperties properties) {
+        return properties.createSingleFlight("uvid-match", Downstream.IDENTITY_VERIFICATION);
+    }
+
+}
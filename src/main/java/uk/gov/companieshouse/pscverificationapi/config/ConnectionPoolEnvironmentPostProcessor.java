@@ -0,0 +1,61 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import java.text.MessageFormat;
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Sizes the JVM connection pool used by the CH API clients.
+ * <p>
+ * The SDK sends requests over {@link java.net.HttpURLConnection}, whose persistent connections
+ * are pooled by the JVM. The pool reads its settings from system properties once, when it is
+ * first used, so they are set from {@link ApiClientProperties} as soon as the configuration has
+ * been loaded, before the application context and any client are created. Settings passed
+ * explicitly as system properties take precedence. Registered in {@code META-INF/spring.factories}.
+ * </p>
+ */
+public class ConnectionPoolEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+    static final String KEEP_ALIVE = "http.keepAlive";
+    static final String MAX_CONNECTIONS = "http.maxConnections";
+    static final String KEEP_ALIVE_TIME = "http.keepAlive.time.server";
+
+    private final Log logger;
+
+    public ConnectionPoolEnvironmentPostProcessor(final DeferredLogFactory logFactory) {
+        this.logger = logFactory.getLog(ConnectionPoolEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(final ConfigurableEnvironment environment,
+                                       final SpringApplication application) {
+        final var properties = Binder.get(environment)
+            .bind("api.client", ApiClientProperties.class)
+            .orElseGet(ApiClientProperties::new);
+
+        setIfAbsent(KEEP_ALIVE, "true");
+        setIfAbsent(MAX_CONNECTIONS, String.valueOf(properties.getMaxConnections()));
+        setIfAbsent(KEEP_ALIVE_TIME, String.valueOf(properties.getKeepAlive().toSeconds()));
+        logger.info(MessageFormat.format("API client connections: keep-alive {0}, max {1} per host, idle {2}s",
+            System.getProperty(KEEP_ALIVE), System.getProperty(MAX_CONNECTIONS),
+            System.getProperty(KEEP_ALIVE_TIME)));
+    }
+
+    /**
+     * @return the lowest precedence, so that the application configuration has been loaded
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private static void setIfAbsent(final String name, final String value) {
+        if (System.getProperty(name) == null) {
+            System.setProperty(name, value);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import uk.gov.companieshouse.pscverificationapi.enumerations.QueryPlanCheck;
+
+/**
+ * Configuration properties for the index-management prefix.
+ */
+@Component
+@Validated
+@ConfigurationProperties(prefix = "index-management")
+public class IndexManagementProperties {
+    private boolean enabled = true;
+    private boolean replaceChanged;
+    @NotNull
+    private QueryPlanCheck queryPlanCheck = QueryPlanCheck.WARN;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isReplaceChanged() {
+        return replaceChanged;
+    }
+
+    public void setReplaceChanged(final boolean replaceChanged) {
+        this.replaceChanged = replaceChanged;
+    }
+
+    public QueryPlanCheck getQueryPlanCheck() {
+        return queryPlanCheck;
+    }
+
+    public void setQueryPlanCheck(final QueryPlanCheck queryPlanCheck) {
+        this.queryPlanCheck = queryPlanCheck;
+    }
+}
@@ -0,0 +1,165 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import uk.gov.companieshouse.pscverificationapi.cache.EvictionPolicy;
+import uk.gov.companieshouse.pscverificationapi.cache.ExpiringCache;
+import uk.gov.companieshouse.pscverificationapi.cache.SingleFlight;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+
+/**
+ * Configuration properties for the lookup.cache prefix.
+ */
+@Component
+@Validated
+@ConfigurationProperties(prefix = "lookup.cache")
+public class LookupCacheProperties {
+    @Valid
+    @NotNull
+    private CacheSettings pscRecord = new CacheSettings(true, Duration.ofSeconds(30), 1000);
+    @Valid
+    @NotNull
+    private CacheSettings pscRecordNotFound = new CacheSettings(true, Duration.ofSeconds(30), 500);
+    @Valid
+    @NotNull
+    private CacheSettings companyProfile = new CacheSettings(false, Duration.ofMinutes(1), 500);
+    @Valid
+    @NotNull
+    private CacheSettings validationStatus = new CacheSettings(true, Duration.ofSeconds(30), 1000);
+    @Valid
+    @NotNull
+    private CacheSettings uvidMatch = new CacheSettings(true, Duration.ofMinutes(5), 1000);
+    private boolean coalesceInFlight = true;
+
+    public CacheSettings getPscRecord() {
+        return pscRecord;
+    }
+
+    public void setPscRecord(final CacheSettings pscRecord) {
+        this.pscRecord = pscRecord;
+    }
+
+    public CacheSettings getPscRecordNotFound() {
+        return pscRecordNotFound;
+    }
+
+    public void setPscRecordNotFound(final CacheSettings pscRecordNotFound) {
+        this.pscRecordNotFound = pscRecordNotFound;
+    }
+
+    public CacheSettings getCompanyProfile() {
+        return companyProfile;
+    }
+
+    public void setCompanyProfile(final CacheSettings companyProfile) {
+        this.companyProfile = companyProfile;
+    }
+
+    public CacheSettings getValidationStatus() {
+        return validationStatus;
+    }
+
+    public void setValidationStatus(final CacheSettings validationStatus) {
+        this.validationStatus = validationStatus;
+    }
+
+    public CacheSettings getUvidMatch() {
+        return uvidMatch;
+    }
+
+    public void setUvidMatch(final CacheSettings uvidMatch) {
+        this.uvidMatch = uvidMatch;
+    }
+
+    public boolean isCoalesceInFlight() {
+        return coalesceInFlight;
+    }
+
+    public void setCoalesceInFlight(final boolean coalesceInFlight) {
+        this.coalesceInFlight = coalesceInFlight;
+    }
+
+    /**
+     * @param name       the lookup name
+     * @param downstream the downstream service called
+     * @param <K>        the key type
+     * @param <V>        the result type
+     * @return a {@link SingleFlight} for the named lookup, coalescing calls only if enabled
+     */
+    public <K, V> SingleFlight<K, V> createSingleFlight(final String name, final Downstream downstream) {
+        return new SingleFlight<>(name, downstream, coalesceInFlight);
+    }
+
+    /**
+     * Settings for a single {@link ExpiringCache}.
+     */
+    public static class CacheSettings {
+        private boolean enabled = true;
+        @NotNull
+        private Duration ttl = Duration.ofMinutes(5);
+        @PositiveOrZero
+        private int maxSize = 1000;
+        @NotNull
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+        public CacheSettings() {
+        }
+
+        public CacheSettings(final boolean enabled, final Duration ttl, final int maxSize) {
+            this.enabled = enabled;
+            this.ttl = ttl;
+            this.maxSize = maxSize;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(final Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(final int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public EvictionPolicy getEvictionPolicy() {
+            return evictionPolicy;
+        }
+
+        public void setEvictionPolicy(final EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+        }
+
+        /**
+         * Creates a cache with these settings; a disabled cache holds no entries.
+         *
+         * @param name  the cache name
+         * @param clock the clock used to expire entries
+         * @param <K>   the key type
+         * @param <V>   the value type
+         * @return the cache
+         */
+        public <K, V> ExpiringCache<K, V> createCache(final String name, final Clock clock) {
+            return new ExpiringCache<>(name, ttl, enabled ? maxSize : 0, evictionPolicy, clock);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import uk.gov.companieshouse.pscverificationapi.interceptor.RequestDeadlineInterceptor;
+
+/**
+ * Configuration class for the request deadline interceptors.
+ * <p>
+ * The interceptors run before every other interceptor, so that the transaction lookups they make
+ * are also limited by the deadline.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(RequestDeadlineProperties.class)
+public class RequestDeadlineConfig implements WebMvcConfigurer {
+
+    public static final String VALIDATION_STATUS_PATH =
+        InterceptorConfig.COMMON_INTERCEPTOR_RESOURCE_PATH + "/validation_status";
+
+    private final RequestDeadlineProperties properties;
+
+    public RequestDeadlineConfig(final RequestDeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void addInterceptors(@NonNull final InterceptorRegistry registry) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        registry.addInterceptor(new RequestDeadlineInterceptor(properties.getValidationStatus()))
+            .addPathPatterns(VALIDATION_STATUS_PATH)
+            .order(0);
+        registry.addInterceptor(new RequestDeadlineInterceptor(properties.getDefaultBudget()))
+            .excludePathPatterns(VALIDATION_STATUS_PATH, InterceptorConfig.HEALTHCHECK_PATH)
+            .order(0);
+    }
+
+}
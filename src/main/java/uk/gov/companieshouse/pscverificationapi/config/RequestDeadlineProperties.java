@@ -0,0 +1,47 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for the request-deadline prefix.
+ * <p>
+ * Registered by {@link RequestDeadlineConfig} rather than component scanning, so that web slice
+ * tests which load the interceptor configuration also load its properties.
+ * </p>
+ */
+@Validated
+@ConfigurationProperties(prefix = "request-deadline")
+public class RequestDeadlineProperties {
+    private boolean enabled = true;
+    @NotNull
+    private Duration defaultBudget = Duration.ofSeconds(10);
+    @NotNull
+    private Duration validationStatus = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getDefaultBudget() {
+        return defaultBudget;
+    }
+
+    public void setDefaultBudget(final Duration defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    public Duration getValidationStatus() {
+        return validationStatus;
+    }
+
+    public void setValidationStatus(final Duration validationStatus) {
+        this.validationStatus = validationStatus;
+    }
+}
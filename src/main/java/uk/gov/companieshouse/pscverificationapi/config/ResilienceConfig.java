@@ -0,0 +1,52 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import java.time.Clock;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.pscverificationapi.resilience.DownstreamGuard;
+import uk.gov.companieshouse.pscverificationapi.resilience.DownstreamGuards;
+import uk.gov.companieshouse.pscverificationapi.resilience.Hedger;
+import uk.gov.companieshouse.pscverificationapi.resilience.Retrier;
+
+/**
+ * Configuration class for the circuit breakers, bulkheads, timeouts, hedging and retries of downstream
+ * calls.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    /**
+     * Executor used to make guarded downstream calls, so that the caller can stop waiting at the
+     * timeout. Each call is blocking I/O, so runs on its own virtual thread.
+     *
+     * @return the executor
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService downstreamCallExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public DownstreamGuards downstreamGuards(final ResilienceProperties properties, final Clock clock,
+                                             @Qualifier("downstreamCallExecutor") final Executor executor) {
+        return new DownstreamGuards(downstream -> new DownstreamGuard(downstream, properties.isEnabled(),
+            properties.getMaxWait(), properties.getSettings(downstream).getTimeout(),
+            properties.createCircuitBreaker(clock), properties.createLimiter(downstream), executor));
+    }
+
+    @Bean
+    public Hedger pscDataHedger(final ResilienceProperties properties,
+                                @Qualifier("downstreamCallExecutor") final Executor executor) {
+        return properties.createPscDataHedger(executor);
+    }
+
+    @Bean
+    public Retrier downstreamRetrier(final ResilienceProperties properties) {
+        return properties.createRetrier();
+    }
+
+}
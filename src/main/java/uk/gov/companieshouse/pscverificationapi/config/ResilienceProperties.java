@@ -0,0 +1,389 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import uk.gov.companieshouse.pscverificationapi.resilience.AimdLimiter;
+import uk.gov.companieshouse.pscverificationapi.resilience.CircuitBreaker;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+import uk.gov.companieshouse.pscverificationapi.resilience.Hedger;
+import uk.gov.companieshouse.pscverificationapi.resilience.Retrier;
+
+/**
+ * Configuration properties for the resilience prefix.
+ */
+@Component
+@Validated
+@ConfigurationProperties(prefix = "resilience")
+public class ResilienceProperties {
+    private boolean enabled = true;
+    @NotNull
+    private Duration maxWait = Duration.ofMillis(50);
+    @Positive
+    @Max(100)
+    private int failureRateThreshold = 50;
+    @Positive
+    private int minimumCalls = 10;
+    @Positive
+    private int windowSize = 20;
+    @NotNull
+    private Duration openDuration = Duration.ofSeconds(30);
+    @Positive
+    private int halfOpenProbes = 3;
+    private boolean adaptiveConcurrency = true;
+    @Positive
+    private int minConcurrentCalls = 2;
+    @Positive
+    @DecimalMax(value = "1", inclusive = false)
+    private double backoffRatio = 0.9;
+    @Valid
+    @NotNull
+    private DownstreamSettings pscData =
+        new DownstreamSettings(20, Duration.ofSeconds(5), Duration.ofSeconds(1));
+    @Valid
+    @NotNull
+    private DownstreamSettings companyProfile =
+        new DownstreamSettings(20, Duration.ofSeconds(5), Duration.ofSeconds(1));
+    @Valid
+    @NotNull
+    private DownstreamSettings identityVerification =
+        new DownstreamSettings(10, Duration.ofSeconds(10), Duration.ofSeconds(2));
+    @Valid
+    @NotNull
+    private DownstreamSettings transactions =
+        new DownstreamSettings(20, Duration.ofSeconds(5), Duration.ofSeconds(1));
+    @Valid
+    @NotNull
+    private HedgingSettings pscDataHedging = new HedgingSettings();
+    @Valid
+    @NotNull
+    private RetrySettings retry = new RetrySettings();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(final Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(final int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(final int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(final int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(final Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    public void setHalfOpenProbes(final int halfOpenProbes) {
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    public boolean isAdaptiveConcurrency() {
+        return adaptiveConcurrency;
+    }
+
+    public void setAdaptiveConcurrency(final boolean adaptiveConcurrency) {
+        this.adaptiveConcurrency = adaptiveConcurrency;
+    }
+
+    public int getMinConcurrentCalls() {
+        return minConcurrentCalls;
+    }
+
+    public void setMinConcurrentCalls(final int minConcurrentCalls) {
+        this.minConcurrentCalls = minConcurrentCalls;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public void setBackoffRatio(final double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    public DownstreamSettings getPscData() {
+        return pscData;
+    }
+
+    public void setPscData(final DownstreamSettings pscData) {
+        this.pscData = pscData;
+    }
+
+    public DownstreamSettings getCompanyProfile() {
+        return companyProfile;
+    }
+
+    public void setCompanyProfile(final DownstreamSettings companyProfile) {
+        this.companyProfile = companyProfile;
+    }
+
+    public DownstreamSettings getIdentityVerification() {
+        return identityVerification;
+    }
+
+    public void setIdentityVerification(final DownstreamSettings identityVerification) {
+        this.identityVerification = identityVerification;
+    }
+
+    public DownstreamSettings getTransactions() {
+        return transactions;
+    }
+
+    public void setTransactions(final DownstreamSettings transactions) {
+        this.transactions = transactions;
+    }
+
+    public HedgingSettings getPscDataHedging() {
+        return pscDataHedging;
+    }
+
+    public void setPscDataHedging(final HedgingSettings pscDataHedging) {
+        this.pscDataHedging = pscDataHedging;
+    }
+
+    public RetrySettings getRetry() {
+        return retry;
+    }
+
+    public void setRetry(final RetrySettings retry) {
+        this.retry = retry;
+    }
+
+    /**
+     * @param downstream the downstream service
+     * @return the bulkhead and timeout settings for calls to it
+     */
+    public DownstreamSettings getSettings(final Downstream downstream) {
+        return switch (downstream) {
+            case PSC_DATA -> pscData;
+            case COMPANY_PROFILE -> companyProfile;
+            case IDENTITY_VERIFICATION -> identityVerification;
+            case TRANSACTIONS -> transactions;
+        };
+    }
+
+    /**
+     * @param clock the clock used to time the open duration
+     * @return a circuit breaker with these settings
+     */
+    public CircuitBreaker createCircuitBreaker(final Clock clock) {
+        return new CircuitBreaker(failureRateThreshold, minimumCalls, windowSize, openDuration, halfOpenProbes,
+            clock);
+    }
+
+    /**
+     * @param downstream the downstream service
+     * @return a concurrency limiter with its settings, which adapts between the minimum and
+     *     maximum concurrent calls if adaptive concurrency is enabled and is fixed at the maximum
+     *     otherwise
+     */
+    public AimdLimiter createLimiter(final Downstream downstream) {
+        final var settings = getSettings(downstream);
+        final var max = settings.getMaxConcurrentCalls();
+
+        return new AimdLimiter(adaptiveConcurrency ? Math.min(minConcurrentCalls, max) : max, max, backoffRatio,
+            settings.getLatencyThreshold());
+    }
+
+    /**
+     * @param executor runs the calls
+     * @return a hedger for PSC Data API full record lookups with its settings
+     */
+    public Hedger createPscDataHedger(final Executor executor) {
+        return new Hedger(Downstream.PSC_DATA, pscDataHedging.isEnabled(), pscDataHedging.getPercentile(),
+            pscDataHedging.getMinDelay(), pscDataHedging.getMaxRatio(), executor);
+    }
+
+    /**
+     * @return a retrier for idempotent downstream calls with the retry settings
+     */
+    public Retrier createRetrier() {
+        return new Retrier(retry.isEnabled(), retry.getMaxAttempts(), retry.getInitialBackoff(),
+            retry.getMaxBackoff());
+    }
+
+    /**
+     * Bulkhead and timeout settings for calls to a single downstream service.
+     */
+    public static class DownstreamSettings {
+        @Positive
+        private int maxConcurrentCalls = 20;
+        @NotNull
+        private Duration timeout = Duration.ofSeconds(5);
+        @NotNull
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+
+        public DownstreamSettings() {
+        }
+
+        public DownstreamSettings(final int maxConcurrentCalls, final Duration timeout,
+                                  final Duration latencyThreshold) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.timeout = timeout;
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(final int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(final Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public Duration getLatencyThreshold() {
+            return latencyThreshold;
+        }
+
+        public void setLatencyThreshold(final Duration latencyThreshold) {
+            this.latencyThreshold = latencyThreshold;
+        }
+    }
+
+    /**
+     * Hedging settings for idempotent calls to a single downstream service.
+     */
+    public static class HedgingSettings {
+        private boolean enabled;
+        @Min(1)
+        @Max(100)
+        private int percentile = 95;
+        @NotNull
+        private Duration minDelay = Duration.ofMillis(50);
+        @Positive
+        @DecimalMax("1")
+        private double maxRatio = 0.1;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getPercentile() {
+            return percentile;
+        }
+
+        public void setPercentile(final int percentile) {
+            this.percentile = percentile;
+        }
+
+        public Duration getMinDelay() {
+            return minDelay;
+        }
+
+        public void setMinDelay(final Duration minDelay) {
+            this.minDelay = minDelay;
+        }
+
+        public double getMaxRatio() {
+            return maxRatio;
+        }
+
+        public void setMaxRatio(final double maxRatio) {
+            this.maxRatio = maxRatio;
+        }
+    }
+
+    /**
+     * Retry settings for idempotent downstream calls that fail transiently.
+     */
+    public static class RetrySettings {
+        private boolean enabled = true;
+        @Positive
+        private int maxAttempts = 3;
+        @NotNull
+        private Duration initialBackoff = Duration.ofMillis(50);
+        @NotNull
+        private Duration maxBackoff = Duration.ofMillis(500);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(final int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(final Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(final Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+    }
+}
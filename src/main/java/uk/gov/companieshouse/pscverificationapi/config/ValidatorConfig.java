@@ -1,5 +1,9 @@
 package uk.gov.companieshouse.pscverificationapi.config;
 
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
@@ -24,23 +28,51 @@ public class ValidatorConfig {
             final PscIsPastStartDateValidator pscIsPastStartDateValidator,
             final PscVerificationStatementPresentValidator pscVerificationStatementPresentValidator) {
 
-        createValidationChain(pscIdProvidedValidator, pscExistsValidator, pscIsActiveValidator, companyTypeValidator,
-                companyStatusValidator, uvidExistsValidator, pscIsUnverifiedValidator, pscIsPastStartDateValidator,
-                pscVerificationStatementPresentValidator);
+        final var dependencies = createValidationChain(pscIdProvidedValidator, pscExistsValidator,
+                pscIsActiveValidator, companyTypeValidator, companyStatusValidator, uvidExistsValidator,
+                pscIsUnverifiedValidator, pscIsPastStartDateValidator, pscVerificationStatementPresentValidator);
 
-        return new VerificationValidationChain(PscType.INDIVIDUAL, pscIdProvidedValidator);
+        return new VerificationValidationChain(PscType.INDIVIDUAL, pscIdProvidedValidator, dependencies);
+    }
+
+    /**
+     * Executor used to fetch validator dependencies when validating in parallel mode.
+     * Each lookup is blocking I/O, so runs on its own virtual thread.
+     *
+     * @return the executor
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService validationLookupExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Executor used to validate filings in the background after they are created or updated.
+     *
+     * @return the executor
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService validationMaterializationExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
     }
 
     /**
      * Links the provided validators in sequence to form a validation chain.
      *
      * @param validators the validators to link
+     * @return the dependencies of all the validators in the chain
      */
-    private static void createValidationChain(BaseVerificationValidator... validators) {
+    private static Set<ValidationDependency> createValidationChain(BaseVerificationValidator... validators) {
+        final Set<ValidationDependency> dependencies = EnumSet.noneOf(ValidationDependency.class);
+
         // Link all validators: a->b, b->c, c->d, etc
         for (int i = 0; i < validators.length - 1; i++) {
             validators[i].setNext(validators[i + 1]);
         }
+        for (final BaseVerificationValidator validator : validators) {
+            dependencies.addAll(validator.dependencies());
+        }
+        return dependencies;
     }
 
 }
@@ -0,0 +1,46 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import uk.gov.companieshouse.pscverificationapi.enumerations.ValidationMode;
+
+/**
+ * Configuration properties for the verification-validation prefix.
+ */
+@Component
+@Validated
+@ConfigurationProperties(prefix = "verification-validation")
+public class VerificationValidationProperties {
+    @NotNull
+    private ValidationMode mode = ValidationMode.SEQUENTIAL;
+    private boolean materialize = false;
+    @NotNull
+    private Duration materializedTtl = Duration.ofSeconds(30);
+
+    public ValidationMode getMode() {
+        return mode;
+    }
+
+    public void setMode(final ValidationMode mode) {
+        this.mode = mode;
+    }
+
+    public boolean isMaterialize() {
+        return materialize;
+    }
+
+    public void setMaterialize(final boolean materialize) {
+        this.materialize = materialize;
+    }
+
+    public Duration getMaterializedTtl() {
+        return materializedTtl;
+    }
+
+    public void setMaterializedTtl(final Duration materializedTtl) {
+        this.materializedTtl = materializedTtl;
+    }
+}
@@ -11,9 +11,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -47,6 +47,8 @@ import uk.gov.companieshouse.pscverificationapi.exception.InvalidFilingException
 import uk.gov.companieshouse.pscverificationapi.exception.InvalidPatchException;
 import uk.gov.companieshouse.pscverificationapi.exception.PscLookupServiceException;
 import uk.gov.companieshouse.pscverificationapi.helper.LogMapHelper;
+import uk.gov.companieshouse.pscverificationapi.model.FilingChangedEvent;
+import uk.gov.companieshouse.pscverificationapi.model.PatchOutcome;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
 import uk.gov.companieshouse.pscverificationapi.model.mapper.PscVerificationMapper;
 import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
@@ -72,16 +74,19 @@ public class PscVerificationControllerImpl implements PscVerificationController
     private final PscLookupService pscLookupService;
     private final PscVerificationMapper filingMapper;
     private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
     private final Logger logger;
 
     public PscVerificationControllerImpl(final TransactionService transactionService,
         final PscVerificationService pscVerificationService, final PscLookupService pscLookupService,
-        PscVerificationMapper filingMapper, final Clock clock, final Logger logger) {
+        PscVerificationMapper filingMapper, final Clock clock, final ApplicationEventPublisher eventPublisher,
+        final Logger logger) {
             this.transactionService = transactionService;
             this.pscVerificationService = pscVerificationService;
             this.pscLookupService = pscLookupService;
             this.filingMapper = filingMapper;
             this.clock = clock;
+            this.eventPublisher = eventPublisher;
             this.logger = logger;
     }
 
@@ -149,6 +154,7 @@ public class PscVerificationControllerImpl implements PscVerificationController
         if (transaction != null) {
             updateTransactionResources(requestTransaction, getPassthroughHeader(request), savedEntity.getLinks());
         }
+        eventPublisher.publishEvent(new FilingChangedEvent(savedEntity, transId, requestTransaction));
 
         final var response = filingMapper.toApi(savedEntity);
 
@@ -193,10 +199,16 @@ public class PscVerificationControllerImpl implements PscVerificationController
 
         pscVerification.ifPresent(v -> clearNameMismatchReasonIfRequired(v, mergePatch));
 
-        final var patchResult = pscVerification.filter(
+        final var internalData = Optional.ofNullable(individualFullRecord)
+                .map(r -> InternalData.newBuilder()
+                        .internalId(String.valueOf(r.getInternalId()))
+                        .build())
+                .orElse(null);
+        final var patchOutcome = pscVerification.filter(
                 f1 -> pscVerificationService.requestMatchesResourceSelf(request, f1)).map(
-                f -> pscVerificationService.patch(filingResource, mergePatch)).orElse(
-                new PatchResult(RetrievalFailureReason.FILING_NOT_FOUND));
+                f -> pscVerificationService.patch(f, mergePatch, internalData)).orElse(
+                PatchOutcome.failure(new PatchResult(RetrievalFailureReason.FILING_NOT_FOUND)));
+        final var patchResult = patchOutcome.result();
 
         if (patchResult.failedRetrieval()) {
             final var reason = (RetrievalFailureReason) patchResult.getRetrievalFailureReason();
@@ -221,19 +233,12 @@ public class PscVerificationControllerImpl implements PscVerificationController
         else {
             logMap.put(STATUS_MSG, "patch successful");
             logger.debugContext(transId, PATCH_RESULT_MSG, logMap);
+            final var patched = Optional.ofNullable(patchOutcome.filing());
 
-            final var optionalFiling = pscVerificationService.get(filingResource);
+            patched.ifPresent(f -> eventPublisher.publishEvent(new FilingChangedEvent(f, transId,
+                (Transaction) request.getAttribute("transaction"))));
 
-            if (mergePatch.get(PSC_VERIFICATION_ID) != null && individualFullRecord != null) {
-                var internalData = InternalData.newBuilder()
-                        .internalId(String.valueOf(individualFullRecord.getInternalId()))
-                        .build();
-                optionalFiling.ifPresent(v -> v.setInternalData(internalData));
-                pscVerificationService.save(optionalFiling.orElseThrow());
-            }
-
-            return optionalFiling
-                    .map(filingMapper::toApi)
+            return patched.map(filingMapper::toApi)
                     .map(PscVerificationControllerImpl::createOKResponse)
                     .orElse(ResponseEntity.notFound()
                             .build());
@@ -288,11 +293,7 @@ public class PscVerificationControllerImpl implements PscVerificationController
         @PathVariable("notificationId") final String notificationId,
         final HttpServletRequest request) {
 
-        Optional<List<PscVerification>> resultsOpt = pscVerificationService.getByNotificationId(notificationId);
-        if (resultsOpt.isEmpty() || resultsOpt.get().isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(resultsOpt.get().getLast());
+        return pscVerificationService.getLatestByNotificationId(notificationId);
     }
 
     /**
@@ -337,6 +338,10 @@ public class PscVerificationControllerImpl implements PscVerificationController
 
     /**
      * Saves a PSC Verification entity with metadata.
+     * <p>
+     * The filing ID is allocated before the entity is persisted so the links can be included in
+     * a single insert.
+     * </p>
      *
      * @param entity   the PSC Verification entity to save
      * @param transId  the transaction ID
@@ -350,37 +355,35 @@ public class PscVerificationControllerImpl implements PscVerificationController
         logger.debugContext(transId, "saving PSC Verification", logMap);
 
         final var now = clock.instant();
-        final var entityWithCreatedUpdated = PscVerification.newBuilder(entity)
+        final var filingId = new ObjectId().toHexString();
+        final var entityWithLinks = PscVerification.newBuilder(entity)
+            .id(filingId)
             .createdAt(now)
             .updatedAt(now)
+            .links(buildLinks(request, filingId))
             .build();
-        final var saved = pscVerificationService.save(entityWithCreatedUpdated);
-        final var links = buildLinks(request, saved);
-        final var updatedWithLinks = PscVerification.newBuilder(saved).links(links).build();
-        final var resaved = pscVerificationService.save(updatedWithLinks);
+        final var saved = pscVerificationService.insert(entityWithLinks);
 
-        logMap.put("filing_id", resaved.getId());
+        logMap.put("filing_id", saved.getId());
         logger.infoContext(transId, "Filing saved", logMap);
 
-        return resaved;
+        return saved;
     }
 
     /**
      * Builds resource links for a PSC Verification entity, including self and validation status URIs.
      *
-     * @param request      the servlet request
-     * @param savedFiling  the saved PSC Verification entity
+     * @param request   the servlet request
+     * @param filingId  the PSC Verification entity ID
      * @return ResourceLinks containing self and validation status URIs
      */
-    private ResourceLinks buildLinks(final HttpServletRequest request,
-        final PscVerification savedFiling) {
-        final var objectId = new ObjectId(Objects.requireNonNull(savedFiling.getId()));
+    private ResourceLinks buildLinks(final HttpServletRequest request, final String filingId) {
         final var selfUri = UriComponentsBuilder.fromUriString(request.getRequestURI())
-            .pathSegment(objectId.toHexString())
+            .pathSegment(filingId)
             .build()
             .toUri();
         final var validateUri = UriComponentsBuilder.fromUriString(request.getRequestURI())
-            .pathSegment(objectId.toHexString())
+            .pathSegment(filingId)
             .pathSegment(VALIDATION_STATUS)
             .build()
             .toUri();
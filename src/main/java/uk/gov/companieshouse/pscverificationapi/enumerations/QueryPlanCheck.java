@@ -0,0 +1,19 @@
+package uk.gov.companieshouse.pscverificationapi.enumerations;
+
+/**
+ * Enum for how the query plans of the known repository queries are checked at startup.
+ */
+public enum QueryPlanCheck {
+    /**
+     * Query plans are not checked.
+     */
+    OFF,
+    /**
+     * Queries that would scan the whole collection are logged as errors.
+     */
+    WARN,
+    /**
+     * Queries that would scan the whole collection stop the application from starting.
+     */
+    FAIL
+}
@@ -0,0 +1,21 @@
+package uk.gov.companieshouse.pscverificationapi.enumerations;
+
+/**
+ * Enum for the ways the verification validation service can fetch validator dependencies.
+ * <p>
+ * Only the remote lookups differ between the modes. The validators always run one after another
+ * in chain order, on the request thread, over the data already fetched, so the errors and their
+ * order are the same in either mode.
+ * </p>
+ */
+public enum ValidationMode {
+    /**
+     * Dependencies are fetched one after another on the request thread before the first validator runs.
+     */
+    SEQUENTIAL,
+    /**
+     * The PSC record is fetched first, then the other dependencies of the chain are fetched
+     * concurrently, before the first validator runs.
+     */
+    PARALLEL
+}
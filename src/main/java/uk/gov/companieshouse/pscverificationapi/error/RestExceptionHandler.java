@@ -41,6 +41,7 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscverificationapi.exception.ConflictingFilingException;
+import uk.gov.companieshouse.pscverificationapi.exception.DownstreamUnavailableException;
 import uk.gov.companieshouse.pscverificationapi.exception.FilingResourceInvalidException;
 import uk.gov.companieshouse.pscverificationapi.exception.FilingResourceNotFoundException;
 import uk.gov.companieshouse.pscverificationapi.exception.InvalidFilingException;
@@ -193,6 +194,16 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return new ApiErrors(errorList);
     }
 
+    @ExceptionHandler(DownstreamUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ResponseBody
+    public ApiErrors handleDownstreamUnavailableException(final DownstreamUnavailableException ex,
+        final WebRequest request) {
+        final var errorList = List.of(createApiServiceError(ex, request, chLogger));
+        logError(chLogger, request, ex.getMessage(), ex, errorList);
+        return new ApiErrors(errorList);
+    }
+
     @Override
     protected ResponseEntity<Object> handleExceptionInternal(@NonNull final Exception ex,
         @Nullable final Object body,
@@ -0,0 +1,18 @@
+package uk.gov.companieshouse.pscverificationapi.exception;
+
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+
+/**
+ * Downstream service call not made or abandoned because the request deadline has passed.
+ */
+public class DeadlineExceededException extends DownstreamUnavailableException {
+
+    public DeadlineExceededException(final String message, final Downstream downstream) {
+        super(message, downstream);
+    }
+
+    public DeadlineExceededException(final String message, final Downstream downstream,
+                                     final Throwable cause) {
+        super(message, downstream, cause);
+    }
+}
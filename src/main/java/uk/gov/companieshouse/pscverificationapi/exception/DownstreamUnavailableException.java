@@ -0,0 +1,26 @@
+package uk.gov.companieshouse.pscverificationapi.exception;
+
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+
+/**
+ * Downstream service call not made or abandoned to protect this service.
+ */
+public class DownstreamUnavailableException extends RuntimeException {
+
+    private final transient Downstream downstream;
+
+    public DownstreamUnavailableException(final String message, final Downstream downstream) {
+        super(message);
+        this.downstream = downstream;
+    }
+
+    public DownstreamUnavailableException(final String message, final Downstream downstream,
+                                          final Throwable cause) {
+        super(message, cause);
+        this.downstream = downstream;
+    }
+
+    public Downstream getDownstream() {
+        return downstream;
+    }
+}
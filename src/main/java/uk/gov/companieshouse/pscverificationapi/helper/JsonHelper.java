@@ -1,15 +1,12 @@
 package uk.gov.companieshouse.pscverificationapi.helper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import java.text.SimpleDateFormat;
 
 /**
  * Helper class for JSON conversion and mapping.
  * <p>
- * Provides utility methods to convert objects using a configured {@link ObjectMapper}
- * with custom naming strategies and date formats.
+ * Provides utility methods to convert objects using the shared mapper from the
+ * {@link ObjectMapperRegistry} for the naming strategy, with the default date format.
  * </p>
  */
 public final class JsonHelper {
@@ -18,21 +15,9 @@ public final class JsonHelper {
         // intentionally blank
     }
 
-    private static ObjectMapper mapper = null;
-
-    private static void initialiseMapper(PropertyNamingStrategy namingStrategy) {
-        if (mapper == null) {
-            mapper = new ObjectMapper().registerModule(new JavaTimeModule())
-                    .setPropertyNamingStrategy(namingStrategy)
-                    .setDateFormat(new SimpleDateFormat("yyyy-MM-dd"));
-        }
-    }
-
     public static <T>T convertLinkedHashmap(final Object hashMap, final PropertyNamingStrategy namingStrategy,
                                             Class<T> clazz) {
-        initialiseMapper(namingStrategy);
-
-        return mapper.convertValue(hashMap, clazz);
+        return ObjectMapperRegistry.convert(hashMap, namingStrategy, clazz);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package uk.gov.companieshouse.pscverificationapi.helper;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of shared {@link ObjectMapper} instances used for object conversion.
+ * <p>
+ * One mapper is built for each combination of property naming strategy and date format, the
+ * first time it is needed, and is never reconfigured afterwards. The {@link ObjectReader} and
+ * {@link ObjectWriter} for each type are cached per mapper, so that the root serializer and
+ * deserializer are only resolved once. Mappers are not exposed, so that callers cannot change
+ * their configuration. Only conversion with the default date format is offered to callers; the
+ * readers, writers and other date formats are visible to this package for testing.
+ * </p>
+ */
+public final class ObjectMapperRegistry {
+
+    /**
+     * The date format used unless another is given.
+     */
+    public static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd";
+
+    private static final Map<MapperKey, Mappers> MAPPERS = new ConcurrentHashMap<>();
+
+    private ObjectMapperRegistry() {
+        // intentionally blank
+    }
+
+    /**
+     * @param namingStrategy the property naming strategy
+     * @param type           the type read
+     * @return the cached reader of the type, using the default date format
+     */
+    static ObjectReader reader(final PropertyNamingStrategy namingStrategy, final JavaType type) {
+        return mappers(namingStrategy, DEFAULT_DATE_FORMAT).reader(type);
+    }
+
+    /**
+     * @param namingStrategy the property naming strategy
+     * @param type           the type read
+     * @return the cached reader of the type, using the default date format
+     */
+    static ObjectReader reader(final PropertyNamingStrategy namingStrategy, final Class<?> type) {
+        return reader(namingStrategy, TypeFactory.defaultInstance().constructType(type));
+    }
+
+    /**
+     * @param namingStrategy the property naming strategy
+     * @param type           the type written
+     * @return the cached writer of the type, using the default date format
+     */
+    static ObjectWriter writer(final PropertyNamingStrategy namingStrategy, final Class<?> type) {
+        return mappers(namingStrategy, DEFAULT_DATE_FORMAT).writer(type);
+    }
+
+    /**
+     * Converts a value to another type, as {@link ObjectMapper#convertValue(Object, JavaType)}
+     * does, using the default date format.
+     *
+     * @param value          the value
+     * @param namingStrategy the property naming strategy
+     * @param type           the target type
+     * @param <T>            the target type
+     * @return the converted value, or {@code null} if the value is {@code null}
+     * @throws IllegalArgumentException if the value cannot be converted
+     */
+    public static <T> T convert(final Object value, final PropertyNamingStrategy namingStrategy,
+                                final JavaType type) {
+        return mappers(namingStrategy, DEFAULT_DATE_FORMAT).convert(value, type);
+    }
+
+    /**
+     * @see #convert(Object, PropertyNamingStrategy, JavaType)
+     */
+    public static <T> T convert(final Object value, final PropertyNamingStrategy namingStrategy,
+                                final Class<T> type) {
+        return convert(value, namingStrategy, TypeFactory.defaultInstance().constructType(type));
+    }
+
+    /**
+     * Converts a value to another type using the given date format.
+     *
+     * @see #convert(Object, PropertyNamingStrategy, JavaType)
+     */
+    static <T> T convert(final Object value, final PropertyNamingStrategy namingStrategy, final String dateFormat,
+                         final JavaType type) {
+        return mappers(namingStrategy, dateFormat).convert(value, type);
+    }
+
+    static int size() {
+        return MAPPERS.size();
+    }
+
+    private static Mappers mappers(final PropertyNamingStrategy namingStrategy, final String dateFormat) {
+        return MAPPERS.computeIfAbsent(new MapperKey(namingStrategy, dateFormat), Mappers::new);
+    }
+
+    /**
+     * @param namingStrategy the property naming strategy
+     * @param dateFormat     the date format pattern
+     */
+    private record MapperKey(PropertyNamingStrategy namingStrategy, String dateFormat) {
+
+        MapperKey {
+            Objects.requireNonNull(namingStrategy);
+            Objects.requireNonNull(dateFormat);
+        }
+    }
+
+    /**
+     * A mapper and its cached readers and writers.
+     */
+    private static final class Mappers {
+
+        private final ObjectMapper mapper;
+        private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+        private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+        Mappers(final MapperKey key) {
+            mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .propertyNamingStrategy(key.namingStrategy())
+                .defaultDateFormat(new SimpleDateFormat(key.dateFormat()))
+                .build();
+        }
+
+        ObjectReader reader(final JavaType type) {
+            return readers.computeIfAbsent(type, mapper::readerFor);
+        }
+
+        ObjectWriter writer(final Class<?> type) {
+            return writers.computeIfAbsent(type, mapper::writerFor);
+        }
+
+        <T> T convert(final Object value, final JavaType type) {
+            if (value == null) {
+                return null;
+            }
+            try (final var buffer = new TokenBuffer(mapper, false)) {
+                writer(value.getClass()).writeValue(buffer, value);
+                try (final var parser = buffer.asParser()) {
+                    return reader(type).readValue(parser);
+                }
+            } catch (IOException e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.companieshouse.pscverificationapi.index;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-only actuator endpoint for inspecting the filing collection indexes and the plans of the
+ * known repository queries, as verified at startup.
+ */
+@Component
+@Endpoint(id = "indexes")
+public class IndexActuatorEndpoint {
+
+    private final IndexManager indexManager;
+
+    public IndexActuatorEndpoint(final IndexManager indexManager) {
+        this.indexManager = indexManager;
+    }
+
+    /**
+     * @return the size of each index and the most recently verified query plans
+     */
+    @ReadOperation(produces = "application/json")
+    public IndexStatistics indexes() {
+        return indexManager.statistics();
+    }
+
+}
@@ -0,0 +1,278 @@
+package uk.gov.companieshouse.pscverificationapi.index;
+
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.config.IndexManagementProperties;
+import uk.gov.companieshouse.pscverificationapi.enumerations.QueryPlanCheck;
+import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
+import uk.gov.companieshouse.pscverificationapi.repository.PscVerificationRepositoryImpl;
+
+/**
+ * Manages the indexes of the filing collection.
+ * <p>
+ * The required indexes are declared on {@link PscVerification} with {@link CompoundIndex}
+ * annotations. Once every singleton has been created, and before the application accepts
+ * requests, missing indexes are created. Indexes whose keys have changed are reported; every
+ * instance reconciles at startup, so they are only dropped and rebuilt when
+ * {@link IndexManagementProperties#isReplaceChanged()} is set. The known
+ * repository queries are then explained, and any that would scan the whole collection are
+ * reported or, depending on {@link IndexManagementProperties#getQueryPlanCheck()}, stop the
+ * application from starting.
+ * </p>
+ */
+@Component
+public class IndexManager implements SmartInitializingSingleton {
+    static final String COLLECTION_SCAN = "COLLSCAN";
+    private static final String ID_INDEX = "_id_";
+    private static final String SAMPLE_ID = "000000000000000000000000";
+    private static final String SAMPLE_VALUE = "explain";
+
+    private final MongoTemplate mongoTemplate;
+    private final IndexManagementProperties properties;
+    private final Logger logger;
+    private volatile List<QueryPlan> queryPlans = List.of();
+
+    public IndexManager(final MongoTemplate mongoTemplate, final IndexManagementProperties properties,
+                        final Logger logger) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        this.logger = logger;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.isEnabled()) {
+            logger.info("Index management is disabled");
+            return;
+        }
+
+        try {
+            reconcile();
+        } catch (DataAccessException e) {
+            logger.error("Unable to reconcile indexes: " + e.getMessage());
+        }
+
+        final var check = properties.getQueryPlanCheck();
+
+        if (check != QueryPlanCheck.OFF) {
+            try {
+                checkQueryPlans(verifyQueryPlans(), check);
+            } catch (DataAccessException e) {
+                if (check == QueryPlanCheck.FAIL) {
+                    throw e;
+                }
+                logger.error("Unable to verify query plans: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Creates the declared indexes that are missing. Those whose keys have changed are rebuilt if
+     * {@link IndexManagementProperties#isReplaceChanged()} is set, and otherwise reported but left in
+     * place, as are existing indexes that are not declared.
+     *
+     * @return the changes made
+     */
+    public IndexReconciliation reconcile() {
+        final var indexOps = mongoTemplate.indexOps(PscVerification.class);
+        final var existing = indexOps.getIndexInfo();
+        final var declared = declaredIndexes();
+        final var declaredNames = new ArrayList<String>();
+        final var declaredKeys = new ArrayList<List<String>>();
+        final var created = new ArrayList<String>();
+        final var replaced = new ArrayList<String>();
+        final var changed = new ArrayList<String>();
+
+        for (final IndexDefinition definition : declared) {
+            final var name = definition.getIndexOptions().getString("name");
+            final var keys = keysOf(definition.getIndexKeys());
+            final var sameName = existing.stream().filter(i -> i.getName().equals(name)).findFirst();
+
+            declaredNames.add(name);
+            declaredKeys.add(keys);
+            if (sameName.isPresent() && !keysOf(sameName.get()).equals(keys)) {
+                if (properties.isReplaceChanged()) {
+                    // queries using the index scan the collection until it is rebuilt
+                    indexOps.dropIndex(name);
+                    indexOps.ensureIndex(definition);
+                    replaced.add(name);
+                } else {
+                    changed.add(name);
+                }
+            } else if (sameName.isEmpty() && existing.stream().noneMatch(i -> keysOf(i).equals(keys))) {
+                indexOps.ensureIndex(definition);
+                created.add(name);
+            }
+        }
+
+        final var unmanaged = existing.stream()
+            .filter(i -> !ID_INDEX.equals(i.getName()) && !declaredNames.contains(i.getName())
+                && !declaredKeys.contains(keysOf(i)))
+            .map(IndexInfo::getName)
+            .toList();
+        final var collection = mongoTemplate.getCollectionName(PscVerification.class);
+        final var reconciliation = new IndexReconciliation(created, replaced, changed, unmanaged);
+
+        logger.info(MessageFormat.format(
+            "Reconciled indexes of {0}: created {1}, replaced {2}, changed {3}, unmanaged {4}",
+            collection, created, replaced, changed, unmanaged));
+        if (!changed.isEmpty()) {
+            logger.error(MessageFormat.format("Indexes of {0} differ from their declarations: {1}",
+                collection, changed));
+        }
+
+        return reconciliation;
+    }
+
+    /**
+     * Explains each known repository query and keeps the winning plans for reporting.
+     *
+     * @return the winning plan of each known query
+     */
+    public List<QueryPlan> verifyQueryPlans() {
+        final var plans = knownQueries().entrySet()
+            .stream()
+            .map(e -> explain(e.getKey(), e.getValue()))
+            .toList();
+
+        queryPlans = plans;
+
+        return plans;
+    }
+
+    /**
+     * @return the size of each index of the filing collection and the most recently verified
+     *     query plans
+     */
+    public IndexStatistics statistics() {
+        final var collection = mongoTemplate.getCollectionName(PscVerification.class);
+        final var stats = mongoTemplate.execute(collection, c -> c.aggregate(
+                List.of(new Document("$collStats", new Document("storageStats", new Document()))))
+            .first());
+        final var storageStats = stats == null ? new Document()
+            : stats.get("storageStats", new Document());
+        final var indexSizes = new LinkedHashMap<String, Long>();
+
+        storageStats.get("indexSizes", new Document())
+            .forEach((name, size) -> indexSizes.put(name, ((Number) size).longValue()));
+
+        return new IndexStatistics(collection, longValue(storageStats.get("count")),
+            longValue(storageStats.get("totalIndexSize")), indexSizes, queryPlans);
+    }
+
+    private void checkQueryPlans(final List<QueryPlan> plans, final QueryPlanCheck check) {
+        final var scans = plans.stream()
+            .filter(QueryPlan::collectionScan)
+            .map(QueryPlan::query)
+            .toList();
+
+        if (!scans.isEmpty()) {
+            final var message = MessageFormat.format("Queries on {0} would use {1}: {2}",
+                mongoTemplate.getCollectionName(PscVerification.class), COLLECTION_SCAN, scans);
+
+            if (check == QueryPlanCheck.FAIL) {
+                throw new IllegalStateException(message);
+            }
+            logger.error(message);
+        }
+    }
+
+    private List<IndexDefinition> declaredIndexes() {
+        final var resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        final var declared = new ArrayList<IndexDefinition>();
+
+        resolver.resolveIndexFor(PscVerification.class).forEach(declared::add);
+
+        return declared;
+    }
+
+    private QueryPlan explain(final String name, final Query query) {
+        final var converter = mongoTemplate.getConverter();
+        final var entity = converter.getMappingContext().getRequiredPersistentEntity(PscVerification.class);
+        final var queryMapper = new QueryMapper(converter);
+        final var find = new Document("find", mongoTemplate.getCollectionName(PscVerification.class))
+            .append("filter", queryMapper.getMappedObject(query.getQueryObject(), entity));
+
+        if (query.isSorted()) {
+            find.append("sort", queryMapper.getMappedSort(query.getSortObject(), entity));
+        }
+        if (query.isLimited()) {
+            find.append("limit", query.getLimit());
+        }
+
+        final var explained = mongoTemplate.executeCommand(
+            new Document("explain", find).append("verbosity", "queryPlanner"));
+        final var stages = new ArrayList<String>();
+        final var indexes = new ArrayList<String>();
+
+        collectStages(explained.get("queryPlanner", new Document()).get("winningPlan"), stages, indexes);
+
+        return new QueryPlan(name, stages, indexes, stages.contains(COLLECTION_SCAN));
+    }
+
+    private static void collectStages(final Object node, final List<String> stages, final List<String> indexes) {
+        if (node instanceof Document document) {
+            if (document.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            if (document.get("indexName") instanceof String indexName) {
+                indexes.add(indexName);
+            }
+            document.values().forEach(v -> collectStages(v, stages, indexes));
+        } else if (node instanceof List<?> list) {
+            list.forEach(v -> collectStages(v, stages, indexes));
+        }
+    }
+
+    private static Map<String, Query> knownQueries() {
+        final var queries = new LinkedHashMap<String, Query>();
+
+        queries.put("latest-by-notification-id",
+            PscVerificationRepositoryImpl.latestByNotificationIdQuery(SAMPLE_VALUE));
+        queries.put("update-if-unmodified", PscVerificationRepositoryImpl.unmodifiedQuery(SAMPLE_ID, Instant.EPOCH));
+        // transaction resources are identified by their self link
+        queries.put("by-transaction",
+            query(Criteria.where("links.self").regex("^/transactions/" + SAMPLE_VALUE + "/")));
+
+        return queries;
+    }
+
+    private static List<String> keysOf(final Document keys) {
+        return keys.entrySet()
+            .stream()
+            .map(e -> e.getKey() + ":" + (e.getValue() instanceof Number n ? n.intValue() : e.getValue()))
+            .toList();
+    }
+
+    private static List<String> keysOf(final IndexInfo index) {
+        return index.getIndexFields()
+            .stream()
+            .map(f -> f.getKey() + ":" + (f.getDirection() == null ? "special"
+                : f.getDirection() == Sort.Direction.ASC ? 1 : -1))
+            .toList();
+    }
+
+    private static long longValue(final Object value) {
+        return value instanceof Number n ? n.longValue() : 0L;
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.companieshouse.pscverificationapi.index;
+
+import java.util.List;
+
+/**
+ * Changes made when reconciling the collection indexes with those declared on the entity.
+ *
+ * @param created   the declared indexes that were missing and have been created
+ * @param replaced  the declared indexes whose keys had changed and have been rebuilt
+ * @param changed   the declared indexes whose keys have changed but have been left in place
+ * @param unmanaged the existing indexes that are not declared on the entity
+ */
+public record IndexReconciliation(List<String> created, List<String> replaced, List<String> changed,
+                                  List<String> unmanaged) {
+
+    public IndexReconciliation {
+        created = List.copyOf(created);
+        replaced = List.copyOf(replaced);
+        changed = List.copyOf(changed);
+        unmanaged = List.copyOf(unmanaged);
+    }
+}
@@ -0,0 +1,17 @@
+package uk.gov.companieshouse.pscverificationapi.index;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index statistics for the filing collection.
+ *
+ * @param collection     the collection name
+ * @param documents      the number of documents in the collection
+ * @param totalIndexSize the total size of all indexes in bytes
+ * @param indexSizes     the size of each index in bytes, keyed by index name
+ * @param queryPlans     the most recently verified plans of the known repository queries
+ */
+public record IndexStatistics(String collection, long documents, long totalIndexSize,
+                              Map<String, Long> indexSizes, List<QueryPlan> queryPlans) {
+}
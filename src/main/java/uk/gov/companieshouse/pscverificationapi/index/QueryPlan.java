@@ -0,0 +1,19 @@
+package uk.gov.companieshouse.pscverificationapi.index;
+
+import java.util.List;
+
+/**
+ * The winning plan of a known repository query.
+ *
+ * @param query          the query name
+ * @param stages         the plan stages, outermost first
+ * @param indexes        the indexes used by the plan
+ * @param collectionScan whether the plan scans the whole collection
+ */
+public record QueryPlan(String query, List<String> stages, List<String> indexes, boolean collectionScan) {
+
+    public QueryPlan {
+        stages = List.copyOf(stages);
+        indexes = List.copyOf(indexes);
+    }
+}
@@ -0,0 +1,50 @@
+package uk.gov.companieshouse.pscverificationapi.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.HandlerInterceptor;
+import uk.gov.companieshouse.pscverificationapi.resilience.Deadline;
+
+/**
+ * Interceptor for starting the {@link Deadline} of each request.
+ * <p>
+ * The deadline is stored as a request attribute and bound to the handling thread until the
+ * request completes, so that downstream calls made while handling the request are limited to the
+ * time remaining.
+ * </p>
+ */
+public class RequestDeadlineInterceptor implements HandlerInterceptor {
+
+    public static final String DEADLINE_ATTRIBUTE = "requestDeadline";
+
+    private final Duration budget;
+
+    public RequestDeadlineInterceptor(final Duration budget) {
+        this.budget = Objects.requireNonNull(budget);
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull final HttpServletRequest request, @NonNull final HttpServletResponse response,
+                             @NonNull final Object handler) {
+        final var deadline = Deadline.after(budget);
+
+        request.setAttribute(DEADLINE_ATTRIBUTE, deadline);
+        Deadline.bind(deadline);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull final HttpServletRequest request,
+                                @NonNull final HttpServletResponse response, @NonNull final Object handler,
+                                @Nullable final Exception ex) {
+        Deadline.clear();
+    }
+}
@@ -0,0 +1,85 @@
+package uk.gov.companieshouse.pscverificationapi.metrics;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+/**
+ * Counts the MongoDB write commands issued while handling each request.
+ * <p>
+ * Registered with the Mongo client as a {@link CommandListener}. The synchronous driver notifies
+ * the listener on the thread that issues the command, so writes are counted per thread and
+ * recorded against the request once it has been handled, as the
+ * {@value #WRITES_PER_REQUEST} distribution tagged with the HTTP method.
+ * </p>
+ * <p>
+ * Only writes issued on the request thread are recorded against the request. Writes made on
+ * other threads, such as the background validation of a filing after it is created or updated,
+ * are included in {@value #WRITES} but not in {@value #WRITES_PER_REQUEST}, which therefore
+ * counts the writes a request waits for rather than every write it causes.
+ * </p>
+ */
+@Component
+public class MongoWriteMetrics implements CommandListener, MeterBinder {
+    static final String WRITES = "mongodb.writes";
+    static final String WRITES_PER_REQUEST = "mongodb.writes.per.request";
+    private static final Set<String> WRITE_COMMANDS = Set.of("insert", "update", "delete", "findAndModify");
+
+    private final ThreadLocal<AtomicInteger> requestWrites = ThreadLocal.withInitial(AtomicInteger::new);
+    private final LongAdder writes = new LongAdder();
+    private volatile MeterRegistry registry;
+
+    @Override
+    public void commandStarted(final CommandStartedEvent event) {
+        if (WRITE_COMMANDS.contains(event.getCommandName())) {
+            requestWrites.get().incrementAndGet();
+            writes.increment();
+        }
+    }
+
+    /**
+     * Records the writes issued by the request thread and resets its count.
+     *
+     * @param event the request handled event, published on the request thread
+     */
+    @EventListener
+    public void onRequestHandled(final ServletRequestHandledEvent event) {
+        final var count = requestWrites.get().get();
+        final var meterRegistry = registry;
+
+        requestWrites.remove();
+        if (meterRegistry != null) {
+            DistributionSummary.builder(WRITES_PER_REQUEST)
+                .tag("method", event.getMethod())
+                .description("The number of MongoDB write commands issued while handling a request.")
+                .register(meterRegistry)
+                .record(count);
+        }
+    }
+
+    /**
+     * @return the number of write commands issued so far by the current request thread
+     */
+    public int currentRequestWrites() {
+        return requestWrites.get().get();
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        FunctionCounter.builder(WRITES, writes, LongAdder::sum)
+            .description("The number of MongoDB write commands issued.")
+            .register(registry);
+        this.registry = registry;
+    }
+
+}
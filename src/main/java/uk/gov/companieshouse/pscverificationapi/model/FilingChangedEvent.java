@@ -0,0 +1,23 @@
+package uk.gov.companieshouse.pscverificationapi.model;
+
+import java.util.Objects;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
+
+/**
+ * Published when a filing has been created or updated.
+ *
+ * <p>
+ * The event carries nothing that authorises the request, so it may safely outlive it.
+ * </p>
+ *
+ * @param filing        the filing as stored
+ * @param transactionId the ID of the transaction the filing belongs to
+ * @param transaction   the transaction, or null if it was not retrieved by the request
+ */
+public record FilingChangedEvent(PscVerification filing, String transactionId, Transaction transaction) {
+
+    public FilingChangedEvent {
+        Objects.requireNonNull(filing);
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.companieshouse.pscverificationapi.model;
+
+import java.util.Objects;
+import uk.gov.companieshouse.patch.model.PatchResult;
+import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
+
+/**
+ * Outcome of patching a {@link PscVerification} filing.
+ *
+ * @param result the patch result
+ * @param filing the filing as stored after a successful patch, otherwise null
+ */
+public record PatchOutcome(PatchResult result, PscVerification filing) {
+
+    public PatchOutcome {
+        Objects.requireNonNull(result);
+    }
+
+    public static PatchOutcome success(final PscVerification filing) {
+        return new PatchOutcome(new PatchResult(), Objects.requireNonNull(filing));
+    }
+
+    public static PatchOutcome failure(final PatchResult result) {
+        return new PatchOutcome(result, null);
+    }
+}
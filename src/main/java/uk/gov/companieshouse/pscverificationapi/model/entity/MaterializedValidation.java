@@ -0,0 +1,22 @@
+package uk.gov.companieshouse.pscverificationapi.model.entity;
+
+import java.time.Instant;
+import java.util.List;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+
+/**
+ * Result of validating a filing, stored with the filing together with the inputs it was
+ * computed from.
+ *
+ * @param filingUpdatedAt the updated timestamp of the filing that was validated
+ * @param validatedAt     the time the downstream data used by the validators was read
+ * @param valid           whether the filing was valid
+ * @param errors          the validation errors
+ */
+public record MaterializedValidation(Instant filingUpdatedAt, Instant validatedAt, boolean valid,
+                                     List<ValidationStatusError> errors) {
+
+    public MaterializedValidation {
+        errors = errors == null ? List.of() : List.copyOf(errors);
+    }
+}
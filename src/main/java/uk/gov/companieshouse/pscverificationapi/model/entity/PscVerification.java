@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.pscverificationapi.model.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonMerge;
@@ -8,6 +9,8 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.StringJoiner;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import uk.gov.companieshouse.api.model.common.ResourceLinks;
 import uk.gov.companieshouse.api.model.pscverification.InternalData;
@@ -21,6 +24,11 @@ import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
  * </p>
  */
 @Document(collection = "psc_verification")
+@CompoundIndexes({
+    @CompoundIndex(name = "psc_notification_id_created_at",
+        def = "{'data.psc_notification_id': 1, 'created_at': -1}"),
+    @CompoundIndex(name = "links_self", def = "{'links.self': 1}")
+})
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown = true)
 public final class PscVerification implements Touchable {
@@ -40,6 +48,9 @@ public final class PscVerification implements Touchable {
     // No @JsonMerge: this property MUST NOT be modifiable by PATCH requests
     @JsonProperty("internal_data")
     private InternalData internalData;
+    // written only by validation materialisation, never by POST or PATCH requests
+    @JsonIgnore
+    private MaterializedValidation validation;
 
     public PscVerification() {
         // required by Spring Data
@@ -52,6 +63,7 @@ public final class PscVerification implements Touchable {
         setLinks(builder.links);
         setData(builder.data);
         setInternalData(builder.internalData);
+        setValidation(builder.validation);
     }
 
     public static Builder newBuilder() {
@@ -66,6 +78,7 @@ public final class PscVerification implements Touchable {
         builder.links = copy.getLinks();
         builder.data = copy.getData();
         builder.internalData = copy.getInternalData();
+        builder.validation = copy.getValidation();
         return builder;
     }
 
@@ -93,6 +106,10 @@ public final class PscVerification implements Touchable {
         return internalData;
     }
 
+    public MaterializedValidation getValidation() {
+        return validation;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -100,12 +117,14 @@ public final class PscVerification implements Touchable {
         return Objects.equals(getId(), that.getId()) && Objects.equals(getCreatedAt(),
             that.getCreatedAt()) && Objects.equals(getUpdatedAt(),
             that.getUpdatedAt()) && Objects.equals(getLinks(), that.getLinks()) && Objects.equals(
-            getData(), that.getData()) && Objects.equals(getInternalData(), that.getInternalData());
+            getData(), that.getData()) && Objects.equals(getInternalData(), that.getInternalData())
+            && Objects.equals(getValidation(), that.getValidation());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getId(), getCreatedAt(), getUpdatedAt(), getLinks(), getData(), getInternalData());
+        return Objects.hash(getId(), getCreatedAt(), getUpdatedAt(), getLinks(), getData(), getInternalData(),
+            getValidation());
     }
 
     @Override
@@ -117,6 +136,7 @@ public final class PscVerification implements Touchable {
             .add("links=" + getLinks())
             .add("data=" + getData())
             .add("internalData=" + getInternalData())
+            .add("validation=" + getValidation())
             .toString();
     }
 
@@ -144,6 +164,10 @@ public final class PscVerification implements Touchable {
         this.internalData = internalData;
     }
 
+    public void setValidation(final MaterializedValidation validation) {
+        this.validation = validation;
+    }
+
     @Override
     public void touch(Instant instant) {
         this.updatedAt = instant;
@@ -159,6 +183,7 @@ public final class PscVerification implements Touchable {
         private ResourceLinks links;
         private PscVerificationData data;
         private InternalData internalData;
+        private MaterializedValidation validation;
 
         private Builder() {
         }
@@ -235,6 +260,18 @@ public final class PscVerification implements Touchable {
             return this;
         }
 
+        /**
+         * Sets the {@code validation} and returns a reference to this Builder so that the methods can be
+         * chained together.
+         *
+         * @param validation the {@code validation} to set
+         * @return a reference to this Builder
+         */
+        public Builder validation(final MaterializedValidation validation) {
+            this.validation = validation;
+            return this;
+        }
+
         /**
          * Returns a {@code PscVerification} built from the parameters previously set.
          *
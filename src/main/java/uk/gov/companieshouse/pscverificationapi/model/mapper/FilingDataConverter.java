@@ -0,0 +1,73 @@
+package uk.gov.companieshouse.pscverificationapi.model.mapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
+import uk.gov.companieshouse.api.model.pscverification.VerificationDetails;
+import uk.gov.companieshouse.api.model.pscverification.VerificationStatementConstants;
+import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
+
+/**
+ * Converts a PSC verification into the {@link FilingApi} data read by filing-resource-handler.
+ * <p>
+ * The data is written in one pass from the typed verification, with its snake case field names,
+ * the PSC notification ID left out and the appointment ID added last. Fields and entries appear in
+ * the order that converting the verification data with Jackson produced, so the JSON is unchanged.
+ * Null values are left out, as the JSON omits them.
+ * </p>
+ */
+public final class FilingDataConverter {
+
+    private FilingDataConverter() {
+        // intentionally blank
+    }
+
+    /**
+     * @param pscVerification the PSC verification, with its internal data
+     * @return the filing data
+     */
+    public static Map<String, Object> toFilingData(final PscVerification pscVerification) {
+        final var data = pscVerification.getData();
+        final var filingData = new LinkedHashMap<String, Object>(4);
+
+        putIfPresent(filingData, "company_number", data.companyNumber());
+        putIfPresent(filingData, "verification_details", toVerificationDetails(data.verificationDetails()));
+        putIfPresent(filingData, "appointment_id", pscVerification.getInternalData().internalId());
+        return filingData;
+    }
+
+    private static Map<String, Object> toVerificationDetails(final VerificationDetails verificationDetails) {
+        if (verificationDetails == null) {
+            return null;
+        }
+
+        final var details = new LinkedHashMap<String, Object>(4);
+        final var nameMismatchReason = verificationDetails.nameMismatchReason();
+
+        putIfPresent(details, "uvid", verificationDetails.uvid());
+        putIfPresent(details, "name_mismatch_reason", nameMismatchReason == null ? null : nameMismatchReason.name());
+        putIfPresent(details, "verification_statements", toNames(verificationDetails.statements()));
+        return details;
+    }
+
+    private static List<String> toNames(final Iterable<VerificationStatementConstants> statements) {
+        if (statements == null) {
+            return null;
+        }
+
+        final var names = new ArrayList<String>();
+
+        for (final var statement : statements) {
+            names.add(statement.name());
+        }
+        return names;
+    }
+
+    private static void putIfPresent(final Map<String, Object> map, final String key, final Object value) {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+}
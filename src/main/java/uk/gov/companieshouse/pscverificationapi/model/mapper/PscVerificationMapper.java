@@ -15,6 +15,7 @@ public interface PscVerificationMapper {
     @Mapping(target = "links", ignore = true)
     @Mapping(target = "data", source = "data")
     @Mapping(target = "internalData", ignore = true)
+    @Mapping(target = "validation", ignore = true)
     PscVerification toEntity(final PscVerificationData data);
 
     @Mapping(target="companyNumber", source = "data.companyNumber")
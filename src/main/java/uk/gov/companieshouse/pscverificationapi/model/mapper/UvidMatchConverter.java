@@ -0,0 +1,110 @@
+package uk.gov.companieshouse.pscverificationapi.model.mapper;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+import uk.gov.companieshouse.api.identityverification.model.UvidMatch;
+import uk.gov.companieshouse.api.psc.DateOfBirth;
+import uk.gov.companieshouse.api.psc.IndividualFullRecord;
+import uk.gov.companieshouse.api.psc.NameElements;
+import uk.gov.companieshouse.pscverificationapi.helper.JsonHelper;
+
+/**
+ * Converts a PSC record into the {@link UvidMatch} sent to the Identity Verification API.
+ * <p>
+ * The PSC Data API client leaves the name elements and date of birth of an
+ * {@link IndividualFullRecord} as untyped maps of snake case fields. These are read directly,
+ * and the date of birth is built from its parts, rather than round tripping the maps through
+ * Jackson and a formatted date string. Values of any other type are converted with
+ * {@link JsonHelper}, as before.
+ * </p>
+ */
+public final class UvidMatchConverter {
+
+    private UvidMatchConverter() {
+        // intentionally blank
+    }
+
+    /**
+     * @param uvid    the UVID to match
+     * @param pscData the PSC record holding the name and date of birth
+     * @return a UvidMatch with the UVID and the PSC's forename and middle name, surname and date
+     *     of birth
+     * @throws DateTimeException if the date of birth is incomplete or invalid
+     */
+    public static UvidMatch toUvidMatch(final String uvid, final IndividualFullRecord pscData) {
+        final var uvidMatch = new UvidMatch();
+
+        uvidMatch.setUvid(uvid);
+        setNames(uvidMatch, pscData.getNameElements());
+        uvidMatch.setDateOfBirth(toDateOfBirth(pscData.getDateOfBirth()));
+        return uvidMatch;
+    }
+
+    private static void setNames(final UvidMatch uvidMatch, final Object nameElements) {
+        final var forenames = new ArrayList<String>(2);
+        final Object forename;
+        final Object middleName;
+        final Object surname;
+
+        if (nameElements == null) {
+            forename = null;
+            middleName = null;
+            surname = null;
+        } else if (nameElements instanceof Map<?, ?> map) {
+            forename = map.get("forename");
+            middleName = map.get("middle_name");
+            surname = map.get("surname");
+        } else {
+            final var typed = nameElements instanceof NameElements elements ? elements
+                : JsonHelper.convertLinkedHashmap(nameElements, PropertyNamingStrategies.SNAKE_CASE,
+                    NameElements.class);
+
+            forename = typed.getForename();
+            middleName = typed.getMiddleName();
+            surname = typed.getSurname();
+        }
+        if (forename != null) {
+            forenames.add(forename.toString());
+        }
+        if (middleName != null) {
+            forenames.add(middleName.toString());
+        }
+        uvidMatch.setForenames(forenames);
+        uvidMatch.setSurname(surname == null ? null : surname.toString());
+    }
+
+    private static LocalDate toDateOfBirth(final Object dateOfBirth) {
+        if (dateOfBirth == null) {
+            return null;
+        }
+        if (dateOfBirth instanceof Map<?, ?> map) {
+            return toLocalDate(map.get("year"), map.get("month"), map.get("day"));
+        }
+
+        final var typed = dateOfBirth instanceof DateOfBirth date ? date
+            : JsonHelper.convertLinkedHashmap(dateOfBirth, PropertyNamingStrategies.SNAKE_CASE, DateOfBirth.class);
+
+        return toLocalDate(typed.getYear(), typed.getMonth(), typed.getDay());
+    }
+
+    private static LocalDate toLocalDate(final Object year, final Object month, final Object day) {
+        return LocalDate.of(toInt(year, "year"), toInt(month, "month"), toInt(day, "day"));
+    }
+
+    private static int toInt(final Object value, final String field) {
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        if (value instanceof CharSequence text) {
+            try {
+                return Integer.parseInt(text, 0, text.length(), 10);
+            } catch (NumberFormatException e) {
+                throw new DateTimeException("Invalid date of birth " + field + ": " + text, e);
+            }
+        }
+        throw new DateTimeException("Missing date of birth " + field);
+    }
+}
@@ -1,17 +1,44 @@
 package uk.gov.companieshouse.pscverificationapi.repository;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.Optional;
 
+import org.springframework.data.mongodb.core.query.Update;
+import uk.gov.companieshouse.pscverificationapi.model.entity.MaterializedValidation;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
 
 public interface PscVerificationRepositoryCustom {
 
     /**
-     * Get a transaction based on notificationId .
+     * Get the most recently created filing for a notificationId.
+     * <p>
+     * Uses the {@code psc_notification_id_created_at} index to read a single document.
+     * </p>
      *
-     * @param notificationId .
-     * @return transaction .
+     * @param notificationId the PSC notification ID
+     * @return the newest filing, or empty if there are none
      */
-    List<PscVerification> findByNotificationId(String notificationId);
+    Optional<PscVerification> findLatestByNotificationId(String notificationId);
 
-}
\ No newline at end of file
+    /**
+     * Atomically applies the data update, and stores the internal data and updated timestamp, of a
+     * patched filing, provided the stored filing has not been updated since it was read.
+     *
+     * @param filing        the patched filing
+     * @param lastUpdatedAt the updated timestamp of the filing as read
+     * @param dataUpdate    the update of the changed data paths, to which the other fields are added
+     * @return the stored filing after the update, or empty if it is missing or was updated concurrently
+     */
+    Optional<PscVerification> updateIfUnmodified(PscVerification filing, Instant lastUpdatedAt, Update dataUpdate);
+
+    /**
+     * Stores the result of validating a filing, provided the stored filing has not been updated
+     * since it was validated. The updated timestamp of the filing is left unchanged.
+     *
+     * @param filingId      the filing ID
+     * @param lastUpdatedAt the updated timestamp of the filing as validated
+     * @param validation    the validation result
+     * @return true if the result was stored, false if the filing is missing or has since been updated
+     */
+    boolean saveValidation(String filingId, Instant lastUpdatedAt, MaterializedValidation validation);
+}
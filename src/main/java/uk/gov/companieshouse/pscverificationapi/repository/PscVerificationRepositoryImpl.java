@@ -2,15 +2,24 @@ package uk.gov.companieshouse.pscverificationapi.repository;
 
 import static org.springframework.data.mongodb.core.query.Query.query;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.gov.companieshouse.pscverificationapi.model.entity.MaterializedValidation;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
 
 public class PscVerificationRepositoryImpl implements PscVerificationRepositoryCustom {
 
+    private static final String[] ENTITY_FIELDS = {
+        "id", "createdAt", "updatedAt", "links", "data", "internalData"};
+
     private final MongoTemplate mongoTemplate;
 
     @Autowired
@@ -19,9 +28,51 @@ public class PscVerificationRepositoryImpl implements PscVerificationRepositoryC
     }
 
     @Override
-    public List<PscVerification> findByNotificationId(String notificationId) {
+    public Optional<PscVerification> findLatestByNotificationId(final String notificationId) {
+        return Optional.ofNullable(
+            mongoTemplate.findOne(latestByNotificationIdQuery(notificationId), PscVerification.class));
+    }
+
+    @Override
+    public Optional<PscVerification> updateIfUnmodified(final PscVerification filing, final Instant lastUpdatedAt,
+                                                        final Update dataUpdate) {
+        final var update = dataUpdate.set("updatedAt", filing.getUpdatedAt());
+
+        if (filing.getInternalData() != null) {
+            update.set("internalData", filing.getInternalData());
+        }
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(unmodifiedQuery(filing.getId(), lastUpdatedAt),
+            update, FindAndModifyOptions.options().returnNew(true), PscVerification.class));
+    }
+
+    @Override
+    public boolean saveValidation(final String filingId, final Instant lastUpdatedAt,
+                                  final MaterializedValidation validation) {
+        return mongoTemplate.updateFirst(unmodifiedQuery(filingId, lastUpdatedAt),
+            Update.update("validation", validation), PscVerification.class).getMatchedCount() > 0;
+    }
+
+    /**
+     * @param notificationId the PSC notification ID
+     * @return the query used to find the newest filing for the notification ID
+     */
+    public static Query latestByNotificationIdQuery(final String notificationId) {
+        final var latest = query(Criteria.where("data.psc_notification_id").is(notificationId))
+            .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+            .limit(1);
+
+        latest.fields().include(ENTITY_FIELDS);
+
+        return latest;
+    }
 
-        return mongoTemplate.find(
-            query(Criteria.where("data.psc_notification_id").is(notificationId)), PscVerification.class);
+    /**
+     * @param filingId      the filing ID
+     * @param lastUpdatedAt the updated timestamp of the filing as read
+     * @return the query used to match a filing that has not been updated since it was read
+     */
+    public static Query unmodifiedQuery(final String filingId, final Instant lastUpdatedAt) {
+        return query(Criteria.where("id").is(filingId).and("updatedAt").is(lastUpdatedAt));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that adapts to the latency of a downstream service.
+ * <p>
+ * The limit follows additive increase, multiplicative decrease: each call that completes within
+ * the latency threshold while the limit is at least half used raises it by one, and each call
+ * that is slower or dropped reduces it by the backoff ratio. The limit stays between the minimum
+ * and maximum; a limiter whose minimum equals its maximum is a fixed limit.
+ * </p>
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final Duration latencyThreshold;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    private int limit;
+    private int inFlight;
+
+    /**
+     * @param minLimit         the lowest the limit may fall to
+     * @param maxLimit         the highest the limit may rise to, and its initial value
+     * @param backoffRatio     the factor applied to the limit on a slow or dropped call
+     * @param latencyThreshold the latency above which a call counts as slow
+     */
+    public AimdLimiter(final int minLimit, final int maxLimit, final double backoffRatio,
+                       final Duration latencyThreshold) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("minLimit must be positive and no more than maxLimit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThreshold = Objects.requireNonNull(latencyThreshold);
+        this.limit = maxLimit;
+    }
+
+    /**
+     * Waits for the number of calls in flight to fall below the limit.
+     *
+     * @param maxWait how long to wait
+     * @return {@code true} if the call may be made; every permitted call must be followed by
+     *     {@link #onSample(Duration, boolean)} or {@link #release()}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean tryAcquire(final Duration maxWait) throws InterruptedException {
+        var remaining = maxWait.toNanos();
+
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= limit) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ends a permitted call and adjusts the limit for its outcome.
+     *
+     * @param latency how long the call took
+     * @param dropped whether the call failed in a way that indicates overload
+     */
+    public void onSample(final Duration latency, final boolean dropped) {
+        lock.lock();
+        try {
+            if (dropped || latency.compareTo(latencyThreshold) > 0) {
+                limit = Math.max(minLimit, (int) (limit * backoffRatio));
+            } else if (inFlight * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+            end();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ends a permitted call without adjusting the limit, when the call was not made.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            end();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of further calls the current limit permits
+     */
+    public int available() {
+        lock.lock();
+        try {
+            return Math.max(0, limit - inFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    private void end() {
+        inFlight--;
+        released.signalAll();
+    }
+}
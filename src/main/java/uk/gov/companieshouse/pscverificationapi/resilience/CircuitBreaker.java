@@ -0,0 +1,178 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Count based circuit breaker.
+ * <p>
+ * While {@link CircuitState#CLOSED CLOSED}, the outcomes of the most recent calls are held in a
+ * fixed size window. Once the window holds at least the minimum number of calls and the
+ * percentage of failures reaches the threshold, the circuit opens and calls are refused. After
+ * the open duration the circuit becomes {@link CircuitState#HALF_OPEN HALF_OPEN} and permits a
+ * limited number of probe calls: the first probe to fail reopens the circuit, and once that
+ * many probes have succeeded it closes again with an empty window.
+ * </p>
+ */
+public class CircuitBreaker {
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final Duration openDuration;
+    private final int halfOpenProbes;
+    private final Clock clock;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCalls;
+    private int windowFailures;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private Instant openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    /**
+     * @param failureRateThreshold the percentage of failed calls at which the circuit opens
+     * @param minimumCalls         the number of calls recorded before the failure rate is used
+     * @param windowSize           the number of most recent calls recorded
+     * @param openDuration         how long the circuit stays open before probing
+     * @param halfOpenProbes       the number of probe calls permitted while half open
+     * @param clock                the clock used to time the open duration
+     */
+    public CircuitBreaker(final int failureRateThreshold, final int minimumCalls, final int windowSize,
+                          final Duration openDuration, final int halfOpenProbes, final Clock clock) {
+        if (windowSize < 1 || minimumCalls < 1 || halfOpenProbes < 1) {
+            throw new IllegalArgumentException("windowSize, minimumCalls and halfOpenProbes must be positive");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.window = new boolean[windowSize];
+        this.openDuration = Objects.requireNonNull(openDuration);
+        this.halfOpenProbes = halfOpenProbes;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * @return {@code true} if a call may be made; every permitted call must be followed by
+     *     {@link #onSuccess()}, {@link #onFailure()} or {@link #releasePermission()}
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == CircuitState.OPEN) {
+            if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                return false;
+            }
+            state = CircuitState.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == CircuitState.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a permission without recording an outcome, when the permitted call was not made.
+     */
+    public synchronized void releasePermission() {
+        if (state == CircuitState.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        switch (state) {
+            case CLOSED -> record(false);
+            case HALF_OPEN -> {
+                probesInFlight = Math.max(0, probesInFlight - 1);
+                if (++probeSuccesses >= halfOpenProbes) {
+                    close();
+                }
+            }
+            // a call permitted before the circuit opened
+            case OPEN -> {
+            }
+        }
+    }
+
+    public synchronized void onFailure() {
+        switch (state) {
+            case CLOSED -> {
+                record(true);
+                if (windowCalls >= minimumCalls && failureRate() >= failureRateThreshold) {
+                    open();
+                }
+            }
+            case HALF_OPEN -> open();
+            case OPEN -> {
+            }
+        }
+    }
+
+    /**
+     * Closes the circuit and forgets the recorded calls.
+     */
+    public synchronized void reset() {
+        close();
+    }
+
+    /**
+     * @return the current state, moving from open to half open once the open duration has passed
+     */
+    public synchronized CircuitState getState() {
+        if (state == CircuitState.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            return CircuitState.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * @return the percentage of recorded calls that failed, or 0 if none are recorded
+     */
+    public synchronized int failureRate() {
+        return windowCalls == 0 ? 0 : windowFailures * 100 / windowCalls;
+    }
+
+    public synchronized int recordedCalls() {
+        return windowCalls;
+    }
+
+    private void record(final boolean failure) {
+        if (windowCalls == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCalls++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        state = CircuitState.OPEN;
+        openedAt = clock.instant();
+        probesInFlight = 0;
+        probeSuccesses = 0;
+    }
+
+    private void close() {
+        state = CircuitState.CLOSED;
+        openedAt = null;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        windowIndex = 0;
+        windowCalls = 0;
+        windowFailures = 0;
+    }
+
+}
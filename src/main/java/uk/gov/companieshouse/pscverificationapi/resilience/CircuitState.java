@@ -0,0 +1,13 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+/**
+ * Enum for the states of a {@link CircuitBreaker}.
+ */
+public enum CircuitState {
+    /** Calls are made and their outcomes recorded. */
+    CLOSED,
+    /** Calls are rejected until the open duration has passed. */
+    OPEN,
+    /** A limited number of probe calls are made to decide whether to close or reopen. */
+    HALF_OPEN
+}
@@ -0,0 +1,102 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.lang.NonNull;
+
+/**
+ * The time by which the work for an inbound request must be complete.
+ * <p>
+ * The deadline of the request being handled is bound to the handling thread, so that each
+ * downstream call can limit its timeout to the time remaining. Work handed to another thread
+ * carries the deadline with it through {@link #propagate(Runnable)}. Deadlines are measured with
+ * {@link System#nanoTime()}, so are unaffected by changes to the wall clock.
+ * </p>
+ *
+ * @param budget         the time allowed for the request
+ * @param expiresAtNanos the {@link System#nanoTime()} at which the deadline expires
+ */
+public record Deadline(@NonNull Duration budget, long expiresAtNanos) {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    public Deadline {
+        Objects.requireNonNull(budget);
+    }
+
+    /**
+     * @param budget the time allowed
+     * @return a deadline the budget from now
+     */
+    public static Deadline after(@NonNull final Duration budget) {
+        return new Deadline(budget, System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * @return the deadline bound to this thread, if any
+     */
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Binds the deadline to this thread until {@link #clear()} is called.
+     *
+     * @param deadline the deadline
+     */
+    public static void bind(@NonNull final Deadline deadline) {
+        CURRENT.set(Objects.requireNonNull(deadline));
+    }
+
+    /**
+     * Removes any deadline bound to this thread.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @param task the task to run on another thread
+     * @return the task, running with the deadline bound to this thread, if any
+     */
+    public static Runnable propagate(@NonNull final Runnable task) {
+        final var deadline = CURRENT.get();
+
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            final var previous = CURRENT.get();
+
+            CURRENT.set(deadline);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * @return the time remaining, which is zero or negative once the deadline has expired
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(expiresAtNanos - System.nanoTime());
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @param timeout a timeout
+     * @return the timeout, or the time remaining if that is shorter
+     */
+    public Duration limit(@NonNull final Duration timeout) {
+        final var remaining = remaining();
+
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+}
@@ -0,0 +1,28 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import java.util.EnumSet;
+import java.util.Optional;
+
+/**
+ * Enum for the downstream services this API calls.
+ */
+public enum Downstream {
+    PSC_DATA("psc-data-api"),
+    COMPANY_PROFILE("company-profile-api"),
+    IDENTITY_VERIFICATION("identity-verification-api"),
+    TRANSACTIONS("transactions-api");
+
+    Downstream(final String value) {
+        this.value = value;
+    }
+
+    private final String value;
+
+    public String getValue() {
+        return value;
+    }
+
+    public static Optional<Downstream> nameOf(final String value) {
+        return EnumSet.allOf(Downstream.class).stream().filter(v -> v.getValue().equals(value)).findAny();
+    }
+}
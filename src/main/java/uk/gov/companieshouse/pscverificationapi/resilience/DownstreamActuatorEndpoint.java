@@ -0,0 +1,46 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-only actuator endpoint for inspecting the downstream circuit breakers and bulkheads.
+ */
+@Component
+@Endpoint(id = "downstreams")
+public class DownstreamActuatorEndpoint {
+
+    private final DownstreamGuards guards;
+
+    public DownstreamActuatorEndpoint(final DownstreamGuards guards) {
+        this.guards = guards;
+    }
+
+    /**
+     * @return statistics for every downstream service, keyed by its name
+     */
+    @ReadOperation(produces = "application/json")
+    public Map<String, DownstreamStatistics> downstreams() {
+        return guards.all()
+            .stream()
+            .map(DownstreamGuard::statistics)
+            .collect(Collectors.toMap(DownstreamStatistics::downstream, s -> s, (a, b) -> a,
+                LinkedHashMap::new));
+    }
+
+    /**
+     * @param name the downstream service name
+     * @return statistics for the named downstream service, or {@code null} if there is no such
+     *     service
+     */
+    @ReadOperation(produces = "application/json")
+    public DownstreamStatistics downstream(@Selector final String name) {
+        return Downstream.nameOf(name).map(d -> guards.get(d).statistics()).orElse(null);
+    }
+
+}
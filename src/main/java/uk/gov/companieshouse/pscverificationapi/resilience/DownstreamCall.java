@@ -0,0 +1,12 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+/**
+ * A call to a downstream service.
+ *
+ * @param <V> the result type
+ * @param <E> the checked exception thrown
+ */
+@FunctionalInterface
+public interface DownstreamCall<V, E extends Exception> {
+    V call() throws E;
+}
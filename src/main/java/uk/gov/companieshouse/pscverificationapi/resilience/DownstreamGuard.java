@@ -0,0 +1,312 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.companieshouse.pscverificationapi.exception.DeadlineExceededException;
+import uk.gov.companieshouse.pscverificationapi.exception.DownstreamUnavailableException;
+
+/**
+ * Protects this service from a slow or failing downstream service.
+ * <p>
+ * Each call must pass the {@link CircuitBreaker}, and then obtain a bulkhead permit from the
+ * {@link AimdLimiter} within the maximum wait, otherwise it is refused with a
+ * {@link DownstreamUnavailableException}. A permitted call runs on the executor and is abandoned,
+ * with the same exception, if it does not complete within the timeout. The bulkhead permit is
+ * held until the call itself finishes, so abandoned calls still count against the limit, and the
+ * latency of the call then adjusts the limit.
+ * </p>
+ * <p>
+ * Timeouts, I/O errors and 5xx or 429 responses count as failures towards opening the circuit;
+ * other responses, including 4xx, are answers from a healthy service. A disabled instance makes
+ * every call directly on the calling thread.
+ * </p>
+ * <p>
+ * When a request {@link Deadline} is bound to the calling thread, the maximum wait and the
+ * timeout are limited to the time remaining, and no call is made once it has expired. The deadline
+ * and the request attributes are bound to the thread the call runs on. A call abandoned because the
+ * deadline expired is not counted as a failure of the downstream service.
+ * </p>
+ * <p>
+ * Calls are published to Micrometer as {@code downstream.calls}, tagged with the downstream and
+ * result, along with the {@code downstream.circuit.state}, {@code downstream.concurrency.limit}
+ * and {@code downstream.bulkhead.available} gauges.
+ * </p>
+ */
+public class DownstreamGuard implements MeterBinder {
+
+    private static final int TOO_MANY_REQUESTS = HttpStatus.TOO_MANY_REQUESTS.value();
+
+    private final Downstream downstream;
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final Duration timeout;
+    private final CircuitBreaker circuitBreaker;
+    private final AimdLimiter bulkhead;
+    private final Executor executor;
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * @param downstream     the downstream service
+     * @param enabled        whether calls are guarded
+     * @param maxWait        how long a call waits for a bulkhead permit
+     * @param timeout        how long a call may take
+     * @param circuitBreaker the circuit breaker
+     * @param bulkhead       limits the number of concurrent calls
+     * @param executor       runs the calls
+     */
+    public DownstreamGuard(final Downstream downstream, final boolean enabled, final Duration maxWait,
+                           final Duration timeout, final CircuitBreaker circuitBreaker, final AimdLimiter bulkhead,
+                           final Executor executor) {
+        this.downstream = Objects.requireNonNull(downstream);
+        this.enabled = enabled;
+        this.maxWait = Objects.requireNonNull(maxWait);
+        this.timeout = Objects.requireNonNull(timeout);
+        this.circuitBreaker = Objects.requireNonNull(circuitBreaker);
+        this.bulkhead = Objects.requireNonNull(bulkhead);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public Downstream getDownstream() {
+        return downstream;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Makes the call if the circuit and the bulkhead permit it.
+     *
+     * @param call makes the downstream call
+     * @param <V>  the result type
+     * @param <E>  the checked exception thrown by the call
+     * @return the result of the call
+     * @throws E                              if the call throws it
+     * @throws DownstreamUnavailableException if the call is refused or times out
+     * @throws DeadlineExceededException      if the request deadline expires
+     */
+    public <V, E extends Exception> V call(@NonNull final DownstreamCall<V, E> call) throws E {
+        final var deadline = Deadline.current().orElse(null);
+
+        if (deadline != null && deadline.isExpired()) {
+            rejections.increment();
+            throw new DeadlineExceededException(
+                MessageFormat.format("{0} call not made: request deadline of {1} exceeded", downstream.getValue(),
+                    deadline.budget()), downstream);
+        }
+        if (!enabled) {
+            return call.call();
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            rejections.increment();
+            throw new DownstreamUnavailableException(
+                MessageFormat.format("{0} circuit is open", downstream.getValue()), downstream);
+        }
+        if (!acquireBulkhead(deadline == null ? maxWait : deadline.limit(maxWait))) {
+            circuitBreaker.releasePermission();
+            rejections.increment();
+            throw new DownstreamUnavailableException(
+                MessageFormat.format("{0} has too many calls in progress", downstream.getValue()), downstream);
+        }
+        final var started = new AtomicBoolean();
+        final var requestAttributes = RequestContextHolder.getRequestAttributes();
+        final var task = new FutureTask<V>(() -> {
+            // whichever of the call and the timeout claims the task first releases the permit
+            if (!started.compareAndSet(false, true)) {
+                return null;
+            }
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            final var start = System.nanoTime();
+            var dropped = true;
+            try {
+                final var value = call.call();
+
+                dropped = false;
+                return value;
+            } catch (Exception e) {
+                dropped = isFailure(e);
+                throw e;
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+                bulkhead.onSample(Duration.ofNanos(System.nanoTime() - start), dropped);
+            }
+        });
+
+        try {
+            // the deadline goes with the call, for any retry or hedge made within it
+            executor.execute(Deadline.propagate(task));
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            circuitBreaker.releasePermission();
+            rejections.increment();
+            throw new DownstreamUnavailableException(
+                MessageFormat.format("{0} call could not be started", downstream.getValue()), downstream, e);
+        }
+        return await(task, started, deadline);
+    }
+
+    public CircuitState getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public int availableConcurrentCalls() {
+        return bulkhead.available();
+    }
+
+    public int concurrencyLimit() {
+        return bulkhead.getLimit();
+    }
+
+    /**
+     * @return point in time statistics for this downstream service
+     */
+    public DownstreamStatistics statistics() {
+        return new DownstreamStatistics(downstream.getValue(), enabled, circuitBreaker.getState(),
+            circuitBreaker.failureRate(), circuitBreaker.recordedCalls(), bulkhead.getMaxLimit(),
+            bulkhead.getLimit(), bulkhead.available(), timeout, successes.sum(), failures.sum(), timeouts.sum(),
+            rejections.sum());
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        final var tags = Tags.of("downstream", downstream.getValue());
+
+        FunctionCounter.builder("downstream.calls", successes, LongAdder::sum)
+            .tags(tags.and("result", "success"))
+            .description("The number of downstream calls that completed without a failure.")
+            .register(registry);
+        FunctionCounter.builder("downstream.calls", failures, LongAdder::sum)
+            .tags(tags.and("result", "failure"))
+            .description("The number of downstream calls that failed.")
+            .register(registry);
+        FunctionCounter.builder("downstream.calls", timeouts, LongAdder::sum)
+            .tags(tags.and("result", "timeout"))
+            .description("The number of downstream calls abandoned after the timeout.")
+            .register(registry);
+        FunctionCounter.builder("downstream.calls", rejections, LongAdder::sum)
+            .tags(tags.and("result", "rejected"))
+            .description("The number of downstream calls refused by the circuit breaker or bulkhead.")
+            .register(registry);
+        for (final var state : CircuitState.values()) {
+            Gauge.builder("downstream.circuit.state", this, g -> g.getCircuitState() == state ? 1 : 0)
+                .tags(tags.and("state", state.name().toLowerCase()))
+                .description("Whether the downstream circuit breaker is in the state.")
+                .register(registry);
+        }
+        Gauge.builder("downstream.concurrency.limit", this, DownstreamGuard::concurrencyLimit)
+            .tags(tags)
+            .description("The number of concurrent downstream calls currently permitted.")
+            .register(registry);
+        Gauge.builder("downstream.bulkhead.available", this, DownstreamGuard::availableConcurrentCalls)
+            .tags(tags)
+            .description("The number of further concurrent downstream calls permitted.")
+            .register(registry);
+    }
+
+    private boolean acquireBulkhead(final Duration wait) {
+        try {
+            return bulkhead.tryAcquire(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V, E extends Exception> V await(final FutureTask<V> task, final AtomicBoolean started,
+                                             final Deadline deadline) throws E {
+        final var callTimeout = deadline == null ? timeout : deadline.limit(timeout);
+
+        try {
+            final var value = task.get(callTimeout.toNanos(), TimeUnit.NANOSECONDS);
+
+            successes.increment();
+            circuitBreaker.onSuccess();
+            return value;
+        } catch (TimeoutException e) {
+            abandon(task, started);
+            timeouts.increment();
+            if (callTimeout.compareTo(timeout) < 0) {
+                circuitBreaker.releasePermission();
+                throw new DeadlineExceededException(
+                    MessageFormat.format("{0} call abandoned: request deadline of {1} exceeded",
+                        downstream.getValue(), deadline.budget()), downstream, e);
+            }
+            circuitBreaker.onFailure();
+            throw new DownstreamUnavailableException(
+                MessageFormat.format("{0} did not respond within {1}", downstream.getValue(), timeout),
+                downstream, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(task, started);
+            circuitBreaker.releasePermission();
+            throw new DownstreamUnavailableException(
+                MessageFormat.format("Interrupted waiting for {0}", downstream.getValue()), downstream, e);
+        } catch (ExecutionException e) {
+            final var cause = e.getCause();
+
+            if (isFailure(cause)) {
+                failures.increment();
+                circuitBreaker.onFailure();
+            } else {
+                successes.increment();
+                circuitBreaker.onSuccess();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            // only the call can have failed, so any checked exception is an E
+            throw (E) cause;
+        }
+    }
+
+    private void abandon(final FutureTask<?> task, final AtomicBoolean started) {
+        if (started.compareAndSet(false, true)) {
+            bulkhead.release();
+        }
+        task.cancel(true);
+    }
+
+    /**
+     * @param throwable the exception thrown by a call
+     * @return {@code true} if it indicates the downstream service is unhealthy
+     */
+    static boolean isFailure(final Throwable throwable) {
+        for (var cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpResponseException response) {
+                return response.getStatusCode() >= 500 || response.getStatusCode() == TOO_MANY_REQUESTS;
+            }
+            if (cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,62 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.lang.NonNull;
+
+/**
+ * The {@link DownstreamGuard} of each downstream service.
+ */
+public class DownstreamGuards implements MeterBinder {
+
+    private final Map<Downstream, DownstreamGuard> guards = new EnumMap<>(Downstream.class);
+
+    /**
+     * @param factory creates the guard for a downstream service
+     */
+    public DownstreamGuards(@NonNull final Function<Downstream, DownstreamGuard> factory) {
+        for (final var downstream : Downstream.values()) {
+            guards.put(downstream, Objects.requireNonNull(factory.apply(downstream)));
+        }
+    }
+
+    /**
+     * @param downstream the downstream service
+     * @return its guard
+     */
+    public DownstreamGuard get(@NonNull final Downstream downstream) {
+        return guards.get(downstream);
+    }
+
+    /**
+     * Makes the call through the guard of the downstream service.
+     *
+     * @param downstream the downstream service
+     * @param call       makes the downstream call
+     * @param <V>        the result type
+     * @param <E>        the checked exception thrown by the call
+     * @return the result of the call
+     * @throws E if the call throws it
+     * @see DownstreamGuard#call(DownstreamCall)
+     */
+    public <V, E extends Exception> V call(@NonNull final Downstream downstream,
+                                           @NonNull final DownstreamCall<V, E> call) throws E {
+        return get(downstream).call(call);
+    }
+
+    public Collection<DownstreamGuard> all() {
+        return Collections.unmodifiableCollection(guards.values());
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        guards.values().forEach(g -> g.bindTo(registry));
+    }
+
+}
@@ -0,0 +1,26 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import java.time.Duration;
+
+/**
+ * Point in time statistics for a {@link DownstreamGuard}.
+ *
+ * @param downstream               the downstream service name
+ * @param enabled                  whether calls are guarded
+ * @param circuitState             the circuit breaker state
+ * @param failureRate              the percentage of recorded calls that failed
+ * @param recordedCalls            the number of calls recorded by the circuit breaker
+ * @param maxConcurrentCalls       the highest the concurrency limit may rise to
+ * @param concurrencyLimit         the number of concurrent calls currently permitted
+ * @param availableConcurrentCalls the number of further concurrent calls permitted
+ * @param timeout                  how long a call may take
+ * @param successes                the number of calls that completed without a failure
+ * @param failures                 the number of calls that failed
+ * @param timeouts                 the number of calls abandoned after the timeout
+ * @param rejections               the number of calls refused by the circuit breaker or bulkhead
+ */
+public record DownstreamStatistics(String downstream, boolean enabled, CircuitState circuitState,
+                                   int failureRate, int recordedCalls, int maxConcurrentCalls,
+                                   int concurrencyLimit, int availableConcurrentCalls, Duration timeout,
+                                   long successes, long failures, long timeouts, long rejections) {
+}
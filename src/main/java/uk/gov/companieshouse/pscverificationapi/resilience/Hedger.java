@@ -0,0 +1,284 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.lang.NonNull;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.companieshouse.pscverificationapi.exception.DownstreamUnavailableException;
+
+/**
+ * Hedges idempotent calls to a downstream service with a long latency tail.
+ * <p>
+ * Each call is made on the executor. If it has not answered within the hedge delay, an identical
+ * second call is made and whichever answers first is used; the other is cancelled. A failure is
+ * only used once neither call can answer, so a hedge refused by a {@link DownstreamGuard} never
+ * replaces a slow answer. The hedge delay is the configured percentile of the latency of recent
+ * calls, and no less than the minimum delay; no call is hedged until enough latencies have been
+ * recorded.
+ * </p>
+ * <p>
+ * Hedges are limited to the maximum ratio of calls: each call earns that fraction of a hedge, and
+ * a call whose hedge has not been earned waits for its first call. A disabled instance makes every
+ * call directly on the calling thread.
+ * </p>
+ * <p>
+ * Hedges are published to Micrometer as {@code downstream.hedges}, tagged with the downstream and
+ * result: {@code sent}, {@code won} when the hedge answered first, or {@code suppressed} when the
+ * hedge delay passed but the hedge had not been earned.
+ * </p>
+ */
+public class Hedger implements MeterBinder {
+
+    private static final int SAMPLE_SIZE = 100;
+    private static final int MIN_SAMPLES = 20;
+    private static final double MAX_EARNED_HEDGES = 10;
+
+    private final Downstream downstream;
+    private final boolean enabled;
+    private final int percentile;
+    private final Duration minDelay;
+    private final double maxRatio;
+    private final Executor executor;
+
+    private final long[] latencies = new long[SAMPLE_SIZE];
+    private int latencyIndex;
+    private int latencyCount;
+    private long delayNanos = -1;
+    private double earnedHedges;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder won = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * @param downstream the downstream service
+     * @param enabled    whether calls are hedged
+     * @param percentile the percentile of recent call latency after which a call is hedged
+     * @param minDelay   the shortest time after which a call is hedged
+     * @param maxRatio   the highest fraction of calls that may be hedged
+     * @param executor   runs the calls
+     */
+    public Hedger(final Downstream downstream, final boolean enabled, final int percentile, final Duration minDelay,
+                  final double maxRatio, final Executor executor) {
+        if (percentile < 1 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 1 and 100");
+        }
+        if (maxRatio <= 0 || maxRatio > 1) {
+            throw new IllegalArgumentException("maxRatio must be positive and no more than 1");
+        }
+        this.downstream = Objects.requireNonNull(downstream);
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelay = Objects.requireNonNull(minDelay);
+        this.maxRatio = maxRatio;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public Downstream getDownstream() {
+        return downstream;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Makes the call, and a second identical call if the first is slow and a hedge is permitted.
+     * The call must be idempotent.
+     *
+     * @param call makes the downstream call
+     * @param <V>  the result type
+     * @param <E>  the checked exception thrown by the call
+     * @return the first answer
+     * @throws E                              if the call throws it
+     * @throws DownstreamUnavailableException if the call cannot be started
+     */
+    public <V, E extends Exception> V call(@NonNull final DownstreamCall<V, E> call) throws E {
+        if (!enabled) {
+            return call.call();
+        }
+        earnHedge();
+
+        final var answer = new CompletableFuture<Attempt<V>>();
+        final var pending = new AtomicInteger(1);
+        final var first = start(call, answer, pending, false);
+        Future<?> hedge = null;
+
+        try {
+            final var delay = hedgeDelay();
+            Attempt<V> attempt;
+
+            if (delay.isEmpty()) {
+                attempt = answer.get();
+            } else {
+                try {
+                    attempt = answer.get(delay.get().toNanos(), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (tryHedge()) {
+                        pending.incrementAndGet();
+                        sent.increment();
+                        hedge = start(call, answer, pending, true);
+                    } else {
+                        suppressed.increment();
+                    }
+                    attempt = answer.get();
+                }
+            }
+            return attempt.<E>result();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DownstreamUnavailableException(
+                MessageFormat.format("Interrupted waiting for {0}", downstream.getValue()), downstream, e);
+        } catch (ExecutionException e) {
+            // attempts only complete the answer normally
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            first.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * @return the current hedge delay, or empty until enough latencies have been recorded
+     */
+    public synchronized Optional<Duration> hedgeDelay() {
+        return delayNanos < 0 ? Optional.empty() : Optional.of(Duration.ofNanos(delayNanos));
+    }
+
+    public long sentCount() {
+        return sent.sum();
+    }
+
+    public long wonCount() {
+        return won.sum();
+    }
+
+    public long suppressedCount() {
+        return suppressed.sum();
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        final var tags = Tags.of("downstream", downstream.getValue());
+
+        FunctionCounter.builder("downstream.hedges", sent, LongAdder::sum)
+            .tags(tags.and("result", "sent"))
+            .description("The number of hedged downstream calls made.")
+            .register(registry);
+        FunctionCounter.builder("downstream.hedges", won, LongAdder::sum)
+            .tags(tags.and("result", "won"))
+            .description("The number of hedged downstream calls that answered first.")
+            .register(registry);
+        FunctionCounter.builder("downstream.hedges", suppressed, LongAdder::sum)
+            .tags(tags.and("result", "suppressed"))
+            .description("The number of slow downstream calls not hedged because of the maximum ratio.")
+            .register(registry);
+    }
+
+    private <V, E extends Exception> Future<?> start(final DownstreamCall<V, E> call,
+                                                     final CompletableFuture<Attempt<V>> answer,
+                                                     final AtomicInteger pending, final boolean hedge) {
+        final var requestAttributes = RequestContextHolder.getRequestAttributes();
+        final var task = new FutureTask<Void>(Deadline.propagate(() -> {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            final var start = System.nanoTime();
+            try {
+                final var value = call.call();
+
+                recordLatency(System.nanoTime() - start);
+                if (answer.complete(new Attempt<>(value, null)) && hedge) {
+                    won.increment();
+                }
+            } catch (Exception | Error e) {
+                if (!Thread.currentThread().isInterrupted()) {
+                    recordLatency(System.nanoTime() - start);
+                }
+                // a failure is only the answer once no other call can answer
+                if (pending.decrementAndGet() == 0) {
+                    answer.complete(new Attempt<>(null, e));
+                }
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }), null);
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (pending.decrementAndGet() == 0) {
+                answer.complete(new Attempt<>(null, new DownstreamUnavailableException(
+                    MessageFormat.format("{0} call could not be started", downstream.getValue()), downstream, e)));
+            }
+        }
+        return task;
+    }
+
+    private synchronized void earnHedge() {
+        earnedHedges = Math.min(MAX_EARNED_HEDGES, earnedHedges + maxRatio);
+    }
+
+    private synchronized boolean tryHedge() {
+        if (earnedHedges < 1) {
+            return false;
+        }
+        earnedHedges--;
+        return true;
+    }
+
+    private synchronized void recordLatency(final long nanos) {
+        latencies[latencyIndex] = nanos;
+        latencyIndex = (latencyIndex + 1) % SAMPLE_SIZE;
+        latencyCount = Math.min(SAMPLE_SIZE, latencyCount + 1);
+        if (latencyCount >= MIN_SAMPLES) {
+            final var sorted = Arrays.copyOf(latencies, latencyCount);
+
+            Arrays.sort(sorted);
+            delayNanos = Math.max(minDelay.toNanos(),
+                sorted[(int) Math.ceil(percentile / 100.0 * latencyCount) - 1]);
+        }
+    }
+
+    /**
+     * The answer of one of the calls.
+     *
+     * @param value   the result, if the call returned
+     * @param failure the exception, if the call threw one
+     * @param <V>     the result type
+     */
+    private record Attempt<V>(V value, Throwable failure) {
+
+        @SuppressWarnings("unchecked")
+        <E extends Exception> V result() throws E {
+            if (failure == null) {
+                return value;
+            }
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            // only the call can have failed, so any checked exception is an E
+            throw (E) failure;
+        }
+    }
+}
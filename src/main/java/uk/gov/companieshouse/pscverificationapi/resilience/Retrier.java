@@ -0,0 +1,179 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.lang.NonNull;
+import uk.gov.companieshouse.pscverificationapi.exception.DownstreamUnavailableException;
+
+/**
+ * Retries idempotent downstream calls that fail transiently.
+ * <p>
+ * A call that fails with an I/O error or a 5xx or 429 response is retried, up to the maximum
+ * number of attempts, after a backoff chosen at random between zero and an exponentially growing
+ * ceiling, so that callers retrying together spread out. Calls refused or abandoned by a
+ * {@link DownstreamGuard}, with a {@link DownstreamUnavailableException}, are not retried, since
+ * the downstream service is already known to be struggling. No retry is made once the backoff
+ * would pass the request {@link Deadline}; the last failure is thrown instead.
+ * </p>
+ * <p>
+ * Attempts are published to Micrometer as {@code downstream.attempts}, tagged with the downstream,
+ * the attempt number and its result: {@code success}, {@code error} for a failure that is not
+ * retried because it is not transient, {@code retried}, or {@code exhausted} for a transient
+ * failure when no attempts or time remain. A disabled instance makes each call once.
+ * </p>
+ */
+public class Retrier implements MeterBinder {
+
+    private final boolean enabled;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final Map<Downstream, LongAdder[][]> attempts = new EnumMap<>(Downstream.class);
+
+    /**
+     * @param enabled        whether calls are retried
+     * @param maxAttempts    the most times a call is made, including the first
+     * @param initialBackoff the ceiling of the backoff before the first retry, doubled for each later one
+     * @param maxBackoff     the highest ceiling of the backoff
+     */
+    public Retrier(final boolean enabled, final int maxAttempts, final Duration initialBackoff,
+                   final Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive");
+        }
+        this.enabled = enabled;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Objects.requireNonNull(initialBackoff);
+        this.maxBackoff = Objects.requireNonNull(maxBackoff);
+        for (final var downstream : Downstream.values()) {
+            final var counters = new LongAdder[maxAttempts][AttemptResult.values().length];
+
+            for (final var attempt : counters) {
+                for (var i = 0; i < attempt.length; i++) {
+                    attempt[i] = new LongAdder();
+                }
+            }
+            attempts.put(downstream, counters);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Makes the call, retrying it after a transient failure.
+     * The call must be idempotent.
+     *
+     * @param downstream the downstream service
+     * @param call       makes the downstream call
+     * @param <V>        the result type
+     * @param <E>        the checked exception thrown by the call
+     * @return the result of the first successful attempt
+     * @throws E if the last attempt throws it
+     */
+    public <V, E extends Exception> V call(@NonNull final Downstream downstream,
+                                           @NonNull final DownstreamCall<V, E> call) throws E {
+        if (!enabled) {
+            return call.call();
+        }
+        for (var attempt = 1; ; attempt++) {
+            try {
+                final var value = call.call();
+
+                record(downstream, attempt, AttemptResult.SUCCESS);
+                return value;
+            } catch (final Exception e) {
+                if (!isTransient(e)) {
+                    record(downstream, attempt, AttemptResult.ERROR);
+                    throw e;
+                }
+                if (attempt == maxAttempts || !backoff(attempt)) {
+                    record(downstream, attempt, AttemptResult.EXHAUSTED);
+                    throw e;
+                }
+                record(downstream, attempt, AttemptResult.RETRIED);
+            }
+        }
+    }
+
+    /**
+     * @param downstream the downstream service
+     * @param attempt    the attempt number, from 1
+     * @param result     the result, one of {@code success}, {@code error}, {@code retried} or
+     *                   {@code exhausted}
+     * @return the number of attempts with that number and result
+     */
+    public long attemptCount(@NonNull final Downstream downstream, final int attempt, @NonNull final String result) {
+        return attempts.get(downstream)[attempt - 1][AttemptResult.valueOf(result.toUpperCase()).ordinal()].sum();
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        attempts.forEach((downstream, counters) -> {
+            for (var attempt = 1; attempt <= maxAttempts; attempt++) {
+                for (final var result : AttemptResult.values()) {
+                    FunctionCounter.builder("downstream.attempts", counters[attempt - 1][result.ordinal()],
+                            LongAdder::sum)
+                        .tags(Tags.of("downstream", downstream.getValue(), "attempt", String.valueOf(attempt),
+                            "result", result.name().toLowerCase()))
+                        .description("The number of downstream call attempts, by attempt number and result.")
+                        .register(registry);
+                }
+            }
+        });
+    }
+
+    private void record(final Downstream downstream, final int attempt, final AttemptResult result) {
+        attempts.get(downstream)[attempt - 1][result.ordinal()].increment();
+    }
+
+    /**
+     * Waits before the next attempt.
+     *
+     * @param attempt the number of the failed attempt
+     * @return {@code false} if there is no time for another attempt
+     */
+    private boolean backoff(final int attempt) {
+        var ceiling = initialBackoff.toNanos();
+
+        for (var retry = 1; retry < attempt && ceiling < maxBackoff.toNanos(); retry++) {
+            ceiling *= 2;
+        }
+        final var backoff = Duration.ofNanos(
+            ThreadLocalRandom.current().nextLong(Math.max(1, Math.min(ceiling, maxBackoff.toNanos()))));
+        final var deadline = Deadline.current();
+
+        if (deadline.isPresent() && deadline.get().remaining().compareTo(backoff) <= 0) {
+            return false;
+        }
+        try {
+            Thread.sleep(backoff);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @param exception the exception thrown by an attempt
+     * @return {@code true} if another attempt may succeed
+     */
+    static boolean isTransient(final Exception exception) {
+        return !(exception instanceof DownstreamUnavailableException) && DownstreamGuard.isFailure(exception);
+    }
+
+    private enum AttemptResult {
+        SUCCESS, ERROR, RETRIED, EXHAUSTED
+    }
+}
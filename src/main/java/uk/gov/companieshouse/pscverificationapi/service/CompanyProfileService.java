@@ -12,15 +12,14 @@ import uk.gov.companieshouse.pscverificationapi.exception.CompanyProfileServiceE
 public interface CompanyProfileService {
 
     /**
-     * Query the company profile service for a given transaction.
+     * Query the company profile service for a given transaction, using the internal API key.
      *
      * @param transaction the transaction
      * @param dto the psc verification data
-     * @param ericPassThroughHeader includes authorisation details
      * @return the company profile if found
      * @throws CompanyProfileServiceException if not found or an error occurred
      */
-    CompanyProfileApi getCompanyProfile(final Transaction transaction, final PscVerificationData dto, final String ericPassThroughHeader)
+    CompanyProfileApi getCompanyProfile(final Transaction transaction, final PscVerificationData dto)
             throws CompanyProfileServiceException;
 
 }
@@ -1,5 +1,7 @@
 package uk.gov.companieshouse.pscverificationapi.service;
 
+import java.util.Map;
+import uk.gov.companieshouse.patch.model.ValidationResult;
 import uk.gov.companieshouse.patch.service.PatchValidator;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
 
@@ -7,4 +9,15 @@ import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
  * Validator to ensure the Psc Verification patch contains valid data.
  */
 public interface PscVerificationPatchValidator extends PatchValidator<PscVerification> {
+
+    /**
+     * Validates the properties of a patched filing that the patch changed, and any constraints
+     * across properties that they affect.
+     *
+     * @param patchedFiling the patched filing
+     * @param changes       the changed property paths of the filing and their patched values, with
+     *                      {@code null} for a removed path
+     * @return the validation result
+     */
+    ValidationResult validate(PscVerification patchedFiling, Map<String, Object> changes);
 }
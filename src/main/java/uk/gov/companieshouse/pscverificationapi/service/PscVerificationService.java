@@ -2,11 +2,11 @@ package uk.gov.companieshouse.pscverificationapi.service;
 
 import jakarta.servlet.http.HttpServletRequest;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import uk.gov.companieshouse.patch.model.PatchResult;
+import uk.gov.companieshouse.api.model.pscverification.InternalData;
 import uk.gov.companieshouse.patch.service.PatchService;
+import uk.gov.companieshouse.pscverificationapi.model.PatchOutcome;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
 
 /**
@@ -24,6 +24,15 @@ public interface PscVerificationService extends PatchService<PscVerification> {
      */
     PscVerification save(PscVerification filing);
 
+    /**
+     * Store a new PscVerification entity in persistence layer with a single insert.
+     * The entity ID must already be assigned.
+     *
+     * @param filing        the PscVerification entity to store
+     * @return the stored entity
+     */
+    PscVerification insert(PscVerification filing);
+
     /**
      * Retrieve a stored PscVerification entity by Filing ID.
      *
@@ -33,21 +42,27 @@ public interface PscVerificationService extends PatchService<PscVerification> {
     Optional<PscVerification> get(String filingId);
 
     /**
-     * Retrieve a stored PscVerification entity by Notification ID.
+     * Retrieve the most recently created PscVerification entity by Notification ID.
      *
      * @param notificationId   the Notification ID
      * @return the stored entity if found
      */
-    Optional<List<PscVerification>> getByNotificationId(final String notificationId);
+    Optional<PscVerification> getLatestByNotificationId(final String notificationId);
 
     /**
-     * Update a PSCVerification entity by Filing ID.
+     * Update a PSCVerification entity already retrieved by Filing ID.
+     * <p>
+     * The patch is merged and validated in memory and the result stored with a single atomic
+     * update, which also sets the internal data if given.
+     * </p>
      *
-     * @param filingId   the Filing ID
-     * @param patchMap   a list of parameters to include in the patch
-     * @return the patch result
+     * @param filing        the PscVerification entity as retrieved
+     * @param patchMap      a list of parameters to include in the patch
+     * @param internalData  the internal data to store with the patch, or null to leave it unchanged
+     * @return the patch outcome, including the updated entity if successful
      */
-    PatchResult patch(final String filingId, final Map<String, Object> patchMap);
+    PatchOutcome patch(final PscVerification filing, final Map<String, Object> patchMap,
+        final InternalData internalData);
 
     boolean requestMatchesResourceSelf(HttpServletRequest request, PscVerification filing);
 }
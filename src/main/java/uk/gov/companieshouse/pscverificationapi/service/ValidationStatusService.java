@@ -0,0 +1,41 @@
+package uk.gov.companieshouse.pscverificationapi.service;
+
+import java.util.Optional;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
+import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
+
+/**
+ * Computes and stores the validation status of PSC verification filings.
+ */
+public interface ValidationStatusService {
+
+    /**
+     * Runs the validation chain for a filing.
+     *
+     * @param filing            the filing
+     * @param transaction       the transaction the filing belongs to
+     * @param passthroughHeader the ERIC passthrough header
+     * @return the validation status
+     */
+    ValidationStatusResponse validate(PscVerification filing, Transaction transaction, String passthroughHeader);
+
+    /**
+     * Returns the validation status stored with a filing, provided it was computed for the
+     * current version of the filing and is still within the freshness window.
+     *
+     * @param filing the filing
+     * @return the stored validation status, or empty if there is none or it is no longer current
+     */
+    Optional<ValidationStatusResponse> getMaterialized(PscVerification filing);
+
+    /**
+     * Runs the validation chain for a filing, outside any request and so without the caller's
+     * credentials, and stores the result with it.
+     *
+     * @param filing      the filing
+     * @param transaction the transaction the filing belongs to
+     * @return true if the result was stored, false if the filing has since been updated or removed
+     */
+    boolean materialize(PscVerification filing, Transaction transaction);
+}
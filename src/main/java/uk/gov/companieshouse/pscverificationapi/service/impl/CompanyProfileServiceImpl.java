@@ -5,9 +5,14 @@ import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
-import uk.gov.companieshouse.api.sdk.ApiClientService;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.cache.ExpiringCache;
+import uk.gov.companieshouse.pscverificationapi.cache.LookupKey;
+import uk.gov.companieshouse.pscverificationapi.cache.SingleFlight;
 import uk.gov.companieshouse.pscverificationapi.exception.CompanyProfileServiceException;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+import uk.gov.companieshouse.pscverificationapi.resilience.DownstreamGuards;
+import uk.gov.companieshouse.pscverificationapi.sdk.companieshouse.InternalApiClientService;
 import uk.gov.companieshouse.pscverificationapi.service.CompanyProfileService;
 import uk.gov.companieshouse.pscverificationapi.utils.LogHelper;
 
@@ -17,30 +22,52 @@ import java.io.IOException;
  * The company profile service layer responsible for retrieving company 
  * profile data from Company Profile API.
  * <p>
- * Implements {@link CompanyProfileService}
+ * Implements {@link CompanyProfileService}. Profiles are retrieved with the internal API key rather
+ * than the caller's credentials, so they may be shared between callers: they may be held briefly in
+ * the company profile {@link ExpiringCache}, which is disabled unless configured, and concurrent
+ * lookups of the same profile share one call through {@link SingleFlight}, which is made through
+ * the Company Profile API's {@link DownstreamGuards guard}.
  * </p>
  */
 @Service
 public class CompanyProfileServiceImpl implements CompanyProfileService {
 
-    private final ApiClientService apiClientService;
+    private final InternalApiClientService apiClientService;
+    private final ExpiringCache<String, CompanyProfileApi> companyProfileCache;
+    private final SingleFlight<LookupKey, CompanyProfileApi> companyProfileFlights;
+    private final DownstreamGuards downstreamGuards;
     private final Logger logger;
 
-    public CompanyProfileServiceImpl(ApiClientService apiClientService, Logger logger) {
+    public CompanyProfileServiceImpl(InternalApiClientService apiClientService,
+                                     ExpiringCache<String, CompanyProfileApi> companyProfileCache,
+                                     SingleFlight<LookupKey, CompanyProfileApi> companyProfileFlights,
+                                     DownstreamGuards downstreamGuards, Logger logger) {
         this.apiClientService = apiClientService;
+        this.companyProfileCache = companyProfileCache;
+        this.companyProfileFlights = companyProfileFlights;
+        this.downstreamGuards = downstreamGuards;
         this.logger = logger;
     }
 
     @Override
-    public CompanyProfileApi getCompanyProfile(final Transaction transaction, final PscVerificationData dto,
-                                               final String ericPassThroughHeader)
+    public CompanyProfileApi getCompanyProfile(final Transaction transaction, final PscVerificationData dto)
             throws CompanyProfileServiceException {
 
+        final String uri = "/company/" + dto.companyNumber();
+
+        return companyProfileCache.get(dto.companyNumber(),
+            () -> companyProfileFlights.execute(new LookupKey(uri, LookupKey.INTERNAL_API_SCOPE, null),
+                () -> downstreamGuards.call(Downstream.COMPANY_PROFILE,
+                    () -> fetchCompanyProfile(transaction, dto, uri))));
+    }
+
+    private CompanyProfileApi fetchCompanyProfile(final Transaction transaction, final PscVerificationData dto,
+                                                  final String uri) {
+
         final var logMap = LogHelper.createLogMap(transaction.getId());
 
         try {
-            final String uri = "/company/" + dto.companyNumber();
-            final CompanyProfileApi companyProfile = apiClientService.getApiClient(ericPassThroughHeader)
+            final CompanyProfileApi companyProfile = apiClientService.getInternalApiClient()
                             .company()
                             .get(uri)
                             .execute()
@@ -2,7 +2,6 @@ package uk.gov.companieshouse.pscverificationapi.service.impl;
 
 import static uk.gov.companieshouse.pscverificationapi.model.FilingKind.PSC_VERIFICATION_INDIVIDUAL;
 
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -10,9 +9,9 @@ import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscverificationapi.config.FilingDataConfig;
 import uk.gov.companieshouse.pscverificationapi.exception.FilingResourceNotFoundException;
 import uk.gov.companieshouse.pscverificationapi.helper.LogMapHelper;
+import uk.gov.companieshouse.pscverificationapi.model.mapper.FilingDataConverter;
 import uk.gov.companieshouse.pscverificationapi.service.FilingDataService;
 import uk.gov.companieshouse.pscverificationapi.service.PscVerificationService;
-import uk.gov.companieshouse.pscverificationapi.utils.MapHelper;
 
 /**
  * Produces Filing Data format for consumption as JSON by filing-resource-handler external service.
@@ -49,9 +48,7 @@ public class FilingDataServiceImpl implements FilingDataService {
         filingApi.setKind(PSC_VERIFICATION_INDIVIDUAL.getValue());
         filingApi.setDescription(filingDataConfig.getPscVerificationDescription());
 
-        final var dataMap = MapHelper.convertObject(pscVerification.getData(), PropertyNamingStrategies.SNAKE_CASE);
-        dataMap.remove("psc_notification_id");
-        dataMap.put("appointment_id", pscVerification.getInternalData().internalId());
+        final var dataMap = FilingDataConverter.toFilingData(pscVerification);
         logMap.put("Filing data to submit", dataMap);
         logger.debugContext(transactionId, filingId, logMap);
         filingApi.setData(dataMap);
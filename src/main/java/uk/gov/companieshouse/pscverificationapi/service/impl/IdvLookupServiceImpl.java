@@ -9,16 +9,25 @@ import uk.gov.companieshouse.api.identityverification.model.UvidMatch;
 import uk.gov.companieshouse.api.identityverification.model.UvidMatchResponse;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.cache.ExpiringCache;
+import uk.gov.companieshouse.pscverificationapi.cache.LookupKey;
+import uk.gov.companieshouse.pscverificationapi.cache.SingleFlight;
+import uk.gov.companieshouse.pscverificationapi.cache.UvidMatchKey;
 import uk.gov.companieshouse.pscverificationapi.exception.TransactionServiceException;
 import uk.gov.companieshouse.pscverificationapi.exception.IdvLookupServiceException;
 import uk.gov.companieshouse.pscverificationapi.helper.LogMapHelper;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+import uk.gov.companieshouse.pscverificationapi.resilience.DownstreamGuards;
 import uk.gov.companieshouse.pscverificationapi.sdk.companieshouse.InternalApiClientService;
 import uk.gov.companieshouse.pscverificationapi.service.IdvLookupService;
 
 /**
  * Interacts with the external CHS IDV API service to confirm a UVID match
  * <p>
- * Implements {@link IdvLookupService} 
+ * Implements {@link IdvLookupService}. Match results are held in the UVID match
+ * {@link ExpiringCache}, keyed by a {@link UvidMatchKey} digest of the match inputs rather than the
+ * personal data itself, and concurrent identical match requests share one call through
+ * {@link SingleFlight}, which is made through the IDV API's {@link DownstreamGuards guard}.
  * </p>
  */
 @Service
@@ -31,19 +40,47 @@ public class IdvLookupServiceImpl implements IdvLookupService {
 
     private final Logger logger;
     private final InternalApiClientService internalApiClientService;
+    private final ExpiringCache<UvidMatchKey, UvidMatchResponse> uvidMatchCache;
+    private final SingleFlight<LookupKey, UvidMatchResponse> uvidMatchFlights;
+    private final DownstreamGuards downstreamGuards;
 
-    public IdvLookupServiceImpl(final Logger logger, InternalApiClientService internalApiClientService) {
+    public IdvLookupServiceImpl(final Logger logger, InternalApiClientService internalApiClientService,
+                                final ExpiringCache<UvidMatchKey, UvidMatchResponse> uvidMatchCache,
+                                final SingleFlight<LookupKey, UvidMatchResponse> uvidMatchFlights,
+                                final DownstreamGuards downstreamGuards) {
         this.logger = logger;
         this.internalApiClientService = internalApiClientService;
+        this.uvidMatchCache = uvidMatchCache;
+        this.uvidMatchFlights = uvidMatchFlights;
+        this.downstreamGuards = downstreamGuards;
     }
 
     @Override
     public UvidMatchResponse matchUvid(UvidMatch uvidMatch)
         throws IdvLookupServiceException, ApiErrorResponseException {
 
-        final var logMap = LogMapHelper.createLogMap(uvidMatch.getUvid());
+        final var key = UvidMatchKey.of(uvidMatch);
+        final var cached = uvidMatchCache.getIfPresent(key);
+
+        if (cached.isPresent()) {
+            return cached.get();
+        }
         var uvidMatchUrl = IDENTITY_BASE_URI + UVID_MATCH_URI_PART;
+        final var response = uvidMatchFlights.execute(
+            new LookupKey(uvidMatchUrl, LookupKey.INTERNAL_API_SCOPE, key),
+            () -> downstreamGuards.call(Downstream.IDENTITY_VERIFICATION,
+                () -> postUvidMatch(uvidMatchUrl, uvidMatch)));
+
+        if (response != null) {
+            uvidMatchCache.put(key, response);
+        }
+        return response;
+    }
 
+    private UvidMatchResponse postUvidMatch(final String uvidMatchUrl, final UvidMatch uvidMatch)
+        throws ApiErrorResponseException {
+
+        final var logMap = LogMapHelper.createLogMap(uvidMatch.getUvid());
         var internalApiClient = internalApiClientService.getInternalApiClient();
         PrivateUvidMatchResourcePost uvidMatchResourcePost =
             internalApiClient.privateIdentityVerificationResourceHandler()
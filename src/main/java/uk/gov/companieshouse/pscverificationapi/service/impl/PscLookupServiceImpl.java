@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.pscverificationapi.service.impl;
 
 import java.text.MessageFormat;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -10,9 +11,18 @@ import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.psc.IndividualFullRecord;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.cache.ExpiringCache;
+import uk.gov.companieshouse.pscverificationapi.cache.LookupKey;
+import uk.gov.companieshouse.pscverificationapi.cache.PscRecordKey;
+import uk.gov.companieshouse.pscverificationapi.cache.SingleFlight;
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
 import uk.gov.companieshouse.pscverificationapi.exception.FilingResourceNotFoundException;
 import uk.gov.companieshouse.pscverificationapi.exception.PscLookupServiceException;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+import uk.gov.companieshouse.pscverificationapi.resilience.DownstreamCall;
+import uk.gov.companieshouse.pscverificationapi.resilience.DownstreamGuards;
+import uk.gov.companieshouse.pscverificationapi.resilience.Hedger;
+import uk.gov.companieshouse.pscverificationapi.resilience.Retrier;
 import uk.gov.companieshouse.pscverificationapi.sdk.companieshouse.InternalApiClientService;
 import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
 import uk.gov.companieshouse.pscverificationapi.utils.LogHelper;
@@ -20,7 +30,15 @@ import uk.gov.companieshouse.pscverificationapi.utils.LogHelper;
 /**
  * Interacts with the PSC Data API to retrieve PSCs.
  * <p>
- * Implements {@link PscLookupService}
+ * Implements {@link PscLookupService}. Retrieved records are held in the PSC record
+ * {@link ExpiringCache} so that later steps of the same filing do not repeat the lookup, and
+ * concurrent lookups of the same record share one call through {@link SingleFlight}. Records that
+ * were not found are remembered briefly in a separate cache, so that repeated lookups of an
+ * unknown PSC fail without calling the PSC Data API. Calls are made through the PSC Data API's
+ * {@link DownstreamGuards guard}. Since the lookup is idempotent, a slow call may be hedged with
+ * a second by the {@link Hedger}, and a transient failure is retried by the {@link Retrier}. Only
+ * the first attempt is hedged, so that retries and hedges together make at most one call more
+ * than the maximum number of attempts.
  * </p>
  */
 @Service
@@ -28,10 +46,27 @@ public class PscLookupServiceImpl implements PscLookupService {
     private static final String UNEXPECTED_STATUS_CODE = "Unexpected Status Code received";
 
     private final InternalApiClientService apiClientService;
+    private final ExpiringCache<PscRecordKey, IndividualFullRecord> pscRecordCache;
+    private final ExpiringCache<PscRecordKey, String> pscRecordNotFoundCache;
+    private final SingleFlight<LookupKey, IndividualFullRecord> pscRecordFlights;
+    private final DownstreamGuards downstreamGuards;
+    private final Hedger pscDataHedger;
+    private final Retrier downstreamRetrier;
     private final Logger logger;
 
-    public PscLookupServiceImpl(InternalApiClientService apiClientService, Logger logger) {
+    public PscLookupServiceImpl(InternalApiClientService apiClientService,
+                                ExpiringCache<PscRecordKey, IndividualFullRecord> pscRecordCache,
+                                ExpiringCache<PscRecordKey, String> pscRecordNotFoundCache,
+                                SingleFlight<LookupKey, IndividualFullRecord> pscRecordFlights,
+                                DownstreamGuards downstreamGuards, Hedger pscDataHedger,
+                                Retrier downstreamRetrier, Logger logger) {
         this.apiClientService = apiClientService;
+        this.pscRecordCache = pscRecordCache;
+        this.pscRecordNotFoundCache = pscRecordNotFoundCache;
+        this.pscRecordFlights = pscRecordFlights;
+        this.downstreamGuards = downstreamGuards;
+        this.pscDataHedger = pscDataHedger;
+        this.downstreamRetrier = downstreamRetrier;
         this.logger = logger;
     }
 
@@ -40,18 +75,50 @@ public class PscLookupServiceImpl implements PscLookupService {
                                                              final PscType pscType)
             throws PscLookupServiceException {
 
+        final var key = new PscRecordKey(data.companyNumber(), pscType, data.pscNotificationId());
+
+        final var uri = "/company/"
+                + data.companyNumber()
+                + "/persons-with-significant-control/"
+                + pscType.getValue()
+                + "/"
+                + data.pscNotificationId()
+                + "/full_record";
+
+        final var notFound = pscRecordNotFoundCache.getIfPresent(key);
+
+        if (notFound.isPresent()) {
+            throw new FilingResourceNotFoundException(notFound.get());
+        }
+        try {
+            return pscRecordCache.get(key, () -> pscRecordFlights.execute(
+                new LookupKey(uri, LookupKey.INTERNAL_API_SCOPE, null),
+                () -> retrieveIndividualFullRecord(transaction, data, uri)));
+        } catch (FilingResourceNotFoundException e) {
+            // only the message is kept, so the exception and the response it holds are not retained
+            pscRecordNotFoundCache.put(key, e.getMessage());
+            throw e;
+        }
+    }
+
+    private IndividualFullRecord retrieveIndividualFullRecord(final Transaction transaction,
+                                                              final PscVerificationData data, final String uri) {
+        final DownstreamCall<IndividualFullRecord, RuntimeException> call = () -> downstreamGuards.call(
+            Downstream.PSC_DATA, () -> fetchIndividualFullRecord(transaction, data, uri));
+        final var firstAttempt = new AtomicBoolean(true);
+
+        // only the first attempt is hedged, so a lookup makes at most one call more than the retry attempts
+        return downstreamRetrier.call(Downstream.PSC_DATA,
+            () -> firstAttempt.getAndSet(false) ? pscDataHedger.call(call) : call.call());
+    }
+
+    private IndividualFullRecord fetchIndividualFullRecord(final Transaction transaction,
+                                                           final PscVerificationData data, final String uri) {
+
         final var logMap = LogHelper.createLogMap(transaction.getId());
         String pscNotificationId = data.pscNotificationId();
 
         try {
-            final var uri = "/company/"
-                    + data.companyNumber()
-                    + "/persons-with-significant-control/"
-                    + pscType.getValue()
-                    + "/"
-                    + pscNotificationId
-                    + "/full_record";
-
             return apiClientService.getInternalApiClient()
                 .privatePscFullRecordResourceHandler()
                 .getPscFullRecord(uri)
@@ -0,0 +1,141 @@
+package uk.gov.companieshouse.pscverificationapi.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
+import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
+
+/**
+ * Maps a merge patch of {@link PscVerification} data to a Mongo update of the paths it changed.
+ * <p>
+ * Follows the patch (RFC 7396) alongside the data before and after merging it: a property the
+ * patch removed is unset, a nested object the patch changed is followed into, and any other
+ * changed property is set to its merged value. Properties the patch left unchanged are not written.
+ * Patch properties are matched by their JSON names, as the merge does, and written by their Java
+ * property paths, which Spring Data maps to the stored field names. Should the patch not match the
+ * properties of the data, the whole merged value is set instead. The changed paths are also used
+ * to validate only what the patch changed.
+ * </p>
+ */
+@Component
+public class PscVerificationFilingUpdateMapper {
+
+    private static final String DATA = "data";
+
+    private final ObjectMapper patchObjectMapper;
+    private final Map<Class<?>, Map<String, BeanPropertyDefinition>> properties = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PscVerificationFilingUpdateMapper(
+        @Qualifier("patchObjectMapper") final ObjectMapper patchObjectMapper) {
+        this.patchObjectMapper = patchObjectMapper;
+    }
+
+    /**
+     * @param patchMap the merge patch, as merged into the data
+     * @param target   the data before merging
+     * @param merged   the data after merging
+     * @return the update of the changed data paths
+     */
+    public Update toDataUpdate(final Map<String, Object> patchMap, final PscVerificationData target,
+        final PscVerificationData merged) {
+        return toDataUpdate(toDataChanges(patchMap, target, merged));
+    }
+
+    /**
+     * @param dataChanges the changed data paths and their merged values, as given by
+     *                    {@link #toDataChanges(Map, PscVerificationData, PscVerificationData)}
+     * @return the update of the changed data paths
+     */
+    public Update toDataUpdate(final Map<String, Object> dataChanges) {
+        final var update = new Update();
+
+        dataChanges.forEach((path, value) -> {
+            if (value == null) {
+                update.unset(path);
+            } else {
+                update.set(path, value);
+            }
+        });
+
+        return update;
+    }
+
+    /**
+     * @param patchMap the merge patch, as merged into the data
+     * @param target   the data before merging
+     * @param merged   the data after merging
+     * @return the Java property paths of the filing changed by the patch, in patch order, and their
+     *     merged values; a removed path has a {@code null} value
+     */
+    public Map<String, Object> toDataChanges(final Map<String, Object> patchMap, final PscVerificationData target,
+        final PscVerificationData merged) {
+        final var changes = new LinkedHashMap<String, Object>();
+
+        if (target == null || merged == null) {
+            changes.put(DATA, merged);
+        } else {
+            addChanges(changes, DATA, patchMap, target, merged);
+        }
+
+        return changes;
+    }
+
+    private void addChanges(final Map<String, Object> changes, final String path, final Map<?, ?> patch,
+        final Object target, final Object merged) {
+        final var beanProperties = properties(merged.getClass());
+
+        if (!beanProperties.keySet().containsAll(patch.keySet())) {
+            changes.put(path, merged);
+            return;
+        }
+
+        for (final var entry : patch.entrySet()) {
+            final var property = beanProperties.get(entry.getKey());
+            final var propertyPath = path + "." + property.getInternalName();
+            final var targetValue = property.getAccessor().getValue(target);
+            final var mergedValue = property.getAccessor().getValue(merged);
+
+            if (Objects.equals(targetValue, mergedValue)) {
+                continue;
+            }
+            if (mergedValue != null && entry.getValue() instanceof Map<?, ?> nestedPatch && targetValue != null
+                && isBean(property)) {
+                addChanges(changes, propertyPath, nestedPatch, targetValue, mergedValue);
+            } else {
+                changes.put(propertyPath, mergedValue);
+            }
+        }
+    }
+
+    private Map<String, BeanPropertyDefinition> properties(final Class<?> type) {
+        return properties.computeIfAbsent(type, t -> {
+            final var description = patchObjectMapper.getSerializationConfig()
+                .introspect(patchObjectMapper.constructType(t));
+            final var byName = new HashMap<String, BeanPropertyDefinition>();
+
+            for (final var property : description.findProperties()) {
+                if (property.getAccessor() != null) {
+                    byName.put(property.getName(), property);
+                }
+            }
+            return Map.copyOf(byName);
+        });
+    }
+
+    private static boolean isBean(final BeanPropertyDefinition property) {
+        final var type = property.getPrimaryType();
+
+        return !type.isContainerType() && !type.isEnumType() && !ClassUtil.isJDKClass(type.getRawClass());
+    }
+}
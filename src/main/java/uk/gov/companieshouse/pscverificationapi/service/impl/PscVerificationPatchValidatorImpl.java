@@ -1,35 +1,46 @@
 package uk.gov.companieshouse.pscverificationapi.service.impl;
 
-import static java.util.function.Predicate.not;
-
-import java.util.List;
+import jakarta.validation.Validator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.AbstractBindingResult;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.SmartValidator;
+import uk.gov.companieshouse.api.model.pscverification.PscVerificationApi;
 import uk.gov.companieshouse.patch.model.ValidationResult;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
 import uk.gov.companieshouse.pscverificationapi.model.mapper.PscVerificationMapper;
 import uk.gov.companieshouse.pscverificationapi.service.PscVerificationPatchValidator;
 
-/** 
+/**
  * Validator to ensure the Psc Verification patch contains valid data.
  * <p>
  * Implements {@link PscVerificationPatchValidator}
  * </p>
+ * <p>
+ * A patch is validated incrementally: only the constraints of the properties it changed are
+ * checked, against their patched values. The whole filing is validated instead when a changed
+ * property is subject to a constraint that spans other properties, meaning a class constraint on
+ * a bean along its path or a constraint on a bean valued property, or when it replaces a bean that
+ * is validated in turn.
+ * </p>
  */
 @Component
 public class PscVerificationPatchValidatorImpl implements PscVerificationPatchValidator {
 
     private final SmartValidator validator;
     private final PscVerificationMapper mapper;
+    private final Validator beanValidator;
+    private final Map<String, PathScope> pathScopes = new ConcurrentHashMap<>();
 
     @Autowired
     public PscVerificationPatchValidatorImpl(final SmartValidator validator, final PscVerificationMapper mapper) {
         this.validator = validator;
         this.mapper = mapper;
+        this.beanValidator = unwrap(validator);
     }
 
     @Override
@@ -42,9 +53,89 @@ public class PscVerificationPatchValidatorImpl implements PscVerificationPatchVa
 
                     return e;
                 })
-                .map(AbstractBindingResult::getFieldErrors)
-                .filter(not(List::isEmpty))
-                .map(ValidationResult::new)
+                .map(PscVerificationPatchValidatorImpl::toResult)
                 .orElseGet(ValidationResult::new);
     }
+
+    @Override
+    public ValidationResult validate(final PscVerification patchedFiling, final Map<String, Object> changes) {
+        if (patchedFiling == null || beanValidator == null
+            || changes.keySet().stream().map(this::scope).anyMatch(PathScope.FILING::equals)) {
+            return validate(patchedFiling);
+        }
+
+        final var api = mapper.toApi(patchedFiling);
+        final var errors = new BeanPropertyBindingResult(api, "patched");
+
+        changes.forEach((path, value) -> {
+            if (scope(path) == PathScope.VALUE) {
+                validator.validateValue(PscVerificationApi.class, path, value, errors);
+            }
+        });
+
+        return toResult(errors);
+    }
+
+    /**
+     * @param path the property path of the filing
+     * @return what must be validated when the property changes
+     */
+    private PathScope scope(final String path) {
+        return pathScopes.computeIfAbsent(path, p -> {
+            final var names = p.split("\\.");
+            Class<?> type = PscVerificationApi.class;
+
+            for (var i = 0; i < names.length; i++) {
+                final var bean = beanValidator.getConstraintsForClass(type);
+
+                if (!bean.getConstraintDescriptors().isEmpty()) {
+                    return PathScope.FILING;
+                }
+
+                final var property = bean.getConstraintsForProperty(names[i]);
+
+                if (property == null) {
+                    // neither constrained nor validated in turn
+                    return PathScope.NONE;
+                }
+                if (i == names.length - 1) {
+                    return property.isCascaded() ? PathScope.FILING : PathScope.VALUE;
+                }
+                if (!property.getConstraintDescriptors().isEmpty()) {
+                    return PathScope.FILING;
+                }
+                if (!property.isCascaded()) {
+                    return PathScope.NONE;
+                }
+                type = property.getElementClass();
+            }
+            return PathScope.FILING;
+        });
+    }
+
+    private static ValidationResult toResult(final AbstractBindingResult errors) {
+        final var fieldErrors = errors.getFieldErrors();
+
+        return fieldErrors.isEmpty() ? new ValidationResult() : new ValidationResult(fieldErrors);
+    }
+
+    private static Validator unwrap(final SmartValidator validator) {
+        try {
+            return validator.unwrap(Validator.class);
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * What must be validated when a property changes.
+     */
+    private enum PathScope {
+        /** nothing, as the property is not validated */
+        NONE,
+        /** the constraints of the property, against its new value */
+        VALUE,
+        /** the whole filing */
+        FILING
+    }
 }
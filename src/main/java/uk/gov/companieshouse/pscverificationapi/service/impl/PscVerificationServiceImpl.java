@@ -4,16 +4,22 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.List;
+import java.text.MessageFormat;
 import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.api.model.pscverification.InternalData;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
 import uk.gov.companieshouse.patch.model.PatchResult;
+import uk.gov.companieshouse.pscverificationapi.cache.ExpiringCache;
+import uk.gov.companieshouse.pscverificationapi.cache.ValidationStatusKey;
 import uk.gov.companieshouse.pscverificationapi.config.PatchServiceProperties;
+import uk.gov.companieshouse.pscverificationapi.error.RetrievalFailureReason;
 import uk.gov.companieshouse.pscverificationapi.exception.MergePatchException;
+import uk.gov.companieshouse.pscverificationapi.model.PatchOutcome;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
-import uk.gov.companieshouse.pscverificationapi.provider.PscVerificationFilingProvider;
 import uk.gov.companieshouse.pscverificationapi.repository.PscVerificationRepository;
 import uk.gov.companieshouse.pscverificationapi.repository.PscVerificationRepositoryCustom;
 import uk.gov.companieshouse.pscverificationapi.service.PscVerificationPatchValidator;
@@ -31,26 +37,29 @@ public class PscVerificationServiceImpl implements PscVerificationService {
     private final PscVerificationRepository repository;
     private final PscVerificationRepositoryCustom customRepository;
     private final PatchServiceProperties patchServiceProperties;
-    private final PscVerificationFilingProvider pscVerificationFilingProvider;
     private final PscVerificationFilingMergeProcessor mergeProcessor;
     private final PscVerificationFilingPostMergeProcessor postMergeProcessor;
+    private final PscVerificationFilingUpdateMapper updateMapper;
     private final PscVerificationPatchValidator pscVerificationPatchValidator;
+    private final ExpiringCache<ValidationStatusKey, ValidationStatusResponse> validationStatusCache;
 
     @Autowired
     public PscVerificationServiceImpl(PscVerificationRepository repository,
                                       PscVerificationRepositoryCustom customRepository,
                                       PatchServiceProperties patchServiceProperties,
-                                      PscVerificationFilingProvider pscVerificationFilingProvider,
                                       PscVerificationFilingMergeProcessor mergeProcessor,
                                       PscVerificationFilingPostMergeProcessor postMergeProcessor,
-                                      PscVerificationPatchValidator pscVerificationPatchValidator) {
+                                      PscVerificationFilingUpdateMapper updateMapper,
+                                      PscVerificationPatchValidator pscVerificationPatchValidator,
+                                      ExpiringCache<ValidationStatusKey, ValidationStatusResponse> validationStatusCache) {
         this.repository = repository;
         this.customRepository = customRepository;
         this.patchServiceProperties = patchServiceProperties;
-        this.pscVerificationFilingProvider = pscVerificationFilingProvider;
         this.mergeProcessor = mergeProcessor;
         this.postMergeProcessor = postMergeProcessor;
+        this.updateMapper = updateMapper;
         this.pscVerificationPatchValidator = pscVerificationPatchValidator;
+        this.validationStatusCache = validationStatusCache;
     }
 
     @Override
@@ -58,28 +67,74 @@ public class PscVerificationServiceImpl implements PscVerificationService {
         return repository.save(filing);
     }
 
+    @Override
+    public PscVerification insert(final PscVerification filing) {
+        return repository.insert(filing);
+    }
+
     @Override
     public Optional<PscVerification> get(final String filingId) {
         return repository.findById(filingId);
     }
 
     @Override
-    public Optional<List<PscVerification>> getByNotificationId(final String notificationId) {
-        return Optional.ofNullable(customRepository.findByNotificationId(notificationId));
+    public Optional<PscVerification> getLatestByNotificationId(final String notificationId) {
+        return customRepository.findLatestByNotificationId(notificationId);
     }
 
     @Override
-    public PatchResult patch(final String filingId, final Map<String, Object> patchMap) {
-        final PatchResult patchResult;
+    public PatchOutcome patch(final PscVerification filing, final Map<String, Object> patchMap,
+        final InternalData internalData) {
+        var current = filing;
+
+        for (var attempt = 0; ; attempt++) {
+            final var patched = mergeEntity(current, patchMap, internalData);
+            final var dataChanges = updateMapper.toDataChanges(patchMap, current.getData(), patched.getData());
+            final var validationResult = pscVerificationPatchValidator.validate(patched, dataChanges);
+
+            if (!validationResult.isSuccess()) {
+                return PatchOutcome.failure(new PatchResult(validationResult.getErrors()));
+            }
+
+            // only the data paths the patch changed are validated and written
+            final var updated = customRepository.updateIfUnmodified(patched, current.getUpdatedAt(),
+                updateMapper.toDataUpdate(dataChanges));
+
+            if (updated.isPresent()) {
+                // the replaced version of the filing can no longer be polled
+                validationStatusCache.invalidate(new ValidationStatusKey(current.getId(), current.getUpdatedAt()));
+                return PatchOutcome.success(updated.get());
+            }
+            if (attempt >= getMaxRetries()) {
+                throw new OptimisticLockingFailureException(
+                    MessageFormat.format("Filing {0} was updated concurrently", filing.getId()));
+            }
+
+            final var reloaded = repository.findById(filing.getId());
+
+            if (reloaded.isEmpty()) {
+                return PatchOutcome.failure(new PatchResult(RetrievalFailureReason.FILING_NOT_FOUND));
+            }
+            current = reloaded.get();
+        }
+    }
+
+    private PscVerification mergeEntity(final PscVerification filing, final Map<String, Object> patchMap,
+        final InternalData internalData) {
+        final PscVerification merged;
 
         try {
-            patchResult = patchEntity(filingId, pscVerificationFilingProvider, patchMap,
-                    mergeProcessor, postMergeProcessor, pscVerificationPatchValidator);
+            merged = mergeProcessor.mergeEntity(filing, patchMap);
         } catch (final IOException e) {
             throw new MergePatchException(e.getMessage(), e);
         }
 
-        return patchResult;
+        final var patched = internalData == null ? merged
+            : PscVerification.newBuilder(merged).internalData(internalData).build();
+
+        postMergeProcessor.onMerge(patched);
+
+        return patched;
     }
 
     @Override
@@ -13,12 +13,17 @@ import uk.gov.companieshouse.api.sdk.ApiClientService;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscverificationapi.exception.TransactionServiceException;
 import uk.gov.companieshouse.pscverificationapi.helper.LogMapHelper;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+import uk.gov.companieshouse.pscverificationapi.resilience.DownstreamGuards;
+import uk.gov.companieshouse.pscverificationapi.resilience.Retrier;
 import uk.gov.companieshouse.pscverificationapi.service.TransactionService;
 
 /**
  * Interacts with the external Transactions service to retrieve and update Transactions.
  * <p>
- * Implements {@link TransactionService}
+ * Implements {@link TransactionService}. Calls are made through the Transactions API's
+ * {@link DownstreamGuards guard}, and a transient failure to retrieve a Transaction is retried by
+ * the {@link Retrier}. Updates are not retried.
  * </p>
  */
 @Service
@@ -26,16 +31,37 @@ public class TransactionServiceImpl implements TransactionService {
 
     private static final String UNEXPECTED_STATUS_CODE = "Unexpected Status Code received";
     private final ApiClientService apiClientService;
+    private final DownstreamGuards downstreamGuards;
+    private final Retrier downstreamRetrier;
     private final Logger logger;
 
-    public TransactionServiceImpl(final ApiClientService apiClientService, final Logger logger) {
+    public TransactionServiceImpl(final ApiClientService apiClientService,
+            final DownstreamGuards downstreamGuards, final Retrier downstreamRetrier, final Logger logger) {
         this.apiClientService = apiClientService;
+        this.downstreamGuards = downstreamGuards;
+        this.downstreamRetrier = downstreamRetrier;
         this.logger = logger;
     }
 
     @Override
     public Transaction getTransaction(final String transactionId,
             final String ericPassThroughHeader) throws TransactionServiceException {
+        return downstreamRetrier.call(Downstream.TRANSACTIONS,
+                () -> downstreamGuards.call(Downstream.TRANSACTIONS,
+                        () -> fetchTransaction(transactionId, ericPassThroughHeader)));
+    }
+
+    @Override
+    public void updateTransaction(final Transaction transaction, final String ericPassThroughHeader)
+            throws TransactionServiceException {
+        downstreamGuards.call(Downstream.TRANSACTIONS, () -> {
+            patchTransaction(transaction, ericPassThroughHeader);
+            return null;
+        });
+    }
+
+    private Transaction fetchTransaction(final String transactionId,
+            final String ericPassThroughHeader) {
         final var logMap = LogMapHelper.createLogMap(transactionId);
 
         try {
@@ -61,9 +87,7 @@ public class TransactionServiceImpl implements TransactionService {
         }
     }
 
-    @Override
-    public void updateTransaction(final Transaction transaction, final String ericPassThroughHeader)
-            throws TransactionServiceException {
+    private void patchTransaction(final Transaction transaction, final String ericPassThroughHeader) {
         final var logMap = LogMapHelper.createLogMap(transaction.getId());
         try {
             logger.debugContext(transaction.getId(), "Updating transaction", logMap);
@@ -0,0 +1,90 @@
+package uk.gov.companieshouse.pscverificationapi.service.impl;
+
+import java.text.MessageFormat;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.config.RequestDeadlineProperties;
+import uk.gov.companieshouse.pscverificationapi.config.VerificationValidationProperties;
+import uk.gov.companieshouse.pscverificationapi.model.FilingChangedEvent;
+import uk.gov.companieshouse.pscverificationapi.resilience.Deadline;
+import uk.gov.companieshouse.pscverificationapi.service.ValidationStatusService;
+
+/**
+ * Validates filings in the background once they have been created or updated.
+ * <p>
+ * When enabled by {@link VerificationValidationProperties#isMaterialize()}, the validation chain
+ * runs after the transaction that changed the filing commits, and the result is stored with the
+ * filing so that {@code validation_status} can return it without calling downstream services.
+ * Failures are logged and leave {@code validation_status} to validate on demand.
+ * </p>
+ * <p>
+ * The validation outlives the request, so it is made with the internal API key only, using the
+ * transaction the request retrieved, and is limited by a {@link Deadline} of its own, with the
+ * {@code validation_status} budget.
+ * </p>
+ */
+@Component
+public class ValidationMaterializer {
+    private final ValidationStatusService validationStatusService;
+    private final VerificationValidationProperties properties;
+    private final RequestDeadlineProperties deadlineProperties;
+    private final Executor executor;
+    private final Logger logger;
+
+    public ValidationMaterializer(final ValidationStatusService validationStatusService,
+                                  final VerificationValidationProperties properties,
+                                  final RequestDeadlineProperties deadlineProperties,
+                                  @Qualifier("validationMaterializationExecutor") final Executor executor,
+                                  final Logger logger) {
+        this.validationStatusService = validationStatusService;
+        this.properties = properties;
+        this.deadlineProperties = deadlineProperties;
+        this.executor = executor;
+        this.logger = logger;
+    }
+
+    /**
+     * Schedules validation of the changed filing.
+     *
+     * @param event the event, delivered after the publishing transaction commits
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFilingChanged(final FilingChangedEvent event) {
+        if (!properties.isMaterialize()) {
+            return;
+        }
+        if (event.transaction() == null) {
+            logger.debug(MessageFormat.format("Validation of filing {0} not scheduled: transaction not retrieved",
+                event.filing().getId()));
+            return;
+        }
+        try {
+            executor.execute(() -> materialize(event));
+        } catch (RejectedExecutionException e) {
+            logger.error(MessageFormat.format("Unable to schedule validation of filing {0}: {1}",
+                event.filing().getId(), e.getMessage()));
+        }
+    }
+
+    private void materialize(final FilingChangedEvent event) {
+        final var filingId = event.filing().getId();
+
+        if (deadlineProperties.isEnabled()) {
+            Deadline.bind(Deadline.after(deadlineProperties.getValidationStatus()));
+        }
+        try {
+            final var stored = validationStatusService.materialize(event.filing(), event.transaction());
+
+            logger.debug(MessageFormat.format("Validation of filing {0} {1}", filingId,
+                stored ? "stored" : "discarded: filing has since changed"));
+        } catch (RuntimeException e) {
+            logger.error(MessageFormat.format("Unable to validate filing {0}: {1}", filingId, e.getMessage()));
+        } finally {
+            Deadline.clear();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package uk.gov.companieshouse.pscverificationapi.service.impl;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.FieldError;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.config.VerificationValidationProperties;
+import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
+import uk.gov.companieshouse.pscverificationapi.mapper.ErrorMapper;
+import uk.gov.companieshouse.pscverificationapi.model.entity.MaterializedValidation;
+import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
+import uk.gov.companieshouse.pscverificationapi.repository.PscVerificationRepositoryCustom;
+import uk.gov.companieshouse.pscverificationapi.service.ValidationStatusService;
+import uk.gov.companieshouse.pscverificationapi.service.VerificationValidationService;
+import uk.gov.companieshouse.pscverificationapi.validator.VerificationValidationContext;
+
+/**
+ * Service implementation for computing and storing the validation status of filings.
+ * <p>
+ * Implements {@link ValidationStatusService}.
+ * </p>
+ */
+@Service
+public class ValidationStatusServiceImpl implements ValidationStatusService {
+    private final VerificationValidationService validatorService;
+    private final ErrorMapper errorMapper;
+    private final PscVerificationRepositoryCustom customRepository;
+    private final VerificationValidationProperties properties;
+    private final Clock clock;
+    private final Logger logger;
+
+    public ValidationStatusServiceImpl(final VerificationValidationService validatorService,
+                                       final ErrorMapper errorMapper,
+                                       final PscVerificationRepositoryCustom customRepository,
+                                       final VerificationValidationProperties properties, final Clock clock,
+                                       final Logger logger) {
+        this.validatorService = validatorService;
+        this.errorMapper = errorMapper;
+        this.customRepository = customRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.logger = logger;
+    }
+
+    @Override
+    public ValidationStatusResponse validate(final PscVerification filing, final Transaction transaction,
+                                             final String passthroughHeader) {
+        final var errors = new HashSet<FieldError>();
+        final var context = new VerificationValidationContext(filing.getData(), errors, transaction,
+            PscType.INDIVIDUAL, passthroughHeader);
+
+        validatorService.validate(context);
+        logger.debug(String.format("Validation of filing %s avoided %d duplicate downstream lookup(s)",
+            filing.getId(), context.lookups().avoidedLookups()));
+
+        return toResponse(errorMapper.map(context.errors()));
+    }
+
+    @Override
+    public Optional<ValidationStatusResponse> getMaterialized(final PscVerification filing) {
+        return Optional.ofNullable(filing.getValidation())
+            .filter(v -> Objects.equals(v.filingUpdatedAt(), filing.getUpdatedAt()))
+            .filter(v -> v.validatedAt() != null
+                && v.validatedAt().plus(properties.getMaterializedTtl()).isAfter(clock.instant()))
+            .map(v -> toResponse(v.errors().toArray(ValidationStatusError[]::new)));
+    }
+
+    @Override
+    public boolean materialize(final PscVerification filing, final Transaction transaction) {
+        // downstream data is read after this instant, so the result is at least this fresh
+        final var validatedAt = clock.instant();
+        // every lookup made by the validation chain uses the internal API key
+        final var response = validate(filing, transaction, null);
+        final var validation = new MaterializedValidation(filing.getUpdatedAt(), validatedAt, response.isValid(),
+            List.of(response.getValidationStatusError()));
+
+        return customRepository.saveValidation(filing.getId(), filing.getUpdatedAt(), validation);
+    }
+
+    private static ValidationStatusResponse toResponse(final ValidationStatusError[] errors) {
+        final var validationStatus = new ValidationStatusResponse();
+
+        validationStatus.setValid(errors.length == 0);
+        validationStatus.setValidationStatusError(errors);
+
+        return validationStatus;
+    }
+}
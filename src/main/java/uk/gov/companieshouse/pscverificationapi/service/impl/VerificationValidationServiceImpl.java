@@ -4,19 +4,33 @@ import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.pscverificationapi.config.VerificationValidationProperties;
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
+import uk.gov.companieshouse.pscverificationapi.enumerations.ValidationMode;
 import uk.gov.companieshouse.pscverificationapi.service.VerificationValidationService;
 import uk.gov.companieshouse.pscverificationapi.validator.ValidationChainEnable;
+import uk.gov.companieshouse.pscverificationapi.validator.ValidationDependencyResolver;
 import uk.gov.companieshouse.pscverificationapi.validator.VerificationValidationContext;
 
 /**
  * The verification validation service layer that passes to the chain of validators
  * as defined in ValidatorConfig.
  * <p>
+ * Validation runs in two stages: the {@link ValidationDependencyResolver} first fetches all the
+ * remote data the chain depends on, then the validators evaluate their rules over that data in
+ * chain order. In {@link ValidationMode#PARALLEL} mode the lookups are made concurrently once the
+ * PSC record has been retrieved; in {@link ValidationMode#SEQUENTIAL} mode they are made one after
+ * another on the request thread. The validators themselves are not run concurrently: they only
+ * evaluate rules over data in memory, so running them in chain order costs little and keeps the
+ * errors reported, and their order, the same in either mode.
+ * </p>
+ * <p>
  * Implements {@link VerificationValidationService}
  * </p>
  */
@@ -24,22 +38,33 @@ import uk.gov.companieshouse.pscverificationapi.validator.VerificationValidation
 public class VerificationValidationServiceImpl implements VerificationValidationService {
 
     private final Map<PscType, ? extends ValidationChainEnable> filingValidByPscType;
+    private final ValidationDependencyResolver dependencyResolver;
+    private final VerificationValidationProperties properties;
+    private final Executor validationLookupExecutor;
 
     @Autowired
-    VerificationValidationServiceImpl(final List<? extends ValidationChainEnable> verificationValidators) {
+    VerificationValidationServiceImpl(final List<? extends ValidationChainEnable> verificationValidators,
+                                      final ValidationDependencyResolver dependencyResolver,
+                                      final VerificationValidationProperties properties,
+                                      @Qualifier("validationLookupExecutor") final Executor validationLookupExecutor) {
         this.filingValidByPscType = verificationValidators.stream()
             .collect(Collectors.toMap(ValidationChainEnable::pscType, Function.identity()));
+        this.dependencyResolver = dependencyResolver;
+        this.properties = properties;
+        this.validationLookupExecutor = validationLookupExecutor;
     }
 
     @Override
     public void validate(final VerificationValidationContext context) {
-        Optional.ofNullable(filingValidByPscType.get(context.pscType()))
-            .map(ValidationChainEnable::first)
-            .ifPresentOrElse(v -> v.validate(context), () -> {
-                throw new UnsupportedOperationException(
-                    MessageFormat.format("Validation not defined for PSC type ''{0}''",
-                        context.pscType()));
-            });
+        final ValidationChainEnable chain = Optional.ofNullable(filingValidByPscType.get(context.pscType()))
+            .orElseThrow(() -> new UnsupportedOperationException(
+                MessageFormat.format("Validation not defined for PSC type ''{0}''", context.pscType())));
 
+        // without a PSC id the chain stops at the first validator, so there is nothing to fetch
+        if (context.dto().pscNotificationId() != null) {
+            dependencyResolver.resolve(context, chain.dependencies(),
+                properties.getMode() == ValidationMode.PARALLEL ? validationLookupExecutor : Runnable::run);
+        }
+        chain.first().validate(context);
     }
 }
@@ -4,10 +4,11 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.FieldError;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
-import uk.gov.companieshouse.pscverificationapi.service.CompanyProfileService;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Validator for checking if a company's status is allowed for PSC verification.
@@ -19,18 +20,20 @@ import java.util.Map;
 public class CompanyStatusValidator extends BaseVerificationValidator implements
     VerificationValidator {
 
-    private final CompanyProfileService companyProfileService;
     private final Map<String, List<String>> company;
 
-    public CompanyStatusValidator(final CompanyProfileService companyProfileService,
-                                  @Qualifier(value = "validation") Map<String, String> validation,
+    public CompanyStatusValidator(@Qualifier(value = "validation") Map<String, String> validation,
                                   @Qualifier(value = "company") Map<String, List<String>> company) {
         super(validation);
-        this.companyProfileService = companyProfileService;
         this.validation = validation;
         this.company = company;
     }
 
+    @Override
+    public Set<ValidationDependency> dependencies() {
+        return EnumSet.of(ValidationDependency.COMPANY_PROFILE);
+    }
+
     /**
      * Validates if the company status is allowed.
      *
@@ -39,8 +42,7 @@ public class CompanyStatusValidator extends BaseVerificationValidator implements
     @Override
     public void validate(final VerificationValidationContext validationContext) {
 
-        CompanyProfileApi companyProfile = companyProfileService.getCompanyProfile(validationContext.transaction(),
-            validationContext.dto(), validationContext.passthroughHeader());
+        CompanyProfileApi companyProfile = validationContext.lookups().companyProfile();
 
         if (companyProfile != null && company.get("status-not-allowed").contains(companyProfile.getCompanyStatus())) {
 
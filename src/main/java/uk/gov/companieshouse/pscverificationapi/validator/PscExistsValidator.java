@@ -1,25 +1,30 @@
 package uk.gov.companieshouse.pscverificationapi.validator;
 
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.FieldError;
 import uk.gov.companieshouse.pscverificationapi.exception.FilingResourceNotFoundException;
-import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
 
 /**
  * Validator for checking if a PSC entity exists.
  * <p>
- * Uses the {@link PscLookupService} to verify existence and adds errors if not found.
+ * Uses the PSC record fetched by the {@link ValidationDependencyResolver} to verify existence and adds
+ * errors if not found.
  * </p>
  */
 @Component
 public class PscExistsValidator extends BaseVerificationValidator implements VerificationValidator {
 
-    private final PscLookupService pscLookupService;
 
-    public PscExistsValidator(Map<String, String> validation, final PscLookupService pscLookupService) {
+    public PscExistsValidator(Map<String, String> validation) {
         super(validation);
-        this.pscLookupService = pscLookupService;
+    }
+
+    @Override
+    public Set<ValidationDependency> dependencies() {
+        return EnumSet.of(ValidationDependency.PSC_RECORD);
     }
 
     /**
@@ -31,7 +36,7 @@ public class PscExistsValidator extends BaseVerificationValidator implements Ver
     public void validate(final VerificationValidationContext validationContext) {
 
         try {
-            pscLookupService.getIndividualFullRecord(validationContext.transaction(), validationContext.dto(), validationContext.pscType());
+            validationContext.lookups().individualFullRecord();
             super.validate(validationContext);
         }
         catch (FilingResourceNotFoundException e) {
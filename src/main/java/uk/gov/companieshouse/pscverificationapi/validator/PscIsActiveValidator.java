@@ -1,28 +1,33 @@
 package uk.gov.companieshouse.pscverificationapi.validator;
 
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.stereotype.Component;
 import org.springframework.validation.FieldError;
 import uk.gov.companieshouse.api.psc.IndividualFullRecord;
-import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
 
 /**
  * Validator for checking if a PSC is in an active state.
  * <p>
- * Uses the {@link PscLookupService} to verify status and adds errors if ceased.
+ * Uses the PSC record fetched by the {@link ValidationDependencyResolver} to verify status and adds
+ * errors if ceased.
  * </p>
  */
 @Component
 public class PscIsActiveValidator extends BaseVerificationValidator implements
     VerificationValidator {
 
-    private final PscLookupService pscLookupService;
 
-    public PscIsActiveValidator(final Map<String, String> validation, final PscLookupService pscLookupService) {
+    public PscIsActiveValidator(final Map<String, String> validation) {
         super(validation);
-        this.pscLookupService = pscLookupService;
+    }
+
+    @Override
+    public Set<ValidationDependency> dependencies() {
+        return EnumSet.of(ValidationDependency.PSC_RECORD);
     }
 
     /**
@@ -33,7 +38,7 @@ public class PscIsActiveValidator extends BaseVerificationValidator implements
     @Override
     public void validate(final VerificationValidationContext validationContext) {
 
-        IndividualFullRecord individualFullRecord = pscLookupService.getIndividualFullRecord(validationContext.transaction(), validationContext.dto(), validationContext.pscType());
+        IndividualFullRecord individualFullRecord = validationContext.lookups().individualFullRecord();
 
         if (Optional.ofNullable(individualFullRecord.getCeasedOn()).isPresent()) {
             validationContext.errors().add(
@@ -2,14 +2,15 @@ package uk.gov.companieshouse.pscverificationapi.validator;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.stereotype.Component;
 import org.springframework.validation.FieldError;
 
 import uk.gov.companieshouse.api.psc.IndividualFullRecord;
 import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
 
 /**
  * Validator to check if a Person with Significant Control (PSC) can be verified
@@ -20,22 +21,24 @@ import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
  */
 @Component
 public class PscIsPastStartDateValidator extends BaseVerificationValidator implements VerificationValidator {
-    private final PscLookupService pscLookupService;
     private final Logger logger;
 
     /**
      * Constructs a new {@code PscIsPastStartDateValidator}.
      *
      * @param validation a map of validation messages or configurations
-     * @param pscLookupService the service used to retrieve PSC details
      * @param logger the logger for logging validation events
      */
-    public PscIsPastStartDateValidator(Map<String, String> validation, PscLookupService pscLookupService, Logger logger) {
+    public PscIsPastStartDateValidator(Map<String, String> validation, Logger logger) {
         super(validation);
-        this.pscLookupService = pscLookupService;
         this.logger = logger;
     }
 
+    @Override
+    public Set<ValidationDependency> dependencies() {
+        return EnumSet.of(ValidationDependency.PSC_RECORD);
+    }
+
     /**
      * Validates whether the PSC can be verified based on the appointment verification statement start date.
      * <p>
@@ -45,8 +48,7 @@ public class PscIsPastStartDateValidator extends BaseVerificationValidator imple
      */
     @Override
     public void validate(VerificationValidationContext validationContext) {
-        IndividualFullRecord individualFullRecord = pscLookupService.getIndividualFullRecord(
-                validationContext.transaction(), validationContext.dto(), validationContext.pscType());
+        IndividualFullRecord individualFullRecord = validationContext.lookups().individualFullRecord();
 
         final var identityVerificationDetails = individualFullRecord.getIdentityVerificationDetails();
 
@@ -2,13 +2,14 @@ package uk.gov.companieshouse.pscverificationapi.validator;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.stereotype.Component;
 import org.springframework.validation.FieldError;
 import uk.gov.companieshouse.api.psc.IndividualFullRecord;
 import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
 
 /**
  * Validator to check if a PSC (Person with Significant Control) is unverified.
@@ -17,22 +18,24 @@ import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
  */
 @Component
 public class PscIsUnverifiedValidator extends BaseVerificationValidator implements VerificationValidator {
-    private final PscLookupService pscLookupService;
     private final Logger logger;
 
     /**
      * Constructs a new {@code PscIsPastStartDateValidator}.
      *
      * @param validation a map of validation messages or configurations
-     * @param pscLookupService the service used to retrieve PSC details
      * @param logger the logger for logging validation events
      */
-    public PscIsUnverifiedValidator(Map<String, String> validation, PscLookupService pscLookupService, final Logger logger) {
+    public PscIsUnverifiedValidator(Map<String, String> validation, final Logger logger) {
         super(validation);
-        this.pscLookupService = pscLookupService;
         this.logger = logger;
     }
 
+    @Override
+    public Set<ValidationDependency> dependencies() {
+        return EnumSet.of(ValidationDependency.PSC_RECORD);
+    }
+
     /**
      * Validates if the PSC is unverified based on the appointment verification statement start date or if the
      * appointmentVerificationEndOn date is in the past. If the start date is in the future, a validation error is added.
@@ -43,8 +46,7 @@ public class PscIsUnverifiedValidator extends BaseVerificationValidator implemen
      */
     @Override
     public void validate(VerificationValidationContext validationContext) {
-        IndividualFullRecord individualFullRecord = pscLookupService.getIndividualFullRecord(
-                validationContext.transaction(), validationContext.dto(), validationContext.pscType());
+        IndividualFullRecord individualFullRecord = validationContext.lookups().individualFullRecord();
 
         var identityVerificationDetails = individualFullRecord.getIdentityVerificationDetails();
 
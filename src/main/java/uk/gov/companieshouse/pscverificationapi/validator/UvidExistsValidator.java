@@ -3,38 +3,23 @@ package uk.gov.companieshouse.pscverificationapi.validator;
 import static uk.gov.companieshouse.api.identityverification.model.UvidMatchResponse.AccuracyStatementEnum.FORENAMES_MISMATCH;
 import static uk.gov.companieshouse.api.identityverification.model.UvidMatchResponse.AccuracyStatementEnum.SURNAME_MISMATCH;
 
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.FieldError;
-import uk.gov.companieshouse.api.error.ApiErrorResponseException;
-import uk.gov.companieshouse.api.identityverification.model.UvidMatch;
 import uk.gov.companieshouse.api.identityverification.model.UvidMatchResponse;
 import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
-import uk.gov.companieshouse.api.model.transaction.Transaction;
-import uk.gov.companieshouse.api.psc.DateOfBirth;
-import uk.gov.companieshouse.api.psc.IndividualFullRecord;
-import uk.gov.companieshouse.api.psc.NameElements;
-import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
 import uk.gov.companieshouse.pscverificationapi.exception.IdvLookupServiceException;
-import uk.gov.companieshouse.pscverificationapi.exception.PscLookupServiceException;
-import uk.gov.companieshouse.pscverificationapi.helper.JsonHelper;
-import uk.gov.companieshouse.pscverificationapi.service.IdvLookupService;
-import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
-
-import java.text.MessageFormat;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Set;
 
 /**
  * Validator for checking if a UVID exists and matches PSC data.
  * <p>
- * Uses {@link IdvLookupService} and {@link PscLookupService} to validate UVID accuracy and adds 
+ * Uses the UVID match fetched by the {@link ValidationDependencyResolver} to validate UVID accuracy and adds
  * errors for mismatches or missing reasons.
  * </p>
  */
@@ -45,34 +30,27 @@ public class UvidExistsValidator extends BaseVerificationValidator implements
     private static final List<UvidMatchResponse.AccuracyStatementEnum> VALID_UVID_ACCURACY_STATEMENT =
             Collections.singletonList(UvidMatchResponse.AccuracyStatementEnum.DETAILS_MATCH_UVID);
 
-    private final IdvLookupService idvLookupService;
-    private final PscLookupService pscLookupService;
 
-    public UvidExistsValidator(final Map<String, String> validation, final IdvLookupService idvLookupService, PscLookupService pscLookupService) {
+    public UvidExistsValidator(final Map<String, String> validation) {
         super(validation);
-        this.idvLookupService = idvLookupService;
-        this.pscLookupService = pscLookupService;
+    }
+
+    @Override
+    public Set<ValidationDependency> dependencies() {
+        return EnumSet.of(ValidationDependency.PSC_RECORD, ValidationDependency.UVID_MATCH);
     }
 
     /**
      * Validates if the UVID exists.
      *
      * @param validationContext the validation context
+     * @throws IdvLookupServiceException if the Identity Verification API responds with an error
      */
     @Override
     public void validate(final VerificationValidationContext validationContext) {
 
         PscVerificationData dto = validationContext.dto();
-        UvidMatch uvidMatch = getUvidMatchWithPscData(validationContext.transaction(),
-            dto, PscType.INDIVIDUAL);
-
-        UvidMatchResponse uvidMatchResponse;
-        try {
-            uvidMatchResponse = idvLookupService.matchUvid(uvidMatch);
-        } catch (ApiErrorResponseException e) {
-            throw new IdvLookupServiceException(MessageFormat.format("Error matching UVID {0}: {1} {2}",
-                dto.verificationDetails().uvid(), null, e.getStatusMessage()), e);
-        }
+        UvidMatchResponse uvidMatchResponse = validationContext.lookups().uvidMatch();
 
         List<UvidMatchResponse.AccuracyStatementEnum> accuracyStatementList = uvidMatchResponse.getAccuracyStatement();
 
@@ -115,60 +93,6 @@ public class UvidExistsValidator extends BaseVerificationValidator implements
         }
     }
 
-    /**
-     * Builds a UvidMatch object using PSC data and the provided transaction and type.
-     * Fetches the PSC record and populates the UvidMatch with UVID, name, and date of birth.
-     *
-     * @param transaction the transaction context
-     * @param data the PSC verification data
-     * @param pscType the PSC type
-     * @return a populated UvidMatch object
-     * @throws PscLookupServiceException if the PSC record cannot be retrieved
-     */
-    public UvidMatch getUvidMatchWithPscData(final Transaction transaction,
-                                             final PscVerificationData data, final PscType pscType)
-        throws PscLookupServiceException {
-
-        UvidMatch uvidMatch = new UvidMatch();
-        Optional<String> uvid = Optional.ofNullable(data.verificationDetails().uvid());
-        uvidMatch.setUvid(uvid.orElse(""));
-
-        IndividualFullRecord individualFullRecord = pscLookupService.getIndividualFullRecord(transaction, data, pscType);
-        setUvidDataFromPsc(uvidMatch, individualFullRecord);
-
-        return uvidMatch;
-    }
-
-    /**
-     * Populates the UvidMatch object with name and date of birth data from the PSC record.
-     * Converts name elements and date of birth to the required formats for UVID matching.
-     *
-     * @param uvidMatch the UvidMatch object to populate
-     * @param pscData the PSC record containing name and date of birth
-     */
-    private void setUvidDataFromPsc(UvidMatch uvidMatch, IndividualFullRecord pscData) {
-        NameElements convertedNameElements = JsonHelper.convertLinkedHashmap(pscData.getNameElements(), PropertyNamingStrategies.SNAKE_CASE, NameElements.class);
-        List<String> forenames = new ArrayList<>();
-
-        String forename = convertedNameElements.getForename();
-        String middleNames = convertedNameElements.getMiddleName();
-        String surname = convertedNameElements.getSurname();
-
-        if (forename != null) {
-            forenames.add(forename);
-        }
-        if (middleNames != null) {
-            forenames.add(middleNames);
-        }
-        uvidMatch.setForenames(forenames);
-        uvidMatch.setSurname(surname);
-
-        DateOfBirth dateOfBirth = JsonHelper.convertLinkedHashmap(pscData.getDateOfBirth(), PropertyNamingStrategies.SNAKE_CASE, DateOfBirth.class);
-        String stringDateOfBirth = String.format("%04d-%02d-%02d", dateOfBirth.getYear(), dateOfBirth.getMonth(), dateOfBirth.getDay());
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        uvidMatch.setDateOfBirth(LocalDate.parse(stringDateOfBirth, formatter));
-    }
-
     private String snakeToKebab(String str) {
 
         return str.replace("_", "-");
@@ -1,5 +1,7 @@
 package uk.gov.companieshouse.pscverificationapi.validator;
 
+import java.util.Collections;
+import java.util.Set;
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
 
 /**
@@ -11,4 +13,11 @@ public interface ValidationChainEnable {
 
     PscType pscType();
     VerificationValidator first();
+
+    /**
+     * @return the remote data read by the validators in the chain
+     */
+    default Set<ValidationDependency> dependencies() {
+        return Collections.emptySet();
+    }
 }
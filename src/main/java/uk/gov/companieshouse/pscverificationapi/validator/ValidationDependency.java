@@ -0,0 +1,19 @@
+package uk.gov.companieshouse.pscverificationapi.validator;
+
+/**
+ * Enum for the remote data a {@link VerificationValidator} needs in order to run.
+ */
+public enum ValidationDependency {
+    /**
+     * The PSC individual full record from the PSC Data API.
+     */
+    PSC_RECORD,
+    /**
+     * The company profile from the Company Profile API.
+     */
+    COMPANY_PROFILE,
+    /**
+     * The UVID match result from the Identity Verification API; requires {@link #PSC_RECORD}.
+     */
+    UVID_MATCH
+}
@@ -0,0 +1,115 @@
+package uk.gov.companieshouse.pscverificationapi.validator;
+
+import java.text.MessageFormat;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.identityverification.model.UvidMatch;
+import uk.gov.companieshouse.api.identityverification.model.UvidMatchResponse;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.psc.IndividualFullRecord;
+import uk.gov.companieshouse.pscverificationapi.exception.IdvLookupServiceException;
+import uk.gov.companieshouse.pscverificationapi.exception.PscLookupServiceException;
+import uk.gov.companieshouse.pscverificationapi.model.mapper.UvidMatchConverter;
+import uk.gov.companieshouse.pscverificationapi.service.CompanyProfileService;
+import uk.gov.companieshouse.pscverificationapi.service.IdvLookupService;
+import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
+
+/**
+ * Validation pipeline stage that fetches the remote data validators depend on.
+ * <p>
+ * Runs before the validation chain: every {@link ValidationDependency} of the chain is fetched
+ * into the validation run's {@link VerificationValidationLookups}, so the validators themselves
+ * only evaluate rules over data already in memory. The chain stops at a PSC that cannot be
+ * found, so the other lookups are only started once the PSC record has been retrieved; they are
+ * then made together on the given executor. The stage returns once all of them have completed.
+ * </p>
+ */
+@Component
+public class ValidationDependencyResolver {
+
+    private final PscLookupService pscLookupService;
+    private final CompanyProfileService companyProfileService;
+    private final IdvLookupService idvLookupService;
+
+    public ValidationDependencyResolver(final PscLookupService pscLookupService,
+                                        final CompanyProfileService companyProfileService,
+                                        final IdvLookupService idvLookupService) {
+        this.pscLookupService = pscLookupService;
+        this.companyProfileService = companyProfileService;
+        this.idvLookupService = idvLookupService;
+    }
+
+    /**
+     * Fetches each dependency, concurrently where the executor allows, and waits for them all to
+     * complete. A failed lookup does not fail the stage; its exception is rethrown to the
+     * validator that reads the result. If the PSC record lookup fails, the lookups that wait for
+     * it are not made and fail with the same exception.
+     *
+     * @param validationContext the validation context
+     * @param dependencies      the dependencies to fetch
+     * @param executor          the executor to fetch on
+     */
+    public void resolve(final VerificationValidationContext validationContext,
+                        final Set<ValidationDependency> dependencies, final Executor executor) {
+        final var lookups = validationContext.lookups();
+
+        // EnumSet iterates in declaration order, so the PSC record is requested before the others
+        for (final ValidationDependency dependency : toEnumSet(dependencies)) {
+            switch (dependency) {
+                case PSC_RECORD -> lookups.prefetch(dependency,
+                    () -> fetchIndividualFullRecord(validationContext), executor);
+                case COMPANY_PROFILE -> lookups.prefetchAfter(dependency, ValidationDependency.PSC_RECORD,
+                    () -> fetchCompanyProfile(validationContext), executor);
+                case UVID_MATCH -> lookups.prefetchAfter(dependency, ValidationDependency.PSC_RECORD,
+                    () -> matchUvid(validationContext), executor);
+            }
+        }
+        lookups.awaitAll();
+    }
+
+    /**
+     * Builds a UvidMatch object using the verification data and the PSC record.
+     * Populates the UvidMatch with UVID, name, and date of birth.
+     *
+     * @param validationContext the validation context
+     * @return a populated UvidMatch object
+     * @throws PscLookupServiceException if the PSC record cannot be retrieved
+     */
+    public UvidMatch getUvidMatchWithPscData(final VerificationValidationContext validationContext)
+        throws PscLookupServiceException {
+
+        final var uvid = Optional.ofNullable(validationContext.dto().verificationDetails().uvid());
+
+        return UvidMatchConverter.toUvidMatch(uvid.orElse(""), validationContext.lookups()
+            .individualFullRecord(() -> fetchIndividualFullRecord(validationContext)));
+    }
+
+    private IndividualFullRecord fetchIndividualFullRecord(final VerificationValidationContext validationContext) {
+        return pscLookupService.getIndividualFullRecord(validationContext.transaction(), validationContext.dto(),
+            validationContext.pscType());
+    }
+
+    private CompanyProfileApi fetchCompanyProfile(final VerificationValidationContext validationContext) {
+        return companyProfileService.getCompanyProfile(validationContext.transaction(), validationContext.dto());
+    }
+
+    private UvidMatchResponse matchUvid(final VerificationValidationContext validationContext) {
+        final var uvidMatch = getUvidMatchWithPscData(validationContext);
+
+        try {
+            return idvLookupService.matchUvid(uvidMatch);
+        } catch (ApiErrorResponseException e) {
+            throw new IdvLookupServiceException(MessageFormat.format("Error matching UVID {0}: {1} {2}",
+                validationContext.dto().verificationDetails().uvid(), e.getStatusCode(), e.getStatusMessage()), e);
+        }
+    }
+
+    private static Set<ValidationDependency> toEnumSet(final Set<ValidationDependency> dependencies) {
+        return dependencies.isEmpty() ? EnumSet.noneOf(ValidationDependency.class) : EnumSet.copyOf(dependencies);
+    }
+
+}
@@ -2,7 +2,9 @@ package uk.gov.companieshouse.pscverificationapi.validator;
 
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
 
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
 
 /**
@@ -10,8 +12,26 @@ import java.util.StringJoiner;
  *
  * @param pscType the type of PSC
  * @param first the first validator in the validation chain
+ * @param dependencies the remote data read by the validators in the chain
  */
-public record VerificationValidationChain(PscType pscType, VerificationValidator first) implements ValidationChainEnable {
+public record VerificationValidationChain(PscType pscType, VerificationValidator first,
+                                          Set<ValidationDependency> dependencies) implements ValidationChainEnable {
+
+    /**
+     * Constructs a new {@code VerificationValidationChain} with the specified PSC type, first validator
+     * and dependencies.
+     *
+     * @param pscType the type of PSC
+     * @param first the first validator in the validation chain
+     * @param dependencies the remote data read by the validators in the chain
+     * @throws NullPointerException if any argument is null
+     */
+    public VerificationValidationChain(final PscType pscType, final VerificationValidator first,
+                                       final Set<ValidationDependency> dependencies) {
+        this.pscType = Objects.requireNonNull(pscType);
+        this.first = Objects.requireNonNull(first);
+        this.dependencies = Set.copyOf(Objects.requireNonNull(dependencies));
+    }
 
     /**
      * Constructs a new {@code VerificationValidationChain} with the specified PSC type and first validator.
@@ -21,13 +41,12 @@ public record VerificationValidationChain(PscType pscType, VerificationValidator
      * @throws NullPointerException if {@code pscType} or {@code first} is null
      */
     public VerificationValidationChain(final PscType pscType, final VerificationValidator first) {
-        this.pscType = Objects.requireNonNull(pscType);
-        this.first = Objects.requireNonNull(first);
+        this(pscType, first, Collections.emptySet());
     }
 
     @Override
     public String toString() {
         return new StringJoiner(", ", VerificationValidationChain.class.getSimpleName() + "[",
-            "]").add("pscType=" + pscType).add("first=" + first).toString();
+            "]").add("pscType=" + pscType).add("first=" + first).add("dependencies=" + dependencies).toString();
     }
 }
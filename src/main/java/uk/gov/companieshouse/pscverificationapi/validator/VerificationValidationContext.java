@@ -12,12 +12,27 @@ import java.util.StringJoiner;
 
 /**
  * Record for passing context into {@link VerificationValidationService}.
+ * <p>
+ * The {@link VerificationValidationLookups} memo holds the state of a single validation run, so
+ * it plays no part in equality.
+ * </p>
  */
 public record VerificationValidationContext(@NonNull PscVerificationData dto,
                                             @NonNull Set<FieldError> errors,
                                             @NonNull Transaction transaction,
                                             @NonNull PscType pscType,
-                                            String passthroughHeader) {
+                                            String passthroughHeader,
+                                            @NonNull VerificationValidationLookups lookups) {
+
+    /**
+     * Creates a context with an empty {@link VerificationValidationLookups} memo for a new
+     * validation run.
+     */
+    public VerificationValidationContext(final PscVerificationData dto, final Set<FieldError> errors,
+                                         final Transaction transaction, final PscType pscType,
+                                         final String passthroughHeader) {
+        this(dto, errors, transaction, pscType, passthroughHeader, new VerificationValidationLookups());
+    }
 
     @Override
     public boolean equals(final Object o) {
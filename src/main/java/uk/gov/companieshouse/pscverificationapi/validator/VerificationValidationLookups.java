@@ -0,0 +1,248 @@
+package uk.gov.companieshouse.pscverificationapi.validator;
+
+import java.text.MessageFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import uk.gov.companieshouse.api.identityverification.model.UvidMatchResponse;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.psc.IndividualFullRecord;
+import uk.gov.companieshouse.pscverificationapi.resilience.Deadline;
+
+/**
+ * Downstream data fetched for a single validation run.
+ * <p>
+ * Each lookup is performed at most once per {@link VerificationValidationContext}. The
+ * {@link ValidationDependencyResolver} fetches every dependency of the chain with
+ * {@link #prefetch} or {@link #prefetchAfter} before validation starts, and the validators read the results (or the
+ * exception thrown by the lookup) through the no-argument accessors. The number of reads
+ * answered from the memo rather than downstream is counted so it can be reported once the
+ * run completes.
+ * </p>
+ */
+public final class VerificationValidationLookups {
+
+    private final Map<ValidationDependency, Lookup> results = new ConcurrentHashMap<>();
+    private final AtomicInteger avoidedLookups = new AtomicInteger();
+
+    /**
+     * Returns the PSC individual full record, calling the lookup only on first use.
+     *
+     * @param lookup the lookup to call if the record has not yet been retrieved
+     * @return the PSC individual full record
+     */
+    public IndividualFullRecord individualFullRecord(final Supplier<IndividualFullRecord> lookup) {
+        return resolve(ValidationDependency.PSC_RECORD, lookup);
+    }
+
+    /**
+     * Returns the company profile, calling the lookup only on first use.
+     *
+     * @param lookup the lookup to call if the profile has not yet been retrieved
+     * @return the company profile
+     */
+    CompanyProfileApi companyProfile(final Supplier<CompanyProfileApi> lookup) {
+        return resolve(ValidationDependency.COMPANY_PROFILE, lookup);
+    }
+
+    /**
+     * Returns the UVID match result, calling the lookup only on first use.
+     *
+     * @param lookup the lookup to call if the match has not yet been made
+     * @return the UVID match result
+     */
+    UvidMatchResponse uvidMatch(final Supplier<UvidMatchResponse> lookup) {
+        return resolve(ValidationDependency.UVID_MATCH, lookup);
+    }
+
+    /**
+     * @return the PSC individual full record fetched for this run
+     * @throws IllegalStateException if the record was not fetched before validation
+     */
+    public IndividualFullRecord individualFullRecord() {
+        return fetched(ValidationDependency.PSC_RECORD);
+    }
+
+    /**
+     * @return the company profile fetched for this run
+     * @throws IllegalStateException if the profile was not fetched before validation
+     */
+    public CompanyProfileApi companyProfile() {
+        return fetched(ValidationDependency.COMPANY_PROFILE);
+    }
+
+    /**
+     * @return the UVID match result fetched for this run
+     * @throws IllegalStateException if the match was not made before validation
+     */
+    public UvidMatchResponse uvidMatch() {
+        return fetched(ValidationDependency.UVID_MATCH);
+    }
+
+    /**
+     * Records a result already fetched, replacing any lookup for the dependency.
+     *
+     * @param dependency the dependency the result provides
+     * @param result     the result
+     * @return these lookups
+     */
+    VerificationValidationLookups with(final ValidationDependency dependency, final Object result) {
+        results.put(dependency, new Lookup(CompletableFuture.completedFuture(result), new AtomicBoolean(false)));
+        return this;
+    }
+
+    /**
+     * Records a lookup that has already failed, replacing any lookup for the dependency.
+     *
+     * @param dependency the dependency the lookup provides
+     * @param failure    the exception thrown by the lookup
+     * @return these lookups
+     */
+    VerificationValidationLookups withFailure(final ValidationDependency dependency,
+                                              final RuntimeException failure) {
+        results.put(dependency, new Lookup(CompletableFuture.failedFuture(failure), new AtomicBoolean(false)));
+        return this;
+    }
+
+    /**
+     * Starts a lookup on the executor unless it has already been started. The lookup runs under
+     * the request {@link Deadline} of the calling thread, if any.
+     *
+     * @param dependency the dependency the lookup provides
+     * @param lookup     the lookup
+     * @param executor   the executor to run the lookup on
+     */
+    public void prefetch(final ValidationDependency dependency, final Supplier<?> lookup,
+                         final Executor executor) {
+        final var created = new Lookup(new CompletableFuture<>(), new AtomicBoolean(false));
+
+        if (results.putIfAbsent(dependency, created) == null) {
+            start(created.result(), lookup, executor);
+        }
+    }
+
+    /**
+     * Starts a lookup on the executor once the lookup of a prerequisite has succeeded, unless it
+     * has already been started. If the prerequisite lookup fails, this lookup is not made and
+     * fails with the same exception. If the prerequisite has not been fetched, this lookup is
+     * started straight away.
+     *
+     * @param dependency   the dependency the lookup provides
+     * @param prerequisite the dependency that must be fetched first
+     * @param lookup       the lookup
+     * @param executor     the executor to run the lookup on
+     */
+    public void prefetchAfter(final ValidationDependency dependency, final ValidationDependency prerequisite,
+                              final Supplier<?> lookup, final Executor executor) {
+        final var required = results.get(prerequisite);
+
+        if (required == null) {
+            prefetch(dependency, lookup, executor);
+            return;
+        }
+
+        final var created = new Lookup(new CompletableFuture<>(), new AtomicBoolean(false));
+
+        if (results.putIfAbsent(dependency, created) == null) {
+            required.result().whenComplete((value, failure) -> {
+                if (failure == null) {
+                    start(created.result(), lookup, executor);
+                } else {
+                    created.result().completeExceptionally(failure);
+                }
+            });
+        }
+    }
+
+    /**
+     * Waits for every lookup started so far to complete, successfully or not.
+     */
+    public void awaitAll() {
+        CompletableFuture.allOf(results.values()
+                .stream()
+                .map(Lookup::result)
+                .toArray(CompletableFuture[]::new))
+            .exceptionally(e -> null)
+            .join();
+    }
+
+    /**
+     * @return the number of lookups answered from the memo rather than downstream
+     */
+    public int avoidedLookups() {
+        return avoidedLookups.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T fetched(final ValidationDependency dependency) {
+        final var existing = results.get(dependency);
+
+        if (existing == null) {
+            throw new IllegalStateException(
+                MessageFormat.format("{0} was not fetched before validation", dependency));
+        }
+        return (T) claim(existing);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T resolve(final ValidationDependency dependency, final Supplier<T> lookup) {
+        final var created = new Lookup(new CompletableFuture<>(), new AtomicBoolean(true));
+        final var existing = results.putIfAbsent(dependency, created);
+
+        if (existing != null) {
+            return (T) claim(existing);
+        }
+        run(created.result(), lookup);
+
+        return (T) join(created.result());
+    }
+
+    private Object claim(final Lookup existing) {
+        // the first use of a prefetched result is not a repeated lookup
+        if (!existing.claimed().compareAndSet(false, true)) {
+            avoidedLookups.incrementAndGet();
+        }
+        return join(existing.result());
+    }
+
+    private static void start(final CompletableFuture<Object> result, final Supplier<?> lookup,
+                              final Executor executor) {
+        try {
+            executor.execute(Deadline.propagate(() -> run(result, lookup)));
+        } catch (RejectedExecutionException e) {
+            run(result, lookup);
+        }
+    }
+
+    private static void run(final CompletableFuture<Object> result, final Supplier<?> lookup) {
+        try {
+            result.complete(lookup.get());
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static Object join(final CompletableFuture<Object> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Lookup(CompletableFuture<Object> result, AtomicBoolean claimed) {
+    }
+
+}
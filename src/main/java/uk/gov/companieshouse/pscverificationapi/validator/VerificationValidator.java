@@ -1,5 +1,8 @@
 package uk.gov.companieshouse.pscverificationapi.validator;
 
+import java.util.Collections;
+import java.util.Set;
+
 /**
  * Interface for PSC verification validators in a validation chain.
  * <p>
@@ -11,4 +14,11 @@ public interface VerificationValidator {
     void validate(final VerificationValidationContext validationContext);
 
     void setNext(final VerificationValidator verificationValidator);
+
+    /**
+     * @return the remote data this validator reads, which is fetched before the chain runs
+     */
+    default Set<ValidationDependency> dependencies() {
+        return Collections.emptySet();
+    }
 }
@@ -0,0 +1,198 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExpiringCacheTest {
+    private static final Instant FIRST_INSTANT = Instant.parse("2024-10-15T09:44:08.108Z");
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private MutableClock clock;
+    private ExpiringCache<String, String> testCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(FIRST_INSTANT);
+        testCache = new ExpiringCache<>("test", TTL, 2, EvictionPolicy.LRU, clock);
+    }
+
+    @Test
+    void getWhenMissThenHit() {
+        final var loads = new AtomicInteger();
+
+        assertThat(testCache.get("a", () -> "A" + loads.incrementAndGet()), is("A1"));
+        assertThat(testCache.get("a", () -> "A" + loads.incrementAndGet()), is("A1"));
+
+        final var statistics = testCache.statistics();
+        assertThat(statistics.hits(), is(1L));
+        assertThat(statistics.misses(), is(1L));
+        assertThat(testCache.entryStatistics().getFirst().hits(), is(1L));
+    }
+
+    @Test
+    void getWhenLoaderReturnsNull() {
+        assertThat(testCache.get("a", () -> null), is(nullValue()));
+        assertThat(testCache.size(), is(0));
+    }
+
+    @Test
+    void getWhenLoaderThrows() {
+        assertThrows(IllegalStateException.class, () -> testCache.get("a", () -> {
+            throw new IllegalStateException();
+        }));
+        assertThat(testCache.size(), is(0));
+    }
+
+    @Test
+    void getIfPresentWhenExpired() {
+        testCache.put("a", "A");
+        clock.advance(TTL);
+
+        assertThat(testCache.getIfPresent("a"), is(Optional.empty()));
+        assertThat(testCache.statistics().expirations(), is(1L));
+        assertThat(testCache.size(), is(0));
+    }
+
+    @Test
+    void putWhenFullAndLru() {
+        testCache.put("a", "A");
+        testCache.put("b", "B");
+        testCache.getIfPresent("a");
+        testCache.put("c", "C");
+
+        assertThat(testCache.getIfPresent("b"), is(Optional.empty()));
+        assertThat(testCache.getIfPresent("a"), is(Optional.of("A")));
+        assertThat(testCache.statistics().evictions(), is(1L));
+    }
+
+    @Test
+    void putWhenFullAndFifo() {
+        testCache = new ExpiringCache<>("test", TTL, 2, EvictionPolicy.FIFO, clock);
+        testCache.put("a", "A");
+        testCache.put("b", "B");
+        testCache.getIfPresent("a");
+        testCache.put("c", "C");
+
+        assertThat(testCache.getIfPresent("a"), is(Optional.empty()));
+        assertThat(testCache.getIfPresent("b"), is(Optional.of("B")));
+        assertThat(testCache.statistics().evictions(), is(1L));
+    }
+
+    @Test
+    void putWhenFullRemovesExpiredBeforeEvicting() {
+        testCache.put("a", "A");
+        clock.advance(TTL);
+        testCache.put("b", "B");
+        testCache.put("c", "C");
+
+        assertThat(testCache.statistics().evictions(), is(0L));
+        assertThat(testCache.statistics().expirations(), is(1L));
+        assertThat(testCache.size(), is(2));
+    }
+
+    @Test
+    void putWhenDisabled() {
+        testCache = new ExpiringCache<>("test", TTL, 0, EvictionPolicy.LRU, clock);
+        testCache.put("a", "A");
+
+        assertThat(testCache.isEnabled(), is(false));
+        assertThat(testCache.getIfPresent("a"), is(Optional.empty()));
+        assertThat(testCache.size(), is(0));
+    }
+
+    @Test
+    void invalidate() {
+        testCache.put("a", "A");
+
+        assertThat(testCache.invalidate("a"), is(true));
+        assertThat(testCache.invalidate("a"), is(false));
+        assertThat(testCache.statistics().invalidations(), is(1L));
+    }
+
+    @Test
+    void invalidateIf() {
+        testCache.put("a1", "A");
+        testCache.put("b1", "B");
+
+        assertThat(testCache.invalidateIf(k -> k.startsWith("a")), is(1));
+        assertThat(testCache.entryStatistics().stream().map(CacheEntryStatistics::key).toList(),
+            contains("b1"));
+    }
+
+    @Test
+    void invalidateAll() {
+        testCache.put("a", "A");
+        testCache.put("b", "B");
+
+        assertThat(testCache.invalidateAll(), is(2));
+        assertThat(testCache.entryStatistics(), is(empty()));
+    }
+
+    @Test
+    void entryStatistics() {
+        testCache.put("a", "A");
+
+        final var entry = testCache.entryStatistics().getFirst();
+
+        assertThat(entry.key(), is("a"));
+        assertThat(entry.createdAt(), is(FIRST_INSTANT));
+        assertThat(entry.expiresAt(), is(FIRST_INSTANT.plus(TTL)));
+        assertThat(entry.hits(), is(0L));
+    }
+
+    @Test
+    void bindTo() {
+        final var registry = new SimpleMeterRegistry();
+        testCache.bindTo(registry);
+        testCache.get("a", () -> "A");
+        testCache.get("a", () -> "A");
+
+        assertThat(registry.get("cache.gets").tags("cache", "test", "result", "hit").functionCounter()
+            .count(), is(1.0));
+        assertThat(registry.get("cache.gets").tags("cache", "test", "result", "miss").functionCounter()
+            .count(), is(1.0));
+        assertThat(registry.get("cache.size").tags("cache", "test").gauge().value(), is(1.0));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
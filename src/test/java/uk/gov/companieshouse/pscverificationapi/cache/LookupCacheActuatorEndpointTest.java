@@ -0,0 +1,77 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.logging.Logger;
+
+@ExtendWith(MockitoExtension.class)
+class LookupCacheActuatorEndpointTest {
+
+    @Mock
+    private Logger logger;
+
+    private ExpiringCache<String, String> cache;
+    private LookupCacheActuatorEndpoint testEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExpiringCache<>("test", Duration.ofMinutes(5), 10, EvictionPolicy.LRU,
+            Clock.fixed(Instant.parse("2024-10-15T09:44:08.108Z"), ZoneOffset.UTC));
+        cache.put("a", "A");
+        cache.put("b", "B");
+        testEndpoint = new LookupCacheActuatorEndpoint(List.of(cache), logger);
+    }
+
+    @Test
+    void caches() {
+        final var caches = testEndpoint.caches();
+
+        assertThat(caches.keySet().stream().toList(), is(List.of("test")));
+        assertThat(caches.get("test").size(), is(2));
+    }
+
+    @Test
+    void cache() {
+        final var report = testEndpoint.cache("test");
+
+        assertThat(report.statistics().name(), is("test"));
+        assertThat(report.entries().size(), is(2));
+    }
+
+    @Test
+    void cacheWhenUnknown() {
+        assertThat(testEndpoint.cache("unknown"), is(nullValue()));
+    }
+
+    @Test
+    void invalidateWhenKeyGiven() {
+        assertThat(testEndpoint.invalidate("test", "a"), is(Map.of("invalidated", 1)));
+        assertThat(cache.size(), is(1));
+        verify(logger).info("Invalidated 1 entries from cache test");
+    }
+
+    @Test
+    void invalidateWhenNoKeyGiven() {
+        assertThat(testEndpoint.invalidate("test", null), is(Map.of("invalidated", 2)));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void invalidateWhenUnknown() {
+        assertThat(testEndpoint.invalidate("unknown", null), is(nullValue()));
+    }
+}
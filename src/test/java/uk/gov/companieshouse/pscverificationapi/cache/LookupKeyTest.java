@@ -0,0 +1,30 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class LookupKeyTest {
+
+    @Test
+    void testEquals() {
+        EqualsVerifier.forClass(LookupKey.class).withNonnullFields("uri").verify();
+    }
+
+    @Test
+    void testToString() {
+        final var key = new LookupKey("/company/12345678", "secret-passthrough", null);
+
+        assertThat(key.toString(), is("/company/12345678#" + Integer.toHexString("secret-passthrough".hashCode())));
+        assertThat(key.toString(), not(containsString("secret-passthrough")));
+    }
+
+    @Test
+    void testToStringWhenNoCredentials() {
+        assertThat(new LookupKey("/company/12345678", null, null).toString(), is("/company/12345678#0"));
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
+
+class PscRecordKeyTest {
+
+    @Test
+    void testEquals() {
+        EqualsVerifier.forClass(PscRecordKey.class).verify();
+    }
+
+    @Test
+    void testToString() {
+        assertThat(new PscRecordKey("12345678", PscType.INDIVIDUAL, "psc-id").toString(),
+            is("12345678/individual/psc-id"));
+    }
+}
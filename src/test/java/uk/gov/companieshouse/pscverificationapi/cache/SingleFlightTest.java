@@ -0,0 +1,175 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.pscverificationapi.exception.DeadlineExceededException;
+import uk.gov.companieshouse.pscverificationapi.resilience.Deadline;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+
+class SingleFlightTest {
+
+    private SingleFlight<String, String> testFlights;
+
+    @BeforeEach
+    void setUp() {
+        testFlights = new SingleFlight<>("test", Downstream.PSC_DATA, true);
+    }
+
+    @Test
+    void executeWhenNotInFlight() {
+        final var calls = new AtomicInteger();
+
+        assertThat(testFlights.execute("a", () -> "A" + calls.incrementAndGet()), is("A1"));
+        assertThat(testFlights.execute("a", () -> "A" + calls.incrementAndGet()), is("A2"));
+        assertThat(testFlights.executedCount(), is(2L));
+        assertThat(testFlights.coalescedCount(), is(0L));
+        assertThat(testFlights.inFlightCount(), is(0));
+    }
+
+    @Test
+    void executeWhenInFlight() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var calls = new AtomicInteger();
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var leader = executor.submit(() -> testFlights.execute("a", () -> {
+                started.countDown();
+                await(release);
+                return "A" + calls.incrementAndGet();
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+
+            final var follower = executor.submit(() -> testFlights.execute("a", () -> "A" + calls.incrementAndGet()));
+            awaitCoalesced(1L);
+            release.countDown();
+
+            assertThat(leader.get(), is("A1"));
+            assertThat(follower.get(), is("A1"));
+        }
+        assertThat(calls.get(), is(1));
+        assertThat(testFlights.executedCount(), is(1L));
+        assertThat(testFlights.inFlightCount(), is(0));
+    }
+
+    @Test
+    void executeWhenInFlightCallFails() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var exception = new IOException("unavailable");
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var leader = executor.submit(() -> testFlights.execute("a", () -> {
+                started.countDown();
+                await(release);
+                throw exception;
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+
+            final var follower = executor.submit(() -> testFlights.execute("a", () -> "A"));
+            awaitCoalesced(1L);
+            release.countDown();
+
+            assertThat(assertThrows(ExecutionException.class, leader::get).getCause(),
+                is(sameInstance(exception)));
+            assertThat(assertThrows(ExecutionException.class, follower::get).getCause(),
+                is(sameInstance(exception)));
+        }
+        assertThat(testFlights.inFlightCount(), is(0));
+    }
+
+    @Test
+    void executeWhenInFlightPastDeadline() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var leader = executor.submit(() -> testFlights.execute("a", () -> {
+                started.countDown();
+                await(release);
+                return "A";
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+
+            final var follower = executor.submit(() -> {
+                Deadline.bind(Deadline.after(Duration.ofMillis(50)));
+                try {
+                    return testFlights.execute("a", () -> "B");
+                } finally {
+                    Deadline.clear();
+                }
+            });
+
+            final var exception = assertThrows(ExecutionException.class, follower::get).getCause();
+            release.countDown();
+
+            assertThat(exception, is(instanceOf(DeadlineExceededException.class)));
+            assertThat(((DeadlineExceededException) exception).getDownstream(), is(Downstream.PSC_DATA));
+            assertThat(leader.get(), is("A"));
+        }
+        assertThat(testFlights.coalescedCount(), is(1L));
+        assertThat(testFlights.inFlightCount(), is(0));
+    }
+
+    @Test
+    void executeWhenDifferentKeys() {
+        assertThat(testFlights.execute("a", () -> testFlights.execute("b", () -> "B")), is("B"));
+        assertThat(testFlights.executedCount(), is(2L));
+        assertThat(testFlights.coalescedCount(), is(0L));
+    }
+
+    @Test
+    void executeWhenDisabled() {
+        final var disabled = new SingleFlight<String, String>("test", Downstream.PSC_DATA, false);
+
+        assertThat(disabled.execute("a", () -> "A"), is("A"));
+        assertThat(disabled.isEnabled(), is(false));
+        assertThat(disabled.executedCount(), is(1L));
+        assertThat(disabled.inFlightCount(), is(0));
+    }
+
+    @Test
+    void bindTo() {
+        final var registry = new SimpleMeterRegistry();
+        testFlights.bindTo(registry);
+        testFlights.execute("a", () -> "A");
+
+        assertThat(registry.get("lookup.calls").tags("lookup", "test", "result", "executed").functionCounter()
+            .count(), is(1.0));
+        assertThat(registry.get("lookup.calls").tags("lookup", "test", "result", "coalesced").functionCounter()
+            .count(), is(0.0));
+        assertThat(registry.get("lookup.calls.in.flight").tags("lookup", "test").gauge().value(), is(0.0));
+    }
+
+    private void awaitCoalesced(final long expected) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (testFlights.coalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(testFlights.coalescedCount(), is(expected));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
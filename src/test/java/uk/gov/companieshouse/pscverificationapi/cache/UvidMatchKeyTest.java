@@ -0,0 +1,86 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+
+import java.time.LocalDate;
+import java.util.List;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.api.identityverification.model.UvidMatch;
+
+class UvidMatchKeyTest {
+
+    private UvidMatch uvidMatch;
+
+    @BeforeEach
+    void setUp() {
+        uvidMatch = createUvidMatch("XY222222223", List.of("Joe", "Jim"), "Bloggs", LocalDate.of(1970, 1, 2));
+    }
+
+    @Test
+    void testEquals() {
+        EqualsVerifier.forClass(UvidMatchKey.class).withNonnullFields("digest").verify();
+    }
+
+    @Test
+    void ofWhenSameInputs() {
+        final var same = createUvidMatch("XY222222223", List.of("Joe", "Jim"), "Bloggs", LocalDate.of(1970, 1, 2));
+
+        assertThat(UvidMatchKey.of(same), is(UvidMatchKey.of(uvidMatch)));
+    }
+
+    @Test
+    void ofWhenInputsDiffer() {
+        final var key = UvidMatchKey.of(uvidMatch);
+
+        assertThat(UvidMatchKey.of(createUvidMatch("XY222222224", List.of("Joe", "Jim"), "Bloggs",
+            LocalDate.of(1970, 1, 2))), is(not(key)));
+        assertThat(UvidMatchKey.of(createUvidMatch("XY222222223", List.of("Joe"), "Bloggs",
+            LocalDate.of(1970, 1, 2))), is(not(key)));
+        assertThat(UvidMatchKey.of(createUvidMatch("XY222222223", List.of("Joe", "Jim"), "Blogs",
+            LocalDate.of(1970, 1, 2))), is(not(key)));
+        assertThat(UvidMatchKey.of(createUvidMatch("XY222222223", List.of("Joe", "Jim"), "Bloggs",
+            LocalDate.of(1970, 1, 3))), is(not(key)));
+    }
+
+    @Test
+    void ofWhenFieldBoundariesDiffer() {
+        final var joined = createUvidMatch("XY222222223", List.of("JoeJim"), "Bloggs", null);
+        final var split = createUvidMatch("XY222222223", List.of("Joe", "Jim"), "Bloggs", null);
+
+        assertThat(UvidMatchKey.of(joined), is(not(UvidMatchKey.of(split))));
+    }
+
+    @Test
+    void ofWhenFieldsAbsent() {
+        final var empty = new UvidMatch();
+
+        assertThat(UvidMatchKey.of(empty), is(UvidMatchKey.of(new UvidMatch())));
+        assertThat(UvidMatchKey.of(empty), is(not(UvidMatchKey.of(uvidMatch))));
+    }
+
+    @Test
+    void testToString() {
+        final var key = UvidMatchKey.of(uvidMatch).toString();
+
+        assertThat(key, matchesPattern("[0-9a-f]{64}"));
+        assertThat(key, not(containsString("XY222222223")));
+        assertThat(key, not(containsString("Bloggs")));
+    }
+
+    private static UvidMatch createUvidMatch(final String uvid, final List<String> forenames, final String surname,
+                                             final LocalDate dateOfBirth) {
+        final var match = new UvidMatch();
+
+        match.setUvid(uvid);
+        match.setForenames(forenames);
+        match.setSurname(surname);
+        match.setDateOfBirth(dateOfBirth);
+        return match;
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.companieshouse.pscverificationapi.cache;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Instant;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class ValidationStatusKeyTest {
+
+    @Test
+    void testEquals() {
+        EqualsVerifier.forClass(ValidationStatusKey.class).verify();
+    }
+
+    @Test
+    void testToString() {
+        assertThat(new ValidationStatusKey("filing-id", Instant.parse("2024-10-15T09:44:08.108Z")).toString(),
+            is("filing-id@2024-10-15T09:44:08.108Z"));
+    }
+}
@@ -0,0 +1,31 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ApiClientPropertiesTest {
+
+    @Test
+    void defaults() {
+        final var testProperties = new ApiClientProperties();
+
+        assertThat(testProperties.getMaxConnections(), is(20));
+        assertThat(testProperties.getKeepAlive(), is(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void setAndGet() {
+        final var testProperties = new ApiClientProperties();
+        testProperties.setMaxConnections(50);
+        testProperties.setKeepAlive(Duration.ofMinutes(1));
+
+        assertThat(testProperties.getMaxConnections(), is(50));
+        assertThat(testProperties.getKeepAlive(), is(Duration.ofMinutes(1)));
+    }
+}
@@ -0,0 +1,85 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.logging.Log;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.SpringApplication;
+import org.springframework.core.Ordered;
+import org.springframework.mock.env.MockEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionPoolEnvironmentPostProcessorTest {
+    private static final List<String> PROPERTIES = List.of(ConnectionPoolEnvironmentPostProcessor.KEEP_ALIVE,
+        ConnectionPoolEnvironmentPostProcessor.MAX_CONNECTIONS, ConnectionPoolEnvironmentPostProcessor.KEEP_ALIVE_TIME);
+
+    @Mock
+    private Log logger;
+
+    private final Map<String, String> saved = new HashMap<>();
+    private MockEnvironment environment;
+    private ConnectionPoolEnvironmentPostProcessor testProcessor;
+
+    @BeforeEach
+    void setUp() {
+        PROPERTIES.forEach(p -> {
+            saved.put(p, System.getProperty(p));
+            System.clearProperty(p);
+        });
+        environment = new MockEnvironment()
+            .withProperty("api.client.max-connections", "42")
+            .withProperty("api.client.keep-alive", "15s");
+        testProcessor = new ConnectionPoolEnvironmentPostProcessor(destination -> logger);
+    }
+
+    @AfterEach
+    void tearDown() {
+        saved.forEach((p, v) -> {
+            if (v == null) {
+                System.clearProperty(p);
+            } else {
+                System.setProperty(p, v);
+            }
+        });
+    }
+
+    @Test
+    void postProcessEnvironment() {
+        testProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(System.getProperty(ConnectionPoolEnvironmentPostProcessor.KEEP_ALIVE), is("true"));
+        assertThat(System.getProperty(ConnectionPoolEnvironmentPostProcessor.MAX_CONNECTIONS), is("42"));
+        assertThat(System.getProperty(ConnectionPoolEnvironmentPostProcessor.KEEP_ALIVE_TIME), is("15"));
+    }
+
+    @Test
+    void postProcessEnvironmentWhenNotConfigured() {
+        testProcessor.postProcessEnvironment(new MockEnvironment(), new SpringApplication());
+
+        assertThat(System.getProperty(ConnectionPoolEnvironmentPostProcessor.MAX_CONNECTIONS), is("20"));
+        assertThat(System.getProperty(ConnectionPoolEnvironmentPostProcessor.KEEP_ALIVE_TIME), is("30"));
+    }
+
+    @Test
+    void postProcessEnvironmentWhenAlreadySet() {
+        System.setProperty(ConnectionPoolEnvironmentPostProcessor.MAX_CONNECTIONS, "7");
+
+        testProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(System.getProperty(ConnectionPoolEnvironmentPostProcessor.MAX_CONNECTIONS), is("7"));
+    }
+
+    @Test
+    void getOrder() {
+        assertThat(testProcessor.getOrder(), is(Ordered.LOWEST_PRECEDENCE));
+    }
+}
@@ -0,0 +1,34 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.pscverificationapi.enumerations.QueryPlanCheck;
+
+@ExtendWith(MockitoExtension.class)
+class IndexManagementPropertiesTest {
+
+    @Test
+    void defaults() {
+        final var testProperties = new IndexManagementProperties();
+
+        assertThat(testProperties.isEnabled(), is(true));
+        assertThat(testProperties.isReplaceChanged(), is(false));
+        assertThat(testProperties.getQueryPlanCheck(), is(QueryPlanCheck.WARN));
+    }
+
+    @Test
+    void setAndGet() {
+        final var testProperties = new IndexManagementProperties();
+        testProperties.setEnabled(false);
+        testProperties.setReplaceChanged(true);
+        testProperties.setQueryPlanCheck(QueryPlanCheck.FAIL);
+
+        assertThat(testProperties.isEnabled(), is(false));
+        assertThat(testProperties.isReplaceChanged(), is(true));
+        assertThat(testProperties.getQueryPlanCheck(), is(QueryPlanCheck.FAIL));
+    }
+}
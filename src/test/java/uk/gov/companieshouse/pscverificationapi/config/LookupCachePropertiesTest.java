@@ -0,0 +1,133 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.pscverificationapi.cache.EvictionPolicy;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+
+@ExtendWith(MockitoExtension.class)
+class LookupCachePropertiesTest {
+
+    @Test
+    void pscRecordDefaults() {
+        final var testProperties = new LookupCacheProperties();
+
+        assertThat(testProperties.getPscRecord().isEnabled(), is(true));
+        assertThat(testProperties.getPscRecord().getTtl(), is(Duration.ofSeconds(30)));
+        assertThat(testProperties.getPscRecord().getMaxSize(), is(1000));
+    }
+
+    @Test
+    void setAndGetPscRecord() {
+        final var testProperties = new LookupCacheProperties();
+        final var settings = new LookupCacheProperties.CacheSettings();
+        settings.setEnabled(false);
+        settings.setTtl(Duration.ofSeconds(30));
+        settings.setMaxSize(50);
+        settings.setEvictionPolicy(EvictionPolicy.FIFO);
+        testProperties.setPscRecord(settings);
+
+        assertThat(testProperties.getPscRecord().isEnabled(), is(false));
+        assertThat(testProperties.getPscRecord().getTtl(), is(Duration.ofSeconds(30)));
+        assertThat(testProperties.getPscRecord().getMaxSize(), is(50));
+        assertThat(testProperties.getPscRecord().getEvictionPolicy(), is(EvictionPolicy.FIFO));
+    }
+
+    @Test
+    void validationStatusDefaults() {
+        final var testProperties = new LookupCacheProperties();
+
+        assertThat(testProperties.getValidationStatus().isEnabled(), is(true));
+        assertThat(testProperties.getValidationStatus().getTtl(), is(Duration.ofSeconds(30)));
+        assertThat(testProperties.getValidationStatus().getMaxSize(), is(1000));
+    }
+
+    @Test
+    void pscRecordNotFoundDefaults() {
+        final var testProperties = new LookupCacheProperties();
+
+        assertThat(testProperties.getPscRecordNotFound().isEnabled(), is(true));
+        assertThat(testProperties.getPscRecordNotFound().getTtl(), is(Duration.ofSeconds(30)));
+        assertThat(testProperties.getPscRecordNotFound().getMaxSize(), is(500));
+    }
+
+    @Test
+    void setAndGetPscRecordNotFound() {
+        final var testProperties = new LookupCacheProperties();
+        final var settings = new LookupCacheProperties.CacheSettings(false, Duration.ofSeconds(5), 10);
+        testProperties.setPscRecordNotFound(settings);
+
+        assertThat(testProperties.getPscRecordNotFound().isEnabled(), is(false));
+        assertThat(testProperties.getPscRecordNotFound().getMaxSize(), is(10));
+    }
+
+    @Test
+    void uvidMatchDefaults() {
+        final var testProperties = new LookupCacheProperties();
+
+        assertThat(testProperties.getUvidMatch().isEnabled(), is(true));
+        assertThat(testProperties.getUvidMatch().getTtl(), is(Duration.ofMinutes(5)));
+        assertThat(testProperties.getUvidMatch().getMaxSize(), is(1000));
+    }
+
+    @Test
+    void setAndGetUvidMatch() {
+        final var testProperties = new LookupCacheProperties();
+        final var settings = new LookupCacheProperties.CacheSettings(false, Duration.ofSeconds(5), 10);
+        testProperties.setUvidMatch(settings);
+
+        assertThat(testProperties.getUvidMatch().isEnabled(), is(false));
+        assertThat(testProperties.getUvidMatch().getTtl(), is(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void setAndGetValidationStatus() {
+        final var testProperties = new LookupCacheProperties();
+        final var settings = new LookupCacheProperties.CacheSettings(false, Duration.ofSeconds(5), 10);
+        testProperties.setValidationStatus(settings);
+
+        assertThat(testProperties.getValidationStatus().isEnabled(), is(false));
+        assertThat(testProperties.getValidationStatus().getTtl(), is(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void createCacheWhenEnabled() {
+        final var cache = new LookupCacheProperties.CacheSettings().createCache("test",
+            Clock.systemUTC());
+
+        assertThat(cache.getName(), is("test"));
+        assertThat(cache.statistics().maxSize(), is(1000));
+        assertThat(cache.isEnabled(), is(true));
+    }
+
+    @Test
+    void createCacheWhenDisabled() {
+        final var settings = new LookupCacheProperties.CacheSettings();
+        settings.setEnabled(false);
+
+        assertThat(settings.createCache("test", Clock.systemUTC()).isEnabled(), is(false));
+    }
+
+    @Test
+    void createSingleFlightWhenCoalescing() {
+        final var testProperties = new LookupCacheProperties();
+
+        assertThat(testProperties.isCoalesceInFlight(), is(true));
+        assertThat(testProperties.createSingleFlight("test", Downstream.PSC_DATA).isEnabled(), is(true));
+        assertThat(testProperties.createSingleFlight("test", Downstream.PSC_DATA).getName(), is("test"));
+    }
+
+    @Test
+    void createSingleFlightWhenNotCoalescing() {
+        final var testProperties = new LookupCacheProperties();
+        testProperties.setCoalesceInFlight(false);
+
+        assertThat(testProperties.createSingleFlight("test", Downstream.PSC_DATA).isEnabled(), is(false));
+    }
+}
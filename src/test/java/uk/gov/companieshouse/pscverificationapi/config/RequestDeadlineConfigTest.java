@@ -0,0 +1,53 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import uk.gov.companieshouse.pscverificationapi.interceptor.RequestDeadlineInterceptor;
+
+@ExtendWith(MockitoExtension.class)
+class RequestDeadlineConfigTest {
+
+    private static final String VALIDATION_STATUS_PATH =
+        "/transactions/{transaction_id}/persons-with-significant-control-verification"
+            + "/{filing_resource_id}/validation_status";
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private InterceptorRegistry interceptorRegistry;
+
+    @Test
+    void addInterceptors() {
+        final var properties = new RequestDeadlineProperties();
+        properties.setDefaultBudget(Duration.ofSeconds(8));
+        properties.setValidationStatus(Duration.ofSeconds(3));
+
+        new RequestDeadlineConfig(properties).addInterceptors(interceptorRegistry);
+
+        verify(interceptorRegistry.addInterceptor(
+            argThat((RequestDeadlineInterceptor i) -> i.getBudget().equals(Duration.ofSeconds(3))))
+            .addPathPatterns(VALIDATION_STATUS_PATH)).order(0);
+        verify(interceptorRegistry.addInterceptor(
+            argThat((RequestDeadlineInterceptor i) -> i.getBudget().equals(Duration.ofSeconds(8))))
+            .excludePathPatterns(VALIDATION_STATUS_PATH,
+                "/persons-with-significant-control-verification/healthcheck")).order(0);
+    }
+
+    @Test
+    void addInterceptorsWhenDisabled() {
+        final var properties = new RequestDeadlineProperties();
+        properties.setEnabled(false);
+
+        new RequestDeadlineConfig(properties).addInterceptors(interceptorRegistry);
+
+        verifyNoInteractions(interceptorRegistry);
+    }
+
+}
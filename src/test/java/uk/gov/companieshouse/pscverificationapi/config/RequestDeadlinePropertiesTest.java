@@ -0,0 +1,32 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class RequestDeadlinePropertiesTest {
+
+    @Test
+    void defaults() {
+        final var testProperties = new RequestDeadlineProperties();
+
+        assertThat(testProperties.isEnabled(), is(true));
+        assertThat(testProperties.getDefaultBudget(), is(Duration.ofSeconds(10)));
+        assertThat(testProperties.getValidationStatus(), is(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void setAndGet() {
+        final var testProperties = new RequestDeadlineProperties();
+        testProperties.setEnabled(false);
+        testProperties.setDefaultBudget(Duration.ofSeconds(3));
+        testProperties.setValidationStatus(Duration.ofSeconds(2));
+
+        assertThat(testProperties.isEnabled(), is(false));
+        assertThat(testProperties.getDefaultBudget(), is(Duration.ofSeconds(3)));
+        assertThat(testProperties.getValidationStatus(), is(Duration.ofSeconds(2)));
+    }
+
+}
@@ -0,0 +1,59 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+
+class ResilienceConfigTest {
+
+    private ResilienceConfig testConfig;
+
+    @BeforeEach
+    void setUp() {
+        testConfig = new ResilienceConfig();
+    }
+
+    @Test
+    void downstreamCallExecutor() throws Exception {
+        try (final var executor = testConfig.downstreamCallExecutor()) {
+            assertThat(executor.submit(() -> Thread.currentThread().isVirtual()).get(), is(true));
+        }
+    }
+
+    @Test
+    void downstreamGuards() {
+        final var properties = new ResilienceProperties();
+        properties.getIdentityVerification().setMaxConcurrentCalls(3);
+
+        final var guards = testConfig.downstreamGuards(properties, Clock.systemUTC(), Runnable::run);
+        final var statistics = guards.get(Downstream.IDENTITY_VERIFICATION).statistics();
+
+        assertThat(statistics.enabled(), is(true));
+        assertThat(statistics.maxConcurrentCalls(), is(3));
+        assertThat(statistics.concurrencyLimit(), is(3));
+        assertThat(statistics.timeout(), is(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void pscDataHedger() {
+        final var properties = new ResilienceProperties();
+
+        final var hedger = testConfig.pscDataHedger(properties, Runnable::run);
+
+        assertThat(hedger.getDownstream(), is(Downstream.PSC_DATA));
+        assertThat(hedger.isEnabled(), is(false));
+    }
+
+    @Test
+    void downstreamRetrier() {
+        final var properties = new ResilienceProperties();
+
+        assertThat(testConfig.downstreamRetrier(properties).isEnabled(), is(true));
+    }
+
+}
@@ -0,0 +1,182 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.pscverificationapi.resilience.CircuitState;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+
+class ResiliencePropertiesTest {
+
+    @Test
+    void defaults() {
+        final var testProperties = new ResilienceProperties();
+
+        assertThat(testProperties.isEnabled(), is(true));
+        assertThat(testProperties.getMaxWait(), is(Duration.ofMillis(50)));
+        assertThat(testProperties.getFailureRateThreshold(), is(50));
+        assertThat(testProperties.getMinimumCalls(), is(10));
+        assertThat(testProperties.getWindowSize(), is(20));
+        assertThat(testProperties.getOpenDuration(), is(Duration.ofSeconds(30)));
+        assertThat(testProperties.getHalfOpenProbes(), is(3));
+        assertThat(testProperties.getIdentityVerification().getMaxConcurrentCalls(), is(10));
+        assertThat(testProperties.getIdentityVerification().getTimeout(), is(Duration.ofSeconds(10)));
+        assertThat(testProperties.getPscData().getTimeout(), is(Duration.ofSeconds(5)));
+        assertThat(testProperties.getIdentityVerification().getLatencyThreshold(), is(Duration.ofSeconds(2)));
+        assertThat(testProperties.isAdaptiveConcurrency(), is(true));
+        assertThat(testProperties.getMinConcurrentCalls(), is(2));
+        assertThat(testProperties.getBackoffRatio(), is(0.9));
+        assertThat(testProperties.getPscDataHedging().isEnabled(), is(false));
+        assertThat(testProperties.getPscDataHedging().getPercentile(), is(95));
+        assertThat(testProperties.getPscDataHedging().getMinDelay(), is(Duration.ofMillis(50)));
+        assertThat(testProperties.getPscDataHedging().getMaxRatio(), is(0.1));
+        assertThat(testProperties.getRetry().isEnabled(), is(true));
+        assertThat(testProperties.getRetry().getMaxAttempts(), is(3));
+        assertThat(testProperties.getRetry().getInitialBackoff(), is(Duration.ofMillis(50)));
+        assertThat(testProperties.getRetry().getMaxBackoff(), is(Duration.ofMillis(500)));
+    }
+
+    @Test
+    void setAndGet() {
+        final var testProperties = new ResilienceProperties();
+        testProperties.setEnabled(false);
+        testProperties.setMaxWait(Duration.ZERO);
+        testProperties.setFailureRateThreshold(25);
+        testProperties.setMinimumCalls(5);
+        testProperties.setWindowSize(50);
+        testProperties.setOpenDuration(Duration.ofMinutes(1));
+        testProperties.setHalfOpenProbes(1);
+        testProperties.setAdaptiveConcurrency(false);
+        testProperties.setMinConcurrentCalls(4);
+        testProperties.setBackoffRatio(0.5);
+
+        assertThat(testProperties.isEnabled(), is(false));
+        assertThat(testProperties.getMaxWait(), is(Duration.ZERO));
+        assertThat(testProperties.getFailureRateThreshold(), is(25));
+        assertThat(testProperties.getMinimumCalls(), is(5));
+        assertThat(testProperties.getWindowSize(), is(50));
+        assertThat(testProperties.getOpenDuration(), is(Duration.ofMinutes(1)));
+        assertThat(testProperties.getHalfOpenProbes(), is(1));
+        assertThat(testProperties.isAdaptiveConcurrency(), is(false));
+        assertThat(testProperties.getMinConcurrentCalls(), is(4));
+        assertThat(testProperties.getBackoffRatio(), is(0.5));
+    }
+
+    @Test
+    void getSettings() {
+        final var testProperties = new ResilienceProperties();
+        final var pscData = new ResilienceProperties.DownstreamSettings(1, Duration.ofSeconds(1),
+            Duration.ofMillis(100));
+        final var companyProfile = new ResilienceProperties.DownstreamSettings(2, Duration.ofSeconds(2),
+            Duration.ofMillis(200));
+        final var identityVerification = new ResilienceProperties.DownstreamSettings(3,
+            Duration.ofSeconds(3), Duration.ofMillis(300));
+        final var transactions = new ResilienceProperties.DownstreamSettings();
+        transactions.setMaxConcurrentCalls(4);
+        transactions.setTimeout(Duration.ofSeconds(4));
+        transactions.setLatencyThreshold(Duration.ofMillis(400));
+        testProperties.setPscData(pscData);
+        testProperties.setCompanyProfile(companyProfile);
+        testProperties.setIdentityVerification(identityVerification);
+        testProperties.setTransactions(transactions);
+
+        assertThat(testProperties.getSettings(Downstream.PSC_DATA), is(sameInstance(pscData)));
+        assertThat(testProperties.getSettings(Downstream.COMPANY_PROFILE), is(sameInstance(companyProfile)));
+        assertThat(testProperties.getSettings(Downstream.IDENTITY_VERIFICATION),
+            is(sameInstance(identityVerification)));
+        assertThat(testProperties.getSettings(Downstream.TRANSACTIONS).getMaxConcurrentCalls(), is(4));
+        assertThat(testProperties.getSettings(Downstream.TRANSACTIONS).getTimeout(), is(Duration.ofSeconds(4)));
+        assertThat(testProperties.getSettings(Downstream.TRANSACTIONS).getLatencyThreshold(),
+            is(Duration.ofMillis(400)));
+    }
+
+    @Test
+    void setAndGetPscDataHedging() {
+        final var testProperties = new ResilienceProperties();
+        final var hedging = new ResilienceProperties.HedgingSettings();
+        hedging.setEnabled(true);
+        hedging.setPercentile(99);
+        hedging.setMinDelay(Duration.ofMillis(100));
+        hedging.setMaxRatio(0.05);
+        testProperties.setPscDataHedging(hedging);
+
+        assertThat(testProperties.getPscDataHedging(), is(sameInstance(hedging)));
+        assertThat(hedging.isEnabled(), is(true));
+        assertThat(hedging.getPercentile(), is(99));
+        assertThat(hedging.getMinDelay(), is(Duration.ofMillis(100)));
+        assertThat(hedging.getMaxRatio(), is(0.05));
+    }
+
+    @Test
+    void setAndGetRetry() {
+        final var testProperties = new ResilienceProperties();
+        final var retry = new ResilienceProperties.RetrySettings();
+        retry.setEnabled(false);
+        retry.setMaxAttempts(2);
+        retry.setInitialBackoff(Duration.ofMillis(10));
+        retry.setMaxBackoff(Duration.ofMillis(20));
+        testProperties.setRetry(retry);
+
+        assertThat(testProperties.getRetry(), is(sameInstance(retry)));
+        assertThat(retry.isEnabled(), is(false));
+        assertThat(retry.getMaxAttempts(), is(2));
+        assertThat(retry.getInitialBackoff(), is(Duration.ofMillis(10)));
+        assertThat(retry.getMaxBackoff(), is(Duration.ofMillis(20)));
+    }
+
+    @Test
+    void createRetrier() {
+        final var testProperties = new ResilienceProperties();
+        testProperties.getRetry().setEnabled(false);
+
+        assertThat(testProperties.createRetrier().isEnabled(), is(false));
+    }
+
+    @Test
+    void createPscDataHedger() {
+        final var testProperties = new ResilienceProperties();
+        testProperties.getPscDataHedging().setEnabled(true);
+        final var hedger = testProperties.createPscDataHedger(Runnable::run);
+
+        assertThat(hedger.getDownstream(), is(Downstream.PSC_DATA));
+        assertThat(hedger.isEnabled(), is(true));
+    }
+
+    @Test
+    void createLimiter() throws InterruptedException {
+        final var testProperties = new ResilienceProperties();
+        final var limiter = testProperties.createLimiter(Downstream.IDENTITY_VERIFICATION);
+
+        assertThat(limiter.getMaxLimit(), is(10));
+        limiter.tryAcquire(Duration.ZERO);
+        limiter.onSample(Duration.ofSeconds(3), false);
+        assertThat(limiter.getLimit(), is(9));
+    }
+
+    @Test
+    void createLimiterWhenNotAdaptive() throws InterruptedException {
+        final var testProperties = new ResilienceProperties();
+        testProperties.setAdaptiveConcurrency(false);
+        final var limiter = testProperties.createLimiter(Downstream.PSC_DATA);
+
+        limiter.tryAcquire(Duration.ZERO);
+        limiter.onSample(Duration.ofSeconds(3), true);
+        assertThat(limiter.getLimit(), is(20));
+    }
+
+    @Test
+    void createCircuitBreaker() {
+        final var testProperties = new ResilienceProperties();
+        testProperties.setMinimumCalls(1);
+
+        final var breaker = testProperties.createCircuitBreaker(Clock.systemUTC());
+        breaker.onFailure();
+
+        assertThat(breaker.getState(), is(CircuitState.OPEN));
+    }
+
+}
@@ -4,7 +4,10 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.util.EnumSet;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -49,6 +52,7 @@ class ValidatorConfigTest {
                 pscIsUnverifiedValidator, pscIsPastStartDateValidator, pscVerificationStatementPresentValidator);
 
         assertThat(valid.pscType(), is(PscType.INDIVIDUAL));
+        assertThat(valid.dependencies(), is(Set.of()));
         assertThat(valid.first(), is(pscIdProvidedValidator));
         verify(pscExistsValidator, times(1)).setNext(pscIsActiveValidator);
         verify(pscIsActiveValidator, times(1)).setNext(companyTypeValidator);
@@ -59,4 +63,32 @@ class ValidatorConfigTest {
         verify(pscIsPastStartDateValidator, times(1)).setNext(pscVerificationStatementPresentValidator);
     }
 
+    @Test
+    void verificationValidationEnableDependencies() {
+        when(pscExistsValidator.dependencies()).thenReturn(EnumSet.of(ValidationDependency.PSC_RECORD));
+        when(companyTypeValidator.dependencies()).thenReturn(EnumSet.of(ValidationDependency.COMPANY_PROFILE));
+        when(uvidExistsValidator.dependencies()).thenReturn(
+            EnumSet.of(ValidationDependency.PSC_RECORD, ValidationDependency.UVID_MATCH));
+
+        final var valid = testConfig.verificationValidationEnable(pscIdProvidedValidator, pscExistsValidator,
+                pscIsActiveValidator, companyTypeValidator, companyStatusValidator, uvidExistsValidator,
+                pscIsUnverifiedValidator, pscIsPastStartDateValidator, pscVerificationStatementPresentValidator);
+
+        assertThat(valid.dependencies(), is(EnumSet.allOf(ValidationDependency.class)));
+    }
+
+    @Test
+    void validationLookupExecutor() throws Exception {
+        try (final var executor = testConfig.validationLookupExecutor()) {
+            assertThat(executor.submit(() -> Thread.currentThread().isVirtual()).get(), is(true));
+        }
+    }
+
+    @Test
+    void validationMaterializationExecutor() throws Exception {
+        try (final var executor = testConfig.validationMaterializationExecutor()) {
+            assertThat(executor.submit(() -> Thread.currentThread().isVirtual()).get(), is(true));
+        }
+    }
+
 }
@@ -0,0 +1,47 @@
+package uk.gov.companieshouse.pscverificationapi.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.pscverificationapi.enumerations.ValidationMode;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationValidationPropertiesTest {
+    @Test
+    void defaultMode() {
+        final VerificationValidationProperties testProperties = new VerificationValidationProperties();
+
+        assertThat(testProperties.getMode(), is(ValidationMode.SEQUENTIAL));
+    }
+
+    @Test
+    void setAndGetMode() {
+        final VerificationValidationProperties testProperties = new VerificationValidationProperties();
+        testProperties.setMode(ValidationMode.PARALLEL);
+
+        assertThat(testProperties.getMode(), is(ValidationMode.PARALLEL));
+    }
+
+    @Test
+    void defaultMaterialization() {
+        final VerificationValidationProperties testProperties = new VerificationValidationProperties();
+
+        assertThat(testProperties.isMaterialize(), is(false));
+        assertThat(testProperties.getMaterializedTtl(), is(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void setAndGetMaterialization() {
+        final VerificationValidationProperties testProperties = new VerificationValidationProperties();
+        testProperties.setMaterialize(true);
+        testProperties.setMaterializedTtl(Duration.ofSeconds(90));
+
+        assertThat(testProperties.isMaterialize(), is(true));
+        assertThat(testProperties.getMaterializedTtl(), is(Duration.ofSeconds(90)));
+    }
+
+}
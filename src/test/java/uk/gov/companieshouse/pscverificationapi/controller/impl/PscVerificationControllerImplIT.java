@@ -3,6 +3,7 @@ package uk.gov.companieshouse.pscverificationapi.controller.impl;
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -134,11 +135,7 @@ class PscVerificationControllerImplIT extends BaseControllerIT {
         when(individualFullRecord.getIdentityVerificationDetails()).thenReturn(idvDetails);
         when(lookupService.getIndividualFullRecord(transaction, completeDto, PscType.INDIVIDUAL)).thenReturn(
             individualFullRecord);
-        when(pscVerificationService.save(any(PscVerification.class))).thenReturn(
-                PscVerification.newBuilder(entity).id(FILING_ID).build())
-            .thenAnswer(i -> PscVerification.newBuilder(i.getArgument(0)).build()
-                // copy of first argument
-            );
+        when(pscVerificationService.insert(any(PscVerification.class))).thenReturn(entity);
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
         mockMvc.perform(post(URL_PSC, TRANS_ID).content(individualPayload)
@@ -159,6 +156,9 @@ class PscVerificationControllerImplIT extends BaseControllerIT {
                 is(INDIVIDUAL_VERIFIED.toString())));
         verify(filingMapper).toEntity(completeDto);
         verify(filingMapper).toApi(argThat((PscVerification v) -> FILING_ID.equals(v.getId())));
+        verify(pscVerificationService).insert(argThat((PscVerification v) -> v.getId() != null
+            && v.getLinks().self().toString().endsWith("/" + v.getId())));
+        verify(pscVerificationService, never()).save(any(PscVerification.class));
         verify(transactionService).updateTransaction(transaction, PASSTHROUGH_HEADER);
     }
 
@@ -1,7 +1,11 @@
 package uk.gov.companieshouse.pscverificationapi.controller.impl;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -20,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -27,6 +32,7 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
@@ -38,6 +44,7 @@ import uk.gov.companieshouse.pscverificationapi.config.PatchServiceProperties;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
 import uk.gov.companieshouse.pscverificationapi.model.mapper.PscVerificationMapperImpl;
 import uk.gov.companieshouse.pscverificationapi.repository.PscVerificationRepository;
+import uk.gov.companieshouse.pscverificationapi.repository.PscVerificationRepositoryCustom;
 import uk.gov.companieshouse.pscverificationapi.service.TransactionService;
 
 @Tag("app")
@@ -54,6 +61,8 @@ class PscVerificationControllerImplMergeIT extends BaseControllerIT {
     @MockitoBean
     private PscVerificationRepository repository;
     @MockitoBean
+    private PscVerificationRepositoryCustom customRepository;
+    @MockitoBean
     private PatchServiceProperties patchServiceProperties;
     @MockitoSpyBean
     private PscVerificationMapperImpl filingMapper;
@@ -123,10 +132,9 @@ class PscVerificationControllerImplMergeIT extends BaseControllerIT {
             .data(expectedPatchedDto)
             .build();
 
-        when(repository.findById(FILING_ID)).thenReturn(Optional.of(filing))
-            .thenReturn(Optional.of(expectedPatched));
-        when(repository.save(any(PscVerification.class))).thenAnswer(
-            i -> PscVerification.newBuilder(i.getArgument(0)).build()); // copy of first argument
+        when(repository.findById(FILING_ID)).thenReturn(Optional.of(filing));
+        when(customRepository.updateIfUnmodified(any(PscVerification.class), eq(FIRST_INSTANT),
+            any(Update.class))).thenReturn(Optional.of(expectedPatched));
 
         mockMvc.perform(patch(URL_PSC_RESOURCE, TRANS_ID, FILING_ID).content(body)
                 .contentType(APPLICATION_JSON_MERGE_PATCH)
@@ -142,6 +150,14 @@ class PscVerificationControllerImplMergeIT extends BaseControllerIT {
             .andExpect(jsonPath("$.data.verification_details.verification_statements",
                 Matchers.contains((INDIVIDUAL_VERIFIED.toString()))))
             .andExpect(header().stringValues("Location", links.self().toString()));
+        verify(repository, never()).save(any(PscVerification.class));
+
+        final var update = ArgumentCaptor.forClass(Update.class);
+
+        verify(customRepository).updateIfUnmodified(any(PscVerification.class), eq(FIRST_INSTANT), update.capture());
+        assertThat(update.getValue().modifies("data.companyNumber"), is(true));
+        assertThat(update.getValue().modifies("data.pscNotificationId"), is(false));
+        assertThat(update.getValue().modifies("data"), is(false));
     }
 
     @Test
@@ -177,10 +193,9 @@ class PscVerificationControllerImplMergeIT extends BaseControllerIT {
             .data(expectedPatchedDto)
             .build();
 
-        when(repository.findById(FILING_ID)).thenReturn(Optional.of(filing))
-            .thenReturn(Optional.of(expectedPatched));
-        when(repository.save(any(PscVerification.class))).thenAnswer(
-            i -> PscVerification.newBuilder(i.getArgument(0)).build()); // copy of first argument
+        when(repository.findById(FILING_ID)).thenReturn(Optional.of(filing));
+        when(customRepository.updateIfUnmodified(any(PscVerification.class), eq(FIRST_INSTANT),
+            any(Update.class))).thenReturn(Optional.of(expectedPatched));
 
         mockMvc.perform(patch(URL_PSC_RESOURCE, TRANS_ID, FILING_ID).content(body)
                 .contentType(APPLICATION_JSON_MERGE_PATCH)
@@ -195,6 +210,7 @@ class PscVerificationControllerImplMergeIT extends BaseControllerIT {
             .andExpect(jsonPath("$.data.verification_details.verification_statements",
                 Matchers.contains((INDIVIDUAL_VERIFIED.toString()))))
             .andExpect(header().stringValues("Location", links.self().toString()));
+        verify(repository, never()).save(any(PscVerification.class));
     }
 
     @Test
@@ -233,10 +249,9 @@ class PscVerificationControllerImplMergeIT extends BaseControllerIT {
             .data(expectedPatchedDto)
             .build();
 
-        when(repository.findById(FILING_ID)).thenReturn(Optional.of(filing))
-            .thenReturn(Optional.of(expectedPatched));
-        when(repository.save(any(PscVerification.class))).thenAnswer(
-            i -> PscVerification.newBuilder(i.getArgument(0)).build()); // copy of first argument
+        when(repository.findById(FILING_ID)).thenReturn(Optional.of(filing));
+        when(customRepository.updateIfUnmodified(any(PscVerification.class), eq(FIRST_INSTANT),
+            any(Update.class))).thenReturn(Optional.of(expectedPatched));
 
         mockMvc.perform(patch(URL_PSC_RESOURCE, TRANS_ID, FILING_ID).content(body)
                 .contentType(APPLICATION_JSON_MERGE_PATCH)
@@ -251,6 +266,7 @@ class PscVerificationControllerImplMergeIT extends BaseControllerIT {
             .andExpect(
                 jsonPath("$.data.verification_details.verification_statements").doesNotExist())
             .andExpect(header().stringValues("Location", links.self().toString()));
+        verify(repository, never()).save(any(PscVerification.class));
     }
 
 
@@ -276,10 +292,9 @@ class PscVerificationControllerImplMergeIT extends BaseControllerIT {
             .updatedAt(SECOND_INSTANT)
             .build();
 
-        when(repository.findById(FILING_ID)).thenReturn(Optional.of(filing))
-            .thenReturn(Optional.of(expectedPatched));
-        when(repository.save(any(PscVerification.class))).thenAnswer(
-            i -> PscVerification.newBuilder(i.getArgument(0)).build()); // copy of first argument
+        when(repository.findById(FILING_ID)).thenReturn(Optional.of(filing));
+        when(customRepository.updateIfUnmodified(any(PscVerification.class), eq(FIRST_INSTANT),
+            any(Update.class))).thenReturn(Optional.of(expectedPatched));
 
         mockMvc.perform(patch(URL_PSC_RESOURCE, TRANS_ID, FILING_ID).content(body)
                 .contentType(APPLICATION_JSON_MERGE_PATCH)
@@ -294,6 +309,7 @@ class PscVerificationControllerImplMergeIT extends BaseControllerIT {
             .andExpect(jsonPath("$.data.verification_details.verification_statements",
                 Matchers.containsInAnyOrder(INDIVIDUAL_VERIFIED.toString())))
             .andExpect(header().stringValues("Location", links.self().toString()));
+        verify(repository, never()).save(any(PscVerification.class));
     }
 
 }
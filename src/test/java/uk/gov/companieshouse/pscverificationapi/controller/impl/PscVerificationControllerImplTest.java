@@ -8,8 +8,11 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.pscverificationapi.controller.impl.BaseControllerIT.SECOND_INSTANT;
@@ -20,7 +23,6 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
@@ -34,8 +36,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -59,6 +63,8 @@ import uk.gov.companieshouse.pscverificationapi.error.RetrievalFailureReason;
 import uk.gov.companieshouse.pscverificationapi.exception.FilingResourceNotFoundException;
 import uk.gov.companieshouse.pscverificationapi.exception.InvalidPatchException;
 import uk.gov.companieshouse.pscverificationapi.exception.PscLookupServiceException;
+import uk.gov.companieshouse.pscverificationapi.model.FilingChangedEvent;
+import uk.gov.companieshouse.pscverificationapi.model.PatchOutcome;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
 import uk.gov.companieshouse.pscverificationapi.model.mapper.PscVerificationMapper;
 import uk.gov.companieshouse.pscverificationapi.model.mapper.PscVerificationMapperImpl;
@@ -99,6 +105,8 @@ class PscVerificationControllerImplTest {
     @Mock
     private Clock clock;
     @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
     private Logger logger;
     @Mock
     private BindingResult result;
@@ -111,7 +119,6 @@ class PscVerificationControllerImplTest {
     private PscVerificationData filing;
     private PscVerification entity;
     private PscVerification entityWithLinks;
-    private List<PscVerification> entityWithLinksList;
     private Map<String, Object> mergePatch;
 
     public static Stream<Arguments> provideCreateParams() {
@@ -121,7 +128,7 @@ class PscVerificationControllerImplTest {
     @BeforeEach
     void setUp() {
         testController = new PscVerificationControllerImpl(transactionService,
-            pscVerificationService, pscLookupService, filingMapper, clock, logger);
+            pscVerificationService, pscLookupService, filingMapper, clock, eventPublisher, logger);
         final var verification = VerificationDetails.newBuilder()
             .uvid(UVID)
             .statements(EnumSet.of(VerificationStatementConstants.INDIVIDUAL_VERIFIED))
@@ -150,7 +157,6 @@ class PscVerificationControllerImplTest {
                 .data(filing).links(links)
                 .build();
         entityWithLinks = PscVerification.newBuilder(entity).links(links).build();
-        entityWithLinksList = List.of(entityWithLinks);
         final var mergeVerificationDetails = new HashMap<>(Map.of());
         mergePatch = new HashMap<>();
         mergePatch.put("verification_details", mergeVerificationDetails);
@@ -185,10 +191,27 @@ class PscVerificationControllerImplTest {
             .build();
 
         assertThat(response.getBody(), is(equalTo(expectedApi)));
+
+        final var inserted = ArgumentCaptor.forClass(PscVerification.class);
+
+        verify(pscVerificationService).insert(inserted.capture());
+        verify(pscVerificationService, never()).save(any(PscVerification.class));
+        assertThat(inserted.getValue().getCreatedAt(), is(FIRST_INSTANT));
+        assertThat(inserted.getValue().getUpdatedAt(), is(FIRST_INSTANT));
+        assertThat(inserted.getValue().getLinks().self(),
+            is(URI.create(REQUEST_URI + "/" + inserted.getValue().getId())));
+        assertThat(inserted.getValue().getLinks().validationStatus(),
+            is(URI.create(REQUEST_URI + "/" + inserted.getValue().getId() + "/validation_status")));
         if (!nullTransaction) {
             verify(transactionService).updateTransaction(transaction, nullPassthrough ? null : PASSTHROUGH_HEADER);
         }
 
+        final var event = ArgumentCaptor.forClass(FilingChangedEvent.class);
+
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().filing().getId(), is(FILING_ID));
+        assertThat(event.getValue().transactionId(), is(TRANS_ID));
+
     }
 
     @Test
@@ -282,7 +305,7 @@ class PscVerificationControllerImplTest {
     @Test
     void getPscVerificationByNotificationIdWhenFound() {
 
-        when(pscVerificationService.getByNotificationId(PSC_ID)).thenReturn(Optional.of(entityWithLinksList));
+        when(pscVerificationService.getLatestByNotificationId(PSC_ID)).thenReturn(Optional.of(entityWithLinks));
         when(pscVerificationService.requestMatchesResourceSelf(request, entityWithLinks)).thenReturn(true);
 
         final var response =
@@ -300,12 +323,12 @@ class PscVerificationControllerImplTest {
             .updatedAt(SECOND_INSTANT)
             .build();
 
-        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks))
-            .thenReturn(Optional.of(updatedEntity));
+        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks));
         when(
             pscVerificationService.requestMatchesResourceSelf(request, entityWithLinks)).thenReturn(
             true);
-        when(pscVerificationService.patch(eq(FILING_ID), anyMap())).thenReturn(success);
+        when(pscVerificationService.patch(eq(entityWithLinks), anyMap(), isNull())).thenReturn(
+            new PatchOutcome(success, updatedEntity));
 
         final var response = testController.updatePscVerification(TRANS_ID, FILING_ID,
             mergePatch, request);
@@ -317,6 +340,9 @@ class PscVerificationControllerImplTest {
         assertThat(response.getBody().getUpdatedAt(),
             is(not(equalTo(response.getBody().getCreatedAt()))));
         assertThat(response.getHeaders().getLocation(), is(entityWithLinks.getLinks().self()));
+        verify(pscVerificationService).get(FILING_ID);
+        verify(pscVerificationService, never()).save(any(PscVerification.class));
+        verify(eventPublisher).publishEvent(new FilingChangedEvent(updatedEntity, TRANS_ID, null));
 
     }
 
@@ -327,15 +353,16 @@ class PscVerificationControllerImplTest {
                 .updatedAt(SECOND_INSTANT)
                 .build();
         final var dataToLookup = PscVerificationData.newBuilder(filing).pscNotificationId(PSC_ID_TO_PATCH).build();
+        final var internalData = InternalData.newBuilder().internalId(String.valueOf(INTERNAL_ID)).build();
         mergePatch.put("psc_notification_id", PSC_ID_TO_PATCH);
 
         when(transactionService.getTransaction(TRANS_ID, null)).thenReturn(transaction);
         when(pscLookupService.getIndividualFullRecord(transaction, dataToLookup, PscType.INDIVIDUAL))
                 .thenReturn(individualFullRecord);
-        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks))
-                .thenReturn(Optional.of(updatedEntity));
+        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks));
         when(pscVerificationService.requestMatchesResourceSelf(request, entityWithLinks)).thenReturn(true);
-        when(pscVerificationService.patch(eq(FILING_ID), anyMap())).thenReturn(success);
+        when(pscVerificationService.patch(eq(entityWithLinks), anyMap(), eq(internalData))).thenReturn(
+            new PatchOutcome(success, updatedEntity));
 
         final var response = testController.updatePscVerification(TRANS_ID, FILING_ID, mergePatch, request);
         final var expectedBody = filingMapper.toApi(updatedEntity);
@@ -361,10 +388,10 @@ class PscVerificationControllerImplTest {
         when(transactionService.getTransaction(TRANS_ID, null)).thenReturn(transaction);
         when(pscLookupService.getIndividualFullRecord(transaction, dataToLookup, PscType.INDIVIDUAL))
                 .thenReturn(individualFullRecord);
-        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks))
-                .thenReturn(Optional.of(updatedEntity));
+        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks));
         when(pscVerificationService.requestMatchesResourceSelf(request, entityWithLinks)).thenReturn(true);
-        when(pscVerificationService.patch(eq(FILING_ID), anyMap())).thenReturn(success);
+        when(pscVerificationService.patch(eq(entityWithLinks), anyMap(), isNull())).thenReturn(
+            new PatchOutcome(success, updatedEntity));
 
         assertThrows(PscLookupServiceException.class,
                 () ->testController.updatePscVerification(TRANS_ID, FILING_ID,
@@ -387,13 +414,13 @@ class PscVerificationControllerImplTest {
             .updatedAt(SECOND_INSTANT)
             .build();
 
-        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks))
-            .thenReturn(Optional.of(updatedEntity));
+        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks));
 
         when(
             pscVerificationService.requestMatchesResourceSelf(request, entityWithLinks)).thenReturn(
             true);
-        when(pscVerificationService.patch(eq(FILING_ID), anyMap())).thenReturn(success);
+        when(pscVerificationService.patch(eq(entityWithLinks), anyMap(), isNull())).thenReturn(
+            new PatchOutcome(success, updatedEntity));
 
         final var response = testController.updatePscVerification(TRANS_ID, FILING_ID,
             mergePatch, request);
@@ -427,13 +454,13 @@ class PscVerificationControllerImplTest {
             .updatedAt(SECOND_INSTANT)
             .build();
 
-        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks))
-            .thenReturn(Optional.of(updatedEntity));
+        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks));
 
         when(
             pscVerificationService.requestMatchesResourceSelf(request, entityWithLinks)).thenReturn(
             true);
-        when(pscVerificationService.patch(eq(FILING_ID), anyMap())).thenReturn(success);
+        when(pscVerificationService.patch(eq(entityWithLinks), anyMap(), isNull())).thenReturn(
+            new PatchOutcome(success, updatedEntity));
 
         final var response = testController.updatePscVerification(TRANS_ID, FILING_ID,
             mergePatch, request);
@@ -463,13 +490,13 @@ class PscVerificationControllerImplTest {
             .updatedAt(SECOND_INSTANT)
             .build();
 
-        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks))
-            .thenReturn(Optional.of(updatedEntity));
+        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks));
 
         when(
             pscVerificationService.requestMatchesResourceSelf(request, entityWithLinks)).thenReturn(
             true);
-        when(pscVerificationService.patch(eq(FILING_ID), anyMap())).thenReturn(success);
+        when(pscVerificationService.patch(eq(entityWithLinks), anyMap(), isNull())).thenReturn(
+            new PatchOutcome(success, updatedEntity));
 
         final var response = testController.updatePscVerification(TRANS_ID, FILING_ID,
             mergePatch, request);
@@ -502,13 +529,13 @@ class PscVerificationControllerImplTest {
             .updatedAt(SECOND_INSTANT)
             .build();
 
-        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks))
-            .thenReturn(Optional.of(updatedEntity));
+        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks));
 
         when(
             pscVerificationService.requestMatchesResourceSelf(request, entityWithLinks)).thenReturn(
             true);
-        when(pscVerificationService.patch(eq(FILING_ID), anyMap())).thenReturn(success);
+        when(pscVerificationService.patch(eq(entityWithLinks), anyMap(), isNull())).thenReturn(
+            new PatchOutcome(success, updatedEntity));
 
         final var response = testController.updatePscVerification(TRANS_ID, FILING_ID,
             mergePatch, request);
@@ -542,13 +569,13 @@ class PscVerificationControllerImplTest {
             .updatedAt(SECOND_INSTANT)
             .build();
 
-        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks))
-            .thenReturn(Optional.of(updatedEntity));
+        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(entityWithLinks));
 
         when(
             pscVerificationService.requestMatchesResourceSelf(request, entityWithLinks)).thenReturn(
             true);
-        when(pscVerificationService.patch(eq(FILING_ID), anyMap())).thenReturn(success);
+        when(pscVerificationService.patch(eq(entityWithLinks), anyMap(), isNull())).thenReturn(
+            new PatchOutcome(success, updatedEntity));
 
         final var response = testController.updatePscVerification(TRANS_ID, FILING_ID,
             mergePatch, request);
@@ -571,7 +598,8 @@ class PscVerificationControllerImplTest {
         when(
             pscVerificationService.requestMatchesResourceSelf(request, entityWithLinks)).thenReturn(
             true);
-        when(pscVerificationService.patch(eq(FILING_ID), anyMap())).thenReturn(failure);
+        when(pscVerificationService.patch(eq(entityWithLinks), anyMap(), isNull())).thenReturn(
+            PatchOutcome.failure(failure));
 
         final var exception = assertThrows(FilingResourceNotFoundException.class,
             () -> testController.updatePscVerification(TRANS_ID, FILING_ID, mergePatch, request));
@@ -591,12 +619,14 @@ class PscVerificationControllerImplTest {
         when(
             pscVerificationService.requestMatchesResourceSelf(request, entityWithLinks)).thenReturn(
             true);
-        when(pscVerificationService.patch(eq(FILING_ID), anyMap())).thenReturn(failure);
+        when(pscVerificationService.patch(eq(entityWithLinks), anyMap(), isNull())).thenReturn(
+            PatchOutcome.failure(failure));
 
         final var exception = assertThrows(InvalidPatchException.class,
             () -> testController.updatePscVerification(TRANS_ID, FILING_ID, mergePatch, request));
 
         assertThat(exception.getFieldErrors(), contains(error));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -625,17 +655,8 @@ class PscVerificationControllerImplTest {
     }
 
     @Test
-    void getPscVerificationByNotificationIdWhenResultsOptIsEmpty() {
-        when(pscVerificationService.getByNotificationId("notification-id")).thenReturn(Optional.empty());
-
-        final var response = testController.getPscVerificationByNotificationId("notification-id", request);
-
-        assertTrue(response.isEmpty());
-    }
-
-    @Test
-    void getPscVerificationByNotificationIdWhenListIsEmpty() {
-        when(pscVerificationService.getByNotificationId("notification-id")).thenReturn(Optional.of(Collections.emptyList()));
+    void getPscVerificationByNotificationIdWhenNotFound() {
+        when(pscVerificationService.getLatestByNotificationId("notification-id")).thenReturn(Optional.empty());
 
         final var response = testController.getPscVerificationByNotificationId("notification-id", request);
 
@@ -648,23 +669,20 @@ class PscVerificationControllerImplTest {
         final var clock2 = Clock.fixed(SECOND_INSTANT, ZoneId.of("UTC"));
         when(clock.instant()).thenReturn(clock1.instant(), clock2.instant());
 
-        final var timestampedEntity = PscVerification.newBuilder(entity)
-            .createdAt(FIRST_INSTANT)
-            .updatedAt(FIRST_INSTANT)
-            .build();
-        final var savedEntity = PscVerification.newBuilder(timestampedEntity).id(FILING_ID).build();
         final var self = URI.create(REQUEST_URI + "/" + FILING_ID);
-
-        when(pscVerificationService.save(timestampedEntity)).thenReturn(savedEntity);
-
         final var links = ResourceLinks.newBuilder()
             .self(self)
             .validationStatus(
                 UriComponentsBuilder.fromUri(self).pathSegment("validation_status").build().toUri())
             .build();
-        final var resavedEntity = PscVerification.newBuilder(savedEntity).links(links).build();
+        final var savedEntity = PscVerification.newBuilder(entity)
+            .id(FILING_ID)
+            .createdAt(FIRST_INSTANT)
+            .updatedAt(FIRST_INSTANT)
+            .links(links)
+            .build();
 
-        when(pscVerificationService.save(resavedEntity)).thenReturn(resavedEntity);
+        when(pscVerificationService.insert(any(PscVerification.class))).thenReturn(savedEntity);
         return links;
     }
 
@@ -2,13 +2,18 @@ package uk.gov.companieshouse.pscverificationapi.controller.impl;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.emptyArray;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,13 +22,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.model.common.ResourceLinks;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
-import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.cache.ExpiringCache;
+import uk.gov.companieshouse.pscverificationapi.cache.ValidationStatusKey;
+import uk.gov.companieshouse.pscverificationapi.config.LookupCacheProperties;
 import uk.gov.companieshouse.pscverificationapi.exception.FilingResourceNotFoundException;
-import uk.gov.companieshouse.pscverificationapi.mapper.ErrorMapper;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
 import uk.gov.companieshouse.pscverificationapi.service.PscVerificationService;
-import uk.gov.companieshouse.pscverificationapi.service.VerificationValidationService;
+import uk.gov.companieshouse.pscverificationapi.service.ValidationStatusService;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,26 +39,30 @@ class ValidationStatusControllerImplTest {
     private static final String TRANS_ID = "117524-754816-491724";
     private static final String FILING_ID = "6332aa6ed28ad2333c3a520a";
     private static final String PASSTHROUGH_HEADER = "passthrough";
+    private static final Instant FIRST_INSTANT = Instant.parse("2024-10-15T09:44:08.108Z");
+    private static final Instant SECOND_INSTANT = Instant.parse("2024-10-16T09:44:08.108Z");
 
     @Mock
     private PscVerificationService pscVerificationService;
     @Mock
-    private VerificationValidationService validatorService;
+    private ValidationStatusService validationStatusService;
     @Mock
     private HttpServletRequest request;
     @Mock
     private Logger logger;
     @Mock
-    private ErrorMapper errorMapper;
-    @Mock
     private Transaction transaction;
 
+    private ExpiringCache<ValidationStatusKey, ValidationStatusResponse> validationStatusCache;
     private ValidationStatusControllerImpl testController;
 
 
     @BeforeEach
     void setUp() {
-        testController = new ValidationStatusControllerImpl(pscVerificationService, validatorService, errorMapper, logger);
+        validationStatusCache = new LookupCacheProperties.CacheSettings().createCache("validation-status",
+            Clock.systemUTC());
+        testController = new ValidationStatusControllerImpl(pscVerificationService, validationStatusService,
+            validationStatusCache, logger);
         when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
     }
 
@@ -69,13 +80,65 @@ class ValidationStatusControllerImplTest {
     void validateWhenFilingValid() {
         final var links = ResourceLinks.newBuilder().build();
         final var filing = PscVerification.newBuilder().links(links).build();
+        final var expected = new ValidationStatusResponse();
 
         when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(filing));
-        when(errorMapper.map(anySet())).thenReturn(new ValidationStatusError[0]);
+        when(validationStatusService.getMaterialized(filing)).thenReturn(Optional.empty());
+        when(validationStatusService.validate(filing, transaction, PASSTHROUGH_HEADER)).thenReturn(expected);
 
         final var response = testController.validate(TRANS_ID, FILING_ID, transaction, request);
 
-        assertThat(response.isValid(), is(true));
-        assertThat(response.getValidationStatusError(), is(emptyArray()));
+        assertThat(response, is(sameInstance(expected)));
+    }
+
+    @Test
+    void validateWhenMaterialized() {
+        final var filing = PscVerification.newBuilder().id(FILING_ID).updatedAt(FIRST_INSTANT).build();
+        final var materialized = new ValidationStatusResponse();
+
+        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(validationStatusService.getMaterialized(filing)).thenReturn(Optional.of(materialized));
+
+        final var response = testController.validate(TRANS_ID, FILING_ID, transaction, request);
+
+        assertThat(response, is(sameInstance(materialized)));
+        verify(validationStatusService, never()).validate(filing, transaction, PASSTHROUGH_HEADER);
+        assertThat(validationStatusCache.size(), is(0));
+    }
+
+    @Test
+    void validateWhenPolledRepeatedly() {
+        final var filing = PscVerification.newBuilder().id(FILING_ID).updatedAt(FIRST_INSTANT).build();
+
+        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(validationStatusService.getMaterialized(filing)).thenReturn(Optional.empty());
+        when(validationStatusService.validate(filing, transaction, PASSTHROUGH_HEADER))
+            .thenReturn(new ValidationStatusResponse());
+
+        final var first = testController.validate(TRANS_ID, FILING_ID, transaction, request);
+        final var second = testController.validate(TRANS_ID, FILING_ID, transaction, request);
+
+        assertThat(second, is(sameInstance(first)));
+        verify(validationStatusService, times(1)).validate(filing, transaction, PASSTHROUGH_HEADER);
+        verify(pscVerificationService, times(2)).get(FILING_ID);
+    }
+
+    @Test
+    void validateWhenFilingUpdated() {
+        final var filing = PscVerification.newBuilder().id(FILING_ID).updatedAt(FIRST_INSTANT).build();
+        final var updated = PscVerification.newBuilder(filing).updatedAt(SECOND_INSTANT).build();
+
+        when(pscVerificationService.get(FILING_ID)).thenReturn(Optional.of(filing), Optional.of(updated));
+        when(validationStatusService.getMaterialized(filing)).thenReturn(Optional.empty());
+        when(validationStatusService.getMaterialized(updated)).thenReturn(Optional.empty());
+        when(validationStatusService.validate(filing, transaction, PASSTHROUGH_HEADER))
+            .thenReturn(new ValidationStatusResponse());
+        when(validationStatusService.validate(updated, transaction, PASSTHROUGH_HEADER))
+            .thenReturn(new ValidationStatusResponse());
+
+        final var first = testController.validate(TRANS_ID, FILING_ID, transaction, request);
+        final var second = testController.validate(TRANS_ID, FILING_ID, transaction, request);
+
+        assertThat(second, is(not(sameInstance(first))));
     }
-}
\ No newline at end of file
+}
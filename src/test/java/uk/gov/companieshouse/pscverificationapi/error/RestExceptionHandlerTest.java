@@ -40,9 +40,11 @@ import org.springframework.web.context.request.ServletWebRequest;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscverificationapi.exception.ConflictingFilingException;
+import uk.gov.companieshouse.pscverificationapi.exception.DownstreamUnavailableException;
 import uk.gov.companieshouse.pscverificationapi.exception.FilingResourceNotFoundException;
 import uk.gov.companieshouse.pscverificationapi.exception.InvalidFilingException;
 import uk.gov.companieshouse.pscverificationapi.exception.MergePatchException;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
 import uk.gov.companieshouse.service.ServiceException;
 
 @ExtendWith(MockitoExtension.class)
@@ -318,6 +320,24 @@ class RestExceptionHandlerTest {
         assertThat(apiErrors.getErrors(), contains(expectedError));
     }
 
+    @Test
+    void handleDownstreamUnavailableException() {
+        final var exception = new DownstreamUnavailableException("psc-data-api circuit is open",
+            Downstream.PSC_DATA);
+
+        when(request.getRequest()).thenReturn(servletRequest);
+
+        final var apiErrors = testExceptionHandler.handleDownstreamUnavailableException(exception,
+            request);
+        final var expectedError = new ApiError("Service Unavailable: {error}",
+            null, "resource", "ch:service");
+
+        expectedError.addErrorValue(ERROR_PROP,
+            "psc-data-api circuit is open");
+
+        assertThat(apiErrors.getErrors(), contains(expectedError));
+    }
+
     @Test
     void handleAllUncaughtException() {
         final var exception = new RuntimeException(
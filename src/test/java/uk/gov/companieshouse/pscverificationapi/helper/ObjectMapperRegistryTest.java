@@ -0,0 +1,108 @@
+package uk.gov.companieshouse.pscverificationapi.helper;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ObjectMapperRegistryTest {
+
+    private static final Person PERSON = new Person("Joe", LocalDate.of(1970, 1, 2));
+
+    @Test
+    void readerIsCached() {
+        final var reader = ObjectMapperRegistry.reader(PropertyNamingStrategies.SNAKE_CASE, Person.class);
+
+        assertThat(ObjectMapperRegistry.reader(PropertyNamingStrategies.SNAKE_CASE, Person.class),
+            is(sameInstance(reader)));
+        assertThat(ObjectMapperRegistry.reader(PropertyNamingStrategies.KEBAB_CASE, Person.class),
+            is(not(sameInstance(reader))));
+    }
+
+    @Test
+    void writerIsCached() {
+        final var writer = ObjectMapperRegistry.writer(PropertyNamingStrategies.SNAKE_CASE, Person.class);
+
+        assertThat(ObjectMapperRegistry.writer(PropertyNamingStrategies.SNAKE_CASE, Person.class),
+            is(sameInstance(writer)));
+    }
+
+    @Test
+    void convertToMap() {
+        final Map<String, Object> map = ObjectMapperRegistry.convert(PERSON, PropertyNamingStrategies.SNAKE_CASE,
+            TypeFactory.defaultInstance().constructMapType(Map.class, String.class, Object.class));
+
+        assertThat(map, is(Map.of("given_name", "Joe", "date_of_birth", "1970-01-02")));
+    }
+
+    @Test
+    void convertFromMap() {
+        final var person = ObjectMapperRegistry.convert(Map.of("given_name", "Joe", "date_of_birth", "1970-01-02"),
+            PropertyNamingStrategies.SNAKE_CASE, Person.class);
+
+        assertThat(person, is(PERSON));
+    }
+
+    @Test
+    void convertWhenNamingStrategiesDiffer() {
+        final var mapType = TypeFactory.defaultInstance().constructMapType(Map.class, String.class, Object.class);
+
+        final Map<String, Object> snake = ObjectMapperRegistry.convert(PERSON, PropertyNamingStrategies.SNAKE_CASE,
+            mapType);
+        final Map<String, Object> kebab = ObjectMapperRegistry.convert(PERSON, PropertyNamingStrategies.KEBAB_CASE,
+            mapType);
+
+        assertThat(snake.containsKey("given_name"), is(true));
+        assertThat(kebab.containsKey("given-name"), is(true));
+    }
+
+    @Test
+    void convertWhenDateFormatGiven() {
+        final Map<String, Object> map = ObjectMapperRegistry.convert(Map.of("date", new Date(0)),
+            PropertyNamingStrategies.SNAKE_CASE, "yyyy",
+            TypeFactory.defaultInstance().constructMapType(Map.class, String.class, Object.class));
+
+        assertThat(map.get("date"), is("1970"));
+    }
+
+    @Test
+    void convertWhenNull() {
+        assertThat(ObjectMapperRegistry.convert(null, PropertyNamingStrategies.SNAKE_CASE, Person.class),
+            is(nullValue()));
+    }
+
+    @Test
+    void convertWhenInvalid() {
+        final var invalid = Map.of("date_of_birth", "not a date");
+
+        assertThrows(IllegalArgumentException.class,
+            () -> ObjectMapperRegistry.convert(invalid, PropertyNamingStrategies.SNAKE_CASE, Person.class));
+    }
+
+    @Test
+    void convertConcurrently() {
+        final List<Person> people = IntStream.range(0, 200).parallel()
+            .mapToObj(i -> ObjectMapperRegistry.convert(
+                Map.of(i % 2 == 0 ? "given_name" : "givenName", "Joe"),
+                i % 2 == 0 ? PropertyNamingStrategies.SNAKE_CASE : PropertyNamingStrategies.LOWER_CAMEL_CASE,
+                Person.class))
+            .toList();
+
+        assertThat(people.stream().filter(p -> "Joe".equals(p.givenName())).count(), is(200L));
+        assertThat(ObjectMapperRegistry.size() >= 2, is(true));
+    }
+
+    record Person(String givenName, LocalDate dateOfBirth) {
+    }
+}
@@ -0,0 +1,37 @@
+package uk.gov.companieshouse.pscverificationapi.index;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IndexActuatorEndpointTest {
+
+    @Mock
+    private IndexManager indexManager;
+
+    private IndexActuatorEndpoint testEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        testEndpoint = new IndexActuatorEndpoint(indexManager);
+    }
+
+    @Test
+    void indexes() {
+        final var statistics = new IndexStatistics("psc_verification", 10L, 2048L, Map.of("_id_", 2048L),
+            List.of());
+        when(indexManager.statistics()).thenReturn(statistics);
+
+        assertThat(testEndpoint.indexes(), is(sameInstance(statistics)));
+    }
+}
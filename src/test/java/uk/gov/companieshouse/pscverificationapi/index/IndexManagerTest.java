@@ -0,0 +1,223 @@
+package uk.gov.companieshouse.pscverificationapi.index;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.model.SnakeCaseFieldNamingStrategy;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.config.IndexManagementProperties;
+import uk.gov.companieshouse.pscverificationapi.enumerations.QueryPlanCheck;
+import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
+
+@ExtendWith(MockitoExtension.class)
+class IndexManagerTest {
+
+    private static final String COLLECTION = "psc_verification";
+    private static final IndexInfo ID_INDEX = new IndexInfo(
+        List.of(IndexField.create("_id", Sort.Direction.ASC)), "_id_", false, false, null);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private IndexOperations indexOps;
+    @Mock
+    private Logger logger;
+
+    private IndexManagementProperties properties;
+    private IndexManager testManager;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IndexManagementProperties();
+        testManager = new IndexManager(mongoTemplate, properties, logger);
+    }
+
+    @Test
+    void reconcileWhenIndexesMissing() {
+        stubIndexes(List.of(ID_INDEX));
+
+        final var reconciliation = testManager.reconcile();
+
+        assertThat(reconciliation.created(), is(List.of("psc_notification_id_created_at", "links_self")));
+        assertThat(reconciliation.replaced(), is(List.of()));
+        assertThat(reconciliation.changed(), is(List.of()));
+        assertThat(reconciliation.unmanaged(), is(List.of()));
+        verify(indexOps, times(2)).ensureIndex(any(IndexDefinition.class));
+        verify(indexOps, never()).dropIndex(anyString());
+    }
+
+    @Test
+    void reconcileWhenIndexesChanged() {
+        final var changed = new IndexInfo(List.of(IndexField.create("links.self", Sort.Direction.DESC)),
+            "links_self", false, false, null);
+        final var renamed = new IndexInfo(List.of(IndexField.create("data.psc_notification_id", Sort.Direction.ASC),
+            IndexField.create("created_at", Sort.Direction.DESC)), "legacy_notification_id", false, false, null);
+        stubIndexes(List.of(ID_INDEX, changed, renamed));
+
+        final var reconciliation = testManager.reconcile();
+
+        assertThat(reconciliation, is(new IndexReconciliation(List.of(), List.of(), List.of("links_self"),
+            List.of())));
+        verify(indexOps, never()).dropIndex(anyString());
+        verify(indexOps, never()).ensureIndex(any(IndexDefinition.class));
+        verify(logger).error("Indexes of psc_verification differ from their declarations: [links_self]");
+    }
+
+    @Test
+    void reconcileWhenIndexesChangedAndReplaceChanged() {
+        properties.setReplaceChanged(true);
+        final var changed = new IndexInfo(List.of(IndexField.create("links.self", Sort.Direction.DESC)),
+            "links_self", false, false, null);
+        final var renamed = new IndexInfo(List.of(IndexField.create("data.psc_notification_id", Sort.Direction.ASC),
+            IndexField.create("created_at", Sort.Direction.DESC)), "legacy_notification_id", false, false, null);
+        final var unmanaged = new IndexInfo(List.of(IndexField.create("updated_at", Sort.Direction.ASC)),
+            "updated_at_1", false, false, null);
+        stubIndexes(List.of(ID_INDEX, changed, renamed, unmanaged));
+
+        final var reconciliation = testManager.reconcile();
+
+        assertThat(reconciliation.created(), is(List.of()));
+        assertThat(reconciliation.replaced(), is(List.of("links_self")));
+        assertThat(reconciliation.changed(), is(List.of()));
+        assertThat(reconciliation.unmanaged(), is(List.of("updated_at_1")));
+        verify(indexOps).dropIndex("links_self");
+        verify(indexOps).ensureIndex(any(IndexDefinition.class));
+    }
+
+    @Test
+    void reconcileWhenUpToDate() {
+        final var notificationId = new IndexInfo(
+            List.of(IndexField.create("data.psc_notification_id", Sort.Direction.ASC),
+                IndexField.create("created_at", Sort.Direction.DESC)), "psc_notification_id_created_at", false,
+            false, null);
+        final var links = new IndexInfo(List.of(IndexField.create("links.self", Sort.Direction.ASC)),
+            "links_self", false, false, null);
+        stubIndexes(List.of(ID_INDEX, notificationId, links));
+
+        final var reconciliation = testManager.reconcile();
+
+        assertThat(reconciliation, is(new IndexReconciliation(List.of(), List.of(), List.of(), List.of())));
+        verify(indexOps, never()).ensureIndex(any(IndexDefinition.class));
+    }
+
+    @Test
+    void afterSingletonsInstantiatedWhenDisabled() {
+        properties.setEnabled(false);
+
+        testManager.afterSingletonsInstantiated();
+
+        verifyNoInteractions(mongoTemplate);
+        verify(logger).info("Index management is disabled");
+    }
+
+    @Test
+    void afterSingletonsInstantiatedWhenCheckOff() {
+        properties.setQueryPlanCheck(QueryPlanCheck.OFF);
+        stubIndexes(List.of(ID_INDEX));
+
+        testManager.afterSingletonsInstantiated();
+
+        verify(mongoTemplate, never()).executeCommand(any(Document.class));
+    }
+
+    @Test
+    void afterSingletonsInstantiatedWhenCollectionScanAndWarn() {
+        stubIndexes(List.of(ID_INDEX));
+        stubExplain(new Document("stage", IndexManager.COLLECTION_SCAN));
+
+        testManager.afterSingletonsInstantiated();
+
+        verify(logger).error("Queries on psc_verification would use COLLSCAN: "
+            + "[latest-by-notification-id, update-if-unmodified, by-transaction]");
+    }
+
+    @Test
+    void afterSingletonsInstantiatedWhenCollectionScanAndFail() {
+        properties.setQueryPlanCheck(QueryPlanCheck.FAIL);
+        stubIndexes(List.of(ID_INDEX));
+        stubExplain(new Document("stage", IndexManager.COLLECTION_SCAN));
+
+        final var exception = assertThrows(IllegalStateException.class,
+            testManager::afterSingletonsInstantiated);
+
+        assertThat(exception.getMessage(), containsString("would use COLLSCAN"));
+    }
+
+    @Test
+    void verifyQueryPlansWhenIndexUsed() {
+        when(mongoTemplate.getCollectionName(PscVerification.class)).thenReturn(COLLECTION);
+        when(mongoTemplate.getConverter()).thenReturn(converter());
+        stubExplain(new Document("stage", "LIMIT").append("inputStage",
+            new Document("stage", "FETCH").append("inputStage",
+                new Document("stage", "IXSCAN").append("indexName", "psc_notification_id_created_at"))));
+
+        final var plans = testManager.verifyQueryPlans();
+
+        assertThat(plans.size(), is(3));
+        assertThat(plans.getFirst(), is(new QueryPlan("latest-by-notification-id",
+            List.of("LIMIT", "FETCH", "IXSCAN"), List.of("psc_notification_id_created_at"), false)));
+    }
+
+    @Test
+    void statistics() {
+        final var storageStats = new Document("count", 12)
+            .append("totalIndexSize", 8192L)
+            .append("indexSizes", new Document("_id_", 4096).append("links_self", 4096L));
+        when(mongoTemplate.getCollectionName(PscVerification.class)).thenReturn(COLLECTION);
+        when(mongoTemplate.<Document>execute(eq(COLLECTION), any()))
+            .thenReturn(new Document("storageStats", storageStats));
+
+        final var statistics = testManager.statistics();
+
+        assertThat(statistics, is(new IndexStatistics(COLLECTION, 12L, 8192L,
+            Map.of("_id_", 4096L, "links_self", 4096L), List.of())));
+    }
+
+    private void stubIndexes(final List<IndexInfo> existing) {
+        when(mongoTemplate.getCollectionName(PscVerification.class)).thenReturn(COLLECTION);
+        when(mongoTemplate.getConverter()).thenReturn(converter());
+        when(mongoTemplate.indexOps(PscVerification.class)).thenReturn(indexOps);
+        when(indexOps.getIndexInfo()).thenReturn(existing);
+    }
+
+    private void stubExplain(final Document winningPlan) {
+        when(mongoTemplate.executeCommand(any(Document.class))).thenReturn(
+            new Document("queryPlanner", new Document("winningPlan", winningPlan)));
+    }
+
+    private static MappingMongoConverter converter() {
+        final var mappingContext = new MongoMappingContext();
+        mappingContext.setFieldNamingStrategy(new SnakeCaseFieldNamingStrategy());
+        final var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+
+        return converter;
+    }
+}
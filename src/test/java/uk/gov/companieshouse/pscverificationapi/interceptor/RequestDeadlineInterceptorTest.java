@@ -0,0 +1,61 @@
+package uk.gov.companieshouse.pscverificationapi.interceptor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.pscverificationapi.resilience.Deadline;
+
+@ExtendWith(MockitoExtension.class)
+class RequestDeadlineInterceptorTest {
+
+    @Mock
+    private Object handler;
+    @Mock
+    private HttpServletRequest mockRequest;
+    @Mock
+    private HttpServletResponse mockResponse;
+
+    private RequestDeadlineInterceptor testInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        testInterceptor = new RequestDeadlineInterceptor(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    @Test
+    void preHandle() {
+        final var result = testInterceptor.preHandle(mockRequest, mockResponse, handler);
+        final var deadline = Deadline.current();
+
+        assertThat(result, is(true));
+        assertThat(deadline.isPresent(), is(true));
+        assertThat(deadline.get().budget(), is(Duration.ofSeconds(5)));
+        verify(mockRequest).setAttribute(eq(RequestDeadlineInterceptor.DEADLINE_ATTRIBUTE), eq(deadline.get()));
+    }
+
+    @Test
+    void afterCompletion() {
+        testInterceptor.preHandle(mockRequest, mockResponse, handler);
+        testInterceptor.afterCompletion(mockRequest, mockResponse, handler, null);
+
+        assertThat(Deadline.current(), is(Optional.empty()));
+    }
+
+}
@@ -0,0 +1,101 @@
+package uk.gov.companieshouse.pscverificationapi.metrics;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.event.CommandStartedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+@ExtendWith(MockitoExtension.class)
+class MongoWriteMetricsTest {
+
+    @Mock
+    private CommandStartedEvent insertEvent;
+    @Mock
+    private CommandStartedEvent findEvent;
+
+    private SimpleMeterRegistry registry;
+    private MongoWriteMetrics testMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        testMetrics = new MongoWriteMetrics();
+        testMetrics.bindTo(registry);
+    }
+
+    @Test
+    void commandStartedWhenWriteCommand() {
+        when(insertEvent.getCommandName()).thenReturn("insert");
+
+        testMetrics.commandStarted(insertEvent);
+
+        assertThat(testMetrics.currentRequestWrites(), is(1));
+        assertThat(registry.get(MongoWriteMetrics.WRITES).functionCounter().count(), is(1.0));
+    }
+
+    @Test
+    void commandStartedWhenReadCommand() {
+        when(findEvent.getCommandName()).thenReturn("find");
+
+        testMetrics.commandStarted(findEvent);
+
+        assertThat(testMetrics.currentRequestWrites(), is(0));
+        assertThat(registry.get(MongoWriteMetrics.WRITES).functionCounter().count(), is(0.0));
+    }
+
+    @Test
+    void onRequestHandled() {
+        when(insertEvent.getCommandName()).thenReturn("insert");
+
+        testMetrics.commandStarted(insertEvent);
+        testMetrics.onRequestHandled(requestHandled("POST"));
+        testMetrics.onRequestHandled(requestHandled("GET"));
+
+        final var posts = registry.get(MongoWriteMetrics.WRITES_PER_REQUEST).tag("method", "POST").summary();
+        final var gets = registry.get(MongoWriteMetrics.WRITES_PER_REQUEST).tag("method", "GET").summary();
+
+        assertThat(posts.count(), is(1L));
+        assertThat(posts.totalAmount(), is(1.0));
+        assertThat(gets.count(), is(1L));
+        assertThat(gets.totalAmount(), is(0.0));
+        assertThat(testMetrics.currentRequestWrites(), is(0));
+    }
+
+    @Test
+    void onRequestHandledWhenWritesOnOtherThread() throws Exception {
+        when(insertEvent.getCommandName()).thenReturn("insert");
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> testMetrics.commandStarted(insertEvent)).get();
+        }
+        testMetrics.onRequestHandled(requestHandled("POST"));
+
+        assertThat(registry.get(MongoWriteMetrics.WRITES_PER_REQUEST).summary().totalAmount(), is(0.0));
+        assertThat(registry.get(MongoWriteMetrics.WRITES).functionCounter().count(), is(1.0));
+    }
+
+    @Test
+    void onRequestHandledWhenNotBound() {
+        final var unboundMetrics = new MongoWriteMetrics();
+
+        unboundMetrics.onRequestHandled(requestHandled("POST"));
+
+        assertThat(registry.find(MongoWriteMetrics.WRITES_PER_REQUEST).summary(), is(nullValue()));
+    }
+
+    private ServletRequestHandledEvent requestHandled(final String method) {
+        return new ServletRequestHandledEvent(this, "/transactions", "127.0.0.1", method, "dispatcherServlet",
+            null, null, 10L);
+    }
+
+}
@@ -94,6 +94,6 @@ class PscVerificationTest {
                 + "pscNotificationId=psc-notification-id, "
                 + "verificationDetails=VerificationDetails[uvid='uvid', "
                 + "nameMismatchReason=PREFERRED_NAME, statements=[INDIVIDUAL_VERIFIED]]], "
-                + "internalData=InternalData[internalId=123]]"));
+                + "internalData=InternalData[internalId=123], validation=null]"));
     }
 }
\ No newline at end of file
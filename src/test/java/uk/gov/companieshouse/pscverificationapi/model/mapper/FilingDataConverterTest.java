@@ -0,0 +1,142 @@
+package uk.gov.companieshouse.pscverificationapi.model.mapper;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static uk.gov.companieshouse.api.model.pscverification.NameMismatchReasonConstants.PREFERRED_NAME;
+import static uk.gov.companieshouse.api.model.pscverification.VerificationStatementConstants.INDIVIDUAL_VERIFIED;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.companieshouse.api.model.pscverification.InternalData;
+import uk.gov.companieshouse.api.model.pscverification.NameMismatchReasonConstants;
+import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
+import uk.gov.companieshouse.api.model.pscverification.VerificationDetails;
+import uk.gov.companieshouse.api.model.pscverification.VerificationStatementConstants;
+import uk.gov.companieshouse.pscverificationapi.helper.ObjectMapperRegistry;
+import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
+
+class FilingDataConverterTest {
+
+    private static final String COMPANY_NUMBER = "12345678";
+    private static final String PSC_NOTIFICATION_ID = "abcdefgh";
+    private static final String APPOINTMENT_ID = "87654321";
+    private static final String UVID = "999999999";
+
+    // configured as the application ObjectMapper is in AppConfig
+    private static final ObjectMapper OBJECT_MAPPER = new Jackson2ObjectMapperBuilder()
+        .serializationInclusion(JsonInclude.Include.NON_NULL)
+        .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+        .build();
+
+    @Test
+    void toFilingData() {
+        final var filingData = FilingDataConverter.toFilingData(createPscVerification(
+            VerificationDetails.newBuilder()
+                .uvid(UVID)
+                .nameMismatchReason(PREFERRED_NAME)
+                .statements(EnumSet.of(INDIVIDUAL_VERIFIED))
+                .build()));
+
+        assertThat(filingData, is(Map.of("company_number", COMPANY_NUMBER,
+            "verification_details", Map.of("uvid", UVID,
+                "name_mismatch_reason", "PREFERRED_NAME",
+                "verification_statements", List.of("INDIVIDUAL_VERIFIED")),
+            "appointment_id", APPOINTMENT_ID)));
+        assertThat(filingData.keySet(), contains("company_number", "verification_details", "appointment_id"));
+    }
+
+    @Test
+    void toFilingDataWritesSameJsonAsConversion() throws JsonProcessingException {
+        final var details = new ArrayList<>(List.of(
+            VerificationDetails.newBuilder()
+                .uvid(UVID)
+                .statements(EnumSet.of(INDIVIDUAL_VERIFIED))
+                .build(),
+            VerificationDetails.newBuilder().build()));
+
+        for (final var nameMismatchReason : NameMismatchReasonConstants.values()) {
+            details.add(VerificationDetails.newBuilder()
+                .uvid(UVID)
+                .nameMismatchReason(nameMismatchReason)
+                .statements(EnumSet.allOf(VerificationStatementConstants.class))
+                .build());
+        }
+
+        for (final var verificationDetails : details) {
+            final var pscVerification = createPscVerification(verificationDetails);
+
+            assertThat(OBJECT_MAPPER.writeValueAsString(FilingDataConverter.toFilingData(pscVerification)),
+                is(OBJECT_MAPPER.writeValueAsString(convert(pscVerification))));
+        }
+    }
+
+    /**
+     * The converter lists the fields it writes, so a property added to the SDK model would
+     * otherwise be left out of the filing data without any test failing.
+     */
+    @Test
+    void toFilingDataWritesEverySerializedProperty() {
+        assertThat(serializedProperties(PscVerificationData.class),
+            is(Set.of("company_number", "psc_notification_id", "verification_details")));
+        assertThat(serializedProperties(VerificationDetails.class),
+            is(Set.of("uvid", "name_mismatch_reason", "verification_statements")));
+    }
+
+    @Test
+    void toFilingDataWhenNoVerificationDetails() throws JsonProcessingException {
+        final var pscVerification = createPscVerification(null);
+
+        final var filingData = FilingDataConverter.toFilingData(pscVerification);
+
+        assertThat(filingData, is(Map.of("company_number", COMPANY_NUMBER, "appointment_id", APPOINTMENT_ID)));
+        assertThat(OBJECT_MAPPER.writeValueAsString(filingData),
+            is(OBJECT_MAPPER.writeValueAsString(convert(pscVerification))));
+    }
+
+    /**
+     * The conversion the filing data was previously built with.
+     */
+    private static Map<String, Object> convert(final PscVerification pscVerification) {
+        final Map<String, Object> dataMap = ObjectMapperRegistry.convert(pscVerification.getData(),
+            PropertyNamingStrategies.SNAKE_CASE,
+            TypeFactory.defaultInstance().constructMapType(Map.class, String.class, Object.class));
+
+        dataMap.remove("psc_notification_id");
+        dataMap.put("appointment_id", pscVerification.getInternalData().internalId());
+        return dataMap;
+    }
+
+    private static Set<String> serializedProperties(final Class<?> type) {
+        return OBJECT_MAPPER.getSerializationConfig()
+            .introspect(OBJECT_MAPPER.constructType(type))
+            .findProperties()
+            .stream()
+            .filter(BeanPropertyDefinition::couldSerialize)
+            .map(BeanPropertyDefinition::getName)
+            .collect(Collectors.toSet());
+    }
+
+    private static PscVerification createPscVerification(final VerificationDetails verificationDetails) {
+        return PscVerification.newBuilder()
+            .data(PscVerificationData.newBuilder()
+                .companyNumber(COMPANY_NUMBER)
+                .pscNotificationId(PSC_NOTIFICATION_ID)
+                .verificationDetails(verificationDetails)
+                .build())
+            .internalData(InternalData.newBuilder().internalId(APPOINTMENT_ID).build())
+            .build();
+    }
+}
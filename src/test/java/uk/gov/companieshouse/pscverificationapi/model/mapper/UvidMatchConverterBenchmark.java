@@ -0,0 +1,96 @@
+package uk.gov.companieshouse.pscverificationapi.model.mapper;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import uk.gov.companieshouse.api.identityverification.model.UvidMatch;
+import uk.gov.companieshouse.api.psc.DateOfBirth;
+import uk.gov.companieshouse.api.psc.IndividualFullRecord;
+import uk.gov.companieshouse.api.psc.NameElements;
+import uk.gov.companieshouse.pscverificationapi.helper.JsonHelper;
+
+/**
+ * Compares {@link UvidMatchConverter} with the Jackson conversion it replaced, on a PSC record
+ * shaped as the PSC Data API client returns it. Run with {@code make benchmark}, or this class's
+ * main method; add {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UvidMatchConverterBenchmark {
+
+    private static final String UVID = "XY222222223";
+
+    private IndividualFullRecord pscData;
+
+    @Setup
+    public void setUp() {
+        final var nameElements = new LinkedHashMap<String, Object>();
+        final var dateOfBirth = new LinkedHashMap<String, Object>();
+
+        nameElements.put("title", "Dr");
+        nameElements.put("forename", "Forename1");
+        nameElements.put("middle_name", "Forename2");
+        nameElements.put("surname", "Surname");
+        dateOfBirth.put("day", 27);
+        dateOfBirth.put("month", 2);
+        dateOfBirth.put("year", 1983);
+        pscData = new IndividualFullRecord();
+        pscData.setNameElements(nameElements);
+        pscData.setDateOfBirth(dateOfBirth);
+    }
+
+    @Benchmark
+    public UvidMatch converter() {
+        return UvidMatchConverter.toUvidMatch(UVID, pscData);
+    }
+
+    @Benchmark
+    public UvidMatch jackson() {
+        final var uvidMatch = new UvidMatch();
+        final var nameElements = JsonHelper.convertLinkedHashmap(pscData.getNameElements(),
+            PropertyNamingStrategies.SNAKE_CASE, NameElements.class);
+        final var forenames = new ArrayList<String>();
+
+        uvidMatch.setUvid(UVID);
+        if (nameElements.getForename() != null) {
+            forenames.add(nameElements.getForename());
+        }
+        if (nameElements.getMiddleName() != null) {
+            forenames.add(nameElements.getMiddleName());
+        }
+        uvidMatch.setForenames(forenames);
+        uvidMatch.setSurname(nameElements.getSurname());
+
+        final var dateOfBirth = JsonHelper.convertLinkedHashmap(pscData.getDateOfBirth(),
+            PropertyNamingStrategies.SNAKE_CASE, DateOfBirth.class);
+        final var text = String.format("%04d-%02d-%02d", dateOfBirth.getYear(), dateOfBirth.getMonth(),
+            dateOfBirth.getDay());
+
+        uvidMatch.setDateOfBirth(LocalDate.parse(text, DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        return uvidMatch;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UvidMatchConverterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
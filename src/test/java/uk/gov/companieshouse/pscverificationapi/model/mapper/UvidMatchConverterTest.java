@@ -0,0 +1,129 @@
+package uk.gov.companieshouse.pscverificationapi.model.mapper;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.api.model.common.Date3Tuple;
+import uk.gov.companieshouse.api.model.psc.NameElementsApi;
+import uk.gov.companieshouse.api.psc.DateOfBirth;
+import uk.gov.companieshouse.api.psc.IndividualFullRecord;
+import uk.gov.companieshouse.api.psc.NameElements;
+
+class UvidMatchConverterTest {
+
+    private static final String UVID = "XY222222223";
+
+    @Test
+    void toUvidMatchWhenMaps() {
+        final var pscData = new IndividualFullRecord();
+        pscData.setNameElements(
+            Map.of("forename", "Forename1", "middle_name", "Forename2", "surname", "Surname", "title", "Dr"));
+        pscData.setDateOfBirth(Map.of("day", 27, "month", 2, "year", 1983));
+
+        final var result = UvidMatchConverter.toUvidMatch(UVID, pscData);
+
+        assertThat(result.getUvid(), is(UVID));
+        assertThat(result.getForenames(), contains("Forename1", "Forename2"));
+        assertThat(result.getSurname(), is("Surname"));
+        assertThat(result.getDateOfBirth(), is(LocalDate.of(1983, 2, 27)));
+    }
+
+    @Test
+    void toUvidMatchWhenDatePartsAreText() {
+        final var pscData = new IndividualFullRecord();
+        pscData.setNameElements(Map.of("surname", "Surname"));
+        pscData.setDateOfBirth(Map.of("day", "07", "month", "11", "year", "1990"));
+
+        final var result = UvidMatchConverter.toUvidMatch(UVID, pscData);
+
+        assertThat(result.getForenames(), is(empty()));
+        assertThat(result.getDateOfBirth(), is(LocalDate.of(1990, 11, 7)));
+    }
+
+    @Test
+    void toUvidMatchWhenTyped() {
+        final var pscData = new IndividualFullRecord();
+        final var nameElements = new NameElements();
+        final var dateOfBirth = new DateOfBirth();
+        nameElements.setForename("Forename1");
+        nameElements.setSurname("Surname");
+        dateOfBirth.setDay(27);
+        dateOfBirth.setMonth(2);
+        dateOfBirth.setYear(1983);
+        pscData.setNameElements(nameElements);
+        pscData.setDateOfBirth(dateOfBirth);
+
+        final var result = UvidMatchConverter.toUvidMatch(UVID, pscData);
+
+        assertThat(result.getForenames(), contains("Forename1"));
+        assertThat(result.getSurname(), is("Surname"));
+        assertThat(result.getDateOfBirth(), is(LocalDate.of(1983, 2, 27)));
+    }
+
+    @Test
+    void toUvidMatchWhenOtherTypes() {
+        final var pscData = new IndividualFullRecord();
+        final var nameElements = new NameElementsApi();
+        nameElements.setForename("Forename1");
+        nameElements.setMiddleName("Forename2");
+        nameElements.setSurname("Surname");
+        pscData.setNameElements(nameElements);
+        pscData.setDateOfBirth(new Date3Tuple(27, 2, 1983));
+
+        final var result = UvidMatchConverter.toUvidMatch(UVID, pscData);
+
+        assertThat(result.getForenames(), contains("Forename1", "Forename2"));
+        assertThat(result.getSurname(), is("Surname"));
+        assertThat(result.getDateOfBirth(), is(LocalDate.of(1983, 2, 27)));
+    }
+
+    @Test
+    void toUvidMatchWhenNoNameOrDateOfBirth() {
+        final var result = UvidMatchConverter.toUvidMatch(UVID, new IndividualFullRecord());
+
+        assertThat(result.getUvid(), is(UVID));
+        assertThat(result.getForenames(), is(empty()));
+        assertThat(result.getSurname(), is(nullValue()));
+        assertThat(result.getDateOfBirth(), is(nullValue()));
+    }
+
+    @Test
+    void toUvidMatchWhenDateOfBirthIncomplete() {
+        final var pscData = new IndividualFullRecord();
+        final var dateOfBirth = new LinkedHashMap<String, Object>();
+        dateOfBirth.put("month", 2);
+        dateOfBirth.put("year", 1983);
+        pscData.setDateOfBirth(dateOfBirth);
+
+        final var thrown = assertThrows(DateTimeException.class, () -> UvidMatchConverter.toUvidMatch(UVID, pscData));
+
+        assertThat(thrown.getMessage(), is("Missing date of birth day"));
+    }
+
+    @Test
+    void toUvidMatchWhenDateOfBirthInvalid() {
+        final var pscData = new IndividualFullRecord();
+        pscData.setDateOfBirth(Map.of("day", 30, "month", 2, "year", 1983));
+
+        assertThrows(DateTimeException.class, () -> UvidMatchConverter.toUvidMatch(UVID, pscData));
+    }
+
+    @Test
+    void toUvidMatchWhenDatePartNotNumber() {
+        final var pscData = new IndividualFullRecord();
+        pscData.setDateOfBirth(Map.of("day", "27th", "month", 2, "year", 1983));
+
+        final var thrown = assertThrows(DateTimeException.class, () -> UvidMatchConverter.toUvidMatch(UVID, pscData));
+
+        assertThat(thrown.getMessage(), is("Invalid date of birth day: 27th"));
+    }
+}
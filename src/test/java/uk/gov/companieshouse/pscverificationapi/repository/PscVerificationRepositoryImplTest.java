@@ -6,21 +6,36 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.mongodb.client.result.UpdateResult;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import uk.gov.companieshouse.api.model.pscverification.InternalData;
+import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
+import uk.gov.companieshouse.pscverificationapi.model.entity.MaterializedValidation;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
 
 @ExtendWith(MockitoExtension.class)
 class PscVerificationRepositoryImplTest {
 
+    private static final String FILING_ID = "6332aa6ed28ad2333c3a520a";
+    private static final Instant FIRST_INSTANT = Instant.parse("2024-10-15T09:44:08.108Z");
+    private static final Instant SECOND_INSTANT = Instant.parse("2024-10-16T09:44:08.108Z");
+
     @Mock
     private MongoTemplate mongoTemplate;
 
@@ -28,18 +43,86 @@ class PscVerificationRepositoryImplTest {
     private PscVerificationRepositoryImpl repository;
 
     @Test
-    void findByNotificationIdReturnsMatchingRecords() {
+    void findLatestByNotificationIdReturnsNewestRecord() {
         String notificationId = "testId";
         PscVerification verification = new PscVerification();
-        when(mongoTemplate.find(any(), eq(PscVerification.class))).thenReturn(List.of(verification));
+        final var expectedQuery = Query.query(Criteria.where("data.psc_notification_id").is(notificationId))
+            .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+            .limit(1);
+        expectedQuery.fields().include("id", "createdAt", "updatedAt", "links", "data", "internalData");
+        when(mongoTemplate.findOne(any(Query.class), eq(PscVerification.class))).thenReturn(verification);
+
+        Optional<PscVerification> result = repository.findLatestByNotificationId(notificationId);
+
+        assertSame(verification, result.orElseThrow());
+        verify(mongoTemplate).findOne(expectedQuery, PscVerification.class);
+    }
+
+    @Test
+    void findLatestByNotificationIdWhenNoRecords() {
+        Optional<PscVerification> result = repository.findLatestByNotificationId("testId");
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void updateIfUnmodifiedReturnsUpdatedRecord() {
+        final var data = PscVerificationData.newBuilder().companyNumber("12345678").build();
+        final var internalData = InternalData.newBuilder().internalId("123").build();
+        final var filing = PscVerification.newBuilder()
+            .id(FILING_ID)
+            .updatedAt(SECOND_INSTANT)
+            .data(data)
+            .internalData(internalData)
+            .build();
+        final var options = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+            any(FindAndModifyOptions.class), eq(PscVerification.class))).thenReturn(filing);
+
+        final var result = repository.updateIfUnmodified(filing, FIRST_INSTANT,
+            new Update().set("data.companyNumber", "12345678"));
+
+        assertEquals(Optional.of(filing), result);
+        verify(mongoTemplate).findAndModify(
+            eq(Query.query(Criteria.where("id").is(FILING_ID).and("updatedAt").is(FIRST_INSTANT))),
+            eq(new Update().set("data.companyNumber", "12345678").set("updatedAt", SECOND_INSTANT)
+                .set("internalData", internalData)),
+            options.capture(), eq(PscVerification.class));
+        assertTrue(options.getValue().isReturnNew());
+    }
+
+    @Test
+    void updateIfUnmodifiedWhenInternalDataAbsent() {
+        final var filing = PscVerification.newBuilder().id(FILING_ID).updatedAt(SECOND_INSTANT).build();
+
+        final var result = repository.updateIfUnmodified(filing, FIRST_INSTANT, new Update());
+
+        assertEquals(Optional.empty(), result);
+        verify(mongoTemplate).findAndModify(any(Query.class),
+            eq(new Update().set("updatedAt", SECOND_INSTANT)),
+            any(FindAndModifyOptions.class), eq(PscVerification.class));
+    }
 
-        List<PscVerification> results = repository.findByNotificationId(notificationId);
+    @Test
+    void saveValidationWhenUnmodified() {
+        final var validation = new MaterializedValidation(FIRST_INSTANT, SECOND_INSTANT, true, List.of());
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(PscVerification.class)))
+            .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
+
+        final var result = repository.saveValidation(FILING_ID, FIRST_INSTANT, validation);
+
+        assertTrue(result);
+        verify(mongoTemplate).updateFirst(
+            Query.query(Criteria.where("id").is(FILING_ID).and("updatedAt").is(FIRST_INSTANT)),
+            Update.update("validation", validation), PscVerification.class);
+    }
+
+    @Test
+    void saveValidationWhenModified() {
+        final var validation = new MaterializedValidation(FIRST_INSTANT, SECOND_INSTANT, true, List.of());
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(PscVerification.class)))
+            .thenReturn(UpdateResult.acknowledged(0L, 0L, null));
 
-        assertEquals(1, results.size());
-        assertSame(verification, results.getFirst());
-        verify(mongoTemplate).find(
-            Query.query(Criteria.where("data.psc_notification_id").is(notificationId)),
-            PscVerification.class
-        );
+        assertFalse(repository.saveValidation(FILING_ID, FIRST_INSTANT, validation));
     }
 }
@@ -0,0 +1,120 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AimdLimiterTest {
+
+    private static final Duration FAST = Duration.ofMillis(10);
+    private static final Duration SLOW = Duration.ofSeconds(2);
+
+    private AimdLimiter testLimiter;
+
+    @BeforeEach
+    void setUp() {
+        testLimiter = new AimdLimiter(2, 10, 0.5, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void constructWhenLimitsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(0, 10, 0.5, SLOW));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(5, 4, 0.5, SLOW));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(1, 4, 1.0, SLOW));
+    }
+
+    @Test
+    void tryAcquireWhenBelowLimit() throws InterruptedException {
+        assertThat(testLimiter.getLimit(), is(10));
+        assertThat(testLimiter.tryAcquire(Duration.ZERO), is(true));
+        assertThat(testLimiter.getInFlight(), is(1));
+        assertThat(testLimiter.available(), is(9));
+    }
+
+    @Test
+    void tryAcquireWhenAtLimit() throws InterruptedException {
+        final var fixed = new AimdLimiter(1, 1, 0.5, SLOW);
+
+        assertThat(fixed.tryAcquire(Duration.ZERO), is(true));
+        assertThat(fixed.tryAcquire(Duration.ofMillis(10)), is(false));
+        fixed.release();
+        assertThat(fixed.tryAcquire(Duration.ZERO), is(true));
+    }
+
+    @Test
+    void tryAcquireWaitsForRelease() throws Exception {
+        final var fixed = new AimdLimiter(1, 1, 0.5, SLOW);
+        final var waiting = new CountDownLatch(1);
+
+        assertThat(fixed.tryAcquire(Duration.ZERO), is(true));
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var second = executor.submit(() -> {
+                waiting.countDown();
+                return fixed.tryAcquire(Duration.ofSeconds(5));
+            });
+            assertThat(waiting.await(5, TimeUnit.SECONDS), is(true));
+            fixed.onSample(FAST, false);
+
+            assertThat(second.get(), is(true));
+        }
+    }
+
+    @Test
+    void onSampleWhenSlow() throws InterruptedException {
+        testLimiter.tryAcquire(Duration.ZERO);
+        testLimiter.onSample(SLOW, false);
+
+        assertThat(testLimiter.getLimit(), is(5));
+        assertThat(testLimiter.getInFlight(), is(0));
+    }
+
+    @Test
+    void onSampleWhenDropped() throws InterruptedException {
+        for (var i = 0; i < 5; i++) {
+            testLimiter.tryAcquire(Duration.ZERO);
+            testLimiter.onSample(FAST, true);
+        }
+
+        assertThat(testLimiter.getLimit(), is(2));
+    }
+
+    @Test
+    void onSampleWhenFastAndLimitUsed() throws InterruptedException {
+        testLimiter.tryAcquire(Duration.ZERO);
+        testLimiter.onSample(SLOW, false);
+        for (var i = 0; i < 3; i++) {
+            testLimiter.tryAcquire(Duration.ZERO);
+        }
+        testLimiter.onSample(FAST, false);
+
+        assertThat(testLimiter.getLimit(), is(6));
+    }
+
+    @Test
+    void onSampleWhenFastAndLimitUnused() throws InterruptedException {
+        testLimiter.tryAcquire(Duration.ZERO);
+        testLimiter.onSample(SLOW, false);
+        testLimiter.tryAcquire(Duration.ZERO);
+        testLimiter.onSample(FAST, false);
+
+        assertThat(testLimiter.getLimit(), is(5));
+    }
+
+    @Test
+    void onSampleWhenAtMaximum() throws InterruptedException {
+        for (var i = 0; i < 10; i++) {
+            testLimiter.tryAcquire(Duration.ZERO);
+        }
+        testLimiter.onSample(FAST, false);
+
+        assertThat(testLimiter.getLimit(), is(10));
+    }
+
+}
@@ -0,0 +1,177 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private MutableClock clock;
+    private CircuitBreaker testBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-10-15T09:44:08.108Z"));
+        testBreaker = new CircuitBreaker(50, 4, 10, OPEN_DURATION, 2, clock);
+    }
+
+    @Test
+    void constructWhenWindowSizeNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(50, 4, 0, OPEN_DURATION, 2, clock));
+    }
+
+    @Test
+    void onFailureWhenBelowMinimumCalls() {
+        record(3, true);
+
+        assertThat(testBreaker.getState(), is(CircuitState.CLOSED));
+        assertThat(testBreaker.failureRate(), is(100));
+        assertThat(testBreaker.tryAcquirePermission(), is(true));
+    }
+
+    @Test
+    void onFailureWhenThresholdReached() {
+        record(2, false);
+        record(2, true);
+
+        assertThat(testBreaker.getState(), is(CircuitState.OPEN));
+        assertThat(testBreaker.tryAcquirePermission(), is(false));
+    }
+
+    @Test
+    void onFailureWhenBelowThreshold() {
+        record(3, false);
+        record(2, true);
+
+        assertThat(testBreaker.getState(), is(CircuitState.CLOSED));
+        assertThat(testBreaker.failureRate(), is(40));
+    }
+
+    @Test
+    void recordWhenWindowFull() {
+        record(10, true);
+        testBreaker.reset();
+        record(3, true);
+        record(10, false);
+
+        assertThat(testBreaker.recordedCalls(), is(10));
+        assertThat(testBreaker.failureRate(), is(0));
+    }
+
+    @Test
+    void getStateWhenOpenDurationPassed() {
+        open();
+        clock.advance(OPEN_DURATION);
+
+        assertThat(testBreaker.getState(), is(CircuitState.HALF_OPEN));
+    }
+
+    @Test
+    void tryAcquirePermissionWhenHalfOpen() {
+        open();
+        clock.advance(OPEN_DURATION);
+
+        assertThat(testBreaker.tryAcquirePermission(), is(true));
+        assertThat(testBreaker.tryAcquirePermission(), is(true));
+        assertThat(testBreaker.tryAcquirePermission(), is(false));
+    }
+
+    @Test
+    void onSuccessWhenProbesSucceed() {
+        open();
+        clock.advance(OPEN_DURATION);
+        testBreaker.tryAcquirePermission();
+        testBreaker.tryAcquirePermission();
+        testBreaker.onSuccess();
+
+        assertThat(testBreaker.getState(), is(CircuitState.HALF_OPEN));
+
+        testBreaker.onSuccess();
+
+        assertThat(testBreaker.getState(), is(CircuitState.CLOSED));
+        assertThat(testBreaker.recordedCalls(), is(0));
+    }
+
+    @Test
+    void onFailureWhenProbeFails() {
+        open();
+        clock.advance(OPEN_DURATION);
+        testBreaker.tryAcquirePermission();
+        testBreaker.onFailure();
+
+        assertThat(testBreaker.getState(), is(CircuitState.OPEN));
+        assertThat(testBreaker.tryAcquirePermission(), is(false));
+    }
+
+    @Test
+    void releasePermissionWhenHalfOpen() {
+        open();
+        clock.advance(OPEN_DURATION);
+        testBreaker.tryAcquirePermission();
+        testBreaker.tryAcquirePermission();
+        testBreaker.releasePermission();
+
+        assertThat(testBreaker.tryAcquirePermission(), is(true));
+    }
+
+    @Test
+    void reset() {
+        open();
+        testBreaker.reset();
+
+        assertThat(testBreaker.getState(), is(CircuitState.CLOSED));
+        assertThat(testBreaker.tryAcquirePermission(), is(true));
+    }
+
+    private void open() {
+        record(4, true);
+        assertThat(testBreaker.getState(), is(CircuitState.OPEN));
+    }
+
+    private void record(final int calls, final boolean failure) {
+        for (var i = 0; i < calls; i++) {
+            if (failure) {
+                testBreaker.onFailure();
+            } else {
+                testBreaker.onSuccess();
+            }
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DeadlineTest {
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    @Test
+    void after() {
+        final var deadline = Deadline.after(Duration.ofSeconds(5));
+
+        assertThat(deadline.budget(), is(Duration.ofSeconds(5)));
+        assertThat(deadline.isExpired(), is(false));
+        assertThat(deadline.remaining(), is(lessThanOrEqualTo(Duration.ofSeconds(5))));
+        assertThat(deadline.remaining(), is(greaterThan(Duration.ZERO)));
+    }
+
+    @Test
+    void isExpiredWhenPassed() {
+        final var deadline = new Deadline(Duration.ofSeconds(1), System.nanoTime() - 1);
+
+        assertThat(deadline.isExpired(), is(true));
+        assertThat(deadline.remaining().isNegative(), is(true));
+    }
+
+    @Test
+    void limit() {
+        final var deadline = Deadline.after(Duration.ofSeconds(5));
+
+        assertThat(deadline.limit(Duration.ofSeconds(1)), is(Duration.ofSeconds(1)));
+        assertThat(deadline.limit(Duration.ofSeconds(10)), is(lessThanOrEqualTo(Duration.ofSeconds(5))));
+    }
+
+    @Test
+    void bindAndClear() {
+        final var deadline = Deadline.after(Duration.ofSeconds(5));
+
+        assertThat(Deadline.current(), is(Optional.empty()));
+        Deadline.bind(deadline);
+        assertThat(Deadline.current().get(), is(sameInstance(deadline)));
+        Deadline.clear();
+        assertThat(Deadline.current(), is(Optional.empty()));
+    }
+
+    @Test
+    void propagate() throws Exception {
+        final var deadline = Deadline.after(Duration.ofSeconds(5));
+        final var seen = new AtomicReference<Optional<Deadline>>();
+
+        Deadline.bind(deadline);
+        final var task = Deadline.propagate(() -> seen.set(Deadline.current()));
+        Deadline.clear();
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(task).get();
+        }
+        assertThat(seen.get().get(), is(sameInstance(deadline)));
+    }
+
+    @Test
+    void propagateWhenNoDeadline() {
+        final Runnable task = () -> {
+        };
+
+        assertThat(Deadline.propagate(task), is(sameInstance(task)));
+    }
+
+}
@@ -0,0 +1,49 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DownstreamActuatorEndpointTest {
+
+    private DownstreamActuatorEndpoint testEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        final var guards = new DownstreamGuards(d -> new DownstreamGuard(d, true, Duration.ZERO, Duration.ofSeconds(5),
+            new CircuitBreaker(50, 1, 20, Duration.ofSeconds(30), 3, Clock.systemUTC()),
+            new AimdLimiter(2, 5, 0.9, Duration.ofSeconds(1)), Runnable::run));
+        testEndpoint = new DownstreamActuatorEndpoint(guards);
+    }
+
+    @Test
+    void downstreams() {
+        final var downstreams = testEndpoint.downstreams();
+
+        assertThat(downstreams.keySet().stream().toList(),
+            is(Arrays.stream(Downstream.values()).map(Downstream::getValue).toList()));
+        assertThat(downstreams.get("psc-data-api").maxConcurrentCalls(), is(5));
+        assertThat(downstreams.get("psc-data-api").concurrencyLimit(), is(5));
+    }
+
+    @Test
+    void downstream() {
+        final var statistics = testEndpoint.downstream("company-profile-api");
+
+        assertThat(statistics.downstream(), is("company-profile-api"));
+        assertThat(statistics.circuitState(), is(CircuitState.CLOSED));
+        assertThat(statistics.timeout(), is(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void downstreamWhenUnknown() {
+        assertThat(testEndpoint.downstream("unknown"), is(nullValue()));
+    }
+
+}
@@ -0,0 +1,270 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.pscverificationapi.exception.DeadlineExceededException;
+import uk.gov.companieshouse.pscverificationapi.exception.DownstreamUnavailableException;
+
+class DownstreamGuardTest {
+
+    private ExecutorService executor;
+    private DownstreamGuard testGuard;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        testGuard = createGuard(true, 2, Duration.ofSeconds(5), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        Deadline.clear();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void callWhenSuccessful() {
+        assertThat(testGuard.call(() -> "A"), is("A"));
+
+        final var statistics = testGuard.statistics();
+
+        assertThat(statistics.successes(), is(1L));
+        assertThat(statistics.availableConcurrentCalls(), is(2));
+        assertThat(statistics.circuitState(), is(CircuitState.CLOSED));
+    }
+
+    @Test
+    void callWhenDisabled() {
+        final var disabled = createGuard(false, 2, Duration.ofSeconds(5), 1);
+        final var caller = Thread.currentThread();
+
+        assertThat(disabled.call(() -> Thread.currentThread()), is(sameInstance(caller)));
+        assertThat(disabled.statistics().successes(), is(0L));
+    }
+
+    @Test
+    void callPropagatesRequestAttributes() {
+        final var attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        assertThat(testGuard.call(RequestContextHolder::getRequestAttributes), is(sameInstance(attributes)));
+        assertThat(testGuard.call(Thread::currentThread), is(not(sameInstance(Thread.currentThread()))));
+    }
+
+    @Test
+    void callPropagatesDeadline() {
+        final var deadline = Deadline.after(Duration.ofSeconds(5));
+        Deadline.bind(deadline);
+
+        assertThat(testGuard.call(Deadline::current), is(Optional.of(deadline)));
+    }
+
+    @Test
+    void callWhenCallThrowsFailure() {
+        final var exception = new IOException("unavailable");
+
+        final var thrown = assertThrows(IOException.class, () -> testGuard.call(() -> {
+            throw exception;
+        }));
+
+        assertThat(thrown, is(sameInstance(exception)));
+        assertThat(testGuard.statistics().failures(), is(1L));
+        assertThat(testGuard.getCircuitState(), is(CircuitState.OPEN));
+    }
+
+    @Test
+    void callWhenCallThrowsClientError() {
+        final var exception = new HttpResponseException.Builder(404, "Not Found", new HttpHeaders()).build();
+
+        assertThrows(HttpResponseException.class, () -> testGuard.call(() -> {
+            throw exception;
+        }));
+        assertThat(testGuard.statistics().successes(), is(1L));
+        assertThat(testGuard.getCircuitState(), is(CircuitState.CLOSED));
+    }
+
+    @Test
+    void callWhenCircuitOpen() {
+        final var calls = new AtomicInteger();
+
+        assertThrows(IOException.class, () -> testGuard.call(() -> {
+            throw new IOException("unavailable");
+        }));
+
+        final var thrown = assertThrows(DownstreamUnavailableException.class,
+            () -> testGuard.call(calls::incrementAndGet));
+
+        assertThat(thrown.getDownstream(), is(Downstream.PSC_DATA));
+        assertThat(thrown.getMessage(), is("psc-data-api circuit is open"));
+        assertThat(calls.get(), is(0));
+        assertThat(testGuard.statistics().rejections(), is(1L));
+    }
+
+    @Test
+    void callWhenTimedOut() throws InterruptedException {
+        final var slow = createGuard(true, 1, Duration.ofMillis(50), 5);
+        final var release = new CountDownLatch(1);
+        final var finished = new CountDownLatch(1);
+
+        final var thrown = assertThrows(DownstreamUnavailableException.class, () -> slow.call(() -> {
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } finally {
+                finished.countDown();
+            }
+        }));
+
+        assertThat(thrown.getCause() instanceof TimeoutException, is(true));
+        assertThat(slow.statistics().timeouts(), is(1L));
+        assertThat(finished.await(5, TimeUnit.SECONDS), is(true));
+        awaitAvailable(slow, 1);
+    }
+
+    @Test
+    void callWhenBulkheadFull() throws Exception {
+        final var limited = createGuard(true, 1, Duration.ofSeconds(5), 5);
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        final var first = executor.submit(() -> limited.call(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+
+        final var thrown = assertThrows(DownstreamUnavailableException.class, () -> limited.call(() -> "B"));
+
+        assertThat(thrown.getMessage(), is("psc-data-api has too many calls in progress"));
+        release.countDown();
+        assertThat(first.get(), is(true));
+        assertThat(limited.statistics().rejections(), is(1L));
+        assertThat(limited.getCircuitState(), is(CircuitState.CLOSED));
+    }
+
+    @Test
+    void callWhenDeadlineExpired() {
+        final var calls = new AtomicInteger();
+
+        Deadline.bind(new Deadline(Duration.ofSeconds(1), System.nanoTime() - 1));
+
+        final var thrown = assertThrows(DeadlineExceededException.class, () -> testGuard.call(calls::incrementAndGet));
+
+        assertThat(thrown.getMessage(), is("psc-data-api call not made: request deadline of PT1S exceeded"));
+        assertThat(calls.get(), is(0));
+        assertThat(testGuard.statistics().rejections(), is(1L));
+    }
+
+    @Test
+    void callWhenDeadlineExpiresDuringCall() {
+        final var release = new CountDownLatch(1);
+
+        Deadline.bind(Deadline.after(Duration.ofMillis(50)));
+
+        final var thrown = assertThrows(DeadlineExceededException.class,
+            () -> testGuard.call(() -> release.await(5, TimeUnit.SECONDS)));
+
+        assertThat(thrown.getMessage(), is("psc-data-api call abandoned: request deadline of PT0.05S exceeded"));
+        assertThat(testGuard.statistics().timeouts(), is(1L));
+        assertThat(testGuard.getCircuitState(), is(CircuitState.CLOSED));
+        assertThat(testGuard.statistics().recordedCalls(), is(0));
+    }
+
+    @Test
+    void callWhenDisabledAndDeadlineExpired() {
+        final var disabled = createGuard(false, 2, Duration.ofSeconds(5), 1);
+
+        Deadline.bind(new Deadline(Duration.ofSeconds(1), System.nanoTime() - 1));
+
+        assertThrows(DeadlineExceededException.class, () -> disabled.call(() -> "A"));
+    }
+
+    @Test
+    void callWhenFailingReducesConcurrencyLimit() {
+        final var adaptive = new DownstreamGuard(Downstream.PSC_DATA, true, Duration.ofMillis(10),
+            Duration.ofSeconds(5), new CircuitBreaker(50, 10, 10, Duration.ofSeconds(30), 1, Clock.systemUTC()),
+            new AimdLimiter(1, 4, 0.5, Duration.ofSeconds(1)), Runnable::run);
+
+        assertThrows(IOException.class, () -> adaptive.call(() -> {
+            throw new IOException("unavailable");
+        }));
+
+        assertThat(adaptive.concurrencyLimit(), is(2));
+        assertThat(adaptive.statistics().maxConcurrentCalls(), is(4));
+        assertThat(adaptive.statistics().concurrencyLimit(), is(2));
+        assertThat(adaptive.availableConcurrentCalls(), is(2));
+    }
+
+    @Test
+    void isFailure() {
+        assertThat(DownstreamGuard.isFailure(new IOException("reset")), is(true));
+        assertThat(DownstreamGuard.isFailure(new RuntimeException(new TimeoutException())), is(true));
+        assertThat(DownstreamGuard.isFailure(
+            new RuntimeException(new HttpResponseException.Builder(503, null, new HttpHeaders()).build())),
+            is(true));
+        assertThat(DownstreamGuard.isFailure(new HttpResponseException.Builder(429, null, new HttpHeaders()).build()),
+            is(true));
+        assertThat(DownstreamGuard.isFailure(new HttpResponseException.Builder(400, null, new HttpHeaders()).build()),
+            is(false));
+        assertThat(DownstreamGuard.isFailure(new IllegalArgumentException("invalid")), is(false));
+    }
+
+    @Test
+    void bindTo() {
+        final var registry = new SimpleMeterRegistry();
+        testGuard.bindTo(registry);
+        testGuard.call(() -> "A");
+
+        assertThat(registry.get("downstream.calls").tags("downstream", "psc-data-api", "result", "success")
+            .functionCounter().count(), is(1.0));
+        assertThat(registry.get("downstream.calls").tags("downstream", "psc-data-api", "result", "rejected")
+            .functionCounter().count(), is(0.0));
+        assertThat(registry.get("downstream.circuit.state").tags("downstream", "psc-data-api", "state", "closed")
+            .gauge().value(), is(1.0));
+        assertThat(registry.get("downstream.circuit.state").tags("downstream", "psc-data-api", "state", "open")
+            .gauge().value(), is(0.0));
+        assertThat(registry.get("downstream.concurrency.limit").tags("downstream", "psc-data-api").gauge()
+            .value(), is(2.0));
+        assertThat(registry.get("downstream.bulkhead.available").tags("downstream", "psc-data-api").gauge()
+            .value(), is(2.0));
+    }
+
+    private DownstreamGuard createGuard(final boolean enabled, final int maxConcurrentCalls,
+                                        final Duration timeout, final int minimumCalls) {
+        return new DownstreamGuard(Downstream.PSC_DATA, enabled, Duration.ofMillis(10), timeout,
+            new CircuitBreaker(50, minimumCalls, 10, Duration.ofSeconds(30), 1, Clock.systemUTC()),
+            new AimdLimiter(maxConcurrentCalls, maxConcurrentCalls, 0.5, Duration.ofSeconds(1)), executor);
+    }
+
+    private static void awaitAvailable(final DownstreamGuard guard, final int expected) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (guard.availableConcurrentCalls() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(guard.availableConcurrentCalls(), is(expected));
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DownstreamGuardsTest {
+
+    private DownstreamGuards testGuards;
+
+    @BeforeEach
+    void setUp() {
+        testGuards = new DownstreamGuards(d -> new DownstreamGuard(d, true, Duration.ZERO, Duration.ofSeconds(5),
+            new CircuitBreaker(50, 10, 20, Duration.ofSeconds(30), 3, Clock.systemUTC()),
+            new AimdLimiter(5, 5, 0.9, Duration.ofSeconds(1)), Runnable::run));
+    }
+
+    @Test
+    void get() {
+        for (final var downstream : Downstream.values()) {
+            assertThat(testGuards.get(downstream).getDownstream(), is(downstream));
+        }
+        assertThat(testGuards.all().size(), is(Downstream.values().length));
+    }
+
+    @Test
+    void call() {
+        assertThat(testGuards.call(Downstream.TRANSACTIONS, () -> "A"), is("A"));
+        assertThat(testGuards.get(Downstream.TRANSACTIONS).statistics().successes(), is(1L));
+        assertThat(testGuards.get(Downstream.PSC_DATA).statistics().successes(), is(0L));
+    }
+
+    @Test
+    void bindTo() {
+        final var registry = new SimpleMeterRegistry();
+        testGuards.bindTo(registry);
+
+        for (final var downstream : Downstream.values()) {
+            assertThat(registry.get("downstream.bulkhead.available").tags("downstream", downstream.getValue())
+                .gauge().value(), is(5.0));
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class DownstreamTest {
+
+    @Test
+    void nameOf() {
+        assertThat(Downstream.nameOf("psc-data-api").get(), is(Downstream.PSC_DATA));
+        assertThat(Downstream.nameOf("unknown").isPresent(), is(false));
+    }
+
+}
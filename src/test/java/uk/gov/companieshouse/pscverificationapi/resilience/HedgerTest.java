@@ -0,0 +1,201 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.pscverificationapi.exception.DownstreamUnavailableException;
+
+class HedgerTest {
+
+    private static final Duration MIN_DELAY = Duration.ofMillis(20);
+
+    private ExecutorService executor;
+    private Hedger testHedger;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        testHedger = new Hedger(Downstream.PSC_DATA, true, 95, MIN_DELAY, 1.0, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        Deadline.clear();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void constructWhenSettingsInvalid() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new Hedger(Downstream.PSC_DATA, true, 0, MIN_DELAY, 0.1, executor));
+        assertThrows(IllegalArgumentException.class,
+            () -> new Hedger(Downstream.PSC_DATA, true, 101, MIN_DELAY, 0.1, executor));
+        assertThrows(IllegalArgumentException.class,
+            () -> new Hedger(Downstream.PSC_DATA, true, 95, MIN_DELAY, 0, executor));
+        assertThrows(IllegalArgumentException.class,
+            () -> new Hedger(Downstream.PSC_DATA, true, 95, MIN_DELAY, 1.5, executor));
+    }
+
+    @Test
+    void callWhenDisabled() {
+        final var disabled = new Hedger(Downstream.PSC_DATA, false, 95, MIN_DELAY, 0.1, executor);
+        final var caller = Thread.currentThread();
+
+        assertThat(disabled.call(Thread::currentThread), is(sameInstance(caller)));
+        assertThat(disabled.hedgeDelay(), is(Optional.empty()));
+    }
+
+    @Test
+    void callWhenTooFewLatencies() {
+        for (var i = 0; i < 19; i++) {
+            assertThat(testHedger.call(() -> "A"), is("A"));
+        }
+
+        assertThat(testHedger.hedgeDelay(), is(Optional.empty()));
+        assertThat(testHedger.sentCount(), is(0L));
+    }
+
+    @Test
+    void hedgeDelayWhenLatenciesFast() {
+        prime(testHedger);
+
+        assertThat(testHedger.hedgeDelay(), is(Optional.of(MIN_DELAY)));
+    }
+
+    @Test
+    void callWhenSlowIsHedged() throws InterruptedException {
+        final var attempts = new AtomicInteger();
+        final var cancelled = new CountDownLatch(1);
+        prime(testHedger);
+
+        final var result = testHedger.call(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(Duration.ofSeconds(10));
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                    throw new IllegalStateException(e);
+                }
+                return "A";
+            }
+            return "B";
+        });
+
+        assertThat(result, is("B"));
+        assertThat(testHedger.sentCount(), is(1L));
+        assertThat(testHedger.wonCount(), is(1L));
+        assertThat(cancelled.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    void callWhenHedgeAnswersLater() throws InterruptedException {
+        final var attempts = new AtomicInteger();
+        prime(testHedger);
+
+        final var result = testHedger.call(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                Thread.sleep(MIN_DELAY.multipliedBy(10));
+                return "A";
+            }
+            throw new DownstreamUnavailableException("psc-data-api circuit is open", Downstream.PSC_DATA);
+        });
+
+        assertThat(result, is("A"));
+        assertThat(testHedger.sentCount(), is(1L));
+        assertThat(testHedger.wonCount(), is(0L));
+    }
+
+    @Test
+    void callWhenHedgeNotEarned() throws InterruptedException {
+        final var limited = new Hedger(Downstream.PSC_DATA, true, 95, MIN_DELAY, 0.01, executor);
+        final var attempts = new AtomicInteger();
+        prime(limited);
+
+        final var result = limited.call(() -> {
+            attempts.incrementAndGet();
+            Thread.sleep(MIN_DELAY.multipliedBy(10));
+            return "A";
+        });
+
+        assertThat(result, is("A"));
+        assertThat(attempts.get(), is(1));
+        assertThat(limited.sentCount(), is(0L));
+        assertThat(limited.suppressedCount(), is(1L));
+    }
+
+    @Test
+    void callWhenBothFail() {
+        final var exception = new IOException("unavailable");
+        prime(testHedger);
+
+        final var thrown = assertThrows(IOException.class, () -> testHedger.call(() -> {
+            Thread.sleep(MIN_DELAY.multipliedBy(10));
+            throw exception;
+        }));
+
+        assertThat(thrown, is(sameInstance(exception)));
+        assertThat(testHedger.sentCount(), is(1L));
+    }
+
+    @Test
+    void callWhenCallThrows() {
+        final var exception = new IOException("unavailable");
+
+        final var thrown = assertThrows(IOException.class, () -> testHedger.call(() -> {
+            throw exception;
+        }));
+
+        assertThat(thrown, is(sameInstance(exception)));
+    }
+
+    @Test
+    void callPropagatesRequestAttributesAndDeadline() {
+        final var attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        final var deadline = Deadline.after(Duration.ofSeconds(5));
+        RequestContextHolder.setRequestAttributes(attributes);
+        Deadline.bind(deadline);
+
+        assertThat(testHedger.call(RequestContextHolder::getRequestAttributes), is(sameInstance(attributes)));
+        assertThat(testHedger.call(Deadline::current), is(Optional.of(deadline)));
+    }
+
+    @Test
+    void bindTo() throws InterruptedException {
+        final var registry = new SimpleMeterRegistry();
+        testHedger.bindTo(registry);
+        prime(testHedger);
+        testHedger.call(() -> {
+            Thread.sleep(MIN_DELAY.multipliedBy(10));
+            return "A";
+        });
+
+        assertThat(registry.get("downstream.hedges").tags("downstream", "psc-data-api", "result", "sent")
+            .functionCounter().count(), is(1.0));
+        assertThat(registry.get("downstream.hedges").tags("downstream", "psc-data-api", "result", "suppressed")
+            .functionCounter().count(), is(0.0));
+    }
+
+    private static void prime(final Hedger hedger) {
+        for (var i = 0; i < 20; i++) {
+            hedger.call(() -> "A");
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package uk.gov.companieshouse.pscverificationapi.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.pscverificationapi.exception.DownstreamUnavailableException;
+
+class RetrierTest {
+
+    private Retrier testRetrier;
+    private AtomicInteger attempts;
+
+    @BeforeEach
+    void setUp() {
+        testRetrier = new Retrier(true, 3, Duration.ofMillis(1), Duration.ofMillis(4));
+        attempts = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    @Test
+    void constructWhenMaxAttemptsInvalid() {
+        final var backoff = Duration.ofMillis(1);
+
+        assertThrows(IllegalArgumentException.class, () -> new Retrier(true, 0, backoff, backoff));
+    }
+
+    @Test
+    void callWhenSuccessful() {
+        assertThat(testRetrier.call(Downstream.PSC_DATA, attempts::incrementAndGet), is(1));
+        assertThat(testRetrier.attemptCount(Downstream.PSC_DATA, 1, "success"), is(1L));
+    }
+
+    @Test
+    void callWhenTransientFailureThenSuccess() throws IOException {
+        final var result = testRetrier.call(Downstream.PSC_DATA, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IOException("connection reset");
+            }
+            return "A";
+        });
+
+        assertThat(result, is("A"));
+        assertThat(testRetrier.attemptCount(Downstream.PSC_DATA, 1, "retried"), is(1L));
+        assertThat(testRetrier.attemptCount(Downstream.PSC_DATA, 2, "retried"), is(1L));
+        assertThat(testRetrier.attemptCount(Downstream.PSC_DATA, 3, "success"), is(1L));
+    }
+
+    @Test
+    void callWhenAttemptsExhausted() {
+        final var exception = new HttpResponseException.Builder(503, "Service Unavailable", new HttpHeaders())
+            .build();
+
+        final var thrown = assertThrows(HttpResponseException.class,
+            () -> testRetrier.call(Downstream.TRANSACTIONS, () -> {
+                attempts.incrementAndGet();
+                throw exception;
+            }));
+
+        assertThat(thrown, is(sameInstance(exception)));
+        assertThat(attempts.get(), is(3));
+        assertThat(testRetrier.attemptCount(Downstream.TRANSACTIONS, 3, "exhausted"), is(1L));
+    }
+
+    @Test
+    void callWhenNotTransient() {
+        final var exception = new HttpResponseException.Builder(404, "Not Found", new HttpHeaders()).build();
+
+        assertThrows(HttpResponseException.class, () -> testRetrier.call(Downstream.PSC_DATA, () -> {
+            attempts.incrementAndGet();
+            throw exception;
+        }));
+
+        assertThat(attempts.get(), is(1));
+        assertThat(testRetrier.attemptCount(Downstream.PSC_DATA, 1, "error"), is(1L));
+    }
+
+    @Test
+    void callWhenRefusedByGuard() {
+        assertThrows(DownstreamUnavailableException.class, () -> testRetrier.call(Downstream.PSC_DATA, () -> {
+            attempts.incrementAndGet();
+            throw new DownstreamUnavailableException("psc-data-api did not respond within PT5S",
+                Downstream.PSC_DATA, new IOException("timeout"));
+        }));
+
+        assertThat(attempts.get(), is(1));
+    }
+
+    @Test
+    void callWhenDeadlineTooClose() {
+        final var slow = new Retrier(true, 3, Duration.ofSeconds(10), Duration.ofSeconds(10));
+        Deadline.bind(Deadline.after(Duration.ofNanos(1)));
+
+        assertThrows(IOException.class, () -> slow.call(Downstream.PSC_DATA, () -> {
+            attempts.incrementAndGet();
+            throw new IOException("connection reset");
+        }));
+
+        assertThat(attempts.get(), is(1));
+        assertThat(slow.attemptCount(Downstream.PSC_DATA, 1, "exhausted"), is(1L));
+    }
+
+    @Test
+    void callWhenDisabled() {
+        final var disabled = new Retrier(false, 3, Duration.ofMillis(1), Duration.ofMillis(1));
+
+        assertThrows(IOException.class, () -> disabled.call(Downstream.PSC_DATA, () -> {
+            attempts.incrementAndGet();
+            throw new IOException("connection reset");
+        }));
+
+        assertThat(attempts.get(), is(1));
+        assertThat(disabled.attemptCount(Downstream.PSC_DATA, 1, "exhausted"), is(0L));
+    }
+
+    @Test
+    void isTransient() {
+        assertThat(Retrier.isTransient(new IOException("reset")), is(true));
+        assertThat(Retrier.isTransient(new RuntimeException(
+            new HttpResponseException.Builder(500, null, new HttpHeaders()).build())), is(true));
+        assertThat(Retrier.isTransient(new HttpResponseException.Builder(400, null, new HttpHeaders()).build()),
+            is(false));
+        assertThat(Retrier.isTransient(new DownstreamUnavailableException("psc-data-api circuit is open",
+            Downstream.PSC_DATA)), is(false));
+    }
+
+    @Test
+    void bindTo() throws IOException {
+        final var registry = new SimpleMeterRegistry();
+        testRetrier.bindTo(registry);
+        testRetrier.call(Downstream.COMPANY_PROFILE, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IOException("connection reset");
+            }
+            return "A";
+        });
+
+        assertThat(registry.get("downstream.attempts")
+            .tags("downstream", "company-profile-api", "attempt", "1", "result", "retried")
+            .functionCounter().count(), is(1.0));
+        assertThat(registry.get("downstream.attempts")
+            .tags("downstream", "company-profile-api", "attempt", "2", "result", "success")
+            .functionCounter().count(), is(1.0));
+    }
+}
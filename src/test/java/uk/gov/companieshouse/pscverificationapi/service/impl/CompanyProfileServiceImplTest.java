@@ -0,0 +1,122 @@
+package uk.gov.companieshouse.pscverificationapi.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.InternalApiClient;
+import uk.gov.companieshouse.api.handler.company.CompanyResourceHandler;
+import uk.gov.companieshouse.api.handler.company.request.CompanyGet;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+import uk.gov.companieshouse.api.model.ApiResponse;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.cache.EvictionPolicy;
+import uk.gov.companieshouse.pscverificationapi.cache.ExpiringCache;
+import uk.gov.companieshouse.pscverificationapi.cache.SingleFlight;
+import uk.gov.companieshouse.pscverificationapi.config.ResilienceConfig;
+import uk.gov.companieshouse.pscverificationapi.config.ResilienceProperties;
+import uk.gov.companieshouse.pscverificationapi.exception.CompanyProfileServiceException;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+import uk.gov.companieshouse.pscverificationapi.resilience.DownstreamGuards;
+import uk.gov.companieshouse.pscverificationapi.sdk.companieshouse.InternalApiClientService;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyProfileServiceImplTest extends TestBaseService {
+    private static final PscVerificationData PSC_VERIFICATION_DATA =
+        PscVerificationData.newBuilder().companyNumber(COMPANY_NUMBER).build();
+
+    @Mock
+    private InternalApiClientService apiClientService;
+    @Mock
+    private InternalApiClient apiClient;
+    @Mock
+    private CompanyResourceHandler companyResourceHandler;
+    @Mock
+    private CompanyGet companyGet;
+    @Mock
+    private ApiResponse<CompanyProfileApi> apiResponse;
+    @Mock
+    private Transaction transaction;
+    @Mock
+    private Logger logger;
+
+    private CompanyProfileServiceImpl testService;
+    private CompanyProfileApi companyProfile;
+
+    @BeforeEach
+    void setUp() {
+        companyProfile = new CompanyProfileApi();
+        testService = new CompanyProfileServiceImpl(apiClientService, createCache(0),
+            new SingleFlight<>("company-profile", Downstream.COMPANY_PROFILE, true), createGuards(), logger);
+    }
+
+    @Test
+    void getCompanyProfileWhenCacheDisabled() throws IOException, URIValidationException {
+        expectCompanyProfileRetrieved();
+
+        testService.getCompanyProfile(transaction, PSC_VERIFICATION_DATA);
+        final var result = testService.getCompanyProfile(transaction, PSC_VERIFICATION_DATA);
+
+        assertThat(result, is(companyProfile));
+        verify(companyGet, times(2)).execute();
+    }
+
+    @Test
+    void getCompanyProfileWhenCacheEnabled() throws IOException, URIValidationException {
+        testService = new CompanyProfileServiceImpl(apiClientService, createCache(10),
+            new SingleFlight<>("company-profile", Downstream.COMPANY_PROFILE, true), createGuards(), logger);
+        expectCompanyProfileRetrieved();
+
+        testService.getCompanyProfile(transaction, PSC_VERIFICATION_DATA);
+        final var result = testService.getCompanyProfile(transaction, PSC_VERIFICATION_DATA);
+
+        assertThat(result, is(companyProfile));
+        verify(companyGet, times(1)).execute();
+    }
+
+    @Test
+    void getCompanyProfileWhenUriInvalid() throws IOException, URIValidationException {
+        when(apiClientService.getInternalApiClient()).thenReturn(apiClient);
+        when(apiClient.company()).thenReturn(companyResourceHandler);
+        when(companyResourceHandler.get("/company/" + COMPANY_NUMBER)).thenReturn(companyGet);
+        when(companyGet.execute()).thenThrow(new URIValidationException("Incorrect URI"));
+
+        final var thrown = assertThrows(CompanyProfileServiceException.class,
+            () -> testService.getCompanyProfile(transaction, PSC_VERIFICATION_DATA));
+
+        assertThat(thrown.getMessage(), is("Error Retrieving company profile " + COMPANY_NUMBER));
+    }
+
+    private void expectCompanyProfileRetrieved() throws IOException, URIValidationException {
+        when(apiClientService.getInternalApiClient()).thenReturn(apiClient);
+        when(apiClient.company()).thenReturn(companyResourceHandler);
+        when(companyResourceHandler.get("/company/" + COMPANY_NUMBER)).thenReturn(companyGet);
+        when(companyGet.execute()).thenReturn(apiResponse);
+        when(apiResponse.getData()).thenReturn(companyProfile);
+    }
+
+    private static ExpiringCache<String, CompanyProfileApi> createCache(final int maxSize) {
+        return new ExpiringCache<>("company-profile", Duration.ofMinutes(1), maxSize, EvictionPolicy.LRU,
+            Clock.fixed(Instant.parse("2024-10-15T09:44:08.108Z"), ZoneOffset.UTC));
+    }
+
+    private static DownstreamGuards createGuards() {
+        return new ResilienceConfig().downstreamGuards(new ResilienceProperties(), Clock.systemUTC(), Runnable::run);
+    }
+}
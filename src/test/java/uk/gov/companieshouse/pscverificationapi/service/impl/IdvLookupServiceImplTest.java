@@ -1,6 +1,10 @@
 package uk.gov.companieshouse.pscverificationapi.service.impl;
 
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,14 +18,25 @@ import uk.gov.companieshouse.api.identityverification.model.UvidMatch;
 import uk.gov.companieshouse.api.identityverification.model.UvidMatchResponse;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.cache.EvictionPolicy;
+import uk.gov.companieshouse.pscverificationapi.cache.ExpiringCache;
+import uk.gov.companieshouse.pscverificationapi.cache.SingleFlight;
+import uk.gov.companieshouse.pscverificationapi.cache.UvidMatchKey;
+import uk.gov.companieshouse.pscverificationapi.config.ResilienceConfig;
+import uk.gov.companieshouse.pscverificationapi.config.ResilienceProperties;
 import uk.gov.companieshouse.pscverificationapi.exception.TransactionServiceException;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+import uk.gov.companieshouse.pscverificationapi.resilience.DownstreamGuards;
 import uk.gov.companieshouse.pscverificationapi.sdk.companieshouse.InternalApiClientService;
 import uk.gov.companieshouse.pscverificationapi.service.IdvLookupService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,10 +64,14 @@ class IdvLookupServiceImplTest {
     Logger logger;
 
     private IdvLookupService uvidMatchService;
+    private ExpiringCache<UvidMatchKey, UvidMatchResponse> uvidMatchCache;
 
     @BeforeEach
     void setUp() {
-        uvidMatchService = new IdvLookupServiceImpl(logger, internalApiClientService);
+        uvidMatchCache = new ExpiringCache<>("uvid-match", Duration.ofMinutes(5), 10, EvictionPolicy.LRU,
+            Clock.fixed(Instant.parse("2024-10-15T09:44:08.108Z"), ZoneOffset.UTC));
+        uvidMatchService = new IdvLookupServiceImpl(logger, internalApiClientService, uvidMatchCache,
+            new SingleFlight<>("uvid-match", Downstream.IDENTITY_VERIFICATION, true), createGuards());
     }
 
     @Test
@@ -75,6 +94,30 @@ class IdvLookupServiceImplTest {
         assertEquals(expectedResponse, actualResponse);
     }
 
+    @Test
+    void testMatchUvidWhenCached() throws Exception {
+
+        when(uvidMatch.getUvid()).thenReturn("testUvid");
+
+        UvidMatchResponse expectedResponse = new UvidMatchResponse();
+
+        when(internalApiClientService.getInternalApiClient()).thenReturn(internalApiClient);
+        when(internalApiClient.privateIdentityVerificationResourceHandler())
+            .thenReturn(privateIdentityVerificationResourceHandler);
+        when(privateIdentityVerificationResourceHandler.matchUvid(anyString(), eq(uvidMatch)))
+            .thenReturn(privateUvidMatchResourcePost);
+        when(privateUvidMatchResourcePost.execute()).thenReturn(uvidMatchResponseApiResponse);
+        when(uvidMatchResponseApiResponse.getData()).thenReturn(expectedResponse);
+
+        uvidMatchService.matchUvid(uvidMatch);
+        UvidMatchResponse actualResponse = uvidMatchService.matchUvid(uvidMatch);
+
+        assertSame(expectedResponse, actualResponse);
+        assertEquals(1L, uvidMatchCache.statistics().hits());
+        assertEquals(1L, uvidMatchCache.statistics().misses());
+        verify(privateUvidMatchResourcePost, times(1)).execute();
+    }
+
     @Test
     void testMatchUvidUriValidationException() throws Exception {
 
@@ -91,4 +134,7 @@ class IdvLookupServiceImplTest {
         assertThrows(TransactionServiceException.class, () -> uvidMatchService.matchUvid(uvidMatch));
     }
 
-}
\ No newline at end of file
+    private static DownstreamGuards createGuards() {
+        return new ResilienceConfig().downstreamGuards(new ResilienceProperties(), Clock.systemUTC(), Runnable::run);
+    }
+}
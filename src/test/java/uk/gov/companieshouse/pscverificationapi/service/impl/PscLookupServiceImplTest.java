@@ -1,9 +1,14 @@
 package uk.gov.companieshouse.pscverificationapi.service.impl;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.samePropertyValuesAs;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.pscverificationapi.enumerations.PscType.INDIVIDUAL;
 
@@ -11,6 +16,11 @@ import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponseException;
 import com.google.api.client.http.HttpStatusCodes;
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,8 +38,18 @@ import uk.gov.companieshouse.api.model.pscverification.VerificationDetails;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.psc.IndividualFullRecord;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.cache.EvictionPolicy;
+import uk.gov.companieshouse.pscverificationapi.cache.ExpiringCache;
+import uk.gov.companieshouse.pscverificationapi.cache.LookupKey;
+import uk.gov.companieshouse.pscverificationapi.cache.PscRecordKey;
+import uk.gov.companieshouse.pscverificationapi.cache.SingleFlight;
+import uk.gov.companieshouse.pscverificationapi.config.ResilienceConfig;
+import uk.gov.companieshouse.pscverificationapi.config.ResilienceProperties;
 import uk.gov.companieshouse.pscverificationapi.exception.FilingResourceNotFoundException;
 import uk.gov.companieshouse.pscverificationapi.exception.PscLookupServiceException;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+import uk.gov.companieshouse.pscverificationapi.resilience.DownstreamGuards;
+import uk.gov.companieshouse.pscverificationapi.resilience.Hedger;
 import uk.gov.companieshouse.pscverificationapi.sdk.companieshouse.InternalApiClientService;
 import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
 
@@ -67,10 +87,20 @@ class PscLookupServiceImplTest extends TestBaseService {
     private Logger logger;
 
     private PscLookupService testService;
+    private ExpiringCache<PscRecordKey, IndividualFullRecord> pscRecordCache;
+    private ExpiringCache<PscRecordKey, String> pscRecordNotFoundCache;
+    private SingleFlight<LookupKey, IndividualFullRecord> pscRecordFlights;
 
     @BeforeEach
     void setUp() {
-        testService = new PscLookupServiceImpl(apiClientService, logger);
+        pscRecordCache = new ExpiringCache<>("psc-record", Duration.ofMinutes(5), 10, EvictionPolicy.LRU,
+            Clock.fixed(Instant.parse("2024-10-15T09:44:08.108Z"), ZoneOffset.UTC));
+        pscRecordNotFoundCache = new ExpiringCache<>("psc-record-not-found", Duration.ofSeconds(30), 10,
+            EvictionPolicy.LRU, Clock.fixed(Instant.parse("2024-10-15T09:44:08.108Z"), ZoneOffset.UTC));
+        pscRecordFlights = new SingleFlight<>("psc-record", Downstream.PSC_DATA, true);
+        testService = new PscLookupServiceImpl(apiClientService, pscRecordCache, pscRecordNotFoundCache,
+            pscRecordFlights, createGuards(), new ResilienceProperties().createPscDataHedger(Runnable::run),
+            new ResilienceProperties().createRetrier(), logger);
     }
 
     @Test
@@ -97,6 +127,31 @@ class PscLookupServiceImplTest extends TestBaseService {
 
     }
 
+    @Test
+    void getPscIndividualWhenCached() throws IOException, URIValidationException {
+        final var individualFullRecord = new IndividualFullRecord();
+
+        when(apiClientService.getInternalApiClient()).thenReturn(apiClient);
+        when(apiClient.privatePscFullRecordResourceHandler()).thenReturn(deltaResourceHandler);
+        when(deltaResourceHandler.getPscFullRecord(COMPANY
+            + COMPANY_NUMBER
+            + PERSONS_WITH_SIGNIFICANT_CONTROL
+            + INDIVIDUAL.getValue()
+            + "/"
+            + PSC_ID
+            + FULL_RECORD)).thenReturn(pscFullRecordGet);
+        when(pscFullRecordGet.execute()).thenReturn(apiResponse);
+        when(apiResponse.getData()).thenReturn(individualFullRecord);
+
+        testService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA, INDIVIDUAL);
+        final var pscApi = testService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA, INDIVIDUAL);
+
+        assertThat(pscApi, is(individualFullRecord));
+        assertThat(pscRecordCache.statistics().hits(), is(1L));
+        assertThat(pscRecordFlights.executedCount(), is(1L));
+        verify(pscFullRecordGet, times(1)).execute();
+    }
+
     @Test
     void getPscWhenErrorRetrieving() throws IOException, URIValidationException {
         final var exception = new ApiErrorResponseException(
@@ -124,6 +179,72 @@ class PscLookupServiceImplTest extends TestBaseService {
         assertThat(thrown.getMessage(), is("Error Retrieving PSC details for " + PSC_ID + ": 403 test case"));
     }
 
+    @Test
+    void getPscWhenServerErrorRetried() throws IOException, URIValidationException {
+        final var exception = new ApiErrorResponseException(
+            new HttpResponseException.Builder(HttpStatusCodes.STATUS_CODE_SERVICE_UNAVAILABLE, "test case",
+                new HttpHeaders()));
+        final var individualFullRecord = new IndividualFullRecord();
+
+        when(apiClientService.getInternalApiClient()).thenReturn(apiClient);
+        when(apiClient.privatePscFullRecordResourceHandler()).thenReturn(deltaResourceHandler);
+        when(deltaResourceHandler.getPscFullRecord(COMPANY
+            + COMPANY_NUMBER
+            + PERSONS_WITH_SIGNIFICANT_CONTROL
+            + INDIVIDUAL.getValue()
+            + "/"
+            + PSC_ID
+            + FULL_RECORD)).thenReturn(pscFullRecordGet);
+        when(pscFullRecordGet.execute()).thenThrow(exception).thenReturn(apiResponse);
+        when(apiResponse.getData()).thenReturn(individualFullRecord);
+
+        final var pscApi = testService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA, INDIVIDUAL);
+
+        assertThat(pscApi, is(individualFullRecord));
+        verify(pscFullRecordGet, times(2)).execute();
+    }
+
+    @Test
+    void getPscWhenServerErrorRetriedOnlyHedgesFirstAttempt() throws IOException, URIValidationException {
+        final var exception = new ApiErrorResponseException(
+            new HttpResponseException.Builder(HttpStatusCodes.STATUS_CODE_SERVICE_UNAVAILABLE, "test case",
+                new HttpHeaders()));
+        final var executor = Executors.newCachedThreadPool();
+        final var hedger = new Hedger(Downstream.PSC_DATA, true, 1, Duration.ofMillis(1), 1, executor);
+        final var retrier = new ResilienceProperties().createRetrier();
+
+        try {
+            for (var i = 0; i < 20; i++) {
+                hedger.call(() -> null);
+            }
+            testService = new PscLookupServiceImpl(apiClientService, pscRecordCache, pscRecordNotFoundCache,
+                pscRecordFlights, createGuards(), hedger, retrier, logger);
+            when(apiClientService.getInternalApiClient()).thenReturn(apiClient);
+            when(apiClient.privatePscFullRecordResourceHandler()).thenReturn(deltaResourceHandler);
+            when(deltaResourceHandler.getPscFullRecord(COMPANY
+                + COMPANY_NUMBER
+                + PERSONS_WITH_SIGNIFICANT_CONTROL
+                + INDIVIDUAL.getValue()
+                + "/"
+                + PSC_ID
+                + FULL_RECORD)).thenReturn(pscFullRecordGet);
+            when(pscFullRecordGet.execute()).thenAnswer(invocation -> {
+                Thread.sleep(100);
+                throw exception;
+            });
+
+            assertThrows(PscLookupServiceException.class,
+                () -> testService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA, INDIVIDUAL));
+
+            // three attempts, of which only the first is hedged
+            assertThat(hedger.sentCount(), is(1L));
+            assertThat(retrier.attemptCount(Downstream.PSC_DATA, 3, "exhausted"), is(1L));
+            verify(pscFullRecordGet, times(4)).execute();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void getPscWhenURIErrorRetrieving() throws IOException, URIValidationException {
         final var exception = new URIValidationException("Incorrect URI");
@@ -177,7 +298,41 @@ class PscLookupServiceImplTest extends TestBaseService {
 
         assertThat(thrown.getMessage(),
             is("PSC Details not found for " + PSC_ID + ": 404 test case"));
+        assertThat(pscRecordNotFoundCache.size(), is(1));
+        assertThat(pscRecordCache.size(), is(0));
+
+    }
+
+    @Test
+    void getIndividualFullRecordWhenNotFoundRepeatedly() throws IOException, URIValidationException {
+        final var exception = new ApiErrorResponseException(
+            new HttpResponseException.Builder(HttpStatusCodes.STATUS_CODE_NOT_FOUND, "test case",
+                new HttpHeaders()));
+
+        when(apiClientService.getInternalApiClient()).thenReturn(apiClient);
+        when(apiClient.privatePscFullRecordResourceHandler()).thenReturn(deltaResourceHandler);
+        when(deltaResourceHandler.getPscFullRecord(COMPANY
+            + COMPANY_NUMBER
+            + PERSONS_WITH_SIGNIFICANT_CONTROL
+            + INDIVIDUAL.getValue()
+            + "/"
+            + PSC_ID
+            + FULL_RECORD)).thenReturn(pscFullRecordGet);
+        when(pscFullRecordGet.execute()).thenThrow(exception);
 
+        final var first = assertThrows(FilingResourceNotFoundException.class,
+            () -> testService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA, INDIVIDUAL));
+        final var second = assertThrows(FilingResourceNotFoundException.class,
+            () -> testService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA, INDIVIDUAL));
+
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(second.getMessage(), is(first.getMessage()));
+        assertThat(second.getCause(), is(nullValue()));
+        assertThat(pscRecordNotFoundCache.statistics().hits(), is(1L));
+        verify(pscFullRecordGet, times(1)).execute();
     }
 
-}
\ No newline at end of file
+    private static DownstreamGuards createGuards() {
+        return new ResilienceConfig().downstreamGuards(new ResilienceProperties(), Clock.systemUTC(), Runnable::run);
+    }
+}
@@ -0,0 +1,143 @@
+package uk.gov.companieshouse.pscverificationapi.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.companieshouse.api.model.pscverification.NameMismatchReasonConstants.PREFERRED_NAME;
+import static uk.gov.companieshouse.api.model.pscverification.VerificationStatementConstants.INDIVIDUAL_VERIFIED;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
+import uk.gov.companieshouse.api.model.pscverification.VerificationDetails;
+import uk.gov.companieshouse.api.model.pscverification.VerificationStatementConstants;
+import uk.gov.companieshouse.pscverificationapi.config.AppConfig;
+
+class PscVerificationFilingUpdateMapperTest {
+
+    private static final String UVID = "999999999";
+    private static final VerificationDetails DETAILS = VerificationDetails.newBuilder()
+        .uvid(UVID)
+        .nameMismatchReason(PREFERRED_NAME)
+        .statements(EnumSet.of(INDIVIDUAL_VERIFIED))
+        .build();
+    private static final PscVerificationData TARGET = PscVerificationData.newBuilder()
+        .companyNumber("12345678")
+        .pscNotificationId("abcdefgh")
+        .verificationDetails(DETAILS)
+        .build();
+
+    private PscVerificationFilingUpdateMapper testMapper;
+
+    @BeforeEach
+    void setUp() {
+        testMapper = new PscVerificationFilingUpdateMapper(new AppConfig().patchObjectMapper());
+    }
+
+    @Test
+    void toDataUpdateWhenTopLevelPropertyChanged() {
+        final var merged = PscVerificationData.newBuilder(TARGET).companyNumber("87654321").build();
+
+        final var update = testMapper.toDataUpdate(Map.of("company_number", "87654321"), TARGET, merged);
+
+        assertThat(update, is(new Update().set("data.companyNumber", "87654321")));
+    }
+
+    @Test
+    void toDataUpdateWhenNothingChanged() {
+        final var update = testMapper.toDataUpdate(Map.of("company_number", "12345678"), TARGET, TARGET);
+
+        assertThat(update.getUpdateObject().isEmpty(), is(true));
+    }
+
+    @Test
+    void toDataUpdateWhenNestedPropertyChanged() {
+        final var merged = PscVerificationData.newBuilder(TARGET)
+            .verificationDetails(VerificationDetails.newBuilder(DETAILS).uvid("111111111").build())
+            .build();
+
+        final var update = testMapper.toDataUpdate(
+            Map.of("verification_details", Map.of("uvid", "111111111", "verification_statements",
+                List.of("INDIVIDUAL_VERIFIED"))), TARGET, merged);
+
+        assertThat(update, is(new Update().set("data.verificationDetails.uvid", "111111111")));
+    }
+
+    @Test
+    void toDataUpdateWhenNestedPropertyRemoved() {
+        final var nestedPatch = new HashMap<String, Object>();
+        nestedPatch.put("name_mismatch_reason", null);
+        final var merged = PscVerificationData.newBuilder(TARGET)
+            .verificationDetails(VerificationDetails.newBuilder(DETAILS).nameMismatchReason(null).build())
+            .build();
+
+        final var update = testMapper.toDataUpdate(Map.of("verification_details", nestedPatch), TARGET, merged);
+
+        assertThat(update, is(new Update().unset("data.verificationDetails.nameMismatchReason")));
+    }
+
+    @Test
+    void toDataUpdateWhenCollectionChanged() {
+        final var statements = EnumSet.noneOf(VerificationStatementConstants.class);
+        final var merged = PscVerificationData.newBuilder(TARGET)
+            .verificationDetails(VerificationDetails.newBuilder(DETAILS).statements(statements).build())
+            .build();
+
+        final var update = testMapper.toDataUpdate(Map.of("verification_details",
+            Map.of("verification_statements", List.of())), TARGET, merged);
+
+        assertThat(update, is(new Update().set("data.verificationDetails.statements", statements)));
+    }
+
+    @Test
+    void toDataUpdateWhenNestedObjectAdded() {
+        final var target = PscVerificationData.newBuilder(TARGET).verificationDetails(null).build();
+
+        final var update = testMapper.toDataUpdate(Map.of("verification_details", Map.of("uvid", UVID)), target,
+            TARGET);
+
+        assertThat(update, is(new Update().set("data.verificationDetails", DETAILS)));
+    }
+
+    @Test
+    void toDataUpdateWhenPatchDoesNotMatchProperties() {
+        final var merged = PscVerificationData.newBuilder(TARGET).companyNumber("87654321").build();
+
+        final var update = testMapper.toDataUpdate(Map.of("company_number", "87654321", "unknown", "value"),
+            TARGET, merged);
+
+        assertThat(update, is(new Update().set("data", merged)));
+    }
+
+    @Test
+    void toDataChanges() {
+        final var nestedPatch = new HashMap<String, Object>();
+        nestedPatch.put("uvid", "111111111");
+        nestedPatch.put("name_mismatch_reason", null);
+        final var merged = PscVerificationData.newBuilder(TARGET)
+            .companyNumber("87654321")
+            .verificationDetails(VerificationDetails.newBuilder(DETAILS).uvid("111111111").nameMismatchReason(null)
+                .build())
+            .build();
+        final var expected = new HashMap<String, Object>();
+        expected.put("data.companyNumber", "87654321");
+        expected.put("data.verificationDetails.uvid", "111111111");
+        expected.put("data.verificationDetails.nameMismatchReason", null);
+
+        final var changes = testMapper.toDataChanges(
+            Map.of("company_number", "87654321", "psc_notification_id", "abcdefgh", "verification_details",
+                nestedPatch), TARGET, merged);
+
+        assertThat(changes, is(expected));
+    }
+
+    @Test
+    void toDataUpdateWhenNoData() {
+        assertThat(testMapper.toDataUpdate(Map.of(), null, TARGET), is(new Update().set("data", TARGET)));
+        assertThat(testMapper.toDataUpdate(Map.of(), TARGET, null), is(new Update().unset("data")));
+    }
+}
@@ -0,0 +1,97 @@
+package uk.gov.companieshouse.pscverificationapi.service.impl;
+
+import static uk.gov.companieshouse.api.model.pscverification.NameMismatchReasonConstants.PREFERRED_NAME;
+import static uk.gov.companieshouse.api.model.pscverification.VerificationStatementConstants.INDIVIDUAL_VERIFIED;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import uk.gov.companieshouse.api.model.common.ResourceLinks;
+import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
+import uk.gov.companieshouse.api.model.pscverification.VerificationDetails;
+import uk.gov.companieshouse.patch.model.ValidationResult;
+import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
+import uk.gov.companieshouse.pscverificationapi.model.mapper.PscVerificationMapperImpl;
+
+/**
+ * Compares validating the whole of a patched filing with validating only the property the patch
+ * changed, for the usual patch of one field of the verification details. Run with
+ * {@code make benchmark}, or this class's main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PscVerificationPatchValidatorBenchmark {
+
+    private LocalValidatorFactoryBean beanValidator;
+    private PscVerificationPatchValidatorImpl patchValidator;
+    private PscVerification patchedFiling;
+    private Map<String, Object> changes;
+
+    @Setup
+    public void setUp() {
+        final var self = URI.create("/transactions/23445657412/persons-with-significant-control-verification/"
+            + "6332aa6ed28ad2333c3a520a");
+
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        patchValidator = new PscVerificationPatchValidatorImpl(beanValidator, new PscVerificationMapperImpl());
+        patchedFiling = PscVerification.newBuilder()
+            .id("6332aa6ed28ad2333c3a520a")
+            .createdAt(Instant.parse("2024-10-15T09:44:08.108Z"))
+            .updatedAt(Instant.parse("2024-10-16T09:44:08.108Z"))
+            .links(ResourceLinks.newBuilder().self(self).validationStatus(URI.create(self + "/validation_status"))
+                .build())
+            .data(PscVerificationData.newBuilder()
+                .companyNumber("12345678")
+                .pscNotificationId("abcdefgh")
+                .verificationDetails(VerificationDetails.newBuilder()
+                    .uvid("111111111")
+                    .nameMismatchReason(PREFERRED_NAME)
+                    .statements(EnumSet.of(INDIVIDUAL_VERIFIED))
+                    .build())
+                .build())
+            .build();
+        changes = Map.of("data.verificationDetails.uvid", "111111111");
+    }
+
+    @TearDown
+    public void tearDown() {
+        beanValidator.close();
+    }
+
+    @Benchmark
+    public ValidationResult full() {
+        return patchValidator.validate(patchedFiling);
+    }
+
+    @Benchmark
+    public ValidationResult incremental() {
+        return patchValidator.validate(patchedFiling, changes);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PscVerificationPatchValidatorBenchmark.class.getSimpleName()).build())
+            .run();
+    }
+}
@@ -5,10 +5,15 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static uk.gov.companieshouse.api.model.pscverification.VerificationStatementConstants.INDIVIDUAL_VERIFIED;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,10 +22,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.validation.Errors;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import uk.gov.companieshouse.api.model.pscverification.PscVerificationApi;
 import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
+import uk.gov.companieshouse.api.model.pscverification.VerificationDetails;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
 import uk.gov.companieshouse.pscverificationapi.model.mapper.PscVerificationMapper;
+import uk.gov.companieshouse.pscverificationapi.model.mapper.PscVerificationMapperImpl;
 import uk.gov.companieshouse.pscverificationapi.service.PscVerificationPatchValidator;
 
 @ExtendWith(MockitoExtension.class)
@@ -77,4 +85,48 @@ class PscVerificationPatchValidatorImplTest {
         assertThat(error, is(equalTo(expectedError)));
     }
 
-}
\ No newline at end of file
+    @Test
+    void validateChangesWhenValidatorNotUnwrapped() {
+        final var dummyFiling = PscVerification.newBuilder().build();
+        final var dummyApi = PscVerificationApi.newBuilder().build();
+
+        when(mapper.toApi(dummyFiling)).thenReturn(dummyApi);
+
+        final var result = testValidator.validate(dummyFiling, Map.of("data.companyNumber", "12345678"));
+
+        assertThat(result.isSuccess(), is(true));
+        verify(validator).validate(any(), any());
+    }
+
+    @Test
+    void validateChangesMatchesFullValidation() {
+        final var beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        final var incrementalValidator = new PscVerificationPatchValidatorImpl(beanValidator,
+            new PscVerificationMapperImpl());
+        final var details = VerificationDetails.newBuilder()
+            .uvid("999999999")
+            .statements(EnumSet.of(INDIVIDUAL_VERIFIED))
+            .build();
+        final var uvids = new String[]{"111111111", "", null};
+
+        for (final var uvid : uvids) {
+            final var filing = PscVerification.newBuilder()
+                .data(PscVerificationData.newBuilder()
+                    .companyNumber("12345678")
+                    .pscNotificationId("abcdefgh")
+                    .verificationDetails(VerificationDetails.newBuilder(details).uvid(uvid).build())
+                    .build())
+                .build();
+            final var changes = new HashMap<String, Object>();
+            changes.put("data.verificationDetails.uvid", uvid);
+
+            final var incremental = incrementalValidator.validate(filing, changes);
+            final var full = incrementalValidator.validate(filing);
+
+            assertThat(incremental.isSuccess(), is(full.isSuccess()));
+            assertThat(incremental.getErrors(), is(full.getErrors()));
+        }
+    }
+
+}
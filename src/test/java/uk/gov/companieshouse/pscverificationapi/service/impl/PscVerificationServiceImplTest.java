@@ -1,8 +1,14 @@
 package uk.gov.companieshouse.pscverificationapi.service.impl;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -10,21 +16,34 @@ import static org.mockito.Mockito.when;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.validation.FieldError;
 import uk.gov.companieshouse.api.model.common.ResourceLinks;
-import uk.gov.companieshouse.patch.model.EntityRetrievalResult;
+import uk.gov.companieshouse.api.model.pscverification.InternalData;
+import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
 import uk.gov.companieshouse.patch.model.ValidationResult;
+import uk.gov.companieshouse.pscverificationapi.cache.ExpiringCache;
+import uk.gov.companieshouse.pscverificationapi.cache.ValidationStatusKey;
+import uk.gov.companieshouse.pscverificationapi.config.AppConfig;
+import uk.gov.companieshouse.pscverificationapi.config.LookupCacheProperties;
 import uk.gov.companieshouse.pscverificationapi.config.PatchServiceProperties;
+import uk.gov.companieshouse.pscverificationapi.error.RetrievalFailureReason;
 import uk.gov.companieshouse.pscverificationapi.exception.MergePatchException;
 import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
-import uk.gov.companieshouse.pscverificationapi.provider.PscVerificationFilingProvider;
 import uk.gov.companieshouse.pscverificationapi.repository.PscVerificationRepository;
 import uk.gov.companieshouse.pscverificationapi.repository.PscVerificationRepositoryCustom;
 import uk.gov.companieshouse.pscverificationapi.service.PscVerificationPatchValidator;
@@ -33,6 +52,10 @@ import uk.gov.companieshouse.pscverificationapi.service.PscVerificationService;
 @ExtendWith(MockitoExtension.class)
 class PscVerificationServiceImplTest {
     public static final String FILING_ID = "6332aa6ed28ad2333c3a520a";
+    private static final Instant FIRST_INSTANT = Instant.parse("2024-10-15T09:44:08.108Z");
+    private static final Instant SECOND_INSTANT = Instant.parse("2024-10-16T09:44:08.108Z");
+    private static final PscVerificationData DATA = PscVerificationData.newBuilder().companyNumber("12345678").build();
+    private static final Map<String, Object> PATCH_MAP = Map.of("company_number", "12345678");
 
     @Spy
     private PscVerificationService testService;
@@ -43,8 +66,6 @@ class PscVerificationServiceImplTest {
     @Mock
     private PatchServiceProperties patchServiceProperties;
     @Mock
-    private PscVerificationFilingProvider provider;
-    @Mock
     private PscVerificationFilingMergeProcessor mergeProcessor;
     @Mock
     private PscVerificationFilingPostMergeProcessor postMergeProcessor;
@@ -55,10 +76,16 @@ class PscVerificationServiceImplTest {
 
     private PscVerification filing;
 
+    private ExpiringCache<ValidationStatusKey, ValidationStatusResponse> validationStatusCache;
+
     @BeforeEach
     void setUp() {
-        testService = new PscVerificationServiceImpl(repository, customRepository, patchServiceProperties, provider,
-            mergeProcessor, postMergeProcessor, patchValidator);
+        validationStatusCache = new LookupCacheProperties.CacheSettings().createCache("validation-status",
+            Clock.systemUTC());
+        testService = new PscVerificationServiceImpl(repository, customRepository, patchServiceProperties,
+            mergeProcessor, postMergeProcessor,
+            new PscVerificationFilingUpdateMapper(new AppConfig().patchObjectMapper()), patchValidator,
+            validationStatusCache);
         filing = PscVerification.newBuilder().build();
     }
 
@@ -69,6 +96,16 @@ class PscVerificationServiceImplTest {
         verify(repository).save(filing);
     }
 
+    @Test
+    void insert() {
+        when(repository.insert(filing)).thenReturn(filing);
+
+        final var result = testService.insert(filing);
+
+        assertThat(result, is(filing));
+        verify(repository, never()).save(filing);
+    }
+
     @Test
     void get() {
         testService.get(FILING_ID);
@@ -77,44 +114,165 @@ class PscVerificationServiceImplTest {
     }
 
     @Test
-    void getByNotificationId() {
-        testService.getByNotificationId(FILING_ID);
+    void getLatestByNotificationId() {
+        when(customRepository.findLatestByNotificationId(FILING_ID)).thenReturn(Optional.of(filing));
 
-        verify(customRepository).findByNotificationId(FILING_ID);
+        assertThat(testService.getLatestByNotificationId(FILING_ID), is(Optional.of(filing)));
     }
 
     @Test
     void patch() throws IOException {
-        when(testService.getMaxRetries()).thenReturn(1);
-        final EntityRetrievalResult<PscVerification> retrievalResult = new EntityRetrievalResult<>(
-            "TBC", filing);
-        when(provider.provide(FILING_ID)).thenReturn(retrievalResult);
-        when(mergeProcessor.mergeEntity(filing, Collections.emptyMap())).thenReturn(filing);
-        when(patchValidator.validate(filing)).thenReturn(new ValidationResult());
+        final var existing = PscVerification.newBuilder().id(FILING_ID).updatedAt(FIRST_INSTANT).build();
+        final var merged = PscVerification.newBuilder(existing).data(DATA).build();
+        final var stored = PscVerification.newBuilder(merged).updatedAt(SECOND_INSTANT).build();
+        final var otherFiling = new ValidationStatusKey("other", FIRST_INSTANT);
+
+        validationStatusCache.put(new ValidationStatusKey(FILING_ID, FIRST_INSTANT), new ValidationStatusResponse());
+        validationStatusCache.put(otherFiling, new ValidationStatusResponse());
+        when(mergeProcessor.mergeEntity(existing, PATCH_MAP)).thenReturn(merged);
+        when(patchValidator.validate(eq(merged), anyMap())).thenReturn(new ValidationResult());
+        when(customRepository.updateIfUnmodified(eq(merged), eq(FIRST_INSTANT), any(Update.class)))
+            .thenReturn(Optional.of(stored));
+
+        final var outcome = testService.patch(existing, PATCH_MAP, null);
+
+        assertThat(validationStatusCache.size(), is(1));
+        assertThat(validationStatusCache.getIfPresent(otherFiling).isPresent(), is(true));
+
+        verify(postMergeProcessor).onMerge(merged);
+        verify(repository, never()).save(any(PscVerification.class));
+        verify(repository, never()).findById(FILING_ID);
+        assertThat(outcome.result().isSuccess(), is(true));
+        assertThat(outcome.filing(), is(stored));
+    }
+
+    @Test
+    void patchValidatesAndWritesChangedDataOnly() throws IOException {
+        final var existing = PscVerification.newBuilder().id(FILING_ID).updatedAt(FIRST_INSTANT).data(DATA).build();
+        final var merged = PscVerification.newBuilder(existing)
+            .data(PscVerificationData.newBuilder(DATA).companyNumber("87654321").build())
+            .build();
+        final var patchMap = Map.<String, Object>of("company_number", "87654321");
 
-        final var result = testService.patch(FILING_ID, Collections.emptyMap());
+        when(mergeProcessor.mergeEntity(existing, patchMap)).thenReturn(merged);
+        when(patchValidator.validate(eq(merged), anyMap())).thenReturn(new ValidationResult());
+        when(customRepository.updateIfUnmodified(eq(merged), eq(FIRST_INSTANT), any(Update.class))).thenReturn(
+            Optional.of(merged));
 
-        verify(postMergeProcessor).onMerge(filing);
-        verify(repository).save(filing);
-        assertThat(result.isSuccess(), is(true));
+        testService.patch(existing, patchMap, null);
+
+        verify(patchValidator).validate(merged, Map.of("data.companyNumber", "87654321"));
+        verify(customRepository).updateIfUnmodified(merged, FIRST_INSTANT,
+            new Update().set("data.companyNumber", "87654321"));
+    }
+
+    @Test
+    void patchWithInternalData() throws IOException {
+        final var existing = PscVerification.newBuilder().id(FILING_ID).updatedAt(FIRST_INSTANT).build();
+        final var merged = PscVerification.newBuilder(existing).data(DATA).build();
+        final var internalData = InternalData.newBuilder().internalId("123").build();
+        final var patched = PscVerification.newBuilder(merged).internalData(internalData).build();
+
+        when(mergeProcessor.mergeEntity(existing, PATCH_MAP)).thenReturn(merged);
+        when(patchValidator.validate(eq(patched), anyMap())).thenReturn(new ValidationResult());
+        when(customRepository.updateIfUnmodified(eq(patched), eq(FIRST_INSTANT), any(Update.class)))
+            .thenReturn(Optional.of(patched));
+
+        final var outcome = testService.patch(existing, PATCH_MAP, internalData);
+
+        verify(postMergeProcessor).onMerge(patched);
+        assertThat(outcome.filing().getInternalData(), is(internalData));
+    }
+
+    @Test
+    void patchWhenValidationFails() throws IOException {
+        final var existing = PscVerification.newBuilder().id(FILING_ID).updatedAt(FIRST_INSTANT).build();
+        final var error = new FieldError("patched", "data", "bad data");
+
+        when(mergeProcessor.mergeEntity(existing, PATCH_MAP)).thenReturn(existing);
+        when(patchValidator.validate(eq(existing), anyMap())).thenReturn(new ValidationResult(List.of(error)));
+
+        final var outcome = testService.patch(existing, PATCH_MAP, null);
+
+        verifyNoInteractions(customRepository);
+        @SuppressWarnings("unchecked")
+        final var errors = (List<FieldError>) outcome.result().getValidationErrors();
+
+        assertThat(outcome.result().failedValidation(), is(true));
+        assertThat(errors, contains(error));
+        assertThat(outcome.filing(), is(nullValue()));
+    }
+
+    @Test
+    void patchWhenUpdatedConcurrently() throws IOException {
+        final var existing = PscVerification.newBuilder().id(FILING_ID).updatedAt(FIRST_INSTANT).build();
+        final var reloaded = PscVerification.newBuilder(existing).updatedAt(SECOND_INSTANT).build();
+        final var merged = PscVerification.newBuilder(existing).data(DATA).build();
+        final var reloadedMerged = PscVerification.newBuilder(reloaded).data(DATA).build();
+
+        validationStatusCache.put(new ValidationStatusKey(FILING_ID, SECOND_INSTANT), new ValidationStatusResponse());
+        when(patchServiceProperties.getMaxRetries()).thenReturn(1);
+        when(mergeProcessor.mergeEntity(existing, PATCH_MAP)).thenReturn(merged);
+        when(mergeProcessor.mergeEntity(reloaded, PATCH_MAP)).thenReturn(reloadedMerged);
+        when(patchValidator.validate(any(PscVerification.class), anyMap())).thenReturn(new ValidationResult());
+        when(customRepository.updateIfUnmodified(eq(merged), eq(FIRST_INSTANT), any(Update.class)))
+            .thenReturn(Optional.empty());
+        when(repository.findById(FILING_ID)).thenReturn(Optional.of(reloaded));
+        when(customRepository.updateIfUnmodified(eq(reloadedMerged), eq(SECOND_INSTANT), any(Update.class))).thenReturn(
+            Optional.of(reloadedMerged));
+
+        final var outcome = testService.patch(existing, PATCH_MAP, null);
+
+        assertThat(outcome.result().isSuccess(), is(true));
+        assertThat(outcome.filing(), is(reloadedMerged));
+        assertThat(validationStatusCache.size(), is(0));
+    }
+
+    @Test
+    void patchWhenUpdatedConcurrentlyAndRetriesExhausted() throws IOException {
+        final var existing = PscVerification.newBuilder().id(FILING_ID).updatedAt(FIRST_INSTANT).build();
+
+        when(patchServiceProperties.getMaxRetries()).thenReturn(0);
+        when(mergeProcessor.mergeEntity(existing, PATCH_MAP)).thenReturn(existing);
+        when(patchValidator.validate(eq(existing), anyMap())).thenReturn(new ValidationResult());
+        when(customRepository.updateIfUnmodified(eq(existing), eq(FIRST_INSTANT), any(Update.class)))
+            .thenReturn(Optional.empty());
+
+        final var exception = assertThrows(OptimisticLockingFailureException.class,
+            () -> testService.patch(existing, PATCH_MAP, null));
+
+        assertThat(exception.getMessage(), is("Filing " + FILING_ID + " was updated concurrently"));
+    }
+
+    @Test
+    void patchWhenDeletedConcurrently() throws IOException {
+        final var existing = PscVerification.newBuilder().id(FILING_ID).updatedAt(FIRST_INSTANT).build();
+
+        when(patchServiceProperties.getMaxRetries()).thenReturn(1);
+        when(mergeProcessor.mergeEntity(existing, PATCH_MAP)).thenReturn(existing);
+        when(patchValidator.validate(eq(existing), anyMap())).thenReturn(new ValidationResult());
+        when(customRepository.updateIfUnmodified(eq(existing), eq(FIRST_INSTANT), any(Update.class)))
+            .thenReturn(Optional.empty());
+        when(repository.findById(FILING_ID)).thenReturn(Optional.empty());
+
+        final var outcome = testService.patch(existing, PATCH_MAP, null);
 
+        assertThat(outcome.result().failedRetrieval(), is(true));
+        assertThat((RetrievalFailureReason) outcome.result().getRetrievalFailureReason(),
+            is(RetrievalFailureReason.FILING_NOT_FOUND));
     }
 
     @Test
     void patchWhenExceptionThrown() throws IOException {
         final Map<String, Object> patchMap = Collections.emptyMap();
 
-        when(testService.getMaxRetries()).thenReturn(1);
-        final EntityRetrievalResult<PscVerification> retrievalResult = new EntityRetrievalResult<>(
-            "TBC", filing);
-        when(provider.provide(FILING_ID)).thenReturn(retrievalResult);
         when(mergeProcessor.mergeEntity(filing, Collections.emptyMap())).thenThrow(
             new IOException("ioe"));
 
         final var exception = assertThrows(MergePatchException.class,
-            () -> testService.patch(FILING_ID, patchMap));
+            () -> testService.patch(filing, patchMap, null));
 
-        verifyNoInteractions(postMergeProcessor, repository);
+        verifyNoInteractions(postMergeProcessor, repository, customRepository);
         assertThat(exception.getCause().getMessage(), is("ioe"));
 
     }
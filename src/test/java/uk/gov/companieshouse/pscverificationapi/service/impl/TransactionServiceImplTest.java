@@ -9,10 +9,12 @@ import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.contains;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.time.Clock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,7 +33,12 @@ import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.config.ResilienceConfig;
+import uk.gov.companieshouse.pscverificationapi.config.ResilienceProperties;
 import uk.gov.companieshouse.pscverificationapi.exception.TransactionServiceException;
+import uk.gov.companieshouse.pscverificationapi.resilience.Downstream;
+import uk.gov.companieshouse.pscverificationapi.resilience.DownstreamGuards;
+import uk.gov.companieshouse.pscverificationapi.resilience.Retrier;
 
 @ExtendWith(MockitoExtension.class)
 class TransactionServiceImplTest {
@@ -58,10 +65,12 @@ class TransactionServiceImplTest {
     private ApiResponse<Void> voidApiResponse;
 
     private TransactionServiceImpl transactionService;
+    private Retrier retrier;
 
     @BeforeEach
     void setUp() {
-        transactionService = new TransactionServiceImpl(apiClientService, logger);
+        retrier = new ResilienceProperties().createRetrier();
+        transactionService = new TransactionServiceImpl(apiClientService, createGuards(), retrier, logger);
     }
 
     @Test
@@ -97,7 +106,32 @@ class TransactionServiceImplTest {
 
         assertThrows(TransactionServiceException.class, () ->
                 transactionService.getTransaction(transactionId, header));
-        verify(logger).errorContext(eq(transactionId), contains("Unexpected Status Code"), eq(apiException), anyMap());
+        verify(transactionGet, times(3)).execute();
+        verify(logger, times(3)).errorContext(eq(transactionId), contains("Unexpected Status Code"), eq(apiException),
+                anyMap());
+        assertThat(retrier.attemptCount(Downstream.TRANSACTIONS, 3, "exhausted"), is(1L));
+    }
+
+    @Test
+    void getTransaction_transientError_retried() throws Exception {
+        String transactionId = "123";
+        String header = "ERIC";
+        Transaction transaction = new Transaction();
+        ApiErrorResponseException apiException = mock(ApiErrorResponseException.class);
+        when(apiException.getStatusCode()).thenReturn(503);
+        when(apiException.getStatusMessage()).thenReturn("Service Unavailable");
+
+        when(apiClientService.getApiClient(header)).thenReturn(apiClient);
+        when(apiClient.transactions()).thenReturn(transactionsResourceHandler);
+        when(transactionsResourceHandler.get("/transactions/" + transactionId)).thenReturn(transactionGet);
+        when(transactionGet.execute()).thenThrow(apiException).thenReturn(transactionApiResponse);
+        when(transactionApiResponse.getData()).thenReturn(transaction);
+
+        Transaction result = transactionService.getTransaction(transactionId, header);
+
+        assertThat(result, is(transaction));
+        assertThat(retrier.attemptCount(Downstream.TRANSACTIONS, 1, "retried"), is(1L));
+        assertThat(retrier.attemptCount(Downstream.TRANSACTIONS, 2, "success"), is(1L));
     }
 
     @Test
@@ -193,4 +227,7 @@ class TransactionServiceImplTest {
         verify(logger).errorContext(eq(transaction.getId()), contains("Unexpected Status Code"), any(Exception.class), anyMap());
     }
 
-}
\ No newline at end of file
+    private static DownstreamGuards createGuards() {
+        return new ResilienceConfig().downstreamGuards(new ResilienceProperties(), Clock.systemUTC(), Runnable::run);
+    }
+}
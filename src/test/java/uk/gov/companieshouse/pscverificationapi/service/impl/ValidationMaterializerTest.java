@@ -0,0 +1,144 @@
+package uk.gov.companieshouse.pscverificationapi.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.config.RequestDeadlineProperties;
+import uk.gov.companieshouse.pscverificationapi.config.VerificationValidationProperties;
+import uk.gov.companieshouse.pscverificationapi.exception.PscLookupServiceException;
+import uk.gov.companieshouse.pscverificationapi.model.FilingChangedEvent;
+import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
+import uk.gov.companieshouse.pscverificationapi.resilience.Deadline;
+import uk.gov.companieshouse.pscverificationapi.service.ValidationStatusService;
+
+@ExtendWith(MockitoExtension.class)
+class ValidationMaterializerTest {
+
+    private static final String TRANS_ID = "117524-754816-491724";
+    private static final String FILING_ID = "6332aa6ed28ad2333c3a520a";
+    private static final Instant FIRST_INSTANT = Instant.parse("2024-10-15T09:44:08.108Z");
+
+    @Mock
+    private ValidationStatusService validationStatusService;
+    @Mock
+    private Logger logger;
+    @Mock
+    private Transaction transaction;
+
+    private VerificationValidationProperties properties;
+    private RequestDeadlineProperties deadlineProperties;
+    private PscVerification filing;
+
+    @BeforeEach
+    void setUp() {
+        properties = new VerificationValidationProperties();
+        properties.setMaterialize(true);
+        deadlineProperties = new RequestDeadlineProperties();
+        filing = PscVerification.newBuilder().id(FILING_ID).updatedAt(FIRST_INSTANT).build();
+    }
+
+    @Test
+    void onFilingChangedWhenDisabled() {
+        properties.setMaterialize(false);
+        final Executor executor = command -> {
+            throw new AssertionError("validation should not be scheduled");
+        };
+
+        materializer(executor).onFilingChanged(new FilingChangedEvent(filing, TRANS_ID, transaction));
+
+        verifyNoInteractions(validationStatusService);
+    }
+
+    @Test
+    void onFilingChangedWhenTransactionPresent() {
+        final var deadline = new Deadline[1];
+        when(validationStatusService.materialize(filing, transaction)).thenAnswer(invocation -> {
+            deadline[0] = Deadline.current().orElseThrow();
+            return true;
+        });
+
+        materializer(Runnable::run).onFilingChanged(new FilingChangedEvent(filing, TRANS_ID, transaction));
+
+        verify(validationStatusService).materialize(filing, transaction);
+        verify(logger).debug("Validation of filing " + FILING_ID + " stored");
+        assertThat(deadline[0].budget(), is(Duration.ofSeconds(5)));
+        assertThat(Deadline.current(), is(Optional.empty()));
+    }
+
+    @Test
+    void onFilingChangedWhenFilingHasSinceChanged() {
+        when(validationStatusService.materialize(filing, transaction)).thenReturn(false);
+
+        materializer(Runnable::run).onFilingChanged(new FilingChangedEvent(filing, TRANS_ID, transaction));
+
+        verify(logger).debug("Validation of filing " + FILING_ID + " discarded: filing has since changed");
+    }
+
+    @Test
+    void onFilingChangedWhenDeadlinesDisabled() {
+        deadlineProperties.setEnabled(false);
+        when(validationStatusService.materialize(filing, transaction)).thenAnswer(
+            invocation -> Deadline.current().isEmpty());
+
+        materializer(Runnable::run).onFilingChanged(new FilingChangedEvent(filing, TRANS_ID, transaction));
+
+        verify(logger).debug("Validation of filing " + FILING_ID + " stored");
+    }
+
+    @Test
+    void onFilingChangedWhenTransactionAbsent() {
+        final Executor executor = command -> {
+            throw new AssertionError("validation should not be scheduled");
+        };
+
+        materializer(executor).onFilingChanged(new FilingChangedEvent(filing, TRANS_ID, null));
+
+        verifyNoInteractions(validationStatusService);
+        verify(logger).debug("Validation of filing " + FILING_ID + " not scheduled: transaction not retrieved");
+    }
+
+    @Test
+    void onFilingChangedWhenValidationFails() {
+        when(validationStatusService.materialize(filing, transaction)).thenThrow(
+            new PscLookupServiceException("PSC lookup failed", null));
+
+        materializer(Runnable::run).onFilingChanged(new FilingChangedEvent(filing, TRANS_ID, transaction));
+
+        verify(logger).error("Unable to validate filing " + FILING_ID + ": PSC lookup failed");
+    }
+
+    @Test
+    void onFilingChangedWhenExecutorRejects() {
+        final Executor executor = command -> {
+            throw new RejectedExecutionException("shut down");
+        };
+
+        materializer(executor).onFilingChanged(new FilingChangedEvent(filing, TRANS_ID, transaction));
+
+        verify(validationStatusService, never()).materialize(any(PscVerification.class), any(Transaction.class));
+        verify(logger).error("Unable to schedule validation of filing " + FILING_ID + ": shut down");
+    }
+
+    private ValidationMaterializer materializer(final Executor executor) {
+        return new ValidationMaterializer(validationStatusService, properties, deadlineProperties, executor,
+            logger);
+    }
+
+}
@@ -0,0 +1,161 @@
+package uk.gov.companieshouse.pscverificationapi.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscverificationapi.config.VerificationValidationProperties;
+import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
+import uk.gov.companieshouse.pscverificationapi.mapper.ErrorMapper;
+import uk.gov.companieshouse.pscverificationapi.model.entity.MaterializedValidation;
+import uk.gov.companieshouse.pscverificationapi.model.entity.PscVerification;
+import uk.gov.companieshouse.pscverificationapi.repository.PscVerificationRepositoryCustom;
+import uk.gov.companieshouse.pscverificationapi.service.VerificationValidationService;
+import uk.gov.companieshouse.pscverificationapi.validator.VerificationValidationContext;
+
+@ExtendWith(MockitoExtension.class)
+class ValidationStatusServiceImplTest {
+
+    private static final String FILING_ID = "6332aa6ed28ad2333c3a520a";
+    private static final String PASSTHROUGH_HEADER = "passthrough";
+    private static final Instant FIRST_INSTANT = Instant.parse("2024-10-15T09:44:08.108Z");
+    private static final Instant SECOND_INSTANT = Instant.parse("2024-10-16T09:44:08.108Z");
+
+    @Mock
+    private VerificationValidationService validatorService;
+    @Mock
+    private ErrorMapper errorMapper;
+    @Mock
+    private PscVerificationRepositoryCustom customRepository;
+    @Mock
+    private Clock clock;
+    @Mock
+    private Logger logger;
+    @Mock
+    private Transaction transaction;
+
+    private VerificationValidationProperties properties;
+    private PscVerificationData data;
+    private PscVerification filing;
+    private ValidationStatusServiceImpl testService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new VerificationValidationProperties();
+        data = PscVerificationData.newBuilder().pscNotificationId("notification-id").build();
+        filing = PscVerification.newBuilder().id(FILING_ID).updatedAt(FIRST_INSTANT).data(data).build();
+        testService = new ValidationStatusServiceImpl(validatorService, errorMapper, customRepository, properties,
+            clock, logger);
+    }
+
+    @Test
+    void validateWhenValid() {
+        final var context = ArgumentCaptor.forClass(VerificationValidationContext.class);
+        when(errorMapper.map(anySet())).thenReturn(new ValidationStatusError[0]);
+
+        final var response = testService.validate(filing, transaction, PASSTHROUGH_HEADER);
+
+        assertThat(response.isValid(), is(true));
+        assertThat(response.getValidationStatusError(), is(emptyArray()));
+        verify(validatorService).validate(context.capture());
+        assertThat(context.getValue().dto(), is(data));
+        assertThat(context.getValue().transaction(), is(transaction));
+        assertThat(context.getValue().pscType(), is(PscType.INDIVIDUAL));
+        assertThat(context.getValue().passthroughHeader(), is(PASSTHROUGH_HEADER));
+    }
+
+    @Test
+    void validateWhenInvalid() {
+        final var error = new ValidationStatusError();
+        when(errorMapper.map(anySet())).thenReturn(new ValidationStatusError[]{error});
+
+        final var response = testService.validate(filing, transaction, PASSTHROUGH_HEADER);
+
+        assertThat(response.isValid(), is(false));
+        assertThat(response.getValidationStatusError(), is(arrayContaining(error)));
+    }
+
+    @Test
+    void getMaterializedWhenCurrent() {
+        final var error = new ValidationStatusError();
+        final var current = PscVerification.newBuilder(filing)
+            .validation(new MaterializedValidation(FIRST_INSTANT, SECOND_INSTANT, false, List.of(error)))
+            .build();
+        when(clock.instant()).thenReturn(SECOND_INSTANT.plus(Duration.ofMinutes(1)));
+
+        final var response = testService.getMaterialized(current);
+
+        assertThat(response.isPresent(), is(true));
+        assertThat(response.get().isValid(), is(false));
+        assertThat(response.get().getValidationStatusError(), is(arrayContaining(error)));
+    }
+
+    @Test
+    void getMaterializedWhenFilingChanged() {
+        final var changed = PscVerification.newBuilder(filing)
+            .updatedAt(SECOND_INSTANT)
+            .validation(new MaterializedValidation(FIRST_INSTANT, SECOND_INSTANT, true, List.of()))
+            .build();
+
+        assertThat(testService.getMaterialized(changed), is(Optional.empty()));
+    }
+
+    @Test
+    void getMaterializedWhenExpired() {
+        final var expired = PscVerification.newBuilder(filing)
+            .validation(new MaterializedValidation(FIRST_INSTANT, SECOND_INSTANT, true, List.of()))
+            .build();
+        when(clock.instant()).thenReturn(SECOND_INSTANT.plus(properties.getMaterializedTtl()));
+
+        assertThat(testService.getMaterialized(expired), is(Optional.empty()));
+    }
+
+    @Test
+    void getMaterializedWhenAbsent() {
+        assertThat(testService.getMaterialized(filing), is(Optional.empty()));
+    }
+
+    @Test
+    void materialize() {
+        final var error = new ValidationStatusError();
+        final var validation = ArgumentCaptor.forClass(MaterializedValidation.class);
+        when(clock.instant()).thenReturn(SECOND_INSTANT);
+        when(errorMapper.map(anySet())).thenReturn(new ValidationStatusError[]{error});
+        when(customRepository.saveValidation(eq(FILING_ID), eq(FIRST_INSTANT), any(MaterializedValidation.class)))
+            .thenReturn(true);
+
+        final var context = ArgumentCaptor.forClass(VerificationValidationContext.class);
+
+        final var stored = testService.materialize(filing, transaction);
+
+        assertThat(stored, is(true));
+        verify(validatorService).validate(context.capture());
+        assertThat(context.getValue().passthroughHeader(), is(nullValue()));
+        verify(customRepository).saveValidation(eq(FILING_ID), eq(FIRST_INSTANT), validation.capture());
+        assertThat(validation.getValue(),
+            is(new MaterializedValidation(FIRST_INSTANT, SECOND_INSTANT, false, List.of(error))));
+    }
+
+}
@@ -3,18 +3,31 @@ package uk.gov.companieshouse.pscverificationapi.service.impl;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalMatchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
+import uk.gov.companieshouse.pscverificationapi.config.VerificationValidationProperties;
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
+import uk.gov.companieshouse.pscverificationapi.enumerations.ValidationMode;
 import uk.gov.companieshouse.pscverificationapi.service.VerificationValidationService;
 import uk.gov.companieshouse.pscverificationapi.validator.ValidationChainEnable;
+import uk.gov.companieshouse.pscverificationapi.validator.ValidationDependency;
+import uk.gov.companieshouse.pscverificationapi.validator.ValidationDependencyResolver;
 import uk.gov.companieshouse.pscverificationapi.validator.VerificationValidationChain;
 import uk.gov.companieshouse.pscverificationapi.validator.VerificationValidationContext;
 import uk.gov.companieshouse.pscverificationapi.validator.VerificationValidator;
@@ -22,26 +35,64 @@ import uk.gov.companieshouse.pscverificationapi.validator.VerificationValidator;
 @ExtendWith(MockitoExtension.class)
 class VerificationValidationServiceImplTest {
 
+    private static final EnumSet<ValidationDependency> DEPENDENCIES =
+        EnumSet.of(ValidationDependency.PSC_RECORD, ValidationDependency.COMPANY_PROFILE);
+
     private VerificationValidationService testService;
     @Mock
     private VerificationValidator firstValidator;
     @Mock
     private VerificationValidationContext context;
+    @Mock
+    private ValidationDependencyResolver dependencyResolver;
+    @Mock
+    private Executor executor;
+
+    private VerificationValidationProperties properties;
 
     @BeforeEach
     void setUp() {
         List<? extends ValidationChainEnable> verificationValidators =
-            List.of(new VerificationValidationChain(PscType.INDIVIDUAL, firstValidator));
-        testService = new VerificationValidationServiceImpl(verificationValidators);
+            List.of(new VerificationValidationChain(PscType.INDIVIDUAL, firstValidator, DEPENDENCIES));
+        properties = new VerificationValidationProperties();
+        testService = new VerificationValidationServiceImpl(verificationValidators, dependencyResolver, properties,
+            executor);
 
     }
 
     @Test
     void validateWhenPscTypeSupported() {
         when(context.pscType()).thenReturn(PscType.INDIVIDUAL);
+        when(context.dto()).thenReturn(PscVerificationData.newBuilder().pscNotificationId("psc-id").build());
+
+        testService.validate(context);
+
+        final var inOrder = inOrder(dependencyResolver, firstValidator);
+        inOrder.verify(dependencyResolver).resolve(eq(context), eq(DEPENDENCIES), not(same(executor)));
+        inOrder.verify(firstValidator).validate(context);
+    }
+
+    @Test
+    void validateWhenParallel() {
+        properties.setMode(ValidationMode.PARALLEL);
+        when(context.pscType()).thenReturn(PscType.INDIVIDUAL);
+        when(context.dto()).thenReturn(PscVerificationData.newBuilder().pscNotificationId("psc-id").build());
+
+        testService.validate(context);
+
+        final var inOrder = inOrder(dependencyResolver, firstValidator);
+        inOrder.verify(dependencyResolver).resolve(context, DEPENDENCIES, executor);
+        inOrder.verify(firstValidator).validate(context);
+    }
+
+    @Test
+    void validateWhenPscIdMissing() {
+        when(context.pscType()).thenReturn(PscType.INDIVIDUAL);
+        when(context.dto()).thenReturn(PscVerificationData.newBuilder().build());
 
         testService.validate(context);
 
+        verify(dependencyResolver, never()).resolve(any(), any(), any());
         verify(firstValidator).validate(context);
     }
 
@@ -56,4 +107,4 @@ class VerificationValidationServiceImplTest {
 
     }
 
-}
\ No newline at end of file
+}
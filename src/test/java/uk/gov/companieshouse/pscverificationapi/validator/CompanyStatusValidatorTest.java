@@ -11,7 +11,6 @@ import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
-import uk.gov.companieshouse.pscverificationapi.service.CompanyProfileService;
 
 import java.util.*;
 
@@ -27,8 +26,6 @@ class CompanyStatusValidatorTest {
     @Mock
     private CompanyProfileApi companyProfile;
     @Mock
-    private CompanyProfileService companyProfileService;
-    @Mock
     private Map<String, String> validation;
     @Mock
     private Map<String, List<String>> company;
@@ -37,6 +34,7 @@ class CompanyStatusValidatorTest {
     @Mock
     private Transaction transaction;
 
+    private VerificationValidationLookups lookups;
     CompanyStatusValidator testValidator;
     private PscType pscType;
     private Set<FieldError> errors;
@@ -51,14 +49,16 @@ class CompanyStatusValidatorTest {
         pscType = PscType.INDIVIDUAL;
         passthroughHeader = "passthroughHeader";
 
-        testValidator = new CompanyStatusValidator(companyProfileService, validation, company);
+        lookups = new VerificationValidationLookups();
+        testValidator = new CompanyStatusValidator(validation, company);
     }
 
     @Test
     void validateWhenPscExists() {
+        lookups.with(ValidationDependency.COMPANY_PROFILE, null);
 
         testValidator.validate(
-            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader));
+            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups));
 
         assertThat(errors, is(empty()));
 
@@ -67,7 +67,7 @@ class CompanyStatusValidatorTest {
     @Test
     void validateWhenCompanyStatusNotAllowed() {
 
-        when(companyProfileService.getCompanyProfile(transaction, pscVerificationData, passthroughHeader)).thenReturn(companyProfile);
+        lookups.with(ValidationDependency.COMPANY_PROFILE, companyProfile);
         when(companyProfile.getCompanyStatus()).thenReturn("dissolved");
         when(company.get("status-not-allowed")).thenReturn(companyStatusList);
         when(validation.get("company-status-not-allowed")).thenReturn("status not allowed default message");
@@ -76,7 +76,7 @@ class CompanyStatusValidatorTest {
             new String[]{null, "data.company_status"}, null, "status not allowed default message" + companyProfile.getCompanyStatus());
 
         testValidator.validate(
-            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader));
+            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups));
 
         assertThat(errors.stream().findFirst().orElseThrow(), equalTo(fieldError));
         assertThat(errors, IsIterableContainingInOrder.contains(fieldError));
@@ -11,7 +11,6 @@ import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
-import uk.gov.companieshouse.pscverificationapi.service.CompanyProfileService;
 
 import java.util.*;
 
@@ -27,8 +26,6 @@ class CompanyTypeValidatorTest {
     @Mock
     private CompanyProfileApi companyProfile;
     @Mock
-    private CompanyProfileService companyProfileService;
-    @Mock
     private Map<String, String> validation;
     @Mock
     private Map<String, List<String>> company;
@@ -37,6 +34,7 @@ class CompanyTypeValidatorTest {
     @Mock
     private Transaction transaction;
 
+    private VerificationValidationLookups lookups;
     CompanyTypeValidator testValidator;
     private PscType pscType;
     private Set<FieldError> errors;
@@ -51,14 +49,16 @@ class CompanyTypeValidatorTest {
         pscType = PscType.INDIVIDUAL;
         passthroughHeader = "passthroughHeader";
 
-        testValidator = new CompanyTypeValidator(companyProfileService, validation, company);
+        lookups = new VerificationValidationLookups();
+        testValidator = new CompanyTypeValidator(validation, company);
     }
 
     @Test
     void validateWhenPscExists() {
+        lookups.with(ValidationDependency.COMPANY_PROFILE, null);
 
         testValidator.validate(
-            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader));
+            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups));
 
         assertThat(errors, is(empty()));
 
@@ -70,15 +70,33 @@ class CompanyTypeValidatorTest {
         var fieldError = new FieldError("object", "type", companyProfile.getType(), false,
             new String[]{null, "data.type"}, null, "type not allowed default message");
 
-        when(companyProfileService.getCompanyProfile(transaction, pscVerificationData, passthroughHeader)).thenReturn(companyProfile);
+        lookups.with(ValidationDependency.COMPANY_PROFILE, companyProfile);
         when(companyProfile.getType()).thenReturn(null);
         when(company.get("type-allowed")).thenReturn(companyTypeList);
         when(validation.get("company-type-not-allowed")).thenReturn("type not allowed default message");
 
         testValidator.validate(
-            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader));
+            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups));
 
         assertThat(errors.stream().findFirst().orElseThrow(), equalTo(fieldError));
         assertThat(errors, IsIterableContainingInOrder.contains(fieldError));
     }
-}
\ No newline at end of file
+
+    @Test
+    void validateWhenCompanyProfileSharedWithStatusValidator() {
+        final var context =
+            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups);
+        testValidator.setNext(new CompanyStatusValidator(validation, company));
+
+        lookups.with(ValidationDependency.COMPANY_PROFILE, companyProfile);
+        when(companyProfile.getType()).thenReturn("ltd");
+        when(companyProfile.getCompanyStatus()).thenReturn("active");
+        when(company.get("type-allowed")).thenReturn(List.of("ltd"));
+        when(company.get("status-not-allowed")).thenReturn(List.of("dissolved"));
+
+        testValidator.validate(context);
+
+        assertThat(errors, is(empty()));
+        assertThat(context.lookups().avoidedLookups(), is(1));
+    }
+}
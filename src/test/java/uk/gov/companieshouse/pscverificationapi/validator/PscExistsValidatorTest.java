@@ -18,15 +18,13 @@ import org.springframework.validation.FieldError;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.psc.IndividualFullRecord;
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
 import uk.gov.companieshouse.pscverificationapi.exception.FilingResourceNotFoundException;
-import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
 
 @ExtendWith(MockitoExtension.class)
 class PscExistsValidatorTest {
 
-    @Mock
-    private PscLookupService pscLookupService;
     @Mock
     private PscVerificationData pscVerificationData;
     @Mock
@@ -36,6 +34,7 @@ class PscExistsValidatorTest {
     @Mock
     private ApiErrorResponseException errorResponseException;
 
+    private VerificationValidationLookups lookups;
     PscExistsValidator testValidator;
     private PscType pscType;
     private Set<FieldError> errors;
@@ -50,14 +49,16 @@ class PscExistsValidatorTest {
         pscType = PscType.INDIVIDUAL;
         passthroughHeader = "passthroughHeader";
 
-        testValidator = new PscExistsValidator(validation, pscLookupService);
+        lookups = new VerificationValidationLookups();
+        testValidator = new PscExistsValidator(validation);
     }
 
     @Test
     void validateWhenPscExists() {
+        lookups.with(ValidationDependency.PSC_RECORD, new IndividualFullRecord());
 
         testValidator.validate(
-            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader));
+            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups));
 
         assertThat(errors, is(empty()));
 
@@ -69,12 +70,11 @@ class PscExistsValidatorTest {
             new String[]{null, "notFound.psc_notification_id"}, null,
             "not-exists default message");
         when(pscVerificationData.pscNotificationId()).thenReturn(PSC_ID);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType)).
-            thenThrow(new FilingResourceNotFoundException("PSC Details not found for " + PSC_ID + ": 404 Not Found", errorResponseException));
+        lookups.withFailure(ValidationDependency.PSC_RECORD, new FilingResourceNotFoundException("PSC Details not found for " + PSC_ID + ": 404 Not Found", errorResponseException));
         when(validation.get("psc-notification-id-not-found")).thenReturn("not-exists default message");
 
         testValidator.validate(
-            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader));
+            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups));
 
         assertThat(errors.stream().findFirst().orElseThrow(), equalTo(fieldError));
         assertThat(errors, contains(fieldError));
@@ -20,13 +20,10 @@ import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.psc.IndividualFullRecord;
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
-import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
 
 @ExtendWith(MockitoExtension.class)
 class PscIsActiveValidatorTest {
 
-    @Mock
-    private PscLookupService pscLookupService;
     @Mock
     private PscVerificationData pscVerificationData;
     @Mock
@@ -36,6 +33,7 @@ class PscIsActiveValidatorTest {
     @Mock
     private IndividualFullRecord individualFullRecord;
 
+    private VerificationValidationLookups lookups;
     PscIsActiveValidator testValidator;
     private PscType pscType;
     private Set<FieldError> errors;
@@ -51,16 +49,16 @@ class PscIsActiveValidatorTest {
         pscType = PscType.INDIVIDUAL;
         passthroughHeader = "passthroughHeader";
 
-        testValidator = new PscIsActiveValidator(validation, pscLookupService);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType)).thenReturn(individualFullRecord);
+        lookups = new VerificationValidationLookups();
+        testValidator = new PscIsActiveValidator(validation);
+        lookups.with(ValidationDependency.PSC_RECORD, individualFullRecord);
     }
 
     @Test
     void validateWhenPscIsActive() {
 
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType)).thenReturn(individualFullRecord);
         testValidator.validate(
-            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader));
+            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups));
 
         assertThat(errors, is(empty()));
     }
@@ -74,13 +72,24 @@ class PscIsActiveValidatorTest {
         var fieldError = new FieldError("object", "psc_notification_id", pscVerificationData.pscNotificationId(), false,
             new String[]{null, PSC_ID}, null, "is ceased default message");
 
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType)).thenReturn(individualFullRecord);
         when(validation.get("psc-is-ceased")).thenReturn("is ceased default message");
 
         testValidator.validate(
-            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader));
+            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups));
 
         assertThat(errors.stream().findFirst().orElseThrow(), equalTo(fieldError));
         assertThat(errors, contains(fieldError));
     }
-}
\ No newline at end of file
+
+    @Test
+    void validateWhenPscRecordSharedAcrossChain() {
+        final var context =
+            new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups);
+        testValidator.setNext(new PscIsActiveValidator(validation));
+
+        testValidator.validate(context);
+
+        assertThat(errors, is(empty()));
+        assertThat(context.lookups().avoidedLookups(), is(1));
+    }
+}
@@ -12,7 +12,6 @@ import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.psc.IndividualFullRecord;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
-import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -30,8 +29,6 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class PscIsPastStartDateValidatorTest {
 
-    @Mock
-    private PscLookupService pscLookupService;
     @Mock
     private PscVerificationData pscVerificationData;
     @Mock
@@ -43,6 +40,7 @@ class PscIsPastStartDateValidatorTest {
     @Mock
     private Logger logger;
 
+    private VerificationValidationLookups lookups;
     PscIsPastStartDateValidator testValidator;
     private PscType pscType;
     private Set<FieldError> errors;
@@ -55,19 +53,17 @@ class PscIsPastStartDateValidatorTest {
         pscType = PscType.INDIVIDUAL;
         passthroughHeader = "passthroughHeader";
 
-        testValidator = new PscIsPastStartDateValidator(validation, pscLookupService, logger);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType))
-                .thenReturn(individualFullRecord);
+        lookups = new VerificationValidationLookups();
+        testValidator = new PscIsPastStartDateValidator(validation, logger);
+        lookups.with(ValidationDependency.PSC_RECORD, individualFullRecord);
     }
 
     @Test
     void validateWhenIdentityVerificationDetailsIsNull() {
         when(individualFullRecord.getIdentityVerificationDetails()).thenReturn(null);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType))
-                .thenReturn(individualFullRecord);
 
         testValidator.validate(new VerificationValidationContext(pscVerificationData, errors, transaction, pscType,
-                passthroughHeader));
+                passthroughHeader, lookups));
 
         assertThat(errors, is(empty()));
     }
@@ -77,11 +73,9 @@ class PscIsPastStartDateValidatorTest {
         var identityVerificationDetails = new IdentityVerificationDetails();
 
         when(individualFullRecord.getIdentityVerificationDetails()).thenReturn(identityVerificationDetails);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType))
-                .thenReturn(individualFullRecord);
 
         testValidator.validate(new VerificationValidationContext(pscVerificationData, errors, transaction, pscType,
-                        passthroughHeader));
+                        passthroughHeader, lookups));
 
         assertThat(errors, is(empty()));
     }
@@ -93,11 +87,9 @@ class PscIsPastStartDateValidatorTest {
                 .appointmentVerificationStatementDueOn(LocalDate.now().plusDays(14));
 
         when(individualFullRecord.getIdentityVerificationDetails()).thenReturn(identityVerificationDetails);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType))
-                .thenReturn(individualFullRecord);
 
         testValidator.validate( new VerificationValidationContext(pscVerificationData, errors, transaction, pscType,
-                passthroughHeader));
+                passthroughHeader, lookups));
 
         assertThat(errors, is(empty()));
     }
@@ -121,12 +113,9 @@ class PscIsPastStartDateValidatorTest {
         var fieldError = new FieldError("object", "psc_verification_start_date", formattedStartDate, 
                 false, new String[] { null, formattedStartDate }, null, errorResponseText);
 
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType))
-                .thenReturn(individualFullRecord);
-
         testValidator.validate(
                 new VerificationValidationContext(pscVerificationData, errors, transaction, pscType,
-                        passthroughHeader));
+                        passthroughHeader, lookups));
 
         assertThat(errors.stream().findFirst().orElseThrow(), equalTo(fieldError));
         assertThat(errors, contains(fieldError));
@@ -23,13 +23,10 @@ import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.psc.IndividualFullRecord;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
-import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
 
 @ExtendWith(MockitoExtension.class)
 class PscIsUnverifiedValidatorTest {
 
-    @Mock
-    private PscLookupService pscLookupService;
     @Mock
     private PscVerificationData pscVerificationData;
     @Mock
@@ -41,6 +38,7 @@ class PscIsUnverifiedValidatorTest {
     @Mock
     private Logger logger;
 
+    private VerificationValidationLookups lookups;
     PscIsUnverifiedValidator testValidator;
     private PscType pscType;
     private Set<FieldError> errors;
@@ -53,20 +51,17 @@ class PscIsUnverifiedValidatorTest {
         pscType = PscType.INDIVIDUAL;
         passthroughHeader = "passthroughHeader";
 
-        testValidator = new PscIsUnverifiedValidator(validation, pscLookupService, logger);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType))
-                .thenReturn(individualFullRecord);
+        lookups = new VerificationValidationLookups();
+        testValidator = new PscIsUnverifiedValidator(validation, logger);
+        lookups.with(ValidationDependency.PSC_RECORD, individualFullRecord);
     }
 
     @Test
     void validateWhenPscHasNoIdentityVerificationDetails() {
 
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType))
-                .thenReturn(individualFullRecord);
-
         testValidator.validate(
                 new VerificationValidationContext(pscVerificationData, errors, transaction, pscType,
-                        passthroughHeader));
+                        passthroughHeader, lookups));
 
         assertThat(errors, is(empty()));
     }
@@ -79,11 +74,9 @@ class PscIsUnverifiedValidatorTest {
 
         when(individualFullRecord.getIdentityVerificationDetails()).thenReturn(identityVerificationDetails);
 
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType))
-                .thenReturn(individualFullRecord);
         testValidator.validate(
                 new VerificationValidationContext(pscVerificationData, errors, transaction, pscType,
-                        passthroughHeader));
+                        passthroughHeader, lookups));
 
         assertThat(errors, is(empty()));
     }
@@ -100,8 +93,6 @@ class PscIsUnverifiedValidatorTest {
                 .appointmentVerificationStatementDueOn(LocalDate.now().plusDays(7));
 
         when(individualFullRecord.getIdentityVerificationDetails()).thenReturn(identityVerificationDetails);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType))
-                .thenReturn(individualFullRecord);
         when(validation.get("psc-already-verified")).thenReturn("This PSC has already provided their identity verification details");
 
         var errorResponseText = validation.get("psc-already-verified").replace("{appointment_verification_start_on}", formattedVerificationDate);
@@ -109,7 +100,7 @@ class PscIsUnverifiedValidatorTest {
                 new String[] { null, formattedVerificationDate }, null, errorResponseText);
 
         testValidator.validate(
-                new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader));
+                new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups));
 
         assertThat(errors.stream().findFirst().orElseThrow(), equalTo(fieldError));
 
@@ -125,11 +116,8 @@ class PscIsUnverifiedValidatorTest {
                 .appointmentVerificationStatementDueOn(LocalDate.now().minusDays(351));
 
         when(individualFullRecord.getIdentityVerificationDetails()).thenReturn(identityVerificationDetails);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType))
-                .thenReturn(individualFullRecord);
-
         testValidator.validate(
-                new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader));
+                new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups));
 
         assertThat(errors, is(empty()));
     }
@@ -143,11 +131,8 @@ class PscIsUnverifiedValidatorTest {
                 .appointmentVerificationStatementDueOn(LocalDate.now().minusDays(351));
 
         when(individualFullRecord.getIdentityVerificationDetails()).thenReturn(identityVerificationDetails);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType))
-                .thenReturn(individualFullRecord);
-
         testValidator.validate(
-                new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader));
+                new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader, lookups));
 
         assertThat(errors, is(empty()));
     }
@@ -1,7 +1,5 @@
 package uk.gov.companieshouse.pscverificationapi.validator;
 
-import com.google.api.client.http.HttpHeaders;
-import com.google.api.client.http.HttpResponseException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,23 +10,14 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.validation.FieldError;
-import uk.gov.companieshouse.api.error.ApiErrorResponseException;
-import uk.gov.companieshouse.api.identityverification.model.UvidMatch;
 import uk.gov.companieshouse.api.identityverification.model.UvidMatchResponse;
-import uk.gov.companieshouse.api.model.common.Date3Tuple;
-import uk.gov.companieshouse.api.model.psc.NameElementsApi;
 import uk.gov.companieshouse.api.model.pscverification.NameMismatchReasonConstants;
 import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
 import uk.gov.companieshouse.api.model.pscverification.VerificationDetails;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
-import uk.gov.companieshouse.api.psc.IndividualFullRecord;
 import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
 import uk.gov.companieshouse.pscverificationapi.exception.IdvLookupServiceException;
-import uk.gov.companieshouse.pscverificationapi.service.IdvLookupService;
-import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,13 +26,12 @@ import java.util.stream.Stream;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.Collections;
-import java.util.Arrays;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
-import static org.hamcrest.Matchers.samePropertyValuesAs;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.mockito.Mockito.when;
@@ -56,12 +44,6 @@ class UvidExistsValidatorTest {
     @Mock
     private Map<String, String> validation;
 
-    @Mock
-    private IdvLookupService idvLookupService;
-
-    @Mock
-    private PscLookupService pscLookupService;
-
     @Mock
     private PscVerificationData pscVerificationData;
 
@@ -71,6 +53,7 @@ class UvidExistsValidatorTest {
     @Mock
     private UvidMatchResponse uvidMatchResponse;
 
+    private VerificationValidationLookups lookups;
     UvidExistsValidator testValidator;
     private PscType pscType;
     private Set<FieldError> errors;
@@ -89,12 +72,6 @@ class UvidExistsValidatorTest {
             .companyNumber(COMPANY_NUMBER)
             .verificationDetails(VERIFICATION_DETAILS)
             .build();
-    private static final String SURNAME = "Surname";
-    private static final String PSC_FORENAME = "Forename1";
-    private static final String PSC_MIDDLE_NAME = "Forename2 Forename3";
-    private static final String[] FORENAMES = {PSC_FORENAME, PSC_MIDDLE_NAME};
-    private static final String PSC_SURNAME = "Surname";
-    private static final Date3Tuple DATE_OF_BIRTH = new Date3Tuple(27, 2, 1983);
 
     @BeforeEach
     void setUp() {
@@ -102,96 +79,62 @@ class UvidExistsValidatorTest {
         errors = new HashSet<>();
         pscType = INDIVIDUAL;
         passthroughHeader = "passthroughHeader";
-        validationContext = new VerificationValidationContext(pscVerificationData, errors, transaction, pscType, passthroughHeader);
-
+        lookups = new VerificationValidationLookups();
+        validationContext = new VerificationValidationContext(pscVerificationData, errors, transaction, pscType,
+            passthroughHeader, lookups);
 
-        testValidator = new UvidExistsValidator(validation, idvLookupService, pscLookupService);
+        testValidator = new UvidExistsValidator(validation);
     }
 
     @Test
-    void validateWhenException() throws ApiErrorResponseException {
-
-        UvidMatch expected = createUvid(UVID_CODE);
-        setNames(expected, FORENAMES, SURNAME);
+    void validateWhenException() {
 
-        String stringDateOfBirth = String.format("%04d-%02d-%02d", 1983, 2, 27);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        expected.setDateOfBirth(LocalDate.parse(stringDateOfBirth, formatter));
-
-        final var pscData = createPscData(PSC_FORENAME, PSC_MIDDLE_NAME, PSC_SURNAME, DATE_OF_BIRTH);
-
-        when(pscLookupService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA, pscType)).thenReturn(pscData);
-        when(idvLookupService.matchUvid(expected)).thenThrow(new ApiErrorResponseException(
-                new HttpResponseException.Builder(400, "test error", new HttpHeaders())));
+        final var matchException = new IdvLookupServiceException("Error matching UVID XY222222223: null test error", null);
+        lookups.withFailure(ValidationDependency.UVID_MATCH, matchException);
 
         final IdvLookupServiceException exception;
         final VerificationValidationContext verificationValidationContext =
-                new VerificationValidationContext(PSC_VERIFICATION_DATA, errors, transaction, pscType, passthroughHeader);
+                new VerificationValidationContext(PSC_VERIFICATION_DATA, errors, transaction, pscType, passthroughHeader,
+                    lookups);
 
         exception = Assertions.assertThrows(IdvLookupServiceException.class, () -> testValidator.validate(verificationValidationContext));
-        assertThat(exception.getMessage(), is("Error matching UVID XY222222223: null test error"));
+        assertThat(exception, is(sameInstance(matchException)));
     }
 
     @Test
-    void validateWhenNameMismatchNotNull() throws ApiErrorResponseException {
-
-        UvidMatch expected = createUvid(UVID_CODE);
-        setNames(expected, FORENAMES, SURNAME);
-
-        String stringDateOfBirth = String.format("%04d-%02d-%02d", 1983, 2, 27);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        expected.setDateOfBirth(LocalDate.parse(stringDateOfBirth, formatter));
+    void validateWhenNameMismatchNotNull() {
 
         var verificationDetails = VerificationDetails.newBuilder(PSC_VERIFICATION_DATA.verificationDetails()).nameMismatchReason(NameMismatchReasonConstants.PREFERRED_NAME).build();
 
-        final var pscIndividualFullRecord = createPscData(PSC_FORENAME, PSC_MIDDLE_NAME, PSC_SURNAME, DATE_OF_BIRTH);
-
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType)).thenReturn(pscIndividualFullRecord);
+        lookups.with(ValidationDependency.UVID_MATCH, uvidMatchResponse);
         when(pscVerificationData.verificationDetails()).thenReturn(verificationDetails);
-        when(idvLookupService.matchUvid(expected)).thenReturn(uvidMatchResponse);
         when(uvidMatchResponse.getAccuracyStatement()).thenReturn(Collections.singletonList(FORENAMES_MISMATCH));
 
         testValidator.validate(validationContext);
+
+        assertThat(errors, is(empty()));
     }
 
     @Test
-    void validateWhenUvidMatch() throws ApiErrorResponseException {
-
-        UvidMatch expected = createUvid(UVID_CODE);
-        setNames(expected, FORENAMES, SURNAME);
-
-        String stringDateOfBirth = String.format("%04d-%02d-%02d", 1983, 2, 27);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        expected.setDateOfBirth(LocalDate.parse(stringDateOfBirth, formatter));
-
-        final var individualFullRecord = createPscData(PSC_FORENAME, PSC_MIDDLE_NAME, PSC_SURNAME, DATE_OF_BIRTH);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType)).thenReturn(individualFullRecord);
+    void validateWhenUvidMatch() {
 
-        when(pscVerificationData.verificationDetails()).thenReturn(VERIFICATION_DETAILS);
-        when(idvLookupService.matchUvid(expected)).thenReturn(uvidMatchResponse);
+        lookups.with(ValidationDependency.UVID_MATCH, uvidMatchResponse);
         when(uvidMatchResponse.getAccuracyStatement()).thenReturn(Collections.singletonList(DETAILS_MATCH_UVID));
 
         testValidator.validate(validationContext);
+
+        assertThat(errors, is(empty()));
     }
 
     @Test
-    void validateWhenUvidMatchIsExpired() throws ApiErrorResponseException {
-
-        UvidMatch expected = createUvid(UVID_CODE);
-        setNames(expected, FORENAMES, SURNAME);
+    void validateWhenUvidMatchIsExpired() {
 
         List<UvidMatchResponse.AccuracyStatementEnum> accuracyStatementList = new ArrayList<>();
         accuracyStatementList.add(DETAILS_MATCH_UVID);
         accuracyStatementList.add(EXPIRED_UVID);
 
-        String stringDateOfBirth = String.format("%04d-%02d-%02d", 1983, 2, 27);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        expected.setDateOfBirth(LocalDate.parse(stringDateOfBirth, formatter));
-
-        final var individualFullRecord = createPscData(PSC_FORENAME, PSC_MIDDLE_NAME, PSC_SURNAME, DATE_OF_BIRTH);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType)).thenReturn(individualFullRecord);
+        lookups.with(ValidationDependency.UVID_MATCH, uvidMatchResponse);
         when(pscVerificationData.verificationDetails()).thenReturn(VERIFICATION_DETAILS);
-        when(idvLookupService.matchUvid(expected)).thenReturn(uvidMatchResponse);
         when(uvidMatchResponse.getAccuracyStatement()).thenReturn(accuracyStatementList);
 
         testValidator.validate(validationContext);
@@ -205,49 +148,20 @@ class UvidExistsValidatorTest {
     }
 
     @Test
-    void getUvidMatchWithPscDataNoForename() throws ApiErrorResponseException {
+    void validateWhenUvidMatchNotFetched() {
 
-        UvidMatch expected = createUvid(UVID_CODE);
-        setNames(expected, null, SURNAME);
+        final var exception = Assertions.assertThrows(IllegalStateException.class,
+            () -> testValidator.validate(validationContext));
 
-        String stringDateOfBirth = String.format("%04d-%02d-%02d", 1983, 2, 27);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        expected.setDateOfBirth(LocalDate.parse(stringDateOfBirth, formatter));
-
-        final var pscData = createPscData(null, null, PSC_SURNAME, DATE_OF_BIRTH);
-
-        when(pscLookupService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA, pscType)).thenReturn(pscData);
-
-        var testUvid = testValidator.getUvidMatchWithPscData(transaction, PSC_VERIFICATION_DATA, INDIVIDUAL);
-
-        assertThat("Forenames order does not match", testUvid.getForenames(), is(equalTo(expected.getForenames())));
-        assertThat(testUvid, samePropertyValuesAs(expected));
-
-        when(idvLookupService.matchUvid(expected)).thenReturn(uvidMatchResponse);
-        when(uvidMatchResponse.getAccuracyStatement()).thenReturn(Collections.singletonList(DETAILS_MATCH_UVID));
-
-        testValidator.validate(
-            new VerificationValidationContext(PSC_VERIFICATION_DATA, errors, transaction, pscType, passthroughHeader)
-        );
-        assertThat(errors, is(empty()));
+        assertThat(exception.getMessage(), is("UVID_MATCH was not fetched before validation"));
     }
 
     @ParameterizedTest
     @MethodSource("provideParameters")
-    void validateWhenUvidMatchError(String errorValue, String errorText, List<UvidMatchResponse.AccuracyStatementEnum> statementEnums) throws ApiErrorResponseException {
-
-        UvidMatch expected = createUvid(UVID_CODE);
-        setNames(expected, FORENAMES, SURNAME);
-
-        String stringDateOfBirth = String.format("%04d-%02d-%02d", 1983, 2, 27);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        expected.setDateOfBirth(LocalDate.parse(stringDateOfBirth, formatter));
-
-        final var individualFullRecord = createPscData(PSC_FORENAME, PSC_MIDDLE_NAME, PSC_SURNAME, DATE_OF_BIRTH);
-        when(pscLookupService.getIndividualFullRecord(transaction, pscVerificationData, pscType)).thenReturn(individualFullRecord);
+    void validateWhenUvidMatchError(String errorValue, String errorText, List<UvidMatchResponse.AccuracyStatementEnum> statementEnums) {
 
+        lookups.with(ValidationDependency.UVID_MATCH, uvidMatchResponse);
         when(pscVerificationData.verificationDetails()).thenReturn(VERIFICATION_DETAILS);
-        when(idvLookupService.matchUvid(expected)).thenReturn(uvidMatchResponse);
         when(uvidMatchResponse.getAccuracyStatement()).thenReturn(statementEnums);
 
         var fieldError = new FieldError("object", "uvid_match", PSC_VERIFICATION_DATA.verificationDetails().uvid(), false,
@@ -278,33 +192,4 @@ class UvidExistsValidatorTest {
                 "The name on the public register is different to the name this PSC used for identity verification:" +
                     " a name mismatch reason must be provided", List.of(FORENAMES_MISMATCH, SURNAME_MISMATCH)));
     }
-
-    private static UvidMatch createUvid(String uvidCode) {
-        UvidMatch uvidMatch = new UvidMatch();
-        uvidMatch.setUvid(uvidCode);
-        return uvidMatch;
-    }
-
-    private static void setNames(final UvidMatch uvidMatch, String[] forenames, String surname) {
-        List<String> forenamesAsList = Optional.ofNullable(forenames)
-            .map(Arrays::asList)
-            .map(ArrayList::new)
-            .orElseGet(ArrayList::new);
-
-        uvidMatch.setForenames(forenamesAsList);
-        uvidMatch.setSurname(surname);
-    }
-
-    private static IndividualFullRecord createPscData(String forename, String middleName, String surname, Date3Tuple dateOfBirth) {
-        IndividualFullRecord individualFullRecord = new IndividualFullRecord();
-        NameElementsApi nameElements = new NameElementsApi();
-        nameElements.setForename(forename);
-        nameElements.setMiddleName(middleName);
-        nameElements.setSurname(surname);
-        individualFullRecord.setNameElements(nameElements);
-
-        individualFullRecord.setDateOfBirth(dateOfBirth);
-
-        return individualFullRecord;
-    }
-}
\ No newline at end of file
+}
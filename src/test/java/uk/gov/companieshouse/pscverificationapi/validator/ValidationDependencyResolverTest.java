@@ -0,0 +1,241 @@
+package uk.gov.companieshouse.pscverificationapi.validator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.validation.FieldError;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.identityverification.model.UvidMatch;
+import uk.gov.companieshouse.api.identityverification.model.UvidMatchResponse;
+import uk.gov.companieshouse.api.model.common.Date3Tuple;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.model.psc.NameElementsApi;
+import uk.gov.companieshouse.api.model.pscverification.PscVerificationData;
+import uk.gov.companieshouse.api.model.pscverification.VerificationDetails;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.psc.IndividualFullRecord;
+import uk.gov.companieshouse.pscverificationapi.enumerations.PscType;
+import uk.gov.companieshouse.pscverificationapi.exception.FilingResourceNotFoundException;
+import uk.gov.companieshouse.pscverificationapi.exception.IdvLookupServiceException;
+import uk.gov.companieshouse.pscverificationapi.service.CompanyProfileService;
+import uk.gov.companieshouse.pscverificationapi.service.IdvLookupService;
+import uk.gov.companieshouse.pscverificationapi.service.PscLookupService;
+
+@ExtendWith(MockitoExtension.class)
+class ValidationDependencyResolverTest {
+
+    private static final String UVID_CODE = "XY222222223";
+    private static final String PASSTHROUGH_HEADER = "passthroughHeader";
+    private static final PscVerificationData PSC_VERIFICATION_DATA = PscVerificationData.newBuilder()
+        .pscNotificationId("654321")
+        .companyNumber("12345678")
+        .verificationDetails(VerificationDetails.newBuilder().uvid(UVID_CODE).build())
+        .build();
+
+    @Mock
+    private PscLookupService pscLookupService;
+    @Mock
+    private CompanyProfileService companyProfileService;
+    @Mock
+    private IdvLookupService idvLookupService;
+    @Mock
+    private Transaction transaction;
+    @Mock
+    private CompanyProfileApi companyProfile;
+    @Mock
+    private UvidMatchResponse uvidMatchResponse;
+
+    private ValidationDependencyResolver testResolver;
+    private VerificationValidationContext context;
+    private IndividualFullRecord individualFullRecord;
+
+    @BeforeEach
+    void setUp() {
+        final Set<FieldError> errors = new HashSet<>();
+        context = new VerificationValidationContext(PSC_VERIFICATION_DATA, errors, transaction, PscType.INDIVIDUAL,
+            PASSTHROUGH_HEADER);
+        individualFullRecord = createPscData();
+        testResolver = new ValidationDependencyResolver(pscLookupService, companyProfileService, idvLookupService);
+    }
+
+    @Test
+    void resolve() throws ApiErrorResponseException {
+        when(pscLookupService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA,
+            PscType.INDIVIDUAL)).thenReturn(individualFullRecord);
+        when(companyProfileService.getCompanyProfile(transaction, PSC_VERIFICATION_DATA)).thenReturn(
+            companyProfile);
+        when(idvLookupService.matchUvid(any(UvidMatch.class))).thenReturn(uvidMatchResponse);
+
+        testResolver.resolve(context, EnumSet.allOf(ValidationDependency.class), Runnable::run);
+
+        assertThat(context.lookups().individualFullRecord(), is(sameInstance(individualFullRecord)));
+        assertThat(context.lookups().companyProfile(), is(sameInstance(companyProfile)));
+        assertThat(context.lookups().uvidMatch(), is(sameInstance(uvidMatchResponse)));
+        verify(pscLookupService, times(1)).getIndividualFullRecord(any(), any(), any());
+        verify(companyProfileService, times(1)).getCompanyProfile(any(), any());
+        verify(idvLookupService, times(1)).matchUvid(any(UvidMatch.class));
+    }
+
+    @Test
+    void resolveOnExecutor() throws ApiErrorResponseException {
+        when(pscLookupService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA,
+            PscType.INDIVIDUAL)).thenReturn(individualFullRecord);
+        when(companyProfileService.getCompanyProfile(transaction, PSC_VERIFICATION_DATA)).thenReturn(
+            companyProfile);
+        when(idvLookupService.matchUvid(any(UvidMatch.class))).thenReturn(uvidMatchResponse);
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            testResolver.resolve(context, EnumSet.allOf(ValidationDependency.class), executor);
+        }
+
+        assertThat(context.lookups().individualFullRecord(), is(sameInstance(individualFullRecord)));
+        assertThat(context.lookups().companyProfile(), is(sameInstance(companyProfile)));
+        assertThat(context.lookups().uvidMatch(), is(sameInstance(uvidMatchResponse)));
+        verify(pscLookupService, times(1)).getIndividualFullRecord(any(), any(), any());
+    }
+
+    @Test
+    void resolveMatchesUvidWithPscData() throws ApiErrorResponseException {
+        final var expected = new UvidMatch();
+        expected.setUvid(UVID_CODE);
+        expected.setForenames(List.of("Forename1", "Forename2"));
+        expected.setSurname("Surname");
+        expected.setDateOfBirth(LocalDate.of(1983, 2, 27));
+        when(pscLookupService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA,
+            PscType.INDIVIDUAL)).thenReturn(individualFullRecord);
+        when(idvLookupService.matchUvid(expected)).thenReturn(uvidMatchResponse);
+
+        testResolver.resolve(context, EnumSet.of(ValidationDependency.UVID_MATCH), Runnable::run);
+
+        assertThat(context.lookups().uvidMatch(), is(sameInstance(uvidMatchResponse)));
+    }
+
+    @Test
+    void resolveWhenIdvError() throws ApiErrorResponseException {
+        when(pscLookupService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA,
+            PscType.INDIVIDUAL)).thenReturn(individualFullRecord);
+        when(idvLookupService.matchUvid(any(UvidMatch.class))).thenThrow(new ApiErrorResponseException(
+            new HttpResponseException.Builder(400, "test error", new HttpHeaders())));
+
+        testResolver.resolve(context, EnumSet.of(ValidationDependency.PSC_RECORD, ValidationDependency.UVID_MATCH),
+            Runnable::run);
+
+        final var lookups = context.lookups();
+        final var exception = assertThrows(IdvLookupServiceException.class, lookups::uvidMatch);
+        assertThat(exception.getMessage(), is("Error matching UVID XY222222223: 400 test error"));
+        assertThat(lookups.individualFullRecord(), is(sameInstance(individualFullRecord)));
+    }
+
+    @Test
+    void resolveWhenPscLookupFails() {
+        final var exception = new IllegalStateException("lookup failed");
+        when(pscLookupService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA,
+            PscType.INDIVIDUAL)).thenThrow(exception);
+
+        testResolver.resolve(context, EnumSet.of(ValidationDependency.PSC_RECORD, ValidationDependency.UVID_MATCH),
+            Runnable::run);
+
+        final var lookups = context.lookups();
+        assertThat(assertThrows(IllegalStateException.class, lookups::individualFullRecord),
+            is(sameInstance(exception)));
+        assertThat(assertThrows(IllegalStateException.class, lookups::uvidMatch), is(sameInstance(exception)));
+        verify(pscLookupService, times(1)).getIndividualFullRecord(any(), any(), any());
+        verifyNoInteractions(idvLookupService);
+    }
+
+    @Test
+    void resolveWhenPscNotFound() {
+        final var exception = new FilingResourceNotFoundException("not found");
+        when(pscLookupService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA,
+            PscType.INDIVIDUAL)).thenThrow(exception);
+
+        testResolver.resolve(context, EnumSet.allOf(ValidationDependency.class), Runnable::run);
+
+        final var lookups = context.lookups();
+        assertThat(assertThrows(FilingResourceNotFoundException.class, lookups::companyProfile),
+            is(sameInstance(exception)));
+        assertThat(assertThrows(FilingResourceNotFoundException.class, lookups::uvidMatch),
+            is(sameInstance(exception)));
+        verifyNoInteractions(companyProfileService, idvLookupService);
+    }
+
+    @Test
+    void resolveCompanyProfileWithoutPscRecord() {
+        when(companyProfileService.getCompanyProfile(transaction, PSC_VERIFICATION_DATA)).thenReturn(
+            companyProfile);
+
+        testResolver.resolve(context, EnumSet.of(ValidationDependency.COMPANY_PROFILE), Runnable::run);
+
+        assertThat(context.lookups().companyProfile(), is(sameInstance(companyProfile)));
+        verifyNoInteractions(pscLookupService);
+    }
+
+    @Test
+    void resolveWhenNoDependencies() {
+        testResolver.resolve(context, Set.of(), Runnable::run);
+
+        verifyNoInteractions(pscLookupService, companyProfileService, idvLookupService);
+    }
+
+    @Test
+    void getUvidMatchWithPscData() {
+        when(pscLookupService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA,
+            PscType.INDIVIDUAL)).thenReturn(individualFullRecord);
+
+        final var result = testResolver.getUvidMatchWithPscData(context);
+
+        assertThat(result.getUvid(), is(UVID_CODE));
+        assertThat(result.getForenames(), contains("Forename1", "Forename2"));
+        assertThat(result.getSurname(), is("Surname"));
+        assertThat(result.getDateOfBirth(), is(LocalDate.of(1983, 2, 27)));
+    }
+
+    @Test
+    void getUvidMatchWithPscDataNoForename() {
+        final var nameElements = new NameElementsApi();
+        nameElements.setSurname("Surname");
+        individualFullRecord.setNameElements(nameElements);
+        when(pscLookupService.getIndividualFullRecord(transaction, PSC_VERIFICATION_DATA,
+            PscType.INDIVIDUAL)).thenReturn(individualFullRecord);
+
+        final var result = testResolver.getUvidMatchWithPscData(context);
+
+        assertThat(result.getForenames(), is(empty()));
+        assertThat(result.getSurname(), is("Surname"));
+    }
+
+    private static IndividualFullRecord createPscData() {
+        final var record = new IndividualFullRecord();
+        final var nameElements = new NameElementsApi();
+        nameElements.setForename("Forename1");
+        nameElements.setMiddleName("Forename2");
+        nameElements.setSurname("Surname");
+        record.setNameElements(nameElements);
+        record.setDateOfBirth(new Date3Tuple(27, 2, 1983));
+
+        return record;
+    }
+
+}
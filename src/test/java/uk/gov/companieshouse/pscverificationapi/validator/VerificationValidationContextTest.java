@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.pscverificationapi.validator;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -60,9 +61,27 @@ class VerificationValidationContextTest {
         assertThat(testContext.passthroughHeader(), is(PASSTHROUGH_HEADER));
     }
 
+    @Test
+    void getLookups() {
+        assertThat(testContext.lookups().avoidedLookups(), is(0));
+    }
+
     @Test
     void testEqualsVerificationValidationContext() {
-        EqualsVerifier.forClass(VerificationValidationContext.class).usingGetClass().verify();
+        EqualsVerifier.forClass(VerificationValidationContext.class)
+            .usingGetClass()
+            .withIgnoredFields("lookups")
+            .verify();
+    }
+
+    @Test
+    void equalsWhenLookupsDiffer() {
+        final var other = new VerificationValidationContext(dto, errors, transaction, PscType.INDIVIDUAL,
+            PASSTHROUGH_HEADER);
+
+        assertThat(other.lookups(), is(not(sameInstance(testContext.lookups()))));
+        assertThat(other, is(testContext));
+        assertThat(other.hashCode(), is(testContext.hashCode()));
     }
 
     @Test
@@ -73,7 +92,7 @@ class VerificationValidationContextTest {
 
     @Test
     void testHashCode() {
-        EqualsVerifier.forClass(VerificationValidationContext.class).verify();
+        EqualsVerifier.forClass(VerificationValidationContext.class).withIgnoredFields("lookups").verify();
     }
     
 }
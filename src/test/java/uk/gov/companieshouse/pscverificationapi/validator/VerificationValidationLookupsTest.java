@@ -0,0 +1,275 @@
+package uk.gov.companieshouse.pscverificationapi.validator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.psc.IndividualFullRecord;
+import uk.gov.companieshouse.pscverificationapi.exception.FilingResourceNotFoundException;
+import uk.gov.companieshouse.pscverificationapi.resilience.Deadline;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationValidationLookupsTest {
+
+    @Mock
+    private Supplier<IndividualFullRecord> lookup;
+    @Mock
+    private IndividualFullRecord individualFullRecord;
+    @Mock
+    private Supplier<CompanyProfileApi> companyProfileLookup;
+    @Mock
+    private CompanyProfileApi companyProfile;
+
+    private VerificationValidationLookups testLookups;
+
+    @BeforeEach
+    void setUp() {
+        testLookups = new VerificationValidationLookups();
+    }
+
+    @Test
+    void individualFullRecordWhenFirstLookup() {
+        when(lookup.get()).thenReturn(individualFullRecord);
+
+        assertThat(testLookups.individualFullRecord(lookup), is(sameInstance(individualFullRecord)));
+        assertThat(testLookups.avoidedLookups(), is(0));
+    }
+
+    @Test
+    void individualFullRecordWhenRepeatedLookups() {
+        when(lookup.get()).thenReturn(individualFullRecord);
+
+        testLookups.individualFullRecord(lookup);
+        testLookups.individualFullRecord(lookup);
+        final var result = testLookups.individualFullRecord(lookup);
+
+        assertThat(result, is(sameInstance(individualFullRecord)));
+        assertThat(testLookups.avoidedLookups(), is(2));
+        verify(lookup, times(1)).get();
+    }
+
+    @Test
+    void individualFullRecordWhenLookupFails() {
+        final var exception = new FilingResourceNotFoundException("not found");
+        when(lookup.get()).thenThrow(exception);
+
+        final var first = assertThrows(FilingResourceNotFoundException.class,
+            () -> testLookups.individualFullRecord(lookup));
+        final var second = assertThrows(FilingResourceNotFoundException.class,
+            () -> testLookups.individualFullRecord(lookup));
+
+        assertThat(first, is(sameInstance(exception)));
+        assertThat(second, is(sameInstance(exception)));
+        assertThat(testLookups.avoidedLookups(), is(1));
+        verify(lookup, times(1)).get();
+    }
+
+    @Test
+    void companyProfileWhenRepeatedLookups() {
+        when(companyProfileLookup.get()).thenReturn(companyProfile);
+
+        testLookups.companyProfile(companyProfileLookup);
+        final var result = testLookups.companyProfile(companyProfileLookup);
+
+        assertThat(result, is(sameInstance(companyProfile)));
+        assertThat(testLookups.avoidedLookups(), is(1));
+        verify(companyProfileLookup, times(1)).get();
+    }
+
+    @Test
+    void lookupsAreMemoisedSeparately() {
+        when(lookup.get()).thenReturn(individualFullRecord);
+        when(companyProfileLookup.get()).thenReturn(companyProfile);
+
+        assertThat(testLookups.individualFullRecord(lookup), is(sameInstance(individualFullRecord)));
+        assertThat(testLookups.companyProfile(companyProfileLookup), is(sameInstance(companyProfile)));
+        assertThat(testLookups.avoidedLookups(), is(0));
+    }
+
+    @Test
+    void individualFullRecordWhenPrefetched() {
+        final Executor executor = Runnable::run;
+        when(lookup.get()).thenReturn(individualFullRecord);
+
+        testLookups.prefetch(ValidationDependency.PSC_RECORD, lookup, executor);
+        testLookups.prefetch(ValidationDependency.PSC_RECORD, lookup, executor);
+        final var first = testLookups.individualFullRecord(lookup);
+        final var second = testLookups.individualFullRecord(lookup);
+
+        assertThat(first, is(sameInstance(individualFullRecord)));
+        assertThat(second, is(sameInstance(individualFullRecord)));
+        assertThat(testLookups.avoidedLookups(), is(1));
+        verify(lookup, times(1)).get();
+    }
+
+    @Test
+    void prefetchWhenAlreadyResolved() {
+        final Executor executor = command -> {
+            throw new AssertionError("prefetch should not be scheduled");
+        };
+        when(lookup.get()).thenReturn(individualFullRecord);
+
+        testLookups.individualFullRecord(lookup);
+        testLookups.prefetch(ValidationDependency.PSC_RECORD, lookup, executor);
+
+        verify(lookup, times(1)).get();
+    }
+
+    @Test
+    void prefetchWhenExecutorRejects() {
+        final Executor executor = command -> {
+            throw new RejectedExecutionException("shut down");
+        };
+        when(companyProfileLookup.get()).thenReturn(companyProfile);
+
+        testLookups.prefetch(ValidationDependency.COMPANY_PROFILE, companyProfileLookup, executor);
+
+        verify(companyProfileLookup, times(1)).get();
+        assertThat(testLookups.companyProfile(companyProfileLookup), is(sameInstance(companyProfile)));
+        assertThat(testLookups.avoidedLookups(), is(0));
+    }
+
+    @Test
+    void prefetchWhenNotYetUsed() {
+        final Executor executor = command -> {
+        };
+
+        testLookups.prefetch(ValidationDependency.PSC_RECORD, lookup, executor);
+
+        verify(lookup, never()).get();
+    }
+
+    @Test
+    void prefetchAfterWhenPrerequisiteFetched() {
+        when(lookup.get()).thenReturn(individualFullRecord);
+        when(companyProfileLookup.get()).thenReturn(companyProfile);
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            testLookups.prefetch(ValidationDependency.PSC_RECORD, lookup, executor);
+            testLookups.prefetchAfter(ValidationDependency.COMPANY_PROFILE, ValidationDependency.PSC_RECORD,
+                companyProfileLookup, executor);
+            testLookups.awaitAll();
+        }
+
+        assertThat(testLookups.companyProfile(), is(sameInstance(companyProfile)));
+        verify(companyProfileLookup, times(1)).get();
+    }
+
+    @Test
+    void prefetchAfterWhenPrerequisiteFails() {
+        final var exception = new FilingResourceNotFoundException("not found");
+        when(lookup.get()).thenThrow(exception);
+
+        testLookups.prefetch(ValidationDependency.PSC_RECORD, lookup, Runnable::run);
+        testLookups.prefetchAfter(ValidationDependency.COMPANY_PROFILE, ValidationDependency.PSC_RECORD,
+            companyProfileLookup, Runnable::run);
+        testLookups.awaitAll();
+
+        assertThat(assertThrows(FilingResourceNotFoundException.class, testLookups::companyProfile),
+            is(sameInstance(exception)));
+        verify(companyProfileLookup, never()).get();
+    }
+
+    @Test
+    void prefetchAfterWhenPrerequisiteNotFetched() {
+        when(companyProfileLookup.get()).thenReturn(companyProfile);
+
+        testLookups.prefetchAfter(ValidationDependency.COMPANY_PROFILE, ValidationDependency.PSC_RECORD,
+            companyProfileLookup, Runnable::run);
+
+        assertThat(testLookups.companyProfile(), is(sameInstance(companyProfile)));
+    }
+
+    @Test
+    void individualFullRecordWhenRecorded() {
+        testLookups.with(ValidationDependency.PSC_RECORD, individualFullRecord);
+
+        assertThat(testLookups.individualFullRecord(), is(sameInstance(individualFullRecord)));
+        assertThat(testLookups.individualFullRecord(), is(sameInstance(individualFullRecord)));
+        assertThat(testLookups.avoidedLookups(), is(1));
+    }
+
+    @Test
+    void companyProfileWhenFailureRecorded() {
+        final var exception = new FilingResourceNotFoundException("not found");
+        testLookups.withFailure(ValidationDependency.COMPANY_PROFILE, exception);
+
+        final var thrown = assertThrows(FilingResourceNotFoundException.class, testLookups::companyProfile);
+
+        assertThat(thrown, is(sameInstance(exception)));
+    }
+
+    @Test
+    void uvidMatchWhenNotFetched() {
+        final var exception = assertThrows(IllegalStateException.class, testLookups::uvidMatch);
+
+        assertThat(exception.getMessage(), is("UVID_MATCH was not fetched before validation"));
+    }
+
+    @Test
+    void awaitAllWhenLookupFails() {
+        final var started = new CountDownLatch(1);
+        final var exception = new FilingResourceNotFoundException("not found");
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            testLookups.prefetch(ValidationDependency.PSC_RECORD, () -> individualFullRecord, executor);
+            testLookups.prefetch(ValidationDependency.COMPANY_PROFILE, () -> {
+                awaitQuietly(started);
+                throw exception;
+            }, executor);
+            started.countDown();
+
+            testLookups.awaitAll();
+        }
+
+        assertThat(testLookups.individualFullRecord(), is(sameInstance(individualFullRecord)));
+        assertThat(assertThrows(FilingResourceNotFoundException.class, testLookups::companyProfile),
+            is(sameInstance(exception)));
+    }
+
+    @Test
+    void prefetchPropagatesDeadline() {
+        final var deadline = Deadline.after(Duration.ofSeconds(5));
+        final var seen = new AtomicReference<Deadline>();
+
+        Deadline.bind(deadline);
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            testLookups.prefetch(ValidationDependency.PSC_RECORD, () -> {
+                seen.set(Deadline.current().orElse(null));
+                return individualFullRecord;
+            }, executor);
+            testLookups.awaitAll();
+        } finally {
+            Deadline.clear();
+        }
+
+        assertThat(seen.get(), is(sameInstance(deadline)));
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}